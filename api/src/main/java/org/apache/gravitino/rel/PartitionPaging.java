@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.rel;
+
+import com.google.common.base.Preconditions;
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/** Filters and pages the partitions in memory for the default methods of SupportsPartitions. */
+final class PartitionPaging {
+
+  private PartitionPaging() {}
+
+  static <T> Stream<T> page(
+      Stream<T> items, String namePattern, int offset, int limit, Function<T, String> nameFunc) {
+    Preconditions.checkArgument(offset >= 0, "The offset must not be negative");
+    Preconditions.checkArgument(limit >= 0, "The limit must not be negative");
+    if (namePattern != null) {
+      Pattern pattern = likeToRegex(namePattern);
+      items = items.filter(item -> pattern.matcher(nameFunc.apply(item)).matches());
+    }
+    items = items.sorted(Comparator.comparing(nameFunc)).skip(offset);
+    return limit > 0 ? items.limit(limit) : items;
+  }
+
+  private static Pattern likeToRegex(String likePattern) {
+    StringBuilder regex = new StringBuilder();
+    for (int i = 0; i < likePattern.length(); i++) {
+      char c = likePattern.charAt(i);
+      if (c == '\\' && i + 1 < likePattern.length()) {
+        regex.append(Pattern.quote(String.valueOf(likePattern.charAt(++i))));
+      } else if (c == '%') {
+        regex.append(".*");
+      } else if (c == '_') {
+        regex.append('.');
+      } else {
+        regex.append(Pattern.quote(String.valueOf(c)));
+      }
+    }
+    return Pattern.compile(regex.toString(), Pattern.DOTALL);
+  }
+}
@@ -18,6 +18,8 @@
  */
 package org.apache.gravitino.rel;
 
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
@@ -44,6 +46,42 @@ public interface SupportsPartitions {
    */
   Partition[] listPartitions();
 
+  /**
+   * List the names of the partitions whose names match the pattern, ordered by the name. The
+   * default implementation filters all the partition names, the tables should push the filter and
+   * the pagination down to the underlying source if it can.
+   *
+   * @param namePattern The SQL LIKE pattern of the partition names, {@code %} matches any
+   *     characters, {@code _} matches one character and {@code \} escapes them. Null matches all.
+   * @param offset The number of the matched partitions to skip.
+   * @param limit The maximum number of the partitions to return, 0 means no limit.
+   * @return The names of the matched partitions.
+   * @throws IllegalArgumentException If the offset or the limit is negative.
+   */
+  default String[] listPartitionNames(String namePattern, int offset, int limit) {
+    return PartitionPaging.page(
+            Arrays.stream(listPartitionNames()), namePattern, offset, limit, name -> name)
+        .toArray(String[]::new);
+  }
+
+  /**
+   * List the partitions whose names match the pattern, ordered by the name. The default
+   * implementation filters all the partitions, the tables should push the filter and the
+   * pagination down to the underlying source if it can.
+   *
+   * @param namePattern The SQL LIKE pattern of the partition names, {@code %} matches any
+   *     characters, {@code _} matches one character and {@code \} escapes them. Null matches all.
+   * @param offset The number of the matched partitions to skip.
+   * @param limit The maximum number of the partitions to return, 0 means no limit.
+   * @return The matched partitions.
+   * @throws IllegalArgumentException If the offset or the limit is negative.
+   */
+  default Partition[] listPartitions(String namePattern, int offset, int limit) {
+    return PartitionPaging.page(
+            Arrays.stream(listPartitions()), namePattern, offset, limit, Partition::name)
+        .toArray(Partition[]::new);
+  }
+
   /**
    * Get a partition by partition name, you may get one of the following types of partitions:
    *
@@ -101,6 +139,39 @@ public interface SupportsPartitions {
    */
   boolean dropPartition(String partitionName);
 
+  /**
+   * Add the partitions to the table. The default implementation adds the partitions one by one.
+   * The batch is not atomic: if adding one of the partitions fails, the partitions added before it
+   * may be kept.
+   *
+   * @param partitions The partitions to add.
+   * @return The created partitions.
+   * @throws PartitionAlreadyExistsException If any of the partitions already exists.
+   */
+  default Partition[] addPartitions(Partition... partitions)
+      throws PartitionAlreadyExistsException {
+    Preconditions.checkArgument(partitions.length > 0, "The partitions to add must not be empty");
+    return Arrays.stream(partitions).map(this::addPartition).toArray(Partition[]::new);
+  }
+
+  /**
+   * Drop the partitions with specified names. The default implementation drops the partitions one
+   * by one. The batch is not atomic: the partitions which do not exist are skipped, and if dropping
+   * one of the partitions fails, the partitions dropped before it may stay dropped.
+   *
+   * @param partitionNames The names of the partitions.
+   * @return true if all the partitions are dropped, false if any of them does not exist.
+   */
+  default boolean dropPartitions(String... partitionNames) {
+    Preconditions.checkArgument(
+        partitionNames.length > 0, "The partitions to drop must not be empty");
+    boolean dropped = true;
+    for (String partitionName : partitionNames) {
+      dropped &= dropPartition(partitionName);
+    }
+    return dropped;
+  }
+
   /**
    * If the table supports purging, drop a partition with specified name and completely remove
    * partition data by skipping a trash. If the table is an external table or does not support
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.rel;
+
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.annotation.Evolving;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+
+/**
+ * Interface for table catalogs that can list the tables of a schema with their summaries, which is
+ * cheaper than listing the tables and then loading each of them.
+ */
+@Evolving
+public interface SupportsTableSummaries {
+
+  /**
+   * List the tables under a schema namespace with the summary of each table. The tables dropped
+   * while listing are skipped.
+   *
+   * @param namespace A schema namespace.
+   * @return An array of table summaries in the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  TableSummary[] listTableSummaries(Namespace namespace) throws NoSuchSchemaException;
+}
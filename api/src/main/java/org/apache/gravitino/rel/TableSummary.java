@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.rel;
+
+import java.util.Map;
+import org.apache.gravitino.annotation.Evolving;
+
+/**
+ * A summary of a table, which holds the basic facts of the table, like its location and its latest
+ * snapshot, without loading the whole table. The keys of the summary depend on the catalog.
+ */
+@Evolving
+public interface TableSummary {
+
+  /** @return The name of the table. */
+  String name();
+
+  /** @return The summary of the table, the absent facts are not included. */
+  Map<String, String> summary();
+}
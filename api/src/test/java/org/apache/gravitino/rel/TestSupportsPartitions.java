@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.rel;
+
+import com.google.common.collect.Maps;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.gravitino.exceptions.NoSuchPartitionException;
+import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
+import org.apache.gravitino.rel.expressions.literals.Literal;
+import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.Partitions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestSupportsPartitions {
+
+  @Test
+  public void testListPartitionsWithPattern() {
+    InMemoryPartitions partitions = new InMemoryPartitions();
+    partitions.addPartitions(
+        identity("p_1"), identity("p_2"), identity("p10"), identity("q_1"), identity("p%3"));
+
+    Assertions.assertEquals(
+        Arrays.asList("p%3", "p10", "p_1", "p_2"),
+        Arrays.asList(partitions.listPartitionNames("p%", 0, 0)));
+    Assertions.assertEquals(
+        Arrays.asList("p10", "p_1"), Arrays.asList(partitions.listPartitionNames("p%", 1, 2)));
+    Assertions.assertEquals(
+        Arrays.asList("p_1", "p_2"), Arrays.asList(partitions.listPartitionNames("p\\_%", 0, 0)));
+    Assertions.assertEquals(
+        Collections.singletonList("p%3"),
+        Arrays.asList(partitions.listPartitionNames("p\\%_", 0, 0)));
+    Assertions.assertEquals(
+        Collections.singletonList("q_1"),
+        Arrays.asList(partitions.listPartitionNames(null, 4, 10)));
+    Assertions.assertEquals(0, partitions.listPartitionNames("r%", 0, 0).length);
+
+    Partition[] paged = partitions.listPartitions("p__", 0, 2);
+    Assertions.assertEquals(2, paged.length);
+    Assertions.assertEquals("p%3", paged[0].name());
+    Assertions.assertEquals("p10", paged[1].name());
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> partitions.listPartitionNames(null, -1, 0));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> partitions.listPartitions(null, 0, -1));
+  }
+
+  @Test
+  public void testAddAndDropPartitions() {
+    InMemoryPartitions partitions = new InMemoryPartitions();
+    Partition[] added = partitions.addPartitions(identity("p1"), identity("p2"), identity("p3"));
+    Assertions.assertEquals(3, added.length);
+    Assertions.assertEquals(3, partitions.listPartitionNames().length);
+
+    Assertions.assertThrows(
+        PartitionAlreadyExistsException.class, () -> partitions.addPartitions(identity("p1")));
+    Assertions.assertThrows(IllegalArgumentException.class, partitions::addPartitions);
+
+    Assertions.assertTrue(partitions.dropPartitions("p1", "p2"));
+    Assertions.assertFalse(partitions.dropPartitions("p2", "p3"));
+    Assertions.assertEquals(0, partitions.listPartitionNames().length);
+    Assertions.assertThrows(IllegalArgumentException.class, partitions::dropPartitions);
+  }
+
+  private static Partition identity(String name) {
+    return Partitions.identity(name, new String[0][], new Literal[0], Maps.newHashMap());
+  }
+
+  private static class InMemoryPartitions implements SupportsPartitions {
+
+    private final Map<String, Partition> partitions = new TreeMap<>();
+
+    @Override
+    public String[] listPartitionNames() {
+      return partitions.keySet().toArray(new String[0]);
+    }
+
+    @Override
+    public Partition[] listPartitions() {
+      return partitions.values().toArray(new Partition[0]);
+    }
+
+    @Override
+    public Partition getPartition(String partitionName) throws NoSuchPartitionException {
+      Partition partition = partitions.get(partitionName);
+      if (partition == null) {
+        throw new NoSuchPartitionException("Partition %s does not exist", partitionName);
+      }
+      return partition;
+    }
+
+    @Override
+    public Partition addPartition(Partition partition) throws PartitionAlreadyExistsException {
+      if (partitions.putIfAbsent(partition.name(), partition) != null) {
+        throw new PartitionAlreadyExistsException("Partition %s exists", partition.name());
+      }
+      return partition;
+    }
+
+    @Override
+    public boolean dropPartition(String partitionName) {
+      return partitions.remove(partitionName) != null;
+    }
+  }
+}
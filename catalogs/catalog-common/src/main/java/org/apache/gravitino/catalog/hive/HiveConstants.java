@@ -30,6 +30,10 @@ public class HiveConstants {
   public static final String CHECK_INTERVAL_SEC = "kerberos.check-interval-sec";
   public static final String FETCH_TIMEOUT_SEC = "kerberos.keytab-fetch-timeout-sec";
   public static final String LIST_ALL_TABLES = "list-all-tables";
+  public static final String METASTORE_CACHE_TTL_MS = "metastore-cache.ttl-ms";
+  public static final String METASTORE_CACHE_MAX_SIZE = "metastore-cache.max-size";
+  public static final String METASTORE_CACHE_POLL_INTERVAL_MS =
+      "metastore-cache.notification-poll-interval-ms";
 
   // table properties
   public static final String LOCATION = "location";
@@ -65,6 +65,7 @@ dependencies {
     exclude("com.squareup.okhttp", "okhttp")
   }
 
+  implementation(libs.metrics.core)
   implementation(libs.slf4j.api)
 
   testImplementation(project(":clients:client-java"))
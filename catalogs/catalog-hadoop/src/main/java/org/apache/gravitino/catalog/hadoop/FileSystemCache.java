@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.hadoop;
+
+import static org.apache.gravitino.catalog.hadoop.metrics.HadoopCatalogMetricsSource.FILESYSTEM_CACHE_CREATED;
+import static org.apache.gravitino.catalog.hadoop.metrics.HadoopCatalogMetricsSource.FILESYSTEM_CACHE_EVICTED;
+import static org.apache.gravitino.catalog.hadoop.metrics.HadoopCatalogMetricsSource.FILESYSTEM_CACHE_SIZE;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.gravitino.catalog.hadoop.metrics.HadoopCatalogMetricsSource;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.security.UserGroupInformation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the FileSystem instances used by a Hadoop catalog, keyed by the user running the
+ * operation and the scheme and authority of the path.
+ *
+ * <p>Hadoop's own FileSystem cache is keyed by the UserGroupInformation and never evicts, so with
+ * impersonation it either keeps an instance, and its RPC connections, for every proxy user ever
+ * seen, or creates a new one for every new UserGroupInformation. The instances here are created
+ * with {@link FileSystem#newInstance(URI, Configuration)} and owned by the catalog. They are
+ * reference counted by the leases, an instance evicted or removed by closing the catalog is closed
+ * when its last lease is released, so the in-flight operations are not broken by the eviction.
+ */
+class FileSystemCache implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(FileSystemCache.class);
+
+  private final Configuration conf;
+  private final HadoopCatalogMetricsSource metricsSource;
+  private final Cache<Key, CachedFileSystem> cache;
+
+  FileSystemCache(
+      Configuration conf,
+      long maxSize,
+      long expireAfterAccessMs,
+      HadoopCatalogMetricsSource metricsSource) {
+    Preconditions.checkArgument(maxSize > 0, "The FileSystem cache size must be positive");
+    Preconditions.checkArgument(
+        expireAfterAccessMs > 0, "The FileSystem cache expiration must be positive");
+    this.conf = conf;
+    this.metricsSource = metricsSource;
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterAccess(expireAfterAccessMs, TimeUnit.MILLISECONDS)
+            .removalListener(this::onRemoval)
+            .build();
+    metricsSource.registerGauge(FILESYSTEM_CACHE_SIZE, cache::size);
+  }
+
+  /**
+   * Acquires the FileSystem of the path for the current user. The caller must release the lease
+   * once it is done with the FileSystem, and must not close the FileSystem itself.
+   *
+   * @param path The path to access.
+   * @return The lease of the FileSystem of the path.
+   * @throws IOException If the FileSystem can't be created.
+   */
+  Lease acquire(Path path) throws IOException {
+    URI uri = path.toUri();
+    // The path without scheme is on the default FileSystem.
+    URI fsUri = uri.getScheme() == null ? FileSystem.getDefaultUri(conf) : uri;
+    UserGroupInformation user = UserGroupInformation.getCurrentUser();
+    Key key = new Key(user, fsUri);
+
+    while (true) {
+      CachedFileSystem cachedFileSystem;
+      try {
+        cachedFileSystem =
+            cache.get(
+                key,
+                () -> {
+                  metricsSource.getCounter(FILESYSTEM_CACHE_CREATED).inc();
+                  return new CachedFileSystem(key, FileSystem.newInstance(fsUri, conf));
+                });
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof IOException) {
+          throw (IOException) e.getCause();
+        }
+        throw new IOException("Failed to create FileSystem for " + path, e.getCause());
+      }
+
+      // The FileSystem may be removed and closed between getting and retaining it, in which case
+      // it's already out of the cache and the next get creates a new one.
+      if (cachedFileSystem.retain()) {
+        return new Lease(cachedFileSystem);
+      }
+    }
+  }
+
+  @VisibleForTesting
+  long size() {
+    cache.cleanUp();
+    return cache.size();
+  }
+
+  @Override
+  public void close() {
+    cache.invalidateAll();
+    cache.cleanUp();
+  }
+
+  private void onRemoval(RemovalNotification<Key, CachedFileSystem> notification) {
+    if (notification.wasEvicted()) {
+      metricsSource.getCounter(FILESYSTEM_CACHE_EVICTED).inc();
+    }
+
+    notification.getValue().markRemoved();
+  }
+
+  /** A lease of a cached FileSystem, the FileSystem can be used until the lease is released. */
+  static class Lease implements Closeable {
+    private final CachedFileSystem cachedFileSystem;
+    private final AtomicBoolean released = new AtomicBoolean(false);
+
+    private Lease(CachedFileSystem cachedFileSystem) {
+      this.cachedFileSystem = cachedFileSystem;
+    }
+
+    FileSystem fileSystem() {
+      Preconditions.checkState(!released.get(), "The FileSystem lease is already released");
+      return cachedFileSystem.fileSystem;
+    }
+
+    /** Releases the lease, it's a no-op if the lease is already released. */
+    @Override
+    public void close() {
+      if (released.compareAndSet(false, true)) {
+        cachedFileSystem.release();
+      }
+    }
+  }
+
+  /** A cached FileSystem and the number of leases using it. */
+  private static class CachedFileSystem {
+    private final Key key;
+    private final FileSystem fileSystem;
+    private int leases;
+    private boolean removed;
+
+    private CachedFileSystem(Key key, FileSystem fileSystem) {
+      this.key = key;
+      this.fileSystem = fileSystem;
+    }
+
+    private synchronized boolean retain() {
+      if (removed) {
+        return false;
+      }
+      leases++;
+      return true;
+    }
+
+    private void release() {
+      synchronized (this) {
+        leases--;
+        if (!removed || leases > 0) {
+          return;
+        }
+      }
+      closeFileSystem();
+    }
+
+    private void markRemoved() {
+      synchronized (this) {
+        removed = true;
+        if (leases > 0) {
+          // The last lease closes it.
+          return;
+        }
+      }
+      closeFileSystem();
+    }
+
+    private void closeFileSystem() {
+      try {
+        fileSystem.close();
+      } catch (IOException e) {
+        LOG.warn("Failed to close FileSystem {}", key, e);
+      }
+    }
+  }
+
+  private static class Key {
+    private final String user;
+    // The real user of the proxy user, null if the user isn't a proxy user. Two proxy users with
+    // the same name but different real users may have different permissions.
+    private final String realUser;
+    private final String scheme;
+    private final String authority;
+
+    private Key(UserGroupInformation ugi, URI uri) {
+      this.user = ugi.getUserName();
+      this.realUser = ugi.getRealUser() == null ? null : ugi.getRealUser().getUserName();
+      this.scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+      this.authority =
+          uri.getAuthority() == null ? "" : uri.getAuthority().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return Objects.equals(user, key.user)
+          && Objects.equals(realUser, key.realUser)
+          && Objects.equals(scheme, key.scheme)
+          && Objects.equals(authority, key.authority);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(user, realUser, scheme, authority);
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "%s%s@%s://%s", user, realUser == null ? "" : " via " + realUser, scheme, authority);
+    }
+  }
+}
@@ -22,14 +22,21 @@ import static org.apache.gravitino.connector.BaseCatalog.CATALOG_BYPASS_PREFIX;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
@@ -44,6 +51,7 @@ import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.audit.CallerContext;
 import org.apache.gravitino.audit.FilesetAuditConstants;
 import org.apache.gravitino.audit.FilesetDataOperation;
+import org.apache.gravitino.catalog.hadoop.metrics.HadoopCatalogMetricsSource;
 import org.apache.gravitino.connector.CatalogInfo;
 import org.apache.gravitino.connector.CatalogOperations;
 import org.apache.gravitino.connector.HasPropertyMetadata;
@@ -63,6 +71,7 @@ import org.apache.gravitino.file.FilesetChange;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.FilesetEntity;
 import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.utils.PrincipalUtils;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
@@ -78,6 +87,8 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
 
   private static final Logger LOG = LoggerFactory.getLogger(HadoopCatalogOperations.class);
 
+  private static final long FILESET_LOCATION_CACHE_MAX_SIZE = 100_000L;
+
   private final EntityStore store;
 
   private HasPropertyMetadata propertiesMetadata;
@@ -90,6 +101,13 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
 
   private CatalogInfo catalogInfo;
 
+  // The storage locations of the filesets resolved by getFileLocation, null if disabled.
+  @VisibleForTesting Cache<NameIdentifier, FilesetLocation> filesetLocationCache;
+
+  @VisibleForTesting FileSystemCache fileSystemCache;
+
+  private HadoopCatalogMetricsSource metricsSource;
+
   HadoopCatalogOperations(EntityStore store) {
     this.store = store;
   }
@@ -143,6 +161,44 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
         StringUtils.isNotBlank(catalogLocation)
             ? Optional.of(catalogLocation).map(Path::new)
             : Optional.empty();
+
+    long cacheTtlMs =
+        (long)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(
+                    config, HadoopCatalogPropertiesMetadata.FILESET_LOCATION_CACHE_TTL_MS);
+    Preconditions.checkArgument(
+        cacheTtlMs >= 0,
+        "%s must not be negative",
+        HadoopCatalogPropertiesMetadata.FILESET_LOCATION_CACHE_TTL_MS);
+    this.filesetLocationCache =
+        cacheTtlMs > 0
+            ? CacheBuilder.newBuilder()
+                .maximumSize(FILESET_LOCATION_CACHE_MAX_SIZE)
+                .expireAfterWrite(cacheTtlMs, TimeUnit.MILLISECONDS)
+                .build()
+            : null;
+
+    this.metricsSource = new HadoopCatalogMetricsSource(info.namespace().level(0), info.name());
+    long fsCacheMaxSize =
+        (long)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(config, HadoopCatalogPropertiesMetadata.FILESYSTEM_CACHE_MAX_SIZE);
+    long fsCacheExpireMs =
+        (long)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(
+                    config,
+                    HadoopCatalogPropertiesMetadata.FILESYSTEM_CACHE_EXPIRE_AFTER_ACCESS_MS);
+    this.fileSystemCache =
+        new FileSystemCache(hadoopConf, fsCacheMaxSize, fsCacheExpireMs, metricsSource);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   @Override
@@ -154,7 +210,8 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
       }
 
       List<FilesetEntity> filesets =
-          store.list(namespace, FilesetEntity.class, Entity.EntityType.FILESET);
+          store.list(
+              namespace, FilesetEntity.class, Entity.EntityType.FILESET, false /* allFields */);
       return filesets.stream()
           .map(f -> NameIdentifier.of(namespace, f.name()))
           .toArray(NameIdentifier[]::new);
@@ -233,19 +290,24 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
             ? new Path(storageLocation)
             : new Path(schemaPath, ident.name());
 
+    boolean singleFile;
     try {
       // formalize the path to avoid path without scheme, uri, authority, etc.
       filesetPath = formalizePath(filesetPath, hadoopConf);
-      FileSystem fs = filesetPath.getFileSystem(hadoopConf);
-      if (!fs.exists(filesetPath)) {
-        if (!fs.mkdirs(filesetPath)) {
-          throw new RuntimeException(
-              "Failed to create fileset " + ident + " location " + filesetPath);
-        }
+      try (FileSystemCache.Lease lease = fileSystemCache.acquire(filesetPath)) {
+        FileSystem fs = lease.fileSystem();
+        if (!fs.exists(filesetPath)) {
+          if (!fs.mkdirs(filesetPath)) {
+            throw new RuntimeException(
+                "Failed to create fileset " + ident + " location " + filesetPath);
+          }
 
-        LOG.info("Created fileset {} location {}", ident, filesetPath);
-      } else {
-        LOG.info("Fileset {} manages the existing location {}", ident, filesetPath);
+          LOG.info("Created fileset {} location {}", ident, filesetPath);
+          singleFile = false;
+        } else {
+          LOG.info("Fileset {} manages the existing location {}", ident, filesetPath);
+          singleFile = fs.getFileStatus(filesetPath).isFile();
+        }
       }
 
     } catch (IOException ioe) {
@@ -255,6 +317,9 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
 
     StringIdentifier stringId = StringIdentifier.fromProperties(properties);
     Preconditions.checkArgument(stringId != null, "Property String identifier should not be null");
+    Map<String, String> filesetProperties = Maps.newHashMap(properties);
+    filesetProperties.put(HadoopFilesetPropertiesMetadata.SINGLE_FILE, String.valueOf(singleFile));
+    filesetProperties.remove(HadoopFilesetPropertiesMetadata.REFRESH_SINGLE_FILE);
 
     FilesetEntity filesetEntity =
         FilesetEntity.builder()
@@ -267,7 +332,7 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
             // fileset, Gravitino will get and store the location based on the catalog/schema's
             // location and store it to the store.
             .withStorageLocation(filesetPath.toString())
-            .withProperties(properties)
+            .withProperties(filesetProperties)
             .withAuditInfo(
                 AuditInfo.builder()
                     .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
@@ -280,6 +345,7 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
     } catch (IOException ioe) {
       throw new RuntimeException("Failed to create fileset " + ident, ioe);
     }
+    invalidateFilesetLocation(ident);
 
     return HadoopFileset.builder()
         .withName(ident.name())
@@ -294,21 +360,37 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
   @Override
   public Fileset alterFileset(NameIdentifier ident, FilesetChange... changes)
       throws NoSuchFilesetException, IllegalArgumentException {
+    FilesetEntity filesetEntity;
     try {
-      if (!store.exists(ident, Entity.EntityType.FILESET)) {
-        throw new NoSuchFilesetException(FILESET_DOES_NOT_EXIST_MSG, ident);
-      }
+      filesetEntity = store.get(ident, Entity.EntityType.FILESET, FilesetEntity.class);
+    } catch (NoSuchEntityException nsee) {
+      throw new NoSuchFilesetException(nsee, FILESET_DOES_NOT_EXIST_MSG, ident);
     } catch (IOException ioe) {
       throw new RuntimeException("Failed to load fileset " + ident, ioe);
     }
 
+    // Whether the fileset mounts a single file is kept with the fileset. The storage is only
+    // checked again if the alteration asks for it, in case the storage location was replaced out
+    // of Gravitino, or if the fileset was created before it's kept. It's checked before the update
+    // to keep the storage access out of the store operation.
+    String storedSingleFile =
+        filesetEntity.properties() == null
+            ? null
+            : filesetEntity.properties().get(HadoopFilesetPropertiesMetadata.SINGLE_FILE);
+    boolean singleFile =
+        storedSingleFile == null || isRefreshSingleFile(changes)
+            ? checkSingleFile(ident, filesetEntity.storageLocation())
+            : Boolean.parseBoolean(storedSingleFile);
     try {
       FilesetEntity updatedFilesetEntity =
           store.update(
               ident,
               FilesetEntity.class,
               Entity.EntityType.FILESET,
-              e -> updateFilesetEntity(ident, e, changes));
+              e -> updateFilesetEntity(ident, e, singleFile, changes));
+      invalidateFilesetLocation(ident);
+      invalidateFilesetLocation(
+          NameIdentifier.of(ident.namespace(), updatedFilesetEntity.name()));
 
       return HadoopFileset.builder()
           .withName(updatedFilesetEntity.name())
@@ -339,18 +421,21 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
 
       // For managed fileset, we should delete the related files.
       if (filesetEntity.filesetType() == Fileset.Type.MANAGED) {
-        FileSystem fs = filesetPath.getFileSystem(hadoopConf);
-        if (fs.exists(filesetPath)) {
-          if (!fs.delete(filesetPath, true)) {
-            LOG.warn("Failed to delete fileset {} location {}", ident, filesetPath);
-            return false;
-          }
+        try (FileSystemCache.Lease lease = fileSystemCache.acquire(filesetPath)) {
+          FileSystem fs = lease.fileSystem();
+          if (fs.exists(filesetPath)) {
+            if (!fs.delete(filesetPath, true)) {
+              LOG.warn("Failed to delete fileset {} location {}", ident, filesetPath);
+              return false;
+            }
 
-        } else {
-          LOG.warn("Fileset {} location {} does not exist", ident, filesetPath);
+          } else {
+            LOG.warn("Fileset {} location {} does not exist", ident, filesetPath);
+          }
         }
       }
 
+      invalidateFilesetLocation(ident);
       return store.delete(ident, Entity.EntityType.FILESET);
     } catch (NoSuchEntityException ne) {
       LOG.warn("Fileset {} does not exist", ident);
@@ -371,9 +456,8 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
       processedSubPath = subPath.trim();
     }
 
-    Fileset fileset = loadFileset(ident);
-
-    boolean isSingleFile = checkSingleFile(fileset);
+    FilesetLocation location = loadFilesetLocation(ident);
+    boolean isSingleFile = location.singleFile;
     // if the storage location is a single file, it cannot have sub path to access.
     if (isSingleFile && StringUtils.isBlank(processedSubPath)) {
       throw new GravitinoRuntimeException(
@@ -419,14 +503,14 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
     // 1. if the storage location is a single file, we pass the storage location directly
     // 2. if the processed sub path is blank, we pass the storage location directly
     if (isSingleFile || StringUtils.isBlank(processedSubPath)) {
-      fileLocation = fileset.storageLocation();
+      fileLocation = location.storageLocation;
     } else {
       // the processed sub path always starts with "/" if it is not blank,
       // so we can safely remove the tailing slash if storage location ends with "/".
       String storageLocation =
-          fileset.storageLocation().endsWith(SLASH)
-              ? fileset.storageLocation().substring(0, fileset.storageLocation().length() - 1)
-              : fileset.storageLocation();
+          location.storageLocation.endsWith(SLASH)
+              ? location.storageLocation.substring(0, location.storageLocation.length() - 1)
+              : location.storageLocation;
       fileLocation = String.format("%s%s", storageLocation, processedSubPath);
     }
     return fileLocation;
@@ -436,7 +520,8 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
   public NameIdentifier[] listSchemas(Namespace namespace) throws NoSuchCatalogException {
     try {
       List<SchemaEntity> schemas =
-          store.list(namespace, SchemaEntity.class, Entity.EntityType.SCHEMA);
+          store.list(
+              namespace, SchemaEntity.class, Entity.EntityType.SCHEMA, false /* allFields */);
       return schemas.stream()
           .map(s -> NameIdentifier.of(namespace, s.name()))
           .toArray(NameIdentifier[]::new);
@@ -458,8 +543,8 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
 
     Path schemaPath = getSchemaPath(ident.name(), properties);
     if (schemaPath != null) {
-      try {
-        FileSystem fs = schemaPath.getFileSystem(hadoopConf);
+      try (FileSystemCache.Lease lease = fileSystemCache.acquire(schemaPath)) {
+        FileSystem fs = lease.fileSystem();
         if (!fs.exists(schemaPath)) {
           if (!fs.mkdirs(schemaPath)) {
             // Fail the operation when failed to create the schema path.
@@ -567,6 +652,13 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
 
   @Override
   public boolean dropSchema(NameIdentifier ident, boolean cascade) throws NonEmptySchemaException {
+    if (filesetLocationCache != null) {
+      // The filesets of the schema are dropped with it if cascade is true.
+      Namespace filesetNamespace =
+          Namespace.of(ident.namespace().level(0), ident.namespace().level(1), ident.name());
+      filesetLocationCache.asMap().keySet().removeIf(i -> i.namespace().equals(filesetNamespace));
+    }
+
     try {
       SchemaEntity schemaEntity = store.get(ident, Entity.EntityType.SCHEMA, SchemaEntity.class);
       Map<String, String> properties =
@@ -578,17 +670,19 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
         return false;
       }
 
-      FileSystem fs = schemaPath.getFileSystem(hadoopConf);
-      // Nothing to delete if the schema path does not exist.
-      if (!fs.exists(schemaPath)) {
-        return false;
-      }
+      try (FileSystemCache.Lease lease = fileSystemCache.acquire(schemaPath)) {
+        FileSystem fs = lease.fileSystem();
+        // Nothing to delete if the schema path does not exist.
+        if (!fs.exists(schemaPath)) {
+          return false;
+        }
 
-      if (fs.listStatus(schemaPath).length > 0 && !cascade) {
-        throw new NonEmptySchemaException(
-            "Schema %s with location %s is not empty", ident, schemaPath);
-      } else {
-        fs.delete(schemaPath, true);
+        if (fs.listStatus(schemaPath).length > 0 && !cascade) {
+          throw new NonEmptySchemaException(
+              "Schema %s with location %s is not empty", ident, schemaPath);
+        } else {
+          fs.delete(schemaPath, true);
+        }
       }
 
       LOG.info("Deleted schema {} location {}", ident, schemaPath);
@@ -620,7 +714,19 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
   }
 
   @Override
-  public void close() throws IOException {}
+  public void close() throws IOException {
+    if (filesetLocationCache != null) {
+      filesetLocationCache.invalidateAll();
+    }
+    if (fileSystemCache != null) {
+      fileSystemCache.close();
+      fileSystemCache = null;
+    }
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
 
   private SchemaEntity updateSchemaEntity(
       NameIdentifier ident, SchemaEntity schemaEntity, SchemaChange... changes) {
@@ -659,18 +765,26 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
   }
 
   private FilesetEntity updateFilesetEntity(
-      NameIdentifier ident, FilesetEntity filesetEntity, FilesetChange... changes) {
+      NameIdentifier ident,
+      FilesetEntity filesetEntity,
+      boolean singleFile,
+      FilesetChange... changes) {
     Map<String, String> props =
         filesetEntity.properties() == null
             ? Maps.newHashMap()
             : Maps.newHashMap(filesetEntity.properties());
+    props.put(HadoopFilesetPropertiesMetadata.SINGLE_FILE, String.valueOf(singleFile));
     String newName = ident.name();
     String newComment = filesetEntity.comment();
 
     for (FilesetChange change : changes) {
       if (change instanceof FilesetChange.SetProperty) {
         FilesetChange.SetProperty setProperty = (FilesetChange.SetProperty) change;
-        props.put(setProperty.getProperty(), setProperty.getValue());
+        // The refresh is applied when the fileset is altered, it's not kept with the fileset.
+        if (!HadoopFilesetPropertiesMetadata.REFRESH_SINGLE_FILE.equals(
+            setProperty.getProperty())) {
+          props.put(setProperty.getProperty(), setProperty.getValue());
+        }
       } else if (change instanceof FilesetChange.RemoveProperty) {
         FilesetChange.RemoveProperty removeProperty = (FilesetChange.RemoveProperty) change;
         props.remove(removeProperty.getProperty());
@@ -728,10 +842,60 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
         && !CallerContext.CallerContextHolder.get().context().isEmpty();
   }
 
-  private boolean checkSingleFile(Fileset fileset) {
+  private FilesetLocation loadFilesetLocation(NameIdentifier ident) {
+    if (filesetLocationCache == null) {
+      return getFilesetLocation(ident);
+    }
+
+    try {
+      return filesetLocationCache.get(ident, () -> getFilesetLocation(ident));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  private FilesetLocation getFilesetLocation(NameIdentifier ident) {
+    FilesetEntity filesetEntity;
     try {
-      Path locationPath = new Path(fileset.storageLocation());
-      return locationPath.getFileSystem(hadoopConf).getFileStatus(locationPath).isFile();
+      filesetEntity = store.get(ident, Entity.EntityType.FILESET, FilesetEntity.class);
+    } catch (NoSuchEntityException exception) {
+      throw new NoSuchFilesetException(exception, FILESET_DOES_NOT_EXIST_MSG, ident);
+    } catch (IOException ioe) {
+      throw new RuntimeException("Failed to load fileset " + ident, ioe);
+    }
+
+    String singleFile =
+        filesetEntity.properties() == null
+            ? null
+            : filesetEntity.properties().get(HadoopFilesetPropertiesMetadata.SINGLE_FILE);
+    // The filesets created before the property was introduced don't have it, check the storage
+    // for them until they are altered.
+    return new FilesetLocation(
+        filesetEntity.storageLocation(),
+        singleFile != null
+            ? Boolean.parseBoolean(singleFile)
+            : checkSingleFile(ident, filesetEntity.storageLocation()));
+  }
+
+  private static boolean isRefreshSingleFile(FilesetChange... changes) {
+    return Arrays.stream(changes)
+        .filter(c -> c instanceof FilesetChange.SetProperty)
+        .map(c -> (FilesetChange.SetProperty) c)
+        .filter(c -> HadoopFilesetPropertiesMetadata.REFRESH_SINGLE_FILE.equals(c.getProperty()))
+        .anyMatch(c -> Boolean.parseBoolean(c.getValue()));
+  }
+
+  private void invalidateFilesetLocation(NameIdentifier ident) {
+    if (filesetLocationCache != null) {
+      filesetLocationCache.invalidate(ident);
+    }
+  }
+
+  private boolean checkSingleFile(NameIdentifier ident, String storageLocation) {
+    Path locationPath = new Path(storageLocation);
+    try (FileSystemCache.Lease lease = fileSystemCache.acquire(locationPath)) {
+      return lease.fileSystem().getFileStatus(locationPath).isFile();
     } catch (FileNotFoundException e) {
       // We should always return false here, same with the logic in `FileSystem.isFile(Path f)`.
       return false;
@@ -739,7 +903,19 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
       throw new GravitinoRuntimeException(
           e,
           "Exception occurs when checking whether fileset: %s mounts a single file",
-          fileset.name());
+          ident.name());
+    }
+  }
+
+  /** The storage location of a fileset and whether it's a single file. */
+  @VisibleForTesting
+  static class FilesetLocation {
+    private final String storageLocation;
+    private final boolean singleFile;
+
+    private FilesetLocation(String storageLocation, boolean singleFile) {
+      this.storageLocation = storageLocation;
+      this.singleFile = singleFile;
     }
   }
 }
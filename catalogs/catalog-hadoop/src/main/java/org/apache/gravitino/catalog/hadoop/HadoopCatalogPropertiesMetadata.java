@@ -34,6 +34,26 @@ public class HadoopCatalogPropertiesMetadata extends BaseCatalogPropertiesMetada
   // If not, users have to specify the storage location in the Schema or Fileset level.
   public static final String LOCATION = "location";
 
+  // The time in milliseconds to cache the storage locations of the filesets resolved by
+  // getFileLocation, the cache is disabled if the value is 0. The cache of a server is refreshed
+  // when the fileset is altered or dropped through it, so the other servers sharing the same
+  // store may see the stale locations until the entries expire.
+  public static final String FILESET_LOCATION_CACHE_TTL_MS = "fileset-location.cache-ttl-ms";
+
+  public static final long DEFAULT_FILESET_LOCATION_CACHE_TTL_MS = 0L;
+
+  // The maximum number of the FileSystem instances the catalog keeps, one for each user and each
+  // scheme and authority of the storage locations it accesses.
+  public static final String FILESYSTEM_CACHE_MAX_SIZE = "filesystem-cache.max-size";
+
+  public static final long DEFAULT_FILESYSTEM_CACHE_MAX_SIZE = 1000L;
+
+  // The time in milliseconds after which the FileSystem instances not used are closed.
+  public static final String FILESYSTEM_CACHE_EXPIRE_AFTER_ACCESS_MS =
+      "filesystem-cache.expire-after-access-ms";
+
+  public static final long DEFAULT_FILESYSTEM_CACHE_EXPIRE_AFTER_ACCESS_MS = 10 * 60 * 1000L;
+
   private static final Map<String, PropertyEntry<?>> HADOOP_CATALOG_PROPERTY_ENTRIES =
       ImmutableMap.<String, PropertyEntry<?>>builder()
           .put(
@@ -44,6 +64,38 @@ public class HadoopCatalogPropertiesMetadata extends BaseCatalogPropertiesMetada
                   false /* immutable */,
                   null,
                   false /* hidden */))
+          .put(
+              FILESET_LOCATION_CACHE_TTL_MS,
+              PropertyEntry.longPropertyEntry(
+                  FILESET_LOCATION_CACHE_TTL_MS,
+                  "The time in milliseconds to cache the storage locations of the filesets, "
+                      + "0 means disabled",
+                  false /* required */,
+                  false /* immutable */,
+                  DEFAULT_FILESET_LOCATION_CACHE_TTL_MS,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              FILESYSTEM_CACHE_MAX_SIZE,
+              PropertyEntry.longPropertyEntry(
+                  FILESYSTEM_CACHE_MAX_SIZE,
+                  "The maximum number of the FileSystem instances the catalog keeps",
+                  false /* required */,
+                  false /* immutable */,
+                  DEFAULT_FILESYSTEM_CACHE_MAX_SIZE,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              FILESYSTEM_CACHE_EXPIRE_AFTER_ACCESS_MS,
+              PropertyEntry.longPropertyEntry(
+                  FILESYSTEM_CACHE_EXPIRE_AFTER_ACCESS_MS,
+                  "The time in milliseconds after which the FileSystem instances not used are "
+                      + "closed",
+                  false /* required */,
+                  false /* immutable */,
+                  DEFAULT_FILESYSTEM_CACHE_EXPIRE_AFTER_ACCESS_MS,
+                  false /* hidden */,
+                  false /* reserved */))
           // The following two are about authentication.
           .putAll(KerberosConfig.KERBEROS_PROPERTY_ENTRIES)
           .putAll(AuthenticationConfig.AUTHENTICATION_PROPERTY_ENTRIES)
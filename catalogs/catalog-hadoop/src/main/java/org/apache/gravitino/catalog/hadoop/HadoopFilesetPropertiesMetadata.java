@@ -27,11 +27,38 @@ import org.apache.gravitino.connector.PropertyEntry;
 
 public class HadoopFilesetPropertiesMetadata extends BasePropertiesMetadata {
 
+  // Property "gravitino.fileset.single-file" records whether the storage location of the fileset
+  // is a single file or a directory. It's detected from the storage when the fileset is created,
+  // so resolving the file locations of the fileset doesn't need to access the storage.
+  public static final String SINGLE_FILE = "gravitino.fileset.single-file";
+
+  // Property "gravitino.fileset.refresh-single-file" set to true by an alteration detects again
+  // whether the storage location is a single file, in case it was replaced out of Gravitino. It's
+  // not kept with the fileset.
+  public static final String REFRESH_SINGLE_FILE = "gravitino.fileset.refresh-single-file";
+
   @Override
   protected Map<String, PropertyEntry<?>> specificPropertyEntries() {
     ImmutableMap.Builder<String, PropertyEntry<?>> builder = ImmutableMap.builder();
     builder.putAll(KerberosConfig.KERBEROS_PROPERTY_ENTRIES);
     builder.putAll(AuthenticationConfig.AUTHENTICATION_PROPERTY_ENTRIES);
+    builder.put(
+        SINGLE_FILE,
+        PropertyEntry.booleanReservedPropertyEntry(
+            SINGLE_FILE,
+            "Whether the storage location of the fileset is a single file",
+            false /* defaultValue */,
+            true /* hidden */));
+    builder.put(
+        REFRESH_SINGLE_FILE,
+        PropertyEntry.booleanPropertyEntry(
+            REFRESH_SINGLE_FILE,
+            "Whether to detect again if the storage location of the fileset is a single file",
+            false /* required */,
+            false /* immutable */,
+            false /* defaultValue */,
+            false /* hidden */,
+            false /* reserved */));
     return builder.build();
   }
 }
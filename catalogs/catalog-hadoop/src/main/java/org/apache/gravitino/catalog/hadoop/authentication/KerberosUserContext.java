@@ -78,7 +78,7 @@ public class KerberosUserContext extends UserContext {
           String.format("%s@%s", proxyKerberosPrincipalName, kerberosRealm);
     }
 
-    return UserGroupInformation.createProxyUser(proxyKerberosPrincipalName, getUser());
+    return getOrCreateProxyUser(proxyKerberosPrincipalName);
   }
 
   @Override
@@ -47,6 +47,6 @@ public class SimpleUserContext extends UserContext {
 
   @Override
   UserGroupInformation createProxyUser() {
-    return UserGroupInformation.createProxyUser(PrincipalUtils.getCurrentUserName(), getUser());
+    return getOrCreateProxyUser(PrincipalUtils.getCurrentUserName());
   }
 }
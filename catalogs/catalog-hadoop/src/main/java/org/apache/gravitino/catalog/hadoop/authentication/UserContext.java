@@ -24,6 +24,8 @@ import static org.apache.gravitino.catalog.hadoop.authentication.AuthenticationC
 import static org.apache.gravitino.catalog.hadoop.authentication.AuthenticationConfig.ENABLE_IMPERSONATION_ENTRY;
 import static org.apache.gravitino.catalog.hadoop.authentication.AuthenticationConfig.IMPERSONATION_ENABLE_KEY;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Maps;
 import java.io.Closeable;
 import java.io.IOException;
@@ -32,6 +34,8 @@ import java.lang.reflect.UndeclaredThrowableException;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.catalog.hadoop.authentication.AuthenticationConfig.AuthenticationType;
 import org.apache.gravitino.connector.CatalogInfo;
@@ -42,6 +46,9 @@ public abstract class UserContext implements Closeable {
 
   private static final Map<NameIdentifier, UserContext> userContextMap = Maps.newConcurrentMap();
 
+  private static final long PROXY_USER_CACHE_MAX_SIZE = 10000L;
+  private static final long PROXY_USER_CACHE_EXPIRE_MINUTES = 60L;
+
   private static void addUserContext(NameIdentifier nameIdentifier, UserContext userContext) {
     userContextMap.put(nameIdentifier, userContext);
   }
@@ -49,6 +56,7 @@ public abstract class UserContext implements Closeable {
   public static void clearUserContext(NameIdentifier nameIdentifier) {
     UserContext userContext = userContextMap.remove(nameIdentifier);
     if (userContext != null) {
+      userContext.proxyUsers.invalidateAll();
       try {
         userContext.close();
       } catch (IOException e) {
@@ -146,12 +154,37 @@ public abstract class UserContext implements Closeable {
     }
   }
 
+  // The proxy users created for impersonation, keyed by the name of the proxied user. Reusing them
+  // keeps Hadoop's FileSystem cache and the RPC connections, which are keyed by the
+  // UserGroupInformation, from creating new instances for every operation.
+  private final Cache<String, UserGroupInformation> proxyUsers =
+      CacheBuilder.newBuilder()
+          .maximumSize(PROXY_USER_CACHE_MAX_SIZE)
+          .expireAfterAccess(PROXY_USER_CACHE_EXPIRE_MINUTES, TimeUnit.MINUTES)
+          .build();
+
   abstract UserGroupInformation getUser();
 
   abstract boolean enableUserImpersonation();
 
   abstract UserGroupInformation createProxyUser();
 
+  /**
+   * Gets the proxy user of the given user name on behalf of the user of this context, the proxy
+   * user is created on the first use and reused afterwards.
+   *
+   * @param userName The name of the proxied user.
+   * @return The proxy user.
+   */
+  UserGroupInformation getOrCreateProxyUser(String userName) {
+    try {
+      return proxyUsers.get(
+          userName, () -> UserGroupInformation.createProxyUser(userName, getUser()));
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Failed to create proxy user " + userName, e.getCause());
+    }
+  }
+
   public <T> T doAs(PrivilegedExceptionAction<T> action, NameIdentifier ident) {
     UserGroupInformation u = getUser();
     if (enableUserImpersonation()) {
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.hadoop.metrics;
+
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * HadoopCatalogMetricsSource collects the FileSystem cache metrics of a Hadoop catalog, the metrics
+ * source name is "hadoop-catalog.{metalake}.{catalog}".
+ */
+public class HadoopCatalogMetricsSource extends MetricsSource {
+
+  public static final String HADOOP_CATALOG_METRIC_NAME = "hadoop-catalog";
+
+  public static final String FILESYSTEM_CACHE_SIZE = "filesystem-cache.size";
+  public static final String FILESYSTEM_CACHE_CREATED = "filesystem-cache.created";
+  public static final String FILESYSTEM_CACHE_EVICTED = "filesystem-cache.evicted";
+
+  /**
+   * Creates the metrics source of a Hadoop catalog.
+   *
+   * @param metalake The metalake of the catalog.
+   * @param catalog The name of the catalog.
+   */
+  public HadoopCatalogMetricsSource(String metalake, String catalog) {
+    super(String.join(".", HADOOP_CATALOG_METRIC_NAME, metalake, catalog));
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.hadoop;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.catalog.hadoop.metrics.HadoopCatalogMetricsSource;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RawLocalFileSystem;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestFileSystemCache {
+
+  private static final List<TrackedFileSystem> CREATED_FILE_SYSTEMS =
+      new CopyOnWriteArrayList<>();
+
+  private final Configuration conf = new Configuration();
+
+  @BeforeEach
+  public void setUp() {
+    CREATED_FILE_SYSTEMS.clear();
+    conf.set("fs.tracked.impl", TrackedFileSystem.class.getName());
+  }
+
+  @Test
+  public void testEvictFileSystemInUse() throws IOException {
+    try (FileSystemCache cache = newCache(1)) {
+      FileSystemCache.Lease lease = cache.acquire(new Path("tracked://a/path"));
+      TrackedFileSystem fs = (TrackedFileSystem) lease.fileSystem();
+
+      // Acquiring the FileSystem of another authority evicts the one in use
+      try (FileSystemCache.Lease other = cache.acquire(new Path("tracked://b/path"))) {
+        Assertions.assertNotSame(fs, other.fileSystem());
+      }
+      Assertions.assertEquals(1, cache.size());
+      Assertions.assertFalse(fs.closed);
+
+      // The evicted FileSystem is closed once its last lease is released
+      lease.close();
+      Assertions.assertTrue(fs.closed);
+      lease.close();
+      Assertions.assertThrows(IllegalStateException.class, lease::fileSystem);
+
+      // The evicted FileSystem is not reused
+      try (FileSystemCache.Lease newLease = cache.acquire(new Path("tracked://a/path"))) {
+        Assertions.assertNotSame(fs, newLease.fileSystem());
+        Assertions.assertFalse(((TrackedFileSystem) newLease.fileSystem()).closed);
+      }
+    }
+
+    Assertions.assertEquals(3, CREATED_FILE_SYSTEMS.size());
+    CREATED_FILE_SYSTEMS.forEach(fs -> Assertions.assertTrue(fs.closed));
+  }
+
+  @Test
+  public void testCloseWithFileSystemInUse() throws IOException {
+    FileSystemCache cache = newCache(10);
+    FileSystemCache.Lease lease = cache.acquire(new Path("tracked://a/path"));
+    TrackedFileSystem fs = (TrackedFileSystem) lease.fileSystem();
+
+    cache.close();
+    Assertions.assertEquals(0, cache.size());
+    Assertions.assertFalse(fs.closed);
+
+    lease.close();
+    Assertions.assertTrue(fs.closed);
+  }
+
+  @Test
+  public void testConcurrentEvictionWithFileSystemInUse() throws Exception {
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    try (FileSystemCache cache = newCache(2)) {
+      List<Future<?>> futures = new CopyOnWriteArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  for (int j = 0; j < 200; j++) {
+                    // Five authorities on a cache of two keep evicting the FileSystems
+                    String authority = "host" + ThreadLocalRandom.current().nextInt(5);
+                    try (FileSystemCache.Lease lease =
+                        cache.acquire(new Path("tracked://" + authority + "/path"))) {
+                      TrackedFileSystem fs = (TrackedFileSystem) lease.fileSystem();
+                      Assertions.assertFalse(fs.closed);
+                      Thread.yield();
+                      Assertions.assertFalse(fs.closed);
+                    }
+                  }
+                  return null;
+                }));
+      }
+
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(60, TimeUnit.SECONDS);
+      }
+      Assertions.assertTrue(cache.size() <= 2);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // All the FileSystems are closed exactly once after the cache is closed
+    Assertions.assertFalse(CREATED_FILE_SYSTEMS.isEmpty());
+    CREATED_FILE_SYSTEMS.forEach(fs -> Assertions.assertEquals(1, fs.closeCount));
+  }
+
+  private FileSystemCache newCache(long maxSize) {
+    return new FileSystemCache(
+        conf, maxSize, 60 * 60 * 1000L, new HadoopCatalogMetricsSource("metalake", "catalog"));
+  }
+
+  /** A local FileSystem recording whether it's closed. */
+  public static class TrackedFileSystem extends RawLocalFileSystem {
+    private volatile boolean closed;
+    private volatile int closeCount;
+
+    @Override
+    public void initialize(URI uri, Configuration conf) throws IOException {
+      super.initialize(uri, conf);
+      CREATED_FILE_SYSTEMS.add(this);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+      closed = true;
+      closeCount++;
+      super.close();
+    }
+  }
+}
@@ -43,6 +43,7 @@ import com.google.common.collect.Maps;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
@@ -52,6 +53,7 @@ import java.util.stream.Stream;
 import org.apache.commons.io.FileUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.EntityStoreFactory;
 import org.apache.gravitino.NameIdentifier;
@@ -72,6 +74,8 @@ import org.apache.gravitino.exceptions.NonEmptySchemaException;
 import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.FilesetEntity;
 import org.apache.gravitino.storage.IdGenerator;
 import org.apache.gravitino.storage.RandomIdGenerator;
 import org.apache.gravitino.storage.relational.service.CatalogMetaService;
@@ -822,6 +826,22 @@ public class TestHadoopCatalogOperations {
       localFileSystem.create(filesetLocationPath2);
       Assertions.assertTrue(localFileSystem.exists(filesetLocationPath2));
       Assertions.assertTrue(localFileSystem.getFileStatus(filesetLocationPath2).isFile());
+      // Altering the fileset keeps whether it mounts a single file unless it asks for a refresh
+      Fileset alteredFileset =
+          ops.alterFileset(filesetIdent, FilesetChange.setProperty("k1", "v1"));
+      Assertions.assertEquals(
+          "false", alteredFileset.properties().get(HadoopFilesetPropertiesMetadata.SINGLE_FILE));
+      Fileset refreshedFileset =
+          ops.alterFileset(
+              filesetIdent,
+              FilesetChange.setProperty(
+                  HadoopFilesetPropertiesMetadata.REFRESH_SINGLE_FILE, "true"));
+      Assertions.assertEquals(
+          "true", refreshedFileset.properties().get(HadoopFilesetPropertiesMetadata.SINGLE_FILE));
+      Assertions.assertFalse(
+          refreshedFileset
+              .properties()
+              .containsKey(HadoopFilesetPropertiesMetadata.REFRESH_SINGLE_FILE));
 
       String subPath = "/year=2024/month=07/day=22/test.parquet";
       Map<String, String> contextMap = Maps.newHashMap();
@@ -854,6 +874,9 @@ public class TestHadoopCatalogOperations {
       localFileSystem.create(filesetLocationPath3);
       Assertions.assertTrue(localFileSystem.exists(filesetLocationPath3));
       Assertions.assertTrue(localFileSystem.getFileStatus(filesetLocationPath3).isFile());
+      ops.alterFileset(
+          filesetIdent,
+          FilesetChange.setProperty(HadoopFilesetPropertiesMetadata.REFRESH_SINGLE_FILE, "true"));
 
       Map<String, String> contextMap = Maps.newHashMap();
       contextMap.put(
@@ -870,18 +893,99 @@ public class TestHadoopCatalogOperations {
     String filesetLocation4 =
         TEST_ROOT_PATH + "/" + catalogName + "/" + schemaName + "/" + filesetName4 + "/";
     NameIdentifier filesetIdent = NameIdentifier.of("m1", "c1", schemaName, name);
-    Fileset mockFileset = Mockito.mock(Fileset.class);
-    when(mockFileset.name()).thenReturn(filesetName4);
-    when(mockFileset.storageLocation()).thenReturn(filesetLocation4);
-
-    try (HadoopCatalogOperations mockOps = Mockito.mock(HadoopCatalogOperations.class)) {
-      mockOps.hadoopConf = new Configuration();
-      when(mockOps.loadFileset(filesetIdent)).thenReturn(mockFileset);
+    FilesetEntity filesetEntity =
+        FilesetEntity.builder()
+            .withId(1L)
+            .withName(filesetName4)
+            .withNamespace(filesetIdent.namespace())
+            .withFilesetType(Fileset.Type.MANAGED)
+            .withStorageLocation(filesetLocation4)
+            .withProperties(ImmutableMap.of(HadoopFilesetPropertiesMetadata.SINGLE_FILE, "false"))
+            .withAuditInfo(
+                AuditInfo.builder().withCreator("test").withCreateTime(Instant.now()).build())
+            .build();
+    EntityStore mockStore = Mockito.mock(EntityStore.class);
+    when(mockStore.get(filesetIdent, Entity.EntityType.FILESET, FilesetEntity.class))
+        .thenReturn(filesetEntity);
+
+    try (HadoopCatalogOperations mockOps = new HadoopCatalogOperations(mockStore)) {
       String subPath = "/test/test.parquet";
-      when(mockOps.getFileLocation(filesetIdent, subPath)).thenCallRealMethod();
       String fileLocation = mockOps.getFileLocation(filesetIdent, subPath);
       Assertions.assertEquals(
-          String.format("%s%s", mockFileset.storageLocation(), subPath.substring(1)), fileLocation);
+          String.format("%s%s", filesetLocation4, subPath.substring(1)), fileLocation);
+    }
+  }
+
+  @Test
+  public void testFilesetLocationCache() throws IOException {
+    String schemaName = "schema1025";
+    String comment = "comment1025";
+    String schemaPath = TEST_ROOT_PATH + "/" + schemaName;
+    createSchema(schemaName, comment, null, schemaPath);
+
+    String name = "fileset1025";
+    Fileset fileset = createFileset(name, schemaName, comment, Fileset.Type.MANAGED, null, null);
+    Map<String, String> catalogProperties =
+        ImmutableMap.of(HadoopCatalogPropertiesMetadata.FILESET_LOCATION_CACHE_TTL_MS, "60000");
+
+    try (HadoopCatalogOperations ops = new HadoopCatalogOperations(store)) {
+      ops.initialize(catalogProperties, randomCatalogInfo(), HADOOP_PROPERTIES_METADATA);
+      NameIdentifier filesetIdent = NameIdentifier.of("m1", "c1", schemaName, name);
+
+      // Whether the fileset mounts a single file is persisted when it's created
+      Assertions.assertEquals(
+          "false",
+          ops.loadFileset(filesetIdent)
+              .properties()
+              .get(HadoopFilesetPropertiesMetadata.SINGLE_FILE));
+
+      String expectedLocation = fileset.storageLocation() + "/test.parquet";
+      Assertions.assertEquals(expectedLocation, ops.getFileLocation(filesetIdent, "test.parquet"));
+      Assertions.assertNotNull(ops.filesetLocationCache.getIfPresent(filesetIdent));
+      Assertions.assertEquals(expectedLocation, ops.getFileLocation(filesetIdent, "test.parquet"));
+
+      // Altering the fileset invalidates the cached location
+      ops.alterFileset(filesetIdent, FilesetChange.setProperty("k1", "v1"));
+      Assertions.assertNull(ops.filesetLocationCache.getIfPresent(filesetIdent));
+      Assertions.assertEquals(expectedLocation, ops.getFileLocation(filesetIdent, "test.parquet"));
+
+      // Dropping the fileset invalidates the cached location
+      Assertions.assertTrue(ops.dropFileset(filesetIdent));
+      Assertions.assertNull(ops.filesetLocationCache.getIfPresent(filesetIdent));
+      Assertions.assertThrows(
+          NoSuchFilesetException.class, () -> ops.getFileLocation(filesetIdent, "test.parquet"));
+    }
+  }
+
+  @Test
+  public void testFileSystemCache() throws IOException {
+    String schemaName = "schema1026";
+    String comment = "comment1026";
+    String schemaPath = TEST_ROOT_PATH + "/" + schemaName;
+    createSchema(schemaName, comment, null, schemaPath);
+    Map<String, String> catalogProperties =
+        ImmutableMap.of(HadoopCatalogPropertiesMetadata.FILESYSTEM_CACHE_MAX_SIZE, "10");
+
+    try (HadoopCatalogOperations ops = new HadoopCatalogOperations(store)) {
+      ops.initialize(catalogProperties, randomCatalogInfo(), HADOOP_PROPERTIES_METADATA);
+      FileSystemCache fileSystemCache = ops.fileSystemCache;
+
+      // The file system of the same user and scheme is created once and reused afterwards
+      try (FileSystemCache.Lease lease1 = fileSystemCache.acquire(new Path(schemaPath));
+          FileSystemCache.Lease lease2 =
+              fileSystemCache.acquire(new Path(schemaPath + "/fileset1026"))) {
+        Assertions.assertEquals(1, fileSystemCache.size());
+        Assertions.assertSame(lease1.fileSystem(), lease2.fileSystem());
+      }
+
+      NameIdentifier filesetIdent = NameIdentifier.of("m1", "c1", schemaName, "fileset1026");
+      ops.createFileset(filesetIdent, comment, Fileset.Type.MANAGED, null, null);
+      Assertions.assertTrue(ops.dropFileset(filesetIdent));
+      Assertions.assertEquals(1, fileSystemCache.size());
+
+      // Closing the catalog closes the cached file systems
+      ops.close();
+      Assertions.assertEquals(0, fileSystemCache.size());
     }
   }
 
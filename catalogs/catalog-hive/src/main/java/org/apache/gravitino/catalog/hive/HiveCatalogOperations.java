@@ -109,6 +109,8 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
 
   @VisibleForTesting HiveConf hiveConf;
 
+  @VisibleForTesting HiveMetastoreCache metastoreCache;
+
   private CatalogInfo info;
 
   private HasPropertyMetadata propertiesMetadata;
@@ -169,6 +171,39 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     this.clientPool = new CachedClientPool(hiveConf, conf);
 
     this.listAllTables = enableListAllTables(conf);
+
+    this.metastoreCache = createMetastoreCache(conf);
+  }
+
+  private HiveMetastoreCache createMetastoreCache(Map<String, String> conf) {
+    long ttlMs =
+        (long)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(conf, HiveCatalogPropertiesMeta.METASTORE_CACHE_TTL_MS);
+    boolean impersonationEnabled =
+        (boolean)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(conf, HiveCatalogPropertiesMeta.IMPERSONATION_ENABLE);
+    if (ttlMs > 0 && impersonationEnabled) {
+      // The objects visible to a user are decided by the Hive Metastore, they can't be shared.
+      LOG.warn("Hive Metastore cache is disabled because impersonation is enabled");
+      ttlMs = 0;
+    }
+
+    long maxSize =
+        (long)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(conf, HiveCatalogPropertiesMeta.METASTORE_CACHE_MAX_SIZE);
+    long pollIntervalMs =
+        (long)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(conf, HiveCatalogPropertiesMeta.METASTORE_CACHE_POLL_INTERVAL_MS);
+    return new HiveMetastoreCache(
+        clientPool, ttlMs, maxSize, pollIntervalMs, ttlMs > 0 ? String.valueOf(info.id()) : null);
   }
 
   private void initKerberosIfNecessary(Map<String, String> conf, Configuration hadoopConf) {
@@ -287,6 +322,11 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
   /** Closes the Hive catalog and releases the associated client pool. */
   @Override
   public void close() {
+    if (metastoreCache != null) {
+      metastoreCache.close();
+      metastoreCache = null;
+    }
+
     if (clientPool != null) {
       clientPool.close();
       clientPool = null;
@@ -370,6 +410,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
             return null;
           });
 
+      metastoreCache.invalidateDatabase(ident.name());
       LOG.info("Created Hive schema (database) {} in Hive Metastore", ident.name());
       return hiveSchema;
 
@@ -396,7 +437,9 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
   @Override
   public HiveSchema loadSchema(NameIdentifier ident) throws NoSuchSchemaException {
     try {
-      Database database = clientPool.run(client -> client.getDatabase(ident.name()));
+      Database database =
+          metastoreCache.getDatabase(
+              ident.name(), () -> clientPool.run(client -> client.getDatabase(ident.name())));
       HiveSchema hiveSchema = HiveSchema.fromHiveDB(database);
 
       LOG.info("Loaded Hive schema (database) {} from Hive Metastore ", ident.name());
@@ -460,6 +503,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
             return null;
           });
 
+      metastoreCache.invalidateDatabase(ident.name());
       LOG.info("Altered Hive schema (database) {} in Hive Metastore", ident.name());
       return HiveSchema.fromHiveDB(alteredDatabase);
 
@@ -492,6 +536,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
             client.dropDatabase(ident.name(), false, false, cascade);
             return null;
           });
+      metastoreCache.invalidateDatabase(ident.name());
       LOG.info("Dropped Hive schema (database) {}", ident.name());
       return true;
 
@@ -538,24 +583,29 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
       // first time is to retrieve all types of table names (including the missing type tables), and
       // then based on
       // those names we can obtain metadata for each individual table and get the type we needed.
-      List<String> allTables = clientPool.run(c -> c.getAllTables(schemaIdent.name()));
-      return clientPool.run(
-          c ->
-              c.getTableObjectsByName(schemaIdent.name(), allTables).stream()
-                  .filter(
-                      tb -> {
-                        boolean isSupportTable = SUPPORT_TABLE_TYPES.contains(tb.getTableType());
-                        if (!isSupportTable) {
-                          return false;
-                        }
-                        if (!listAllTables) {
-                          Map<String, String> parameters = tb.getParameters();
-                          return isHiveTable(parameters);
-                        }
-                        return true;
-                      })
-                  .map(tb -> NameIdentifier.of(namespace, tb.getTableName()))
-                  .toArray(NameIdentifier[]::new));
+      List<org.apache.hadoop.hive.metastore.api.Table> tables =
+          metastoreCache.getTables(
+              schemaIdent.name(),
+              () -> {
+                List<String> allTables = clientPool.run(c -> c.getAllTables(schemaIdent.name()));
+                return clientPool.run(
+                    c -> c.getTableObjectsByName(schemaIdent.name(), allTables));
+              });
+      return tables.stream()
+          .filter(
+              tb -> {
+                boolean isSupportTable = SUPPORT_TABLE_TYPES.contains(tb.getTableType());
+                if (!isSupportTable) {
+                  return false;
+                }
+                if (!listAllTables) {
+                  Map<String, String> parameters = tb.getParameters();
+                  return isHiveTable(parameters);
+                }
+                return true;
+              })
+          .map(tb -> NameIdentifier.of(namespace, tb.getTableName()))
+          .toArray(NameIdentifier[]::new);
     } catch (UnknownDBException e) {
       throw new NoSuchSchemaException(
           "Schema (database) does not exist %s in Hive Metastore", namespace);
@@ -594,7 +644,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
    */
   @Override
   public Table loadTable(NameIdentifier tableIdent) throws NoSuchTableException {
-    org.apache.hadoop.hive.metastore.api.Table table = loadHiveTable(tableIdent);
+    org.apache.hadoop.hive.metastore.api.Table table = loadHiveTable(tableIdent, true);
     HiveTable hiveTable =
         HiveTable.fromHiveTable(table)
             .withProxyPlugin(proxyPlugin)
@@ -606,12 +656,19 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
   }
 
   private org.apache.hadoop.hive.metastore.api.Table loadHiveTable(NameIdentifier tableIdent) {
+    return loadHiveTable(tableIdent, false);
+  }
+
+  private org.apache.hadoop.hive.metastore.api.Table loadHiveTable(
+      NameIdentifier tableIdent, boolean useCache) {
     NameIdentifier schemaIdent = NameIdentifier.of(tableIdent.namespace().levels());
 
     try {
-      org.apache.hadoop.hive.metastore.api.Table table =
-          clientPool.run(c -> c.getTable(schemaIdent.name(), tableIdent.name()));
-      return table;
+      HiveMetastoreCache.Loader<org.apache.hadoop.hive.metastore.api.Table> loader =
+          () -> clientPool.run(c -> c.getTable(schemaIdent.name(), tableIdent.name()));
+      return useCache
+          ? metastoreCache.getTable(schemaIdent.name(), tableIdent.name(), loader)
+          : loader.load();
 
     } catch (NoSuchObjectException e) {
       throw new NoSuchTableException(
@@ -789,6 +846,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
             return null;
           });
 
+      metastoreCache.invalidateTable(schemaIdent.name(), tableIdent.name());
       LOG.info("Created Hive table {} in Hive Metastore", tableIdent.name());
       return hiveTable;
 
@@ -823,7 +881,12 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
 
     try {
       // TODO(@Minghuang): require a table lock to avoid race condition
-      HiveTable table = (HiveTable) loadTable(tableIdent);
+      // Always alter the latest table in the Hive Metastore rather than the cached one
+      HiveTable table =
+          HiveTable.fromHiveTable(loadHiveTable(tableIdent))
+              .withProxyPlugin(proxyPlugin)
+              .withClientPool(clientPool)
+              .build();
       org.apache.hadoop.hive.metastore.api.Table alteredHiveTable =
           table.toHiveTable(propertiesMetadata.tablePropertiesMetadata());
 
@@ -887,6 +950,9 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
             return null;
           });
 
+      metastoreCache.invalidateTable(schemaIdent.name(), tableIdent.name());
+      // The table may be renamed
+      metastoreCache.invalidateTable(alteredHiveTable.getDbName(), alteredHiveTable.getTableName());
       LOG.info("Altered Hive table {} in Hive Metastore", tableIdent.name());
       return HiveTable.fromHiveTable(alteredHiveTable)
           .withProxyPlugin(proxyPlugin)
@@ -1121,6 +1187,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
             return null;
           });
 
+      metastoreCache.invalidateTable(schemaIdent.name(), tableIdent.name());
       LOG.info("Dropped Hive table {}", tableIdent.name());
       return true;
 
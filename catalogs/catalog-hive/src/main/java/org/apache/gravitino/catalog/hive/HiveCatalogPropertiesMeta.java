@@ -50,6 +50,19 @@ public class HiveCatalogPropertiesMeta extends BaseCatalogPropertiesMetadata {
 
   public static final boolean DEFAULT_LIST_ALL_TABLES = false;
 
+  public static final String METASTORE_CACHE_TTL_MS = HiveConstants.METASTORE_CACHE_TTL_MS;
+
+  public static final long DEFAULT_METASTORE_CACHE_TTL_MS = 0L;
+
+  public static final String METASTORE_CACHE_MAX_SIZE = HiveConstants.METASTORE_CACHE_MAX_SIZE;
+
+  public static final long DEFAULT_METASTORE_CACHE_MAX_SIZE = 10000L;
+
+  public static final String METASTORE_CACHE_POLL_INTERVAL_MS =
+      HiveConstants.METASTORE_CACHE_POLL_INTERVAL_MS;
+
+  public static final long DEFAULT_METASTORE_CACHE_POLL_INTERVAL_MS = 1000L;
+
   private static final ClientPropertiesMetadata CLIENT_PROPERTIES_METADATA =
       new ClientPropertiesMetadata();
 
@@ -110,6 +123,38 @@ public class HiveCatalogPropertiesMeta extends BaseCatalogPropertiesMetadata {
                   DEFAULT_LIST_ALL_TABLES,
                   false /* hidden */,
                   false /* reserved */))
+          .put(
+              METASTORE_CACHE_TTL_MS,
+              PropertyEntry.longPropertyEntry(
+                  METASTORE_CACHE_TTL_MS,
+                  "The time in milliseconds to cache the databases and tables loaded from the Hive "
+                      + "Metastore, 0 means the cache is disabled",
+                  false /* required */,
+                  false /* immutable */,
+                  DEFAULT_METASTORE_CACHE_TTL_MS,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              METASTORE_CACHE_MAX_SIZE,
+              PropertyEntry.longPropertyEntry(
+                  METASTORE_CACHE_MAX_SIZE,
+                  "The maximum number of databases, tables and table lists to cache respectively",
+                  false /* required */,
+                  false /* immutable */,
+                  DEFAULT_METASTORE_CACHE_MAX_SIZE,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              METASTORE_CACHE_POLL_INTERVAL_MS,
+              PropertyEntry.longPropertyEntry(
+                  METASTORE_CACHE_POLL_INTERVAL_MS,
+                  "The interval in milliseconds to poll the Hive Metastore notification events to "
+                      + "invalidate the cache, 0 means the cache only relies on the TTL",
+                  false /* required */,
+                  false /* immutable */,
+                  DEFAULT_METASTORE_CACHE_POLL_INTERVAL_MS,
+                  false /* hidden */,
+                  false /* reserved */))
           .putAll(AuthorizationPropertiesMeta.RANGER_AUTHORIZATION_PROPERTY_ENTRIES)
           .putAll(CLIENT_PROPERTIES_METADATA.propertyEntries())
           .build();
@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.hive;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.hive.CachedClientPool;
+import org.apache.hadoop.hive.metastore.api.Database;
+import org.apache.hadoop.hive.metastore.api.NotificationEvent;
+import org.apache.hadoop.hive.metastore.api.NotificationEventResponse;
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.thrift.TException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache of the databases and tables loaded from the Hive Metastore.
+ *
+ * <p>Cached objects expire after the configured TTL. Besides, the cache polls the notification
+ * events of the Hive Metastore from the last seen event id, and invalidates the objects touched by
+ * the events, so that the changes made by other Hive Metastore clients are visible soon without
+ * reloading the whole cache. The notification events are only available if the Hive Metastore is
+ * configured with a notification listener like {@code DbNotificationListener}, otherwise the cached
+ * objects are only refreshed when they expire.
+ *
+ * <p>If the TTL is not positive, the cache is disabled and all the loads go to the Hive Metastore.
+ */
+class HiveMetastoreCache implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(HiveMetastoreCache.class);
+
+  @VisibleForTesting static final int MAX_EVENTS_PER_POLL = 1000;
+
+  private static final String ALTER_TABLE_EVENT = "ALTER_TABLE";
+
+  /**
+   * Loads an object from the Hive Metastore.
+   *
+   * @param <T> The type of the object.
+   */
+  @FunctionalInterface
+  interface Loader<T> {
+    T load() throws TException, InterruptedException;
+  }
+
+  private final CachedClientPool clientPool;
+  private final boolean enabled;
+
+  // The following fields are null if the cache is disabled.
+  private final Cache<String, Database> databases;
+  private final Cache<String, Table> tables;
+  private final Cache<String, List<Table>> databaseTables;
+  private final ScheduledThreadPoolExecutor notificationPoller;
+
+  // The invalidation counts of every database, and of the whole cache. A load started before an
+  // invalidation of its database does not put the loaded object into the cache.
+  private final Map<String, Long> databaseVersions = new ConcurrentHashMap<>();
+  private long globalVersion;
+
+  // The id of the last notification event seen, -1 means it is unknown yet.
+  private volatile long lastEventId = -1;
+
+  HiveMetastoreCache(
+      CachedClientPool clientPool,
+      long ttlMs,
+      long maxSize,
+      long pollIntervalMs,
+      String catalogId) {
+    Preconditions.checkArgument(maxSize > 0, "The max size of the cache must be positive");
+    this.clientPool = clientPool;
+    this.enabled = ttlMs > 0;
+    if (!enabled) {
+      this.databases = null;
+      this.tables = null;
+      this.databaseTables = null;
+      this.notificationPoller = null;
+      return;
+    }
+
+    this.databases = newCache(ttlMs, maxSize);
+    this.tables = newCache(ttlMs, maxSize);
+    this.databaseTables = newCache(ttlMs, maxSize);
+
+    if (pollIntervalMs > 0) {
+      this.notificationPoller =
+          new ScheduledThreadPoolExecutor(
+              1,
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat(String.format("hive-metastore-cache-%s", catalogId) + "-%d")
+                  .build());
+      notificationPoller.scheduleWithFixedDelay(
+          this::pollNotificationEvents, 0, pollIntervalMs, TimeUnit.MILLISECONDS);
+    } else {
+      this.notificationPoller = null;
+    }
+  }
+
+  Database getDatabase(String dbName, Loader<Database> loader)
+      throws TException, InterruptedException {
+    String key = normalize(dbName);
+    return get(databases, key, key, loader).deepCopy();
+  }
+
+  Table getTable(String dbName, String tableName, Loader<Table> loader)
+      throws TException, InterruptedException {
+    String db = normalize(dbName);
+    return get(tables, tableKey(db, normalize(tableName)), db, loader).deepCopy();
+  }
+
+  /**
+   * Gets all the table objects of a database. The returned tables are shared with the cache and
+   * must not be modified.
+   */
+  List<Table> getTables(String dbName, Loader<List<Table>> loader)
+      throws TException, InterruptedException {
+    String key = normalize(dbName);
+    return get(databaseTables, key, key, loader);
+  }
+
+  /** Invalidates a database and all its tables. */
+  synchronized void invalidateDatabase(String dbName) {
+    if (!enabled) {
+      return;
+    }
+    String db = normalize(dbName);
+    databaseVersions.merge(db, 1L, Long::sum);
+    databases.invalidate(db);
+    databaseTables.invalidate(db);
+    tables.asMap().keySet().removeIf(key -> key.startsWith(db + "."));
+  }
+
+  /** Invalidates a table and the table list of its database. */
+  synchronized void invalidateTable(String dbName, String tableName) {
+    if (!enabled) {
+      return;
+    }
+    String db = normalize(dbName);
+    databaseVersions.merge(db, 1L, Long::sum);
+    tables.invalidate(tableKey(db, normalize(tableName)));
+    databaseTables.invalidate(db);
+  }
+
+  synchronized void invalidateAll() {
+    if (!enabled) {
+      return;
+    }
+    globalVersion++;
+    databases.invalidateAll();
+    tables.invalidateAll();
+    databaseTables.invalidateAll();
+  }
+
+  @Override
+  public void close() {
+    if (notificationPoller != null) {
+      notificationPoller.shutdownNow();
+    }
+    invalidateAll();
+  }
+
+  @VisibleForTesting
+  void pollNotificationEvents() {
+    try {
+      if (lastEventId < 0) {
+        // Start from the current event, the objects are not cached before it is known.
+        lastEventId = clientPool.run(c -> c.getCurrentNotificationEventId().getEventId());
+        LOG.info("Start polling Hive Metastore notification events from event {}", lastEventId);
+        return;
+      }
+
+      List<NotificationEvent> events;
+      do {
+        long fromEventId = lastEventId;
+        NotificationEventResponse response =
+            clientPool.run(c -> c.getNextNotification(fromEventId, MAX_EVENTS_PER_POLL, null));
+        events = response.getEvents();
+        if (events == null || events.isEmpty()) {
+          return;
+        }
+
+        if (events.get(0).getEventId() > fromEventId + 1) {
+          // Some events were cleaned up in the Hive Metastore before being seen
+          LOG.warn(
+              "Missed Hive Metastore notification events between {} and {}, invalidate all",
+              fromEventId,
+              events.get(0).getEventId());
+          invalidateAll();
+        }
+        events.forEach(this::applyNotificationEvent);
+        lastEventId = events.get(events.size() - 1).getEventId();
+      } while (events.size() >= MAX_EVENTS_PER_POLL);
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      LOG.warn("Failed to poll Hive Metastore notification events after {}", lastEventId, e);
+    }
+  }
+
+  private void applyNotificationEvent(NotificationEvent event) {
+    if (event.getDbName() == null) {
+      invalidateAll();
+    } else if (event.getTableName() == null || event.getTableName().isEmpty()) {
+      invalidateDatabase(event.getDbName());
+    } else {
+      invalidateTable(event.getDbName(), event.getTableName());
+      if (ALTER_TABLE_EVENT.equals(event.getEventType())) {
+        // The table may be renamed into another database
+        synchronized (this) {
+          databaseTables.invalidateAll();
+        }
+      }
+    }
+  }
+
+  private <T> T get(Cache<String, T> cache, String key, String dbName, Loader<T> loader)
+      throws TException, InterruptedException {
+    if (!enabled || (notificationPoller != null && lastEventId < 0)) {
+      return loader.load();
+    }
+
+    T value = cache.getIfPresent(key);
+    if (value != null) {
+      return value;
+    }
+
+    long version = version(dbName);
+    value = loader.load();
+    synchronized (this) {
+      if (version == version(dbName)) {
+        cache.put(key, value);
+      }
+    }
+    return value;
+  }
+
+  private synchronized long version(String dbName) {
+    return globalVersion + databaseVersions.getOrDefault(dbName, 0L);
+  }
+
+  private static <T> Cache<String, T> newCache(long ttlMs, long maxSize) {
+    return CacheBuilder.newBuilder()
+        .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+        .maximumSize(maxSize)
+        .build();
+  }
+
+  private static String normalize(String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+
+  // Hive database names can not contain dots, so the key is unique.
+  private static String tableKey(String dbName, String tableName) {
+    return dbName + "." + tableName;
+  }
+}
@@ -29,6 +29,9 @@ import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMeta.FETCH_
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMeta.IMPERSONATION_ENABLE;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMeta.KEY_TAB_URI;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMeta.LIST_ALL_TABLES;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMeta.METASTORE_CACHE_MAX_SIZE;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMeta.METASTORE_CACHE_POLL_INTERVAL_MS;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMeta.METASTORE_CACHE_TTL_MS;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMeta.METASTORE_URIS;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMeta.PRINCIPAL;
 import static org.apache.gravitino.catalog.hive.TestHiveCatalog.HIVE_PROPERTIES_METADATA;
@@ -73,7 +76,7 @@ class TestHiveCatalogOperations {
     Map<String, PropertyEntry<?>> propertyEntryMap =
         HIVE_PROPERTIES_METADATA.catalogPropertiesMetadata().propertyEntries();
 
-    Assertions.assertEquals(20, propertyEntryMap.size());
+    Assertions.assertEquals(23, propertyEntryMap.size());
     Assertions.assertTrue(propertyEntryMap.containsKey(METASTORE_URIS));
     Assertions.assertTrue(propertyEntryMap.containsKey(Catalog.PROPERTY_PACKAGE));
     Assertions.assertTrue(propertyEntryMap.containsKey(BaseCatalog.CATALOG_OPERATION_IMPL));
@@ -81,6 +84,9 @@ class TestHiveCatalogOperations {
     Assertions.assertTrue(propertyEntryMap.containsKey(CLIENT_POOL_SIZE));
     Assertions.assertTrue(propertyEntryMap.containsKey(IMPERSONATION_ENABLE));
     Assertions.assertTrue(propertyEntryMap.containsKey(LIST_ALL_TABLES));
+    Assertions.assertTrue(propertyEntryMap.containsKey(METASTORE_CACHE_TTL_MS));
+    Assertions.assertTrue(propertyEntryMap.containsKey(METASTORE_CACHE_MAX_SIZE));
+    Assertions.assertTrue(propertyEntryMap.containsKey(METASTORE_CACHE_POLL_INTERVAL_MS));
     Assertions.assertTrue(
         propertyEntryMap.containsKey(AuthorizationPropertiesMeta.RANGER_ADMIN_URL));
     Assertions.assertTrue(
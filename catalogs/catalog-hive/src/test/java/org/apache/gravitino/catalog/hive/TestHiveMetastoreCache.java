@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.hive;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.Lists;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.hive.CachedClientPool;
+import org.apache.gravitino.utils.ClientPool;
+import org.apache.hadoop.hive.metastore.IMetaStoreClient;
+import org.apache.hadoop.hive.metastore.api.CurrentNotificationEventId;
+import org.apache.hadoop.hive.metastore.api.Database;
+import org.apache.hadoop.hive.metastore.api.NotificationEvent;
+import org.apache.hadoop.hive.metastore.api.NotificationEventResponse;
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.thrift.TException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestHiveMetastoreCache {
+
+  @Test
+  void testCacheDisabled() throws TException, InterruptedException {
+    AtomicInteger loads = new AtomicInteger();
+    try (HiveMetastoreCache cache =
+        new HiveMetastoreCache(mock(CachedClientPool.class), 0, 10, 0, "test")) {
+      cache.getDatabase("db", () -> newDatabase("db", loads));
+      cache.getDatabase("db", () -> newDatabase("db", loads));
+      Assertions.assertEquals(2, loads.get());
+    }
+  }
+
+  @Test
+  void testCacheHitAndInvalidation() throws TException, InterruptedException {
+    AtomicInteger dbLoads = new AtomicInteger();
+    AtomicInteger tableLoads = new AtomicInteger();
+    try (HiveMetastoreCache cache =
+        new HiveMetastoreCache(mock(CachedClientPool.class), 60000, 10, 0, "test")) {
+      Database db = cache.getDatabase("db", () -> newDatabase("db", dbLoads));
+      db.setDescription("modified");
+      Assertions.assertNull(
+          cache.getDatabase("DB", () -> newDatabase("db", dbLoads)).getDescription());
+      Assertions.assertEquals(1, dbLoads.get());
+
+      cache.getTable("db", "tbl", () -> newTable("db", "tbl", tableLoads));
+      cache.getTable("db", "tbl", () -> newTable("db", "tbl", tableLoads));
+      Assertions.assertEquals(1, tableLoads.get());
+
+      cache.invalidateTable("db", "tbl");
+      cache.getTable("db", "tbl", () -> newTable("db", "tbl", tableLoads));
+      cache.getDatabase("db", () -> newDatabase("db", dbLoads));
+      Assertions.assertEquals(2, tableLoads.get());
+      Assertions.assertEquals(1, dbLoads.get());
+
+      cache.invalidateDatabase("db");
+      cache.getTable("db", "tbl", () -> newTable("db", "tbl", tableLoads));
+      cache.getDatabase("db", () -> newDatabase("db", dbLoads));
+      Assertions.assertEquals(3, tableLoads.get());
+      Assertions.assertEquals(2, dbLoads.get());
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testInvalidateByNotificationEvents() throws TException, InterruptedException {
+    IMetaStoreClient client = mock(IMetaStoreClient.class);
+    CachedClientPool clientPool = mock(CachedClientPool.class);
+    when(clientPool.run(any()))
+        .thenAnswer(
+            invocation ->
+                ((ClientPool.Action<?, IMetaStoreClient, TException>) invocation.getArgument(0))
+                    .run(client));
+    when(client.getCurrentNotificationEventId()).thenReturn(new CurrentNotificationEventId(10));
+
+    NotificationEvent event = new NotificationEvent(11, 0, "ALTER_TABLE", "");
+    event.setDbName("db");
+    event.setTableName("tbl");
+    when(client.getNextNotification(10, HiveMetastoreCache.MAX_EVENTS_PER_POLL, null))
+        .thenReturn(new NotificationEventResponse(Lists.newArrayList(event)));
+    when(client.getNextNotification(11, HiveMetastoreCache.MAX_EVENTS_PER_POLL, null))
+        .thenReturn(new NotificationEventResponse(Lists.newArrayList()));
+
+    AtomicInteger dbLoads = new AtomicInteger();
+    AtomicInteger tableLoads = new AtomicInteger();
+    try (HiveMetastoreCache cache = new HiveMetastoreCache(clientPool, 60000, 10, 0, "test")) {
+      // The first poll only records the current event id
+      cache.pollNotificationEvents();
+      cache.getDatabase("db", () -> newDatabase("db", dbLoads));
+      cache.getTable("db", "tbl", () -> newTable("db", "tbl", tableLoads));
+
+      cache.pollNotificationEvents();
+      cache.getDatabase("db", () -> newDatabase("db", dbLoads));
+      cache.getTable("db", "tbl", () -> newTable("db", "tbl", tableLoads));
+      Assertions.assertEquals(1, dbLoads.get());
+      Assertions.assertEquals(2, tableLoads.get());
+
+      // No more events
+      cache.pollNotificationEvents();
+      cache.getTable("db", "tbl", () -> newTable("db", "tbl", tableLoads));
+      Assertions.assertEquals(2, tableLoads.get());
+    }
+  }
+
+  private static Database newDatabase(String name, AtomicInteger loads) {
+    loads.incrementAndGet();
+    Database database = new Database();
+    database.setName(name);
+    return database;
+  }
+
+  private static Table newTable(String dbName, String name, AtomicInteger loads) {
+    loads.incrementAndGet();
+    Table table = new Table();
+    table.setDbName(dbName);
+    table.setTableName(name);
+    return table;
+  }
+}
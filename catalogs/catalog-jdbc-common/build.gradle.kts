@@ -52,6 +52,7 @@ dependencies {
   implementation(libs.jackson.databind)
   implementation(libs.jackson.datatype.jdk8)
   implementation(libs.jackson.datatype.jsr310)
+  implementation(libs.metrics.core)
 
   testImplementation(libs.commons.io)
   testImplementation(libs.junit.jupiter.api)
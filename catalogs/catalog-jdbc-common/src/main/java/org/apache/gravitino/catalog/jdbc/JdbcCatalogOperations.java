@@ -37,8 +37,10 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.sql.DataSource;
+import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SchemaChange;
@@ -47,6 +49,7 @@ import org.apache.gravitino.catalog.jdbc.config.JdbcConfig;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcColumnDefaultValueConverter;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcExceptionConverter;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcTypeConverter;
+import org.apache.gravitino.catalog.jdbc.metrics.JdbcCatalogMetricsSource;
 import org.apache.gravitino.catalog.jdbc.operation.DatabaseOperation;
 import org.apache.gravitino.catalog.jdbc.operation.JdbcDatabaseOperations;
 import org.apache.gravitino.catalog.jdbc.operation.JdbcTableOperations;
@@ -64,6 +67,7 @@ import org.apache.gravitino.exceptions.NonEmptySchemaException;
 import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
@@ -99,6 +103,8 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
 
   private DataSource dataSource;
 
+  private JdbcCatalogMetricsSource metricsSource;
+
   private final JdbcColumnDefaultValueConverter columnDefaultValueConverter;
 
   public static class JDBCDriverInfo {
@@ -165,6 +171,7 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
 
     JdbcConfig jdbcConfig = new JdbcConfig(resultConf);
     this.dataSource = DataSourceUtils.createDataSource(jdbcConfig);
+    registerMetricsSource(info);
 
     checkJDBCDriverVersion();
     this.databaseOperation.initialize(dataSource, exceptionConverter, resultConf);
@@ -175,9 +182,24 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
   /** Closes the Jdbc catalog and releases the associated client pool. */
   @Override
   public void close() {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
     DataSourceUtils.closeDataSource(dataSource);
   }
 
+  private void registerMetricsSource(CatalogInfo info) {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (info == null || metricsSystem == null || !(dataSource instanceof BasicDataSource)) {
+      return;
+    }
+    this.metricsSource =
+        new JdbcCatalogMetricsSource(
+            info.namespace().level(0), info.name(), (BasicDataSource) dataSource);
+    metricsSystem.register(metricsSource);
+  }
+
   /**
    * Lists the schemas under the given namespace.
    *
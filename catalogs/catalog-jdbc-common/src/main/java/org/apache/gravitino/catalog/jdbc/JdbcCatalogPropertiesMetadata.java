@@ -19,6 +19,7 @@
 package org.apache.gravitino.catalog.jdbc;
 
 import static org.apache.gravitino.connector.PropertyEntry.integerPropertyEntry;
+import static org.apache.gravitino.connector.PropertyEntry.longPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.stringOptionalPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.stringPropertyEntry;
 
@@ -42,7 +43,10 @@ public class JdbcCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
           JdbcConfig.USERNAME.getKey(),
           JdbcConfig.PASSWORD.getKey(),
           JdbcConfig.POOL_MIN_SIZE.getKey(),
-          JdbcConfig.POOL_MAX_SIZE.getKey());
+          JdbcConfig.POOL_MAX_SIZE.getKey(),
+          JdbcConfig.POOL_MAX_WAIT_MS.getKey(),
+          JdbcConfig.POOL_VALIDATION_INTERVAL_MS.getKey(),
+          JdbcConfig.POOL_STATEMENT_CACHE_SIZE.getKey());
 
   static {
     List<PropertyEntry<?>> propertyEntries =
@@ -94,6 +98,30 @@ public class JdbcCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
                 false /* immutable */,
                 JdbcConfig.POOL_MAX_SIZE.getDefaultValue(),
                 true /* hidden */,
+                false /* reserved */),
+            longPropertyEntry(
+                JdbcConfig.POOL_MAX_WAIT_MS.getKey(),
+                JdbcConfig.POOL_MAX_WAIT_MS.getDoc(),
+                false /* required */,
+                false /* immutable */,
+                JdbcConfig.POOL_MAX_WAIT_MS.getDefaultValue(),
+                true /* hidden */,
+                false /* reserved */),
+            longPropertyEntry(
+                JdbcConfig.POOL_VALIDATION_INTERVAL_MS.getKey(),
+                JdbcConfig.POOL_VALIDATION_INTERVAL_MS.getDoc(),
+                false /* required */,
+                false /* immutable */,
+                JdbcConfig.POOL_VALIDATION_INTERVAL_MS.getDefaultValue(),
+                true /* hidden */,
+                false /* reserved */),
+            integerPropertyEntry(
+                JdbcConfig.POOL_STATEMENT_CACHE_SIZE.getKey(),
+                JdbcConfig.POOL_STATEMENT_CACHE_SIZE.getDoc(),
+                false /* required */,
+                false /* immutable */,
+                JdbcConfig.POOL_STATEMENT_CACHE_SIZE.getDefaultValue(),
+                true /* hidden */,
                 false /* reserved */));
     PROPERTIES_METADATA =
         ImmutableMap.<String, PropertyEntry<?>>builder()
@@ -91,6 +91,35 @@ public class JdbcConfig extends Config {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final ConfigEntry<Long> POOL_MAX_WAIT_MS =
+      new ConfigBuilder("jdbc.pool.max-wait-ms")
+          .doc(
+              "The maximum time in milliseconds to wait for a connection from the pool, -1 means "
+                  + "waiting indefinitely")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value >= -1, "The value must be -1 or a non-negative number")
+          .createWithDefault(-1L);
+
+  public static final ConfigEntry<Long> POOL_VALIDATION_INTERVAL_MS =
+      new ConfigBuilder("jdbc.pool.validation-interval-ms")
+          .doc(
+              "The interval in milliseconds to validate and evict idle connections in the pool, "
+                  + "a non-positive value disables the validation of idle connections")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .createWithDefault(-1L);
+
+  public static final ConfigEntry<Integer> POOL_STATEMENT_CACHE_SIZE =
+      new ConfigBuilder("jdbc.pool.statement-cache-size")
+          .doc(
+              "The maximum number of prepared statements cached for each connection in the pool, "
+                  + "0 disables the prepared statement cache")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0);
+
   public String getJdbcUrl() {
     return get(JDBC_URL);
   }
@@ -123,6 +152,18 @@ public class JdbcConfig extends Config {
     return get(TEST_ON_BORROW);
   }
 
+  public long getPoolMaxWaitMs() {
+    return get(POOL_MAX_WAIT_MS);
+  }
+
+  public long getPoolValidationIntervalMs() {
+    return get(POOL_VALIDATION_INTERVAL_MS);
+  }
+
+  public int getPoolStatementCacheSize() {
+    return get(POOL_STATEMENT_CACHE_SIZE);
+  }
+
   public JdbcConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
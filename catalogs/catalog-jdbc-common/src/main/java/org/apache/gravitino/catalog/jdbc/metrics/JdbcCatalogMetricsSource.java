@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.jdbc.metrics;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * JdbcCatalogMetricsSource collects the connection pool metrics of a JDBC catalog, the metrics
+ * source name is "jdbc-catalog.{metalake}.{catalog}".
+ */
+public class JdbcCatalogMetricsSource extends MetricsSource {
+
+  public static final String JDBC_CATALOG_METRIC_NAME = "jdbc-catalog";
+
+  public static final String POOL_ACTIVE_CONNECTIONS = "pool.active-connections";
+  public static final String POOL_IDLE_CONNECTIONS = "pool.idle-connections";
+  public static final String POOL_MAX_CONNECTIONS = "pool.max-connections";
+  public static final String POOL_USAGE_RATIO = "pool.usage-ratio";
+
+  /**
+   * Creates the metrics source of a JDBC catalog and registers the gauges of its connection pool.
+   *
+   * @param metalake The metalake of the catalog.
+   * @param catalog The name of the catalog.
+   * @param dataSource The connection pool of the catalog.
+   */
+  public JdbcCatalogMetricsSource(String metalake, String catalog, BasicDataSource dataSource) {
+    super(String.join(".", JDBC_CATALOG_METRIC_NAME, metalake, catalog));
+    registerGauge(POOL_ACTIVE_CONNECTIONS, dataSource::getNumActive);
+    registerGauge(POOL_IDLE_CONNECTIONS, dataSource::getNumIdle);
+    registerGauge(POOL_MAX_CONNECTIONS, dataSource::getMaxTotal);
+    registerGauge(
+        POOL_USAGE_RATIO,
+        () -> {
+          int maxTotal = dataSource.getMaxTotal();
+          return maxTotal <= 0 ? 0.0 : (double) dataSource.getNumActive() / maxTotal;
+        });
+  }
+}
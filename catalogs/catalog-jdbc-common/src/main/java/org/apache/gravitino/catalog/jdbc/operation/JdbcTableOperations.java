@@ -21,12 +21,15 @@ package org.apache.gravitino.catalog.jdbc.operation;
 import com.google.common.collect.Lists;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -129,11 +132,11 @@ public abstract class JdbcTableOperations implements TableOperation {
   public List<String> listTables(String databaseName) throws NoSuchSchemaException {
     try (Connection connection = getConnection(databaseName)) {
       final List<String> names = Lists.newArrayList();
-      try (ResultSet tables = getTables(connection)) {
+      // The database is filtered by the metadata query, so there's no need to check the schema of
+      // each returned table.
+      try (ResultSet tables = getTables(connection, databaseName)) {
         while (tables.next()) {
-          if (Objects.equals(tables.getString("TABLE_SCHEM"), databaseName)) {
-            names.add(tables.getString("TABLE_NAME"));
-          }
+          names.add(tables.getString("TABLE_NAME"));
         }
       }
       LOG.info("Finished listing tables size {} for database name {} ", names.size(), databaseName);
@@ -222,6 +225,236 @@ public abstract class JdbcTableOperations implements TableOperation {
     }
   }
 
+  /**
+   * Loads tables of a database in bulk. If the dialect provides set-based SQL for tables and
+   * columns through {@link #generateBulkTablesSql(int)} and {@link #generateBulkColumnsSql(int)},
+   * the metadata of all requested tables is read with a few queries instead of several queries per
+   * table, otherwise this falls back to loading the tables one by one.
+   *
+   * @param databaseName database name.
+   * @param tableNames names of the tables to load, or null to load all tables in the database.
+   * @return Returns the loaded tables, tables that do not exist are skipped.
+   */
+  @Override
+  public List<JdbcTable> loadTables(String databaseName, List<String> tableNames)
+      throws NoSuchSchemaException {
+    int nameCount = tableNames == null ? 0 : tableNames.size();
+    String tablesSql = generateBulkTablesSql(nameCount);
+    String columnsSql = generateBulkColumnsSql(nameCount);
+    if (tablesSql == null || columnsSql == null) {
+      return TableOperation.super.loadTables(databaseName, tableNames);
+    }
+    if (tableNames != null && tableNames.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    try (Connection connection = getConnection(databaseName)) {
+      // 1. Get table information, the name filter may be case-insensitive on the server side, so
+      // we need to check the result.
+      Map<String, JdbcTable.Builder> tableBuilders = new LinkedHashMap<>();
+      try (PreparedStatement statement =
+              prepareBulkStatement(connection, tablesSql, databaseName, tableNames);
+          ResultSet tables = statement.executeQuery()) {
+        while (tables.next()) {
+          String tableName = tables.getString("TABLE_NAME");
+          if (tableNames == null || tableNames.contains(tableName)) {
+            tableBuilders.put(
+                tableName,
+                getBasicJdbcTableInfo(tables)
+                    .withDatabaseName(databaseName)
+                    .withProperties(getBulkTableProperties(tables)));
+          }
+        }
+      }
+      if (tableBuilders.isEmpty()) {
+        return Collections.emptyList();
+      }
+
+      // 2. Get column information of all tables
+      Map<String, List<JdbcColumn>> tableColumns = new HashMap<>();
+      try (PreparedStatement statement =
+              prepareBulkStatement(connection, columnsSql, databaseName, tableNames);
+          ResultSet columns = statement.executeQuery()) {
+        while (columns.next()) {
+          String tableName = columns.getString("TABLE_NAME");
+          if (tableBuilders.containsKey(tableName)) {
+            JdbcColumn.Builder columnBuilder = getBasicJdbcColumnInfo(columns);
+            columnBuilder.withAutoIncrement(getAutoIncrementInfo(columns));
+            tableColumns
+                .computeIfAbsent(tableName, k -> new ArrayList<>())
+                .add(columnBuilder.build());
+          }
+        }
+      }
+
+      // 3. Get index information of all tables
+      Map<String, List<Index>> tableIndexes =
+          getBulkIndexes(connection, databaseName, tableNames, tableBuilders.keySet());
+
+      // 4. Leave the remaining per-table information to the bottom layer
+      List<JdbcTable> jdbcTables = new ArrayList<>(tableBuilders.size());
+      for (Map.Entry<String, JdbcTable.Builder> entry : tableBuilders.entrySet()) {
+        String tableName = entry.getKey();
+        JdbcTable.Builder jdbcTableBuilder = entry.getValue();
+        List<JdbcColumn> jdbcColumns =
+            tableColumns.getOrDefault(tableName, Collections.emptyList());
+        jdbcTableBuilder.withColumns(jdbcColumns.toArray(new JdbcColumn[0]));
+        List<Index> indexes = tableIndexes.getOrDefault(tableName, Collections.emptyList());
+        jdbcTableBuilder.withIndexes(indexes.toArray(new Index[0]));
+        completeBulkLoadedTable(connection, databaseName, tableName, jdbcTableBuilder);
+        jdbcTables.add(jdbcTableBuilder.withTableOperation(this).build());
+      }
+      LOG.info(
+          "Finished bulk loading tables size {} for database name {}",
+          jdbcTables.size(),
+          databaseName);
+      return jdbcTables;
+    } catch (SQLException e) {
+      throw exceptionMapper.toGravitinoException(e);
+    }
+  }
+
+  /**
+   * Generate the SQL to fetch basic information of tables in a database. The first parameter of
+   * the SQL is the database name, followed by {@code nameCount} table name parameters when table
+   * names are given. The result must contain the {@code TABLE_NAME} and {@code REMARKS} columns.
+   *
+   * @param nameCount the number of table names to filter on, 0 means no filter.
+   * @return Returns the SQL, or null if the dialect does not support bulk loading.
+   */
+  protected String generateBulkTablesSql(int nameCount) {
+    return null;
+  }
+
+  /**
+   * Generate the SQL to fetch columns of tables in a database, the parameters are the same as
+   * {@link #generateBulkTablesSql(int)}. The result must contain the {@code TABLE_NAME} column and
+   * the columns read by {@link #getBasicJdbcColumnInfo(ResultSet)} and {@link
+   * #getAutoIncrementInfo(ResultSet)}, ordered by the column position in the table.
+   *
+   * @param nameCount the number of table names to filter on, 0 means no filter.
+   * @return Returns the SQL, or null if the dialect does not support bulk loading.
+   */
+  protected String generateBulkColumnsSql(int nameCount) {
+    return null;
+  }
+
+  /**
+   * Generate the SQL to fetch primary and unique keys of tables in a database, the parameters are
+   * the same as {@link #generateBulkTablesSql(int)}. The result must contain the {@code
+   * TABLE_NAME}, {@code INDEX_NAME}, {@code INDEX_TYPE} ({@code PRIMARY_KEY} or {@code
+   * UNIQUE_KEY}), {@code COLUMN_NAME} and {@code ORDINAL_POSITION} columns.
+   *
+   * @param nameCount the number of table names to filter on, 0 means no filter.
+   * @return Returns the SQL, or null to load the indexes table by table.
+   */
+  protected String generateBulkIndexesSql(int nameCount) {
+    return null;
+  }
+
+  /**
+   * Get table properties from a row of the result of {@link #generateBulkTablesSql(int)}.
+   *
+   * @param tablesResult the result set positioned at the table row.
+   * @return Returns the table properties.
+   * @throws SQLException if an error occurs while reading the result set.
+   */
+  protected Map<String, String> getBulkTableProperties(ResultSet tablesResult)
+      throws SQLException {
+    return Collections.emptyMap();
+  }
+
+  /**
+   * Attach the information that can not be loaded in bulk to a table, like partitioning and
+   * distribution.
+   *
+   * @param connection jdbc connection.
+   * @param databaseName database name.
+   * @param tableName table name.
+   * @param jdbcTableBuilder The builder of the table to be returned.
+   * @throws SQLException if an error occurs while getting the table information.
+   */
+  protected void completeBulkLoadedTable(
+      Connection connection,
+      String databaseName,
+      String tableName,
+      JdbcTable.Builder jdbcTableBuilder)
+      throws SQLException {
+    jdbcTableBuilder.withPartitioning(getTablePartitioning(connection, databaseName, tableName));
+    jdbcTableBuilder.withDistribution(getDistributionInfo(connection, databaseName, tableName));
+    correctJdbcTableFields(connection, databaseName, tableName, jdbcTableBuilder);
+  }
+
+  /**
+   * Generate the table name filter of the bulk loading SQL.
+   *
+   * @param tableNameColumn the column of the table name.
+   * @param nameCount the number of table names to filter on.
+   * @return Returns the filter starting with {@code AND}, or an empty string if there is no name.
+   */
+  protected static String bulkTableNameFilter(String tableNameColumn, int nameCount) {
+    if (nameCount <= 0) {
+      return "";
+    }
+    return " AND "
+        + tableNameColumn
+        + " IN ("
+        + String.join(", ", Collections.nCopies(nameCount, "?"))
+        + ")";
+  }
+
+  private PreparedStatement prepareBulkStatement(
+      Connection connection, String sql, String databaseName, List<String> tableNames)
+      throws SQLException {
+    PreparedStatement statement = connection.prepareStatement(sql);
+    try {
+      statement.setString(1, databaseName);
+      if (tableNames != null) {
+        for (int i = 0; i < tableNames.size(); i++) {
+          statement.setString(i + 2, tableNames.get(i));
+        }
+      }
+      return statement;
+    } catch (SQLException e) {
+      statement.close();
+      throw e;
+    }
+  }
+
+  private Map<String, List<Index>> getBulkIndexes(
+      Connection connection, String databaseName, List<String> tableNames, Set<String> loaded)
+      throws SQLException {
+    Map<String, List<Index>> tableIndexes = new HashMap<>();
+    String indexesSql = generateBulkIndexesSql(tableNames == null ? 0 : tableNames.size());
+    if (indexesSql == null) {
+      for (String tableName : loaded) {
+        tableIndexes.put(tableName, getIndexes(connection, databaseName, tableName));
+      }
+      return tableIndexes;
+    }
+
+    Map<String, List<JdbcIndexBean>> tableIndexBeans = new HashMap<>();
+    try (PreparedStatement statement =
+            prepareBulkStatement(connection, indexesSql, databaseName, tableNames);
+        ResultSet indexInfo = statement.executeQuery()) {
+      while (indexInfo.next()) {
+        String tableName = indexInfo.getString("TABLE_NAME");
+        if (loaded.contains(tableName)) {
+          tableIndexBeans
+              .computeIfAbsent(tableName, k -> new ArrayList<>())
+              .add(
+                  new JdbcIndexBean(
+                      Index.IndexType.valueOf(indexInfo.getString("INDEX_TYPE")),
+                      indexInfo.getString("COLUMN_NAME"),
+                      indexInfo.getString("INDEX_NAME"),
+                      indexInfo.getInt("ORDINAL_POSITION")));
+        }
+      }
+    }
+    tableIndexBeans.forEach((tableName, beans) -> tableIndexes.put(tableName, toIndexes(beans)));
+    return tableIndexes;
+  }
+
   /**
    * Get all properties values of the table, including properties outside Gravitino management. The
    * JdbcCatalogOperations#loadTable method will filter out unnecessary properties.
@@ -331,6 +564,45 @@ public abstract class JdbcTableOperations implements TableOperation {
     return metaData.getTables(catalogName, schemaName, null, JdbcConnectorUtils.getTableTypes());
   }
 
+  /**
+   * Get the tables of a database, the database is passed to the metadata query as the schema
+   * pattern, so the tables of other databases are filtered out on the server side. The dialects
+   * that map databases to JDBC catalogs should override this method.
+   *
+   * @param connection jdbc connection.
+   * @param databaseName database name.
+   * @return Returns the result set of the tables.
+   * @throws SQLException if an error occurs while getting the tables.
+   */
+  protected ResultSet getTables(Connection connection, String databaseName) throws SQLException {
+    final DatabaseMetaData metaData = connection.getMetaData();
+    return metaData.getTables(
+        connection.getCatalog(),
+        escapeSearchPattern(metaData, databaseName),
+        null,
+        JdbcConnectorUtils.getTableTypes());
+  }
+
+  /**
+   * Escape the wildcards of a name, so it can be used as an exact search pattern of {@link
+   * DatabaseMetaData}.
+   *
+   * @param metaData the database metadata.
+   * @param name the name to escape.
+   * @return Returns the escaped name.
+   * @throws SQLException if an error occurs while getting the search string escape.
+   */
+  protected static String escapeSearchPattern(DatabaseMetaData metaData, String name)
+      throws SQLException {
+    String escape = metaData.getSearchStringEscape();
+    if (name == null || StringUtils.isEmpty(escape)) {
+      return name;
+    }
+    return name.replace(escape, escape + escape)
+        .replace("_", escape + "_")
+        .replace("%", escape + "%");
+  }
+
   protected ResultSet getTable(Connection connection, String databaseName, String tableName)
       throws SQLException {
     final DatabaseMetaData metaData = connection.getMetaData();
@@ -364,7 +636,6 @@ public abstract class JdbcTableOperations implements TableOperation {
   protected List<Index> getIndexes(Connection connection, String databaseName, String tableName)
       throws SQLException {
     DatabaseMetaData metaData = connection.getMetaData();
-    List<Index> indexes = new ArrayList<>();
 
     // Get primary key information
     ResultSet primaryKeys = getPrimaryKeys(databaseName, tableName, metaData);
@@ -396,7 +667,17 @@ public abstract class JdbcTableOperations implements TableOperation {
       }
     }
 
-    // Assemble into Index
+    return toIndexes(jdbcIndexBeans);
+  }
+
+  /**
+   * Assemble the index beans of a table into indexes.
+   *
+   * @param jdbcIndexBeans the index beans of a table.
+   * @return Returns the indexes of the table.
+   */
+  protected List<Index> toIndexes(List<JdbcIndexBean> jdbcIndexBeans) {
+    List<Index> indexes = new ArrayList<>();
     Map<Index.IndexType, List<JdbcIndexBean>> indexBeanGroupByIndexType =
         jdbcIndexBeans.stream().collect(Collectors.groupingBy(JdbcIndexBean::getIndexType));
 
@@ -483,7 +764,7 @@ public abstract class JdbcTableOperations implements TableOperation {
 
   protected Connection getConnection(String catalog) throws SQLException {
     Connection connection = dataSource.getConnection();
-    connection.setCatalog(catalog);
+    JdbcConnectorUtils.useDatabase(connection, catalog, null);
     return connection;
   }
 
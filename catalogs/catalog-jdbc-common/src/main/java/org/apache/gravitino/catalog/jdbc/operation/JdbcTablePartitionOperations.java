@@ -25,6 +25,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import javax.sql.DataSource;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
+import org.apache.gravitino.catalog.jdbc.utils.JdbcConnectorUtils;
 import org.apache.gravitino.connector.TableOperations;
 import org.apache.gravitino.rel.SupportsPartitions;
 
@@ -41,7 +42,7 @@ public abstract class JdbcTablePartitionOperations implements TableOperations, S
 
   protected Connection getConnection(String databaseName) throws SQLException {
     Connection connection = dataSource.getConnection();
-    connection.setCatalog(databaseName);
+    JdbcConnectorUtils.useDatabase(connection, databaseName, null);
     return connection;
   }
 
@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.catalog.jdbc.operation;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import javax.sql.DataSource;
@@ -93,6 +94,31 @@ public interface TableOperation {
    */
   JdbcTable load(String databaseName, String tableName) throws NoSuchTableException;
 
+  /**
+   * Loads multiple tables of a database at once. Implementations that can read the metadata of a
+   * whole database with a few set-based queries should override this method, the default
+   * implementation loads the tables one by one.
+   *
+   * @param databaseName The name of the database.
+   * @param tableNames The names of the tables to load, or null to load all tables in the database.
+   *     Names that do not exist are skipped.
+   * @return The loaded JDBC tables.
+   * @throws NoSuchSchemaException If the database does not exist.
+   */
+  default List<JdbcTable> loadTables(String databaseName, List<String> tableNames)
+      throws NoSuchSchemaException {
+    List<String> names = tableNames == null ? listTables(databaseName) : tableNames;
+    List<JdbcTable> tables = new ArrayList<>(names.size());
+    for (String name : names) {
+      try {
+        tables.add(load(databaseName, name));
+      } catch (NoSuchTableException e) {
+        // The table may be dropped concurrently or does not exist, skip it.
+      }
+    }
+    return tables;
+  }
+
   /**
    * @param databaseName The name of the database.
    * @param oldTableName The name of the table to rename.
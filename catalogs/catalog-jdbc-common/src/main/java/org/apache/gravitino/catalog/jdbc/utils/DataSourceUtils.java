@@ -19,6 +19,7 @@
 package org.apache.gravitino.catalog.jdbc.utils;
 
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Properties;
 import javax.sql.DataSource;
@@ -62,11 +63,30 @@ public class DataSourceUtils {
     String password = jdbcConfig.getPassword();
     basicDataSource.setPassword(password);
     basicDataSource.setMaxTotal(jdbcConfig.getPoolMaxSize());
+    // Keep returned connections up to the max size of the pool instead of closing them, otherwise
+    // connections are closed and reopened repeatedly under parallel load.
+    basicDataSource.setMaxIdle(jdbcConfig.getPoolMaxSize());
     basicDataSource.setMinIdle(jdbcConfig.getPoolMinSize());
+    basicDataSource.setMaxWait(Duration.ofMillis(jdbcConfig.getPoolMaxWaitMs()));
     // Set each time a connection is taken out from the connection pool, a test statement will be
     // executed to confirm whether the connection is valid.
     basicDataSource.setTestOnBorrow(jdbcConfig.getTestOnBorrow());
     basicDataSource.setValidationQuery(POOL_TEST_QUERY);
+    // The pooled connections cache their catalog and schema, so switching a connection to the
+    // database it is already using does not hit the database again.
+    basicDataSource.setCacheState(true);
+
+    long validationIntervalMs = jdbcConfig.getPoolValidationIntervalMs();
+    if (validationIntervalMs > 0) {
+      basicDataSource.setTestWhileIdle(true);
+      basicDataSource.setDurationBetweenEvictionRuns(Duration.ofMillis(validationIntervalMs));
+    }
+
+    int statementCacheSize = jdbcConfig.getPoolStatementCacheSize();
+    if (statementCacheSize > 0) {
+      basicDataSource.setPoolPreparedStatements(true);
+      basicDataSource.setMaxOpenPreparedStatements(statementCacheSize);
+    }
     return basicDataSource;
   }
 
@@ -43,6 +43,27 @@ public final class JdbcConnectorUtils {
     }
   }
 
+  /**
+   * Switch a pooled connection to the given catalog and schema. The connection is only switched
+   * when it is not using them already, and the pooled connections cache their current catalog and
+   * schema, so a connection that served the same database before is reused without any round trip.
+   *
+   * @param connection The connection to switch
+   * @param catalog The catalog to use, or null to keep the current catalog
+   * @param schema The schema to use, or null to keep the current schema
+   * @throws SQLException on error during switching the catalog or schema
+   */
+  public static void useDatabase(
+      final Connection connection, final String catalog, final String schema)
+      throws SQLException {
+    if (catalog != null && !catalog.equals(connection.getCatalog())) {
+      connection.setCatalog(catalog);
+    }
+    if (schema != null && !schema.equals(connection.getSchema())) {
+      connection.setSchema(schema);
+    }
+  }
+
   public static String[] getTableTypes() {
     return TABLE_TYPES.toArray(new String[0]);
   }
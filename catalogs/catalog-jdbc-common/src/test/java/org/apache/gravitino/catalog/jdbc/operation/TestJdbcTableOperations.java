@@ -182,6 +182,14 @@ public class TestJdbcTableOperations {
       Assertions.assertEquals(jdbcColumn.defaultValue(), column.defaultValue());
     }
 
+    // bulk load table, Sqlite falls back to loading tables one by one.
+    List<JdbcTable> bulkLoadTables =
+        JDBC_TABLE_OPERATIONS.loadTables(DATABASE_NAME, Arrays.asList(table1, "no_exist"));
+    Assertions.assertEquals(1, bulkLoadTables.size());
+    Assertions.assertEquals(table1, bulkLoadTables.get(0).name());
+    Assertions.assertEquals(loadTable.columns().length, bulkLoadTables.get(0).columns().length);
+    Assertions.assertEquals(1, JDBC_TABLE_OPERATIONS.loadTables(DATABASE_NAME, null).size());
+
     String newName = "table2";
 
     Assertions.assertDoesNotThrow(
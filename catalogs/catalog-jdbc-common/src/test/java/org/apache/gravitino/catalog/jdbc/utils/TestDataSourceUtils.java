@@ -20,6 +20,7 @@ package org.apache.gravitino.catalog.jdbc.utils;
 
 import com.google.common.collect.Maps;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.HashMap;
 import javax.sql.DataSource;
 import org.apache.commons.dbcp2.BasicDataSource;
@@ -42,4 +43,27 @@ public class TestDataSourceUtils {
     Assertions.assertTrue(dataSource instanceof org.apache.commons.dbcp2.BasicDataSource);
     ((BasicDataSource) dataSource).close();
   }
+
+  @Test
+  public void testCreateDataSourceWithPoolSettings() throws SQLException {
+    HashMap<String, String> properties = Maps.newHashMap();
+    properties.put(JdbcConfig.JDBC_DRIVER.getKey(), "org.sqlite.JDBC");
+    properties.put(JdbcConfig.JDBC_URL.getKey(), "jdbc:sqlite::memory:");
+    properties.put(JdbcConfig.USERNAME.getKey(), "test");
+    properties.put(JdbcConfig.PASSWORD.getKey(), "test");
+    properties.put(JdbcConfig.POOL_MAX_SIZE.getKey(), "20");
+    properties.put(JdbcConfig.POOL_MAX_WAIT_MS.getKey(), "5000");
+    properties.put(JdbcConfig.POOL_VALIDATION_INTERVAL_MS.getKey(), "60000");
+    properties.put(JdbcConfig.POOL_STATEMENT_CACHE_SIZE.getKey(), "50");
+
+    BasicDataSource dataSource = (BasicDataSource) DataSourceUtils.createDataSource(properties);
+    Assertions.assertEquals(20, dataSource.getMaxTotal());
+    Assertions.assertEquals(20, dataSource.getMaxIdle());
+    Assertions.assertEquals(Duration.ofMillis(5000), dataSource.getMaxWaitDuration());
+    Assertions.assertTrue(dataSource.getTestWhileIdle());
+    Assertions.assertEquals(Duration.ofMillis(60000), dataSource.getDurationBetweenEvictionRuns());
+    Assertions.assertTrue(dataSource.isPoolPreparedStatements());
+    Assertions.assertEquals(50, dataSource.getMaxOpenPreparedStatements());
+    dataSource.close();
+  }
 }
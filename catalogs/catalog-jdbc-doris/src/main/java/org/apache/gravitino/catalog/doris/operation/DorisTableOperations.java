@@ -26,8 +26,8 @@ import static org.apache.gravitino.rel.Column.DEFAULT_VALUE_NOT_SET;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Lists;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -38,7 +38,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -52,8 +51,8 @@ import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
 import org.apache.gravitino.catalog.jdbc.operation.JdbcTableOperations;
 import org.apache.gravitino.catalog.jdbc.operation.JdbcTablePartitionOperations;
+import org.apache.gravitino.catalog.jdbc.utils.JdbcConnectorUtils;
 import org.apache.gravitino.exceptions.NoSuchColumnException;
-import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.TableChange;
@@ -74,21 +73,11 @@ public class DorisTableOperations extends JdbcTableOperations {
   private static final String NEW_LINE = "\n";
 
   @Override
-  public List<String> listTables(String databaseName) throws NoSuchSchemaException {
-    final List<String> names = Lists.newArrayList();
-
-    try (Connection connection = getConnection(databaseName);
-        ResultSet tables = getTables(connection)) {
-      while (tables.next()) {
-        if (Objects.equals(tables.getString("TABLE_CAT"), databaseName)) {
-          names.add(tables.getString("TABLE_NAME"));
-        }
-      }
-      LOG.info("Finished listing tables size {} for database name {} ", names.size(), databaseName);
-      return names;
-    } catch (final SQLException se) {
-      throw this.exceptionMapper.toGravitinoException(se);
-    }
+  protected ResultSet getTables(Connection connection, String databaseName) throws SQLException {
+    // Doris maps databases to JDBC catalogs, and the catalog name of the metadata query is not a
+    // pattern.
+    final DatabaseMetaData metaData = connection.getMetaData();
+    return metaData.getTables(databaseName, null, null, JdbcConnectorUtils.getTableTypes());
   }
 
   @Override
@@ -455,6 +444,56 @@ public class DorisTableOperations extends JdbcTableOperations {
     getTableStatus(connection, databaseName, tableName);
   }
 
+  @Override
+  protected String generateBulkTablesSql(int nameCount) {
+    return "SELECT TABLE_NAME, TABLE_COMMENT AS REMARKS"
+        + " FROM information_schema.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_TYPE = 'BASE TABLE'"
+        + bulkTableNameFilter("TABLE_NAME", nameCount);
+  }
+
+  @Override
+  protected String generateBulkColumnsSql(int nameCount) {
+    return "SELECT TABLE_NAME, COLUMN_NAME, UPPER(DATA_TYPE) AS TYPE_NAME,"
+        + " COALESCE(CHARACTER_MAXIMUM_LENGTH, NUMERIC_PRECISION, DATETIME_PRECISION)"
+        + " AS COLUMN_SIZE,"
+        + " NUMERIC_SCALE AS DECIMAL_DIGITS, COLUMN_COMMENT AS REMARKS,"
+        + " IF(IS_NULLABLE = 'YES', 1, 0) AS NULLABLE, COLUMN_DEFAULT AS COLUMN_DEF,"
+        + " 'NO' AS IS_GENERATEDCOLUMN,"
+        + " IF(EXTRA LIKE '%auto_increment%', 'YES', 'NO') AS IS_AUTOINCREMENT"
+        + " FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = ?"
+        + bulkTableNameFilter("TABLE_NAME", nameCount)
+        + " ORDER BY TABLE_NAME, ORDINAL_POSITION";
+  }
+
+  @Override
+  protected void completeBulkLoadedTable(
+      Connection connection, String databaseName, String tableName, JdbcTable.Builder tableBuilder)
+      throws SQLException {
+    // Properties, partitioning and distribution all come from the create table statement, so
+    // fetch it only once for each table.
+    String showCreateTableSql = String.format("SHOW CREATE TABLE `%s`", tableName);
+    StringBuilder createTableSqlSb = new StringBuilder();
+    try (Statement statement = connection.createStatement();
+        ResultSet result = statement.executeQuery(showCreateTableSql)) {
+      while (result.next()) {
+        createTableSqlSb.append(result.getString("Create Table"));
+      }
+    }
+
+    String createTableSql = createTableSqlSb.toString();
+    if (StringUtils.isEmpty(createTableSql)) {
+      throw new NoSuchTableException("Table %s does not exist in %s.", tableName, databaseName);
+    }
+
+    tableBuilder.withProperties(
+        Collections.unmodifiableMap(DorisUtils.extractPropertiesFromSql(createTableSql)));
+    tableBuilder.withPartitioning(
+        DorisUtils.extractPartitionInfoFromSql(createTableSql)
+            .map(t -> new Transform[] {t})
+            .orElse(Transforms.EMPTY_TRANSFORM));
+    tableBuilder.withDistribution(DorisUtils.extractDistributionInfoFromSql(createTableSql));
+  }
+
   protected void getTableStatus(Connection connection, String databaseName, String tableName) {
     // sql is `SHOW ALTER TABLE COLUMN WHERE TableName = 'test_table'`
     // database name must be specified in connection, so the SQL do not need to specify database
@@ -29,6 +29,7 @@ import static org.apache.gravitino.catalog.doris.DorisTablePartitionPropertiesMe
 import static org.apache.gravitino.catalog.doris.DorisTablePartitionPropertiesMetadata.VISIBLE_VERSION;
 import static org.apache.gravitino.catalog.doris.DorisTablePartitionPropertiesMetadata.VISIBLE_VERSION_TIME;
 import static org.apache.gravitino.catalog.doris.utils.DorisUtils.generatePartitionSqlFragment;
+import static org.apache.gravitino.catalog.doris.utils.DorisUtils.quoteIdentifier;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
@@ -52,6 +53,7 @@ import org.apache.gravitino.catalog.jdbc.operation.JdbcTablePartitionOperations;
 import org.apache.gravitino.exceptions.GravitinoRuntimeException;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
+import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.expressions.literals.Literal;
 import org.apache.gravitino.rel.expressions.literals.Literals;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
@@ -85,8 +87,13 @@ public final class DorisTablePartitionOperations extends JdbcTablePartitionOpera
 
   @Override
   public String[] listPartitionNames() {
+    return listPartitionNames(null, 0, 0);
+  }
+
+  @Override
+  public String[] listPartitionNames(String namePattern, int offset, int limit) {
     try (Connection connection = getConnection(loadedTable.databaseName())) {
-      String showPartitionsSql = String.format("SHOW PARTITIONS FROM `%s`", loadedTable.name());
+      String showPartitionsSql = showPartitionsSql(namePattern, offset, limit);
       try (Statement statement = connection.createStatement();
           ResultSet result = statement.executeQuery(showPartitionsSql)) {
         ImmutableList.Builder<String> partitionNames = ImmutableList.builder();
@@ -102,10 +109,15 @@ public final class DorisTablePartitionOperations extends JdbcTablePartitionOpera
 
   @Override
   public Partition[] listPartitions() {
+    return listPartitions(null, 0, 0);
+  }
+
+  @Override
+  public Partition[] listPartitions(String namePattern, int offset, int limit) {
     try (Connection connection = getConnection(loadedTable.databaseName())) {
       Transform partitionInfo = loadedTable.partitioning()[0];
       Map<String, Type> columnTypes = getColumnType(connection);
-      String showPartitionsSql = String.format("SHOW PARTITIONS FROM `%s`", loadedTable.name());
+      String showPartitionsSql = showPartitionsSql(namePattern, offset, limit);
       try (Statement statement = connection.createStatement();
           ResultSet result = statement.executeQuery(showPartitionsSql)) {
         ImmutableList.Builder<Partition> partitions = ImmutableList.builder();
@@ -126,8 +138,8 @@ public final class DorisTablePartitionOperations extends JdbcTablePartitionOpera
       Map<String, Type> columnTypes = getColumnType(connection);
       String showPartitionsSql =
           String.format(
-              "SHOW PARTITIONS FROM `%s` WHERE PartitionName = \"%s\"",
-              loadedTable.name(), partitionName);
+              "SHOW PARTITIONS FROM `%s` WHERE PartitionName = %s",
+              loadedTable.name(), quote(partitionName));
       try (Statement statement = connection.createStatement();
           ResultSet result = statement.executeQuery(showPartitionsSql)) {
         if (result.next()) {
@@ -142,61 +154,34 @@ public final class DorisTablePartitionOperations extends JdbcTablePartitionOpera
 
   @Override
   public Partition addPartition(Partition partition) throws PartitionAlreadyExistsException {
-    try (Connection connection = getConnection(loadedTable.databaseName())) {
-      Transform partitionInfo = loadedTable.partitioning()[0];
-
-      String addPartitionSqlFormat = "ALTER TABLE `%s` ADD %s";
-      String partitionSqlFragment;
-      Partition added;
-
-      if (partition instanceof RangePartition) {
-        Preconditions.checkArgument(
-            partitionInfo instanceof Transforms.RangeTransform,
-            "Table %s is non-range-partitioned, but trying to add a range partition",
-            loadedTable.name());
-
-        RangePartition rangePartition = (RangePartition) partition;
-        partitionSqlFragment = generatePartitionSqlFragment(rangePartition);
-
-        // The partition properties actually cannot be passed into Doris, we just return an empty
-        // map instead.
-        added =
-            Partitions.range(
-                rangePartition.name(),
-                rangePartition.upper(),
-                rangePartition.lower(),
-                Collections.emptyMap());
-      } else if (partition instanceof ListPartition) {
-        Preconditions.checkArgument(
-            partitionInfo instanceof Transforms.ListTransform,
-            "Table %s is non-list-partitioned, but trying to add a list partition",
-            loadedTable.name());
-
-        ListPartition listPartition = (ListPartition) partition;
-        Literal<?>[][] lists = listPartition.lists();
-        Preconditions.checkArgument(
-            lists.length > 0, "The number of values in list partition must be greater than 0");
-        Preconditions.checkArgument(
-            Arrays.stream(lists)
-                .allMatch(
-                    part ->
-                        part.length
-                            == ((Transforms.ListTransform) partitionInfo).fieldNames().length),
-            "The number of partitioning columns must be consistent");
-
-        partitionSqlFragment = generatePartitionSqlFragment(listPartition);
+    return addPartitions(partition)[0];
+  }
 
-        added =
-            Partitions.list(listPartition.name(), listPartition.lists(), Collections.emptyMap());
-      } else {
-        throw new IllegalArgumentException("Unsupported partition type of Doris");
-      }
+  /**
+   * Adds the partitions with one ALTER TABLE statement per partition, since Doris takes a single
+   * ADD PARTITION clause per statement. The batch is not atomic: all the partitions are validated
+   * before any is added, but if adding one of them fails, the partitions added before it are kept.
+   */
+  @Override
+  public Partition[] addPartitions(Partition... partitions) throws PartitionAlreadyExistsException {
+    Preconditions.checkArgument(partitions.length > 0, "The partitions to add must not be empty");
+    Transform partitionInfo = loadedTable.partitioning()[0];
+    Partition[] added = new Partition[partitions.length];
+    String[] addPartitionSqls = new String[partitions.length];
+    for (int i = 0; i < partitions.length; i++) {
+      added[i] = checkPartitionToAdd(partitionInfo, partitions[i]);
+      addPartitionSqls[i] =
+          String.format(
+              "ALTER TABLE `%s` ADD %s",
+              loadedTable.name(), generatePartitionSqlFragment(partitions[i]));
+    }
 
-      try (Statement statement = connection.createStatement()) {
-        statement.executeUpdate(
-            String.format(addPartitionSqlFormat, loadedTable.name(), partitionSqlFragment));
-        return added;
+    try (Connection connection = getConnection(loadedTable.databaseName());
+        Statement statement = connection.createStatement()) {
+      for (String addPartitionSql : addPartitionSqls) {
+        statement.executeUpdate(addPartitionSql);
       }
+      return added;
     } catch (SQLException e) {
       throw exceptionConverter.toGravitinoException(e);
     }
@@ -204,22 +189,101 @@ public final class DorisTablePartitionOperations extends JdbcTablePartitionOpera
 
   @Override
   public boolean dropPartition(String partitionName) {
-    try (Connection connection = getConnection(loadedTable.databaseName())) {
-      String dropPartitionsSql =
-          String.format("ALTER TABLE `%s` DROP PARTITION `%s`", loadedTable.name(), partitionName);
-      try (Statement statement = connection.createStatement()) {
-        statement.executeUpdate(dropPartitionsSql);
-        return true;
+    return dropPartitions(partitionName);
+  }
+
+  /**
+   * Drops the partitions with one ALTER TABLE statement per partition over a single connection. The
+   * batch is not atomic: a partition which does not exist is skipped and the rest are still
+   * dropped, and if dropping one of them fails, the partitions dropped before it stay dropped.
+   */
+  @Override
+  public boolean dropPartitions(String... partitionNames) {
+    Preconditions.checkArgument(
+        partitionNames.length > 0, "The partitions to drop must not be empty");
+    boolean dropped = true;
+    try (Connection connection = getConnection(loadedTable.databaseName());
+        Statement statement = connection.createStatement()) {
+      for (String partitionName : partitionNames) {
+        String dropPartitionSql =
+            String.format(
+                "ALTER TABLE `%s` DROP PARTITION %s",
+                loadedTable.name(), quoteIdentifier(partitionName));
+        try {
+          statement.executeUpdate(dropPartitionSql);
+        } catch (SQLException e) {
+          GravitinoRuntimeException exception = exceptionConverter.toGravitinoException(e);
+          if (!(exception instanceof NoSuchPartitionException)) {
+            throw exception;
+          }
+          dropped = false;
+        }
       }
+      return dropped;
     } catch (SQLException e) {
-      GravitinoRuntimeException exception = exceptionConverter.toGravitinoException(e);
-      if (exception instanceof NoSuchPartitionException) {
-        return false;
-      }
-      throw exception;
+      throw exceptionConverter.toGravitinoException(e);
+    }
+  }
+
+  private Partition checkPartitionToAdd(Transform partitionInfo, Partition partition) {
+    if (partition instanceof RangePartition) {
+      Preconditions.checkArgument(
+          partitionInfo instanceof Transforms.RangeTransform,
+          "Table %s is non-range-partitioned, but trying to add a range partition",
+          loadedTable.name());
+
+      RangePartition rangePartition = (RangePartition) partition;
+      // The partition properties actually cannot be passed into Doris, we just return an empty
+      // map instead.
+      return Partitions.range(
+          rangePartition.name(),
+          rangePartition.upper(),
+          rangePartition.lower(),
+          Collections.emptyMap());
+    } else if (partition instanceof ListPartition) {
+      Preconditions.checkArgument(
+          partitionInfo instanceof Transforms.ListTransform,
+          "Table %s is non-list-partitioned, but trying to add a list partition",
+          loadedTable.name());
+
+      ListPartition listPartition = (ListPartition) partition;
+      Literal<?>[][] lists = listPartition.lists();
+      Preconditions.checkArgument(
+          lists.length > 0, "The number of values in list partition must be greater than 0");
+      Preconditions.checkArgument(
+          Arrays.stream(lists)
+              .allMatch(
+                  part ->
+                      part.length
+                          == ((Transforms.ListTransform) partitionInfo).fieldNames().length),
+          "The number of partitioning columns must be consistent");
+
+      return Partitions.list(listPartition.name(), listPartition.lists(), Collections.emptyMap());
+    } else {
+      throw new IllegalArgumentException("Unsupported partition type of Doris");
     }
   }
 
+  private String showPartitionsSql(String namePattern, int offset, int limit) {
+    Preconditions.checkArgument(offset >= 0, "The offset must not be negative");
+    Preconditions.checkArgument(limit >= 0, "The limit must not be negative");
+    StringBuilder sql =
+        new StringBuilder(String.format("SHOW PARTITIONS FROM `%s`", loadedTable.name()));
+    if (namePattern != null) {
+      sql.append(" WHERE PartitionName LIKE ").append(quote(namePattern));
+    }
+    sql.append(" ORDER BY PartitionName");
+    if (limit > 0 || offset > 0) {
+      // Doris requires a row count with the offset, use the max value for no limit.
+      sql.append(" LIMIT ").append(offset).append(", ").append(limit > 0 ? limit : Long.MAX_VALUE);
+    }
+    return sql.toString();
+  }
+
+  private static String quote(String value) {
+    return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+  }
+
   private Partition fromDorisPartition(
       ResultSet resultSet, Transform partitionInfo, Map<String, Type> columnTypes)
       throws SQLException {
@@ -276,6 +340,17 @@ public final class DorisTablePartitionOperations extends JdbcTablePartitionOpera
   }
 
   private Map<String, Type> getColumnType(Connection connection) throws SQLException {
+    // The loaded table already carries the column types, only query the database metadata when
+    // they are absent.
+    Column[] columns = loadedTable.columns();
+    if (columns != null && columns.length > 0) {
+      ImmutableMap.Builder<String, Type> columnTypes = ImmutableMap.builder();
+      for (Column column : columns) {
+        columnTypes.put(column.name(), column.dataType());
+      }
+      return columnTypes.build();
+    }
+
     DatabaseMetaData metaData = connection.getMetaData();
     try (ResultSet result =
         metaData.getColumns(
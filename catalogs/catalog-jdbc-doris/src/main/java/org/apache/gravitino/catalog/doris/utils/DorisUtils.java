@@ -135,22 +135,33 @@ public final class DorisUtils {
    * @return The partition sql fragment.
    */
   public static String generatePartitionSqlFragment(Partition partition) {
-    String partitionSqlFragment = "PARTITION `%s` VALUES %s";
+    String partitionSqlFragment = "PARTITION %s VALUES %s";
     if (partition instanceof RangePartition) {
       return String.format(
           partitionSqlFragment,
-          partition.name(),
+          quoteIdentifier(partition.name()),
           generateRangePartitionValues((RangePartition) partition));
     } else if (partition instanceof ListPartition) {
       return String.format(
           partitionSqlFragment,
-          partition.name(),
+          quoteIdentifier(partition.name()),
           generateListPartitionSqlValues((ListPartition) partition));
     } else {
       throw new IllegalArgumentException("Unsupported partition type of Doris");
     }
   }
 
+  /**
+   * Quotes an identifier, like a partition name, with backticks. The backticks in the identifier
+   * are doubled, so the identifier can't end the quoting.
+   *
+   * @param identifier The identifier to quote.
+   * @return The quoted identifier.
+   */
+  public static String quoteIdentifier(String identifier) {
+    return "`" + identifier.replace("`", "``") + "`";
+  }
+
   private static String generateRangePartitionValues(RangePartition rangePartition) {
     Literal<?> upper = rangePartition.upper();
     Literal<?> lower = rangePartition.lower();
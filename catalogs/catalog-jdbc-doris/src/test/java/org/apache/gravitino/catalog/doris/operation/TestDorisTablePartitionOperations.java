@@ -212,6 +212,89 @@ public class TestDorisTablePartitionOperations extends TestDoris {
     assertFalse(tablePartitionOperations.dropPartition("p3"));
   }
 
+  @Test
+  public void testBatchAndPaginatedPartitions() {
+    JdbcColumn col1 =
+        JdbcColumn.builder()
+            .withName("col_1")
+            .withType(Types.IntegerType.get())
+            .withNullable(false)
+            .build();
+    List<JdbcColumn> columns = Collections.singletonList(col1);
+    Distribution distribution =
+        Distributions.hash(DEFAULT_BUCKET_SIZE, NamedReference.field("col_1"));
+    String tableName = GravitinoITUtils.genRandomName("batch_partition_table");
+    Transform[] rangePartition = new Transform[] {Transforms.range(new String[] {col1.name()})};
+    TABLE_OPERATIONS.create(
+        databaseName,
+        tableName,
+        columns.toArray(new JdbcColumn[] {}),
+        "batch_partitioned_table_comment",
+        createProperties(),
+        rangePartition,
+        distribution,
+        new Index[] {});
+    JdbcTable table = TABLE_OPERATIONS.load(databaseName, tableName);
+    JdbcTablePartitionOperations tablePartitionOperations =
+        new DorisTablePartitionOperations(
+            DATA_SOURCE, table, JDBC_EXCEPTION_CONVERTER, TYPE_CONVERTER);
+
+    // add partitions in one batch
+    Partition[] toAdd = new Partition[5];
+    for (int i = 0; i < toAdd.length; i++) {
+      toAdd[i] =
+          Partitions.range(
+              "p" + i,
+              Literals.integerLiteral((i + 1) * 10),
+              Literals.integerLiteral(i * 10),
+              Collections.emptyMap());
+    }
+    Partition[] added = tablePartitionOperations.addPartitions(toAdd);
+    assertEquals(toAdd.length, added.length);
+    assertEquals(5, tablePartitionOperations.listPartitionNames().length);
+
+    // the batch is not atomic, the partitions before the existing one are still added
+    Partition existing =
+        Partitions.range(
+            "p0", Literals.integerLiteral(60), Literals.integerLiteral(50), Collections.emptyMap());
+    Partition fresh =
+        Partitions.range(
+            "p5", Literals.integerLiteral(70), Literals.integerLiteral(60), Collections.emptyMap());
+    assertThrows(
+        PartitionAlreadyExistsException.class,
+        () -> tablePartitionOperations.addPartitions(fresh, existing));
+    assertEquals(6, tablePartitionOperations.listPartitionNames().length);
+    assertTrue(tablePartitionOperations.dropPartition("p5"));
+
+    // list partitions with name pattern and pagination
+    assertEquals(
+        Arrays.asList("p1", "p2"),
+        Arrays.asList(tablePartitionOperations.listPartitionNames("p%", 1, 2)));
+    assertEquals(
+        Arrays.asList("p3", "p4"),
+        Arrays.asList(tablePartitionOperations.listPartitionNames(null, 3, 0)));
+    assertEquals(
+        Collections.singletonList("p2"),
+        Arrays.asList(tablePartitionOperations.listPartitionNames("p2", 0, 0)));
+    assertEquals(0, tablePartitionOperations.listPartitionNames("q%", 0, 0).length);
+    Partition[] paged = tablePartitionOperations.listPartitions("p_", 0, 3);
+    assertEquals(3, paged.length);
+    assertEquals("p0", paged[0].name());
+    assertEquals(Literals.integerLiteral(10), ((RangePartition) paged[0]).upper());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> tablePartitionOperations.listPartitionNames(null, -1, 0));
+
+    // drop partitions in one batch, the partitions which do not exist are skipped
+    assertTrue(tablePartitionOperations.dropPartitions("p0", "p1"));
+    assertEquals(
+        Arrays.asList("p2", "p3", "p4"),
+        Arrays.asList(tablePartitionOperations.listPartitionNames()));
+    assertFalse(tablePartitionOperations.dropPartitions("p2", "p1"));
+    assertEquals(
+        Arrays.asList("p3", "p4"), Arrays.asList(tablePartitionOperations.listPartitionNames()));
+  }
+
   @Test
   public void testListPartition() {
     String tableComment = "list_partitioned_table_comment";
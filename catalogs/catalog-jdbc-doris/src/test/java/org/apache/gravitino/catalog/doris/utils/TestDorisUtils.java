@@ -170,5 +170,17 @@ public class TestDorisUtils {
     partition = Partitions.list("p7", p7values, Collections.emptyMap());
     partitionSqlFragment = DorisUtils.generatePartitionSqlFragment(partition);
     assertEquals("PARTITION `p7` VALUES IN ((\"1\",\"2\"),(\"3\",\"4\"))", partitionSqlFragment);
+
+    // test partition name with backticks
+    partition = Partitions.range("p`8", Literals.NULL, Literals.NULL, null);
+    partitionSqlFragment = DorisUtils.generatePartitionSqlFragment(partition);
+    assertEquals("PARTITION `p``8` VALUES LESS THAN MAXVALUE", partitionSqlFragment);
+  }
+
+  @Test
+  public void testQuoteIdentifier() {
+    assertEquals("`p1`", DorisUtils.quoteIdentifier("p1"));
+    assertEquals("`p``1`", DorisUtils.quoteIdentifier("p`1"));
+    assertEquals("`p1``; DROP TABLE t; --`", DorisUtils.quoteIdentifier("p1`; DROP TABLE t; --"));
   }
 }
@@ -24,8 +24,8 @@ import static org.apache.gravitino.rel.Column.DEFAULT_VALUE_NOT_SET;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Lists;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -47,8 +47,8 @@ import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
 import org.apache.gravitino.catalog.jdbc.operation.JdbcTableOperations;
+import org.apache.gravitino.catalog.jdbc.utils.JdbcConnectorUtils;
 import org.apache.gravitino.exceptions.NoSuchColumnException;
-import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.TableChange;
@@ -68,21 +68,11 @@ public class MysqlTableOperations extends JdbcTableOperations {
       "Mysql does not support nested column names.";
 
   @Override
-  public List<String> listTables(String databaseName) throws NoSuchSchemaException {
-    final List<String> names = Lists.newArrayList();
-
-    try (Connection connection = getConnection(databaseName);
-        ResultSet tables = getTables(connection)) {
-      while (tables.next()) {
-        if (Objects.equals(tables.getString("TABLE_CAT"), databaseName)) {
-          names.add(tables.getString("TABLE_NAME"));
-        }
-      }
-      LOG.info("Finished listing tables size {} for database name {} ", names.size(), databaseName);
-      return names;
-    } catch (final SQLException se) {
-      throw this.exceptionMapper.toGravitinoException(se);
-    }
+  protected ResultSet getTables(Connection connection, String databaseName) throws SQLException {
+    // MySQL maps databases to JDBC catalogs, and the catalog name of the metadata query is not a
+    // pattern.
+    final DatabaseMetaData metaData = connection.getMetaData();
+    return metaData.getTables(databaseName, null, null, JdbcConnectorUtils.getTableTypes());
   }
 
   @Override
@@ -264,6 +254,53 @@ public class MysqlTableOperations extends JdbcTableOperations {
     }
   }
 
+  @Override
+  protected String generateBulkTablesSql(int nameCount) {
+    return "SELECT TABLE_NAME, TABLE_COMMENT AS REMARKS, ENGINE, AUTO_INCREMENT"
+        + " FROM information_schema.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_TYPE = 'BASE TABLE'"
+        + bulkTableNameFilter("TABLE_NAME", nameCount);
+  }
+
+  @Override
+  protected String generateBulkColumnsSql(int nameCount) {
+    // Keep the column labels and values the same as `DatabaseMetaData#getColumns` of the MySQL
+    // driver, so the columns can be converted in the same way as loading a single table.
+    return "SELECT TABLE_NAME, COLUMN_NAME,"
+        + " UPPER(CONCAT(DATA_TYPE, IF(COLUMN_TYPE LIKE '%unsigned%', ' UNSIGNED', '')))"
+        + " AS TYPE_NAME,"
+        + " COALESCE(CHARACTER_MAXIMUM_LENGTH, NUMERIC_PRECISION, DATETIME_PRECISION)"
+        + " AS COLUMN_SIZE,"
+        + " NUMERIC_SCALE AS DECIMAL_DIGITS, COLUMN_COMMENT AS REMARKS,"
+        + " IF(IS_NULLABLE = 'YES', 1, 0) AS NULLABLE, COLUMN_DEFAULT AS COLUMN_DEF,"
+        + " IF(EXTRA LIKE '%GENERATED%', 'YES', 'NO') AS IS_GENERATEDCOLUMN,"
+        + " IF(EXTRA LIKE '%auto_increment%', 'YES', 'NO') AS IS_AUTOINCREMENT"
+        + " FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = ?"
+        + bulkTableNameFilter("TABLE_NAME", nameCount)
+        + " ORDER BY TABLE_NAME, ORDINAL_POSITION";
+  }
+
+  @Override
+  protected String generateBulkIndexesSql(int nameCount) {
+    return "SELECT TABLE_NAME, INDEX_NAME,"
+        + " IF(INDEX_NAME = 'PRIMARY', 'PRIMARY_KEY', 'UNIQUE_KEY') AS INDEX_TYPE,"
+        + " COLUMN_NAME, SEQ_IN_INDEX AS ORDINAL_POSITION"
+        + " FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ? AND NON_UNIQUE = 0"
+        + bulkTableNameFilter("TABLE_NAME", nameCount);
+  }
+
+  @Override
+  protected Map<String, String> getBulkTableProperties(ResultSet tablesResult)
+      throws SQLException {
+    Map<String, String> properties = new HashMap<>();
+    properties.put(COMMENT, tablesResult.getString("REMARKS"));
+    properties.put(MYSQL_ENGINE_KEY, tablesResult.getString(MYSQL_ENGINE_KEY));
+    String autoIncrement = tablesResult.getString(MYSQL_AUTO_INCREMENT_OFFSET_KEY);
+    if (StringUtils.isNotEmpty(autoIncrement)) {
+      properties.put(MYSQL_AUTO_INCREMENT_OFFSET_KEY, autoIncrement);
+    }
+    return Collections.unmodifiableMap(properties);
+  }
+
   @Override
   protected void correctJdbcTableFields(
       Connection connection, String databaseName, String tableName, JdbcTable.Builder tableBuilder)
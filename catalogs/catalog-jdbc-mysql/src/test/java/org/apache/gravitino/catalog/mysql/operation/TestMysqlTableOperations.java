@@ -600,6 +600,79 @@ public class TestMysqlTableOperations extends TestMysql {
         tableName, tableComment, columns, properties, indexes, Transforms.EMPTY_TRANSFORM, loaded);
   }
 
+  @Test
+  public void testBulkLoadTables() {
+    String tableName1 = RandomNameUtils.genRandomName("bulk_table_");
+    String tableName2 = RandomNameUtils.genRandomName("bulk_table_");
+    List<JdbcColumn> columns = new ArrayList<>();
+    columns.add(
+        JdbcColumn.builder()
+            .withName("col_1")
+            .withType(Types.DecimalType.of(10, 2))
+            .withComment("test_decimal")
+            .withNullable(false)
+            .withDefaultValue(Literals.decimalLiteral(Decimal.of("0.00", 10, 2)))
+            .build());
+    columns.add(
+        JdbcColumn.builder()
+            .withName("col_2")
+            .withType(Types.LongType.unsigned())
+            .withNullable(false)
+            .withAutoIncrement(true)
+            .withComment("long type")
+            .build());
+    columns.add(
+        JdbcColumn.builder()
+            .withName("col_3")
+            .withType(VARCHAR)
+            .withNullable(true)
+            .withDefaultValue(Literals.NULL)
+            .build());
+    Index[] indexes =
+        new Index[] {
+          Indexes.createMysqlPrimaryKey(new String[][] {{"col_2"}}),
+          Indexes.unique("uk_col_3", new String[][] {{"col_3"}, {"col_1"}})
+        };
+    for (String tableName : Arrays.asList(tableName1, tableName2)) {
+      TABLE_OPERATIONS.create(
+          TEST_DB_NAME.toString(),
+          tableName,
+          columns.toArray(new JdbcColumn[0]),
+          "test_comment",
+          Collections.emptyMap(),
+          null,
+          Distributions.NONE,
+          indexes);
+    }
+
+    List<JdbcTable> tables =
+        TABLE_OPERATIONS.loadTables(
+            TEST_DB_NAME.toString(), Arrays.asList(tableName1, tableName2, "not_exist_table"));
+    Assertions.assertEquals(2, tables.size());
+    for (JdbcTable bulkLoaded : tables) {
+      JdbcTable loaded = TABLE_OPERATIONS.load(TEST_DB_NAME.toString(), bulkLoaded.name());
+      Assertions.assertEquals(loaded.comment(), bulkLoaded.comment());
+      Assertions.assertEquals(loaded.properties(), bulkLoaded.properties());
+      Assertions.assertArrayEquals(loaded.columns(), bulkLoaded.columns());
+      assertionsTableInfo(
+          loaded.name(),
+          "test_comment",
+          columns,
+          loaded.properties(),
+          indexes,
+          Transforms.EMPTY_TRANSFORM,
+          bulkLoaded);
+    }
+
+    List<String> allTableNames =
+        TABLE_OPERATIONS.loadTables(TEST_DB_NAME.toString(), null).stream()
+            .map(JdbcTable::name)
+            .collect(Collectors.toList());
+    Assertions.assertTrue(allTableNames.containsAll(Arrays.asList(tableName1, tableName2)));
+    Assertions.assertTrue(
+        TABLE_OPERATIONS.loadTables(TEST_DB_NAME.toString(), Collections.emptyList()).isEmpty());
+  }
+
   @Test
   public void testCreateAllTypeTable() {
     String tableName = RandomNameUtils.genRandomName("type_table_");
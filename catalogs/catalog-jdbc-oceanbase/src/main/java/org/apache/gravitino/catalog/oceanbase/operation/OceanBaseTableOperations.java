@@ -23,6 +23,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
@@ -48,6 +49,50 @@ public class OceanBaseTableOperations extends JdbcTableOperations {
     return super.load(databaseName, tableName.toLowerCase());
   }
 
+  @Override
+  public List<JdbcTable> loadTables(String databaseName, List<String> tableNames)
+      throws NoSuchSchemaException {
+    return super.loadTables(
+        databaseName,
+        tableNames == null
+            ? null
+            : tableNames.stream().map(String::toLowerCase).collect(Collectors.toList()));
+  }
+
+  @Override
+  protected String generateBulkTablesSql(int nameCount) {
+    return "SELECT TABLE_NAME, TABLE_COMMENT AS REMARKS"
+        + " FROM information_schema.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_TYPE = 'BASE TABLE'"
+        + bulkTableNameFilter("TABLE_NAME", nameCount);
+  }
+
+  @Override
+  protected String generateBulkColumnsSql(int nameCount) {
+    // OceanBase is compatible with MySQL protocol, keep the column labels and values the same as
+    // `DatabaseMetaData#getColumns` of the MySQL driver.
+    return "SELECT TABLE_NAME, COLUMN_NAME,"
+        + " UPPER(CONCAT(DATA_TYPE, IF(COLUMN_TYPE LIKE '%unsigned%', ' UNSIGNED', '')))"
+        + " AS TYPE_NAME,"
+        + " COALESCE(CHARACTER_MAXIMUM_LENGTH, NUMERIC_PRECISION, DATETIME_PRECISION)"
+        + " AS COLUMN_SIZE,"
+        + " NUMERIC_SCALE AS DECIMAL_DIGITS, COLUMN_COMMENT AS REMARKS,"
+        + " IF(IS_NULLABLE = 'YES', 1, 0) AS NULLABLE, COLUMN_DEFAULT AS COLUMN_DEF,"
+        + " IF(EXTRA LIKE '%GENERATED%', 'YES', 'NO') AS IS_GENERATEDCOLUMN,"
+        + " IF(EXTRA LIKE '%auto_increment%', 'YES', 'NO') AS IS_AUTOINCREMENT"
+        + " FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = ?"
+        + bulkTableNameFilter("TABLE_NAME", nameCount)
+        + " ORDER BY TABLE_NAME, ORDINAL_POSITION";
+  }
+
+  @Override
+  protected String generateBulkIndexesSql(int nameCount) {
+    return "SELECT TABLE_NAME, INDEX_NAME,"
+        + " IF(INDEX_NAME = 'PRIMARY', 'PRIMARY_KEY', 'UNIQUE_KEY') AS INDEX_TYPE,"
+        + " COLUMN_NAME, SEQ_IN_INDEX AS ORDINAL_POSITION"
+        + " FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ? AND NON_UNIQUE = 0"
+        + bulkTableNameFilter("TABLE_NAME", nameCount);
+  }
+
   @Override
   protected String generateCreateTableSql(
       String tableName,
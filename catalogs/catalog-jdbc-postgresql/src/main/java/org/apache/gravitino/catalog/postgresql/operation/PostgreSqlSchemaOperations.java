@@ -40,6 +40,7 @@ import org.apache.gravitino.catalog.jdbc.JdbcSchema;
 import org.apache.gravitino.catalog.jdbc.config.JdbcConfig;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcExceptionConverter;
 import org.apache.gravitino.catalog.jdbc.operation.JdbcDatabaseOperations;
+import org.apache.gravitino.catalog.jdbc.utils.JdbcConnectorUtils;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.meta.AuditInfo;
 
@@ -162,7 +163,7 @@ public class PostgreSqlSchemaOperations extends JdbcDatabaseOperations {
   @Override
   protected Connection getConnection() throws SQLException {
     Connection connection = dataSource.getConnection();
-    connection.setCatalog(database);
+    JdbcConnectorUtils.useDatabase(connection, database, null);
     return connection;
   }
 
@@ -45,6 +45,7 @@ import org.apache.gravitino.catalog.jdbc.converter.JdbcColumnDefaultValueConvert
 import org.apache.gravitino.catalog.jdbc.converter.JdbcExceptionConverter;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcTypeConverter;
 import org.apache.gravitino.catalog.jdbc.operation.JdbcTableOperations;
+import org.apache.gravitino.catalog.jdbc.utils.JdbcConnectorUtils;
 import org.apache.gravitino.exceptions.NoSuchColumnException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.rel.Column;
@@ -108,6 +109,55 @@ public class PostgreSqlTableOperations extends JdbcTableOperations {
     return builder;
   }
 
+  @Override
+  protected String generateBulkTablesSql(int nameCount) {
+    return "SELECT t.table_name AS \"TABLE_NAME\","
+        + " pg_catalog.obj_description("
+        + "format('%I.%I', t.table_schema, t.table_name)::regclass, 'pg_class') AS \"REMARKS\""
+        + " FROM information_schema.tables t"
+        + " WHERE t.table_schema = ? AND t.table_type = 'BASE TABLE'"
+        + bulkTableNameFilter("t.table_name", nameCount);
+  }
+
+  @Override
+  protected String generateBulkColumnsSql(int nameCount) {
+    // Keep the column labels and values the same as `DatabaseMetaData#getColumns` of the
+    // PostgreSQL driver, so the columns can be converted in the same way as loading a single table.
+    return "SELECT c.table_name AS \"TABLE_NAME\", c.column_name AS \"COLUMN_NAME\","
+        + " c.udt_name AS \"TYPE_NAME\","
+        + " COALESCE(c.character_maximum_length, c.numeric_precision, c.datetime_precision)"
+        + " AS \"COLUMN_SIZE\","
+        + " c.numeric_scale AS \"DECIMAL_DIGITS\","
+        + " pg_catalog.col_description("
+        + "format('%I.%I', c.table_schema, c.table_name)::regclass, c.ordinal_position)"
+        + " AS \"REMARKS\","
+        + " CASE WHEN c.is_nullable = 'YES' THEN 1 ELSE 0 END AS \"NULLABLE\","
+        + " c.column_default AS \"COLUMN_DEF\","
+        + " CASE WHEN c.is_generated = 'ALWAYS' THEN 'YES' ELSE 'NO' END"
+        + " AS \"IS_GENERATEDCOLUMN\","
+        + " CASE WHEN c.is_identity = 'YES' OR c.column_default LIKE 'nextval(%'"
+        + " THEN 'YES' ELSE 'NO' END AS \"IS_AUTOINCREMENT\""
+        + " FROM information_schema.columns c WHERE c.table_schema = ?"
+        + bulkTableNameFilter("c.table_name", nameCount)
+        + " ORDER BY c.table_name, c.ordinal_position";
+  }
+
+  @Override
+  protected String generateBulkIndexesSql(int nameCount) {
+    return "SELECT t.relname AS \"TABLE_NAME\", i.relname AS \"INDEX_NAME\","
+        + " CASE WHEN ix.indisprimary THEN 'PRIMARY_KEY' ELSE 'UNIQUE_KEY' END"
+        + " AS \"INDEX_TYPE\","
+        + " a.attname AS \"COLUMN_NAME\", k.ord AS \"ORDINAL_POSITION\""
+        + " FROM pg_catalog.pg_index ix"
+        + " JOIN pg_catalog.pg_class t ON t.oid = ix.indrelid"
+        + " JOIN pg_catalog.pg_class i ON i.oid = ix.indexrelid"
+        + " JOIN pg_catalog.pg_namespace n ON n.oid = t.relnamespace"
+        + " CROSS JOIN LATERAL unnest(ix.indkey) WITH ORDINALITY AS k(attnum, ord)"
+        + " JOIN pg_catalog.pg_attribute a ON a.attrelid = t.oid AND a.attnum = k.attnum"
+        + " WHERE n.nspname = ? AND ix.indisunique"
+        + bulkTableNameFilter("t.relname", nameCount);
+  }
+
   @Override
   protected String generateCreateTableSql(
       String tableName,
@@ -696,8 +746,7 @@ public class PostgreSqlTableOperations extends JdbcTableOperations {
   @Override
   protected Connection getConnection(String schema) throws SQLException {
     Connection connection = dataSource.getConnection();
-    connection.setCatalog(database);
-    connection.setSchema(schema);
+    JdbcConnectorUtils.useDatabase(connection, database, schema);
     return connection;
   }
 
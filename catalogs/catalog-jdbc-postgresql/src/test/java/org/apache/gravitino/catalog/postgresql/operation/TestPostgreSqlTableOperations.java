@@ -482,6 +482,35 @@ public class TestPostgreSqlTableOperations extends TestPostgreSql {
     Assertions.assertEquals(table_2, load.name());
   }
 
+  @Test
+  public void testListTablesWithWildcardSchemaName() {
+    // "_" is a wildcard of the metadata query, the tables of "wild_ab" must not be listed in
+    // "wild_a_b" and vice versa.
+    String wildcardSchema = "wild_a_b";
+    String matchedSchema = "wild_axb";
+    DATABASE_OPERATIONS.create(wildcardSchema, null, null);
+    DATABASE_OPERATIONS.create(matchedSchema, null, null);
+    JdbcColumn[] columns =
+        new JdbcColumn[] {JdbcColumn.builder().withName("col_1").withType(VARCHAR).build()};
+    TABLE_OPERATIONS.create(
+        matchedSchema,
+        "table_in_matched",
+        columns,
+        null,
+        null,
+        null,
+        Distributions.NONE,
+        Indexes.EMPTY_INDEXES);
+
+    Assertions.assertTrue(TABLE_OPERATIONS.listTables(wildcardSchema).isEmpty());
+    Assertions.assertEquals(
+        Collections.singletonList("table_in_matched"),
+        TABLE_OPERATIONS.listTables(matchedSchema));
+
+    DATABASE_OPERATIONS.delete(wildcardSchema, true);
+    DATABASE_OPERATIONS.delete(matchedSchema, true);
+  }
+
   @Test
   public void testCreateAutoIncrementTable() {
     String tableName = RandomNameUtils.genRandomName("increment_table_");
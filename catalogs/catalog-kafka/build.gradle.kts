@@ -42,6 +42,7 @@ dependencies {
 
   implementation(libs.guava)
   implementation(libs.kafka.clients)
+  implementation(libs.metrics.core)
   implementation(libs.slf4j.api)
 
   testImplementation(libs.commons.io)
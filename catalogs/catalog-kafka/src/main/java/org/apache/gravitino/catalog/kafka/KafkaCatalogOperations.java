@@ -31,6 +31,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -48,6 +49,7 @@ import org.apache.gravitino.Namespace;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.StringIdentifier;
+import org.apache.gravitino.catalog.kafka.metrics.KafkaCatalogMetricsSource;
 import org.apache.gravitino.connector.CatalogInfo;
 import org.apache.gravitino.connector.CatalogOperations;
 import org.apache.gravitino.connector.HasPropertyMetadata;
@@ -66,6 +68,7 @@ import org.apache.gravitino.messaging.TopicCatalog;
 import org.apache.gravitino.messaging.TopicChange;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.storage.IdGenerator;
 import org.apache.gravitino.utils.NamespaceUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
@@ -75,12 +78,8 @@ import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.CreateTopicsResult;
-import org.apache.kafka.clients.admin.DescribeConfigsResult;
-import org.apache.kafka.clients.admin.DescribeTopicsResult;
-import org.apache.kafka.clients.admin.ListTopicsResult;
 import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.clients.admin.NewTopic;
-import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaException;
 import org.apache.kafka.common.Uuid;
 import org.apache.kafka.common.config.ConfigException;
@@ -105,6 +104,8 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
   private CatalogInfo info;
   private AdminClient adminClient;
   private HasPropertyMetadata propertiesMetadata;
+  private KafkaCatalogMetricsSource metricsSource;
+  @VisibleForTesting KafkaTopicMetadataCache topicMetadataCache;
 
   @VisibleForTesting
   KafkaCatalogOperations(EntityStore store, IdGenerator idGenerator) {
@@ -159,6 +160,26 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       }
       throw new RuntimeException("Failed to create Kafka AdminClient", e);
     }
+
+    this.metricsSource = new KafkaCatalogMetricsSource(info.namespace().level(0), info.name());
+    this.topicMetadataCache =
+        new KafkaTopicMetadataCache(
+            adminClient,
+            (int)
+                propertiesMetadata
+                    .catalogPropertiesMetadata()
+                    .getOrDefault(config, KafkaCatalogPropertiesMetadata.TOPIC_DESCRIBE_BATCH_SIZE),
+            (long)
+                propertiesMetadata
+                    .catalogPropertiesMetadata()
+                    .getOrDefault(
+                        config, KafkaCatalogPropertiesMetadata.TOPIC_METADATA_CACHE_TTL_MS),
+            metricsSource);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
     createDefaultSchemaIfNecessary();
   }
 
@@ -168,8 +189,7 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     checkSchemaExists(schemaIdent);
 
     try {
-      ListTopicsResult result = adminClient.listTopics();
-      Set<String> topicNames = result.names().get();
+      Set<String> topicNames = topicMetadataCache.listTopicNames();
       return topicNames.stream()
           .map(name -> NameIdentifier.of(namespace, name))
           .toArray(NameIdentifier[]::new);
@@ -204,49 +224,48 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     checkSchemaExists(schemaIdent);
 
-    DescribeTopicsResult result = adminClient.describeTopics(Collections.singleton(ident.name()));
-    ConfigResource configResource = new ConfigResource(ConfigResource.Type.TOPIC, ident.name());
-    DescribeConfigsResult configsResult =
-        adminClient.describeConfigs(Collections.singleton(configResource));
-
-    int partitions;
-    int replicationFactor;
-    Uuid topicId;
-    Map<String, String> properties = Maps.newHashMap();
+    KafkaTopicMetadataCache.TopicMetadata metadata;
     try {
-      TopicDescription topicDescription = result.topicNameValues().get(ident.name()).get();
-      partitions = topicDescription.partitions().size();
-      replicationFactor = topicDescription.partitions().get(0).replicas().size();
-      topicId = topicDescription.topicId();
-
-      Config topicConfigs = configsResult.all().get().get(configResource);
-      topicConfigs.entries().forEach(e -> properties.put(e.name(), e.value()));
-      properties.put(KafkaTopicPropertiesMetadata.PARTITION_COUNT, String.valueOf(partitions));
-      properties.put(
-          KafkaTopicPropertiesMetadata.REPLICATION_FACTOR, String.valueOf(replicationFactor));
-    } catch (ExecutionException e) {
-      if (e.getCause() instanceof UnknownTopicOrPartitionException) {
-        throw new NoSuchTopicException(e, "Topic %s does not exist", ident);
-      } else {
-        throw new RuntimeException("Failed to load topic " + ident.name() + " from Kafka", e);
-      }
-    } catch (InterruptedException e) {
+      metadata =
+          topicMetadataCache.loadTopics(Collections.singleton(ident.name())).get(ident.name());
+    } catch (ExecutionException | InterruptedException e) {
       throw new RuntimeException("Failed to load topic " + ident.name() + " from Kafka", e);
     }
+    if (metadata == null) {
+      throw new NoSuchTopicException("Topic %s does not exist", ident);
+    }
 
     LOG.info("Loaded topic {} from Kafka", ident);
+    return toKafkaTopic(ident, metadata);
+  }
 
-    return KafkaTopic.builder()
-        .withName(ident.name())
-        // Because there is no way to store the Gravitino ID in Kafka, therefor we use the topic ID
-        // as the Gravitino ID
-        .withProperties(newPropertiesWithId(convertToGravitinoId(topicId), properties))
-        .withAuditInfo(
-            AuditInfo.builder()
-                .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
-                .withCreateTime(Instant.now())
-                .build())
-        .build();
+  /**
+   * Loads the given topics with as few Kafka AdminClient requests as possible, the topics that do
+   * not exist are skipped.
+   *
+   * @param namespace The namespace of the topics.
+   * @param topicNames The names of the topics to load.
+   * @return The loaded topics.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  public List<Topic> loadTopics(Namespace namespace, Collection<String> topicNames)
+      throws NoSuchSchemaException {
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    checkSchemaExists(schemaIdent);
+
+    Map<String, KafkaTopicMetadataCache.TopicMetadata> metadata;
+    try {
+      metadata = topicMetadataCache.loadTopics(topicNames);
+    } catch (ExecutionException | InterruptedException e) {
+      throw new RuntimeException("Failed to load topics under the schema " + namespace, e);
+    }
+
+    LOG.info("Loaded {} topics under the schema {} from Kafka", metadata.size(), namespace);
+    return topicNames.stream()
+        .distinct()
+        .filter(metadata::containsKey)
+        .map(name -> toKafkaTopic(NameIdentifier.of(namespace, name), metadata.get(name)))
+        .collect(Collectors.toList());
   }
 
   @Override
@@ -260,6 +279,7 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       CreateTopicsResult createTopicsResult =
           adminClient.createTopics(Collections.singleton(buildNewTopic(ident, properties)));
       Uuid topicId = createTopicsResult.topicId(ident.name()).get();
+      topicMetadataCache.invalidate(ident.name());
       Integer numPartitions = createTopicsResult.numPartitions(ident.name()).get();
       Integer replicationFactor = createTopicsResult.replicationFactor(ident.name()).get();
       Config topicConfigs = createTopicsResult.config(ident.name()).get();
@@ -353,6 +373,7 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     if (!alterConfigOps.isEmpty()) {
       doAlterTopicConfig(ident.name(), alterConfigOps);
     }
+    topicMetadataCache.invalidate(ident.name());
 
     return KafkaTopic.builder()
         .withName(ident.name())
@@ -375,6 +396,7 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
 
     try {
       adminClient.deleteTopics(Collections.singleton(ident.name())).all().get();
+      topicMetadataCache.invalidate(ident.name());
       return true;
     } catch (ExecutionException e) {
       if (e.getCause() instanceof UnknownTopicOrPartitionException) {
@@ -391,7 +413,8 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
   public NameIdentifier[] listSchemas(Namespace namespace) throws NoSuchCatalogException {
     try {
       List<SchemaEntity> schemas =
-          store.list(namespace, SchemaEntity.class, Entity.EntityType.SCHEMA);
+          store.list(
+              namespace, SchemaEntity.class, Entity.EntityType.SCHEMA, false /* allFields */);
       return schemas.stream()
           .map(s -> NameIdentifier.of(namespace, s.name()))
           .toArray(NameIdentifier[]::new);
@@ -451,6 +474,14 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
 
   @Override
   public void close() throws IOException {
+    if (topicMetadataCache != null) {
+      topicMetadataCache.close();
+      topicMetadataCache = null;
+    }
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
     if (adminClient != null) {
       adminClient.close();
       adminClient = null;
@@ -552,6 +583,28 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     }
   }
 
+  private KafkaTopic toKafkaTopic(
+      NameIdentifier ident, KafkaTopicMetadataCache.TopicMetadata metadata) {
+    Map<String, String> properties = Maps.newHashMap(metadata.configs());
+    properties.put(
+        KafkaTopicPropertiesMetadata.PARTITION_COUNT, String.valueOf(metadata.partitionCount()));
+    properties.put(
+        KafkaTopicPropertiesMetadata.REPLICATION_FACTOR,
+        String.valueOf(metadata.replicationFactor()));
+
+    return KafkaTopic.builder()
+        .withName(ident.name())
+        // Because there is no way to store the Gravitino ID in Kafka, therefor we use the topic ID
+        // as the Gravitino ID
+        .withProperties(newPropertiesWithId(convertToGravitinoId(metadata.topicId()), properties))
+        .withAuditInfo(
+            AuditInfo.builder()
+                .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
+                .withCreateTime(Instant.now())
+                .build())
+        .build();
+  }
+
   private StringIdentifier convertToGravitinoId(Uuid topicId) {
     return StringIdentifier.fromId(topicId.getLeastSignificantBits() & MAX_ID);
   }
@@ -29,6 +29,17 @@ public class KafkaCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadat
   // multiple brokers by comma-separating them.
   public static final String BOOTSTRAP_SERVERS = "bootstrap.servers";
 
+  // The time in milliseconds to cache the topic names and topic metadata loaded from Kafka, the
+  // cache is disabled if the value is 0.
+  public static final String TOPIC_METADATA_CACHE_TTL_MS = "topic-metadata.cache-ttl-ms";
+
+  public static final long DEFAULT_TOPIC_METADATA_CACHE_TTL_MS = 0L;
+
+  // The maximum number of topics to describe in one Kafka AdminClient request.
+  public static final String TOPIC_DESCRIBE_BATCH_SIZE = "topic-metadata.describe-batch-size";
+
+  public static final int DEFAULT_TOPIC_DESCRIBE_BATCH_SIZE = 500;
+
   private static final Map<String, PropertyEntry<?>> KAFKA_CATALOG_PROPERTY_ENTRIES =
       ImmutableMap.<String, PropertyEntry<?>>builder()
           .put(
@@ -39,6 +50,27 @@ public class KafkaCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadat
                       + "comma-separating them",
                   false /* immutable */,
                   false /* hidden */))
+          .put(
+              TOPIC_METADATA_CACHE_TTL_MS,
+              PropertyEntry.longPropertyEntry(
+                  TOPIC_METADATA_CACHE_TTL_MS,
+                  "The time in milliseconds to cache the topic names and topic metadata loaded "
+                      + "from Kafka, 0 means disabled",
+                  false /* required */,
+                  false /* immutable */,
+                  DEFAULT_TOPIC_METADATA_CACHE_TTL_MS,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              TOPIC_DESCRIBE_BATCH_SIZE,
+              PropertyEntry.integerPropertyEntry(
+                  TOPIC_DESCRIBE_BATCH_SIZE,
+                  "The maximum number of topics to describe in one Kafka AdminClient request",
+                  false /* required */,
+                  false /* immutable */,
+                  DEFAULT_TOPIC_DESCRIBE_BATCH_SIZE,
+                  false /* hidden */,
+                  false /* reserved */))
           .build();
 
   @Override
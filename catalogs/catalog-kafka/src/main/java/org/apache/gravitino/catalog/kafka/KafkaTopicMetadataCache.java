@@ -0,0 +1,367 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.kafka;
+
+import static org.apache.gravitino.catalog.kafka.metrics.KafkaCatalogMetricsSource.ADMIN_CLIENT_DESCRIBE_CONFIGS;
+import static org.apache.gravitino.catalog.kafka.metrics.KafkaCatalogMetricsSource.ADMIN_CLIENT_DESCRIBE_TOPICS;
+import static org.apache.gravitino.catalog.kafka.metrics.KafkaCatalogMetricsSource.ADMIN_CLIENT_LIST_TOPICS;
+import static org.apache.gravitino.catalog.kafka.metrics.KafkaCatalogMetricsSource.TOPIC_METADATA_CACHE_HIT;
+import static org.apache.gravitino.catalog.kafka.metrics.KafkaCatalogMetricsSource.TOPIC_METADATA_CACHE_MISS;
+import static org.apache.gravitino.catalog.kafka.metrics.KafkaCatalogMetricsSource.TOPIC_METADATA_CACHE_SIZE;
+import static org.apache.gravitino.catalog.kafka.metrics.KafkaCatalogMetricsSource.TOPIC_NAMES_CACHE_HIT;
+import static org.apache.gravitino.catalog.kafka.metrics.KafkaCatalogMetricsSource.TOPIC_NAMES_CACHE_MISS;
+
+import com.codahale.metrics.Timer;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.gravitino.catalog.kafka.metrics.KafkaCatalogMetricsSource;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Uuid;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Describes Kafka topics in batches and optionally keeps the described metadata in a short-lived
+ * cache.
+ *
+ * <p>Each batch of topics is described with one {@code describeTopics} and one {@code
+ * describeConfigs} request, and all the batches are sent before waiting for any of them. When the
+ * cache is enabled, the topics read since the last refresh are described again in the background,
+ * so that frequently used topics are served from memory while the others simply expire.
+ */
+class KafkaTopicMetadataCache implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(KafkaTopicMetadataCache.class);
+
+  private final AdminClient adminClient;
+  private final int describeBatchSize;
+  private final long cacheTtlNanos;
+  private final KafkaCatalogMetricsSource metricsSource;
+
+  // The following fields are null if the cache is disabled.
+  private final Cache<String, TopicMetadata> topicCache;
+  private final ScheduledExecutorService refreshExecutor;
+
+  // The topics read from the cache since the last background refresh.
+  private final Set<String> accessedTopics = ConcurrentHashMap.newKeySet();
+
+  // Increased on every invalidation, so that a load started before an invalidation does not put
+  // stale metadata into the cache.
+  private long invalidationEpoch;
+  private volatile TopicNames cachedTopicNames;
+
+  KafkaTopicMetadataCache(
+      AdminClient adminClient,
+      int describeBatchSize,
+      long cacheTtlMs,
+      KafkaCatalogMetricsSource metricsSource) {
+    Preconditions.checkArgument(describeBatchSize > 0, "The describe batch size must be positive");
+    Preconditions.checkArgument(cacheTtlMs >= 0, "The cache TTL must not be negative");
+    this.adminClient = adminClient;
+    this.describeBatchSize = describeBatchSize;
+    this.cacheTtlNanos = TimeUnit.MILLISECONDS.toNanos(cacheTtlMs);
+    this.metricsSource = metricsSource;
+
+    if (cacheTtlMs > 0) {
+      this.topicCache =
+          CacheBuilder.newBuilder().expireAfterWrite(cacheTtlMs, TimeUnit.MILLISECONDS).build();
+      this.refreshExecutor =
+          Executors.newSingleThreadScheduledExecutor(
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("kafka-topic-metadata-refresher-%d")
+                  .build());
+      long refreshIntervalMs = Math.max(cacheTtlMs / 2, 1);
+      refreshExecutor.scheduleWithFixedDelay(
+          this::refreshAccessedTopics, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+      metricsSource.registerGauge(TOPIC_METADATA_CACHE_SIZE, topicCache::size);
+    } else {
+      this.topicCache = null;
+      this.refreshExecutor = null;
+    }
+  }
+
+  /**
+   * Lists the names of all the topics in the Kafka cluster.
+   *
+   * @return The topic names.
+   * @throws ExecutionException If the AdminClient request fails.
+   * @throws InterruptedException If interrupted while waiting for the AdminClient request.
+   */
+  Set<String> listTopicNames() throws ExecutionException, InterruptedException {
+    if (topicCache != null) {
+      TopicNames topicNames = cachedTopicNames;
+      if (topicNames != null && System.nanoTime() - topicNames.loadTimeNanos < cacheTtlNanos) {
+        metricsSource.getCounter(TOPIC_NAMES_CACHE_HIT).inc();
+        return topicNames.names;
+      }
+      metricsSource.getCounter(TOPIC_NAMES_CACHE_MISS).inc();
+    }
+
+    long epoch = currentEpoch();
+    long loadTimeNanos = System.nanoTime();
+    Set<String> names =
+        ImmutableSet.copyOf(
+            timed(ADMIN_CLIENT_LIST_TOPICS, adminClient.listTopics().names()).get());
+    if (topicCache != null) {
+      synchronized (this) {
+        if (epoch == invalidationEpoch) {
+          cachedTopicNames = new TopicNames(names, loadTimeNanos);
+        }
+      }
+    }
+    return names;
+  }
+
+  /**
+   * Loads the metadata of the given topics, the topics that do not exist are not contained in the
+   * result.
+   *
+   * @param topicNames The names of the topics to load.
+   * @return The metadata of the existing topics, keyed by topic name.
+   * @throws ExecutionException If an AdminClient request fails.
+   * @throws InterruptedException If interrupted while waiting for the AdminClient requests.
+   */
+  Map<String, TopicMetadata> loadTopics(Collection<String> topicNames)
+      throws ExecutionException, InterruptedException {
+    if (topicCache == null) {
+      return describeTopics(topicNames);
+    }
+
+    Map<String, TopicMetadata> result = Maps.newHashMap(topicCache.getAllPresent(topicNames));
+    accessedTopics.addAll(result.keySet());
+    metricsSource.getCounter(TOPIC_METADATA_CACHE_HIT).inc(result.size());
+
+    List<String> missingTopics =
+        topicNames.stream()
+            .filter(name -> !result.containsKey(name))
+            .distinct()
+            .collect(Collectors.toList());
+    if (missingTopics.isEmpty()) {
+      return result;
+    }
+
+    metricsSource.getCounter(TOPIC_METADATA_CACHE_MISS).inc(missingTopics.size());
+    long epoch = currentEpoch();
+    Map<String, TopicMetadata> loaded = describeTopics(missingTopics);
+    synchronized (this) {
+      if (epoch == invalidationEpoch) {
+        topicCache.putAll(loaded);
+      }
+    }
+    result.putAll(loaded);
+    return result;
+  }
+
+  /**
+   * Invalidates the cached metadata of the given topic and the cached topic names, it should be
+   * called after the topic is created, altered or dropped.
+   *
+   * @param topicName The name of the topic.
+   */
+  synchronized void invalidate(String topicName) {
+    if (topicCache == null) {
+      return;
+    }
+    invalidationEpoch++;
+    topicCache.invalidate(topicName);
+    accessedTopics.remove(topicName);
+    cachedTopicNames = null;
+  }
+
+  @Override
+  public void close() {
+    if (refreshExecutor != null) {
+      refreshExecutor.shutdownNow();
+    }
+    if (topicCache != null) {
+      topicCache.invalidateAll();
+    }
+  }
+
+  @VisibleForTesting
+  void refreshAccessedTopics() {
+    if (accessedTopics.isEmpty()) {
+      return;
+    }
+
+    List<String> topics = Lists.newArrayList(accessedTopics);
+    accessedTopics.removeAll(topics);
+    try {
+      long epoch = currentEpoch();
+      Map<String, TopicMetadata> refreshed = describeTopics(topics);
+      synchronized (this) {
+        if (epoch == invalidationEpoch) {
+          topicCache.putAll(refreshed);
+          // The topics not described anymore have been deleted outside of Gravitino
+          topicCache.invalidateAll(Sets.difference(Sets.newHashSet(topics), refreshed.keySet()));
+        }
+      }
+      LOG.debug("Refreshed the metadata of {} Kafka topics", refreshed.size());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      LOG.warn("Failed to refresh the metadata of {} Kafka topics", topics.size(), e);
+    }
+  }
+
+  private synchronized long currentEpoch() {
+    return invalidationEpoch;
+  }
+
+  private Map<String, TopicMetadata> describeTopics(Collection<String> topicNames)
+      throws ExecutionException, InterruptedException {
+    // Send the requests of all batches first, then wait for the responses
+    List<BatchResult> batchResults = Lists.newArrayList();
+    Set<String> distinctNames = ImmutableSet.copyOf(topicNames);
+    for (List<String> batch : Iterables.partition(distinctNames, describeBatchSize)) {
+      List<ConfigResource> configResources =
+          batch.stream()
+              .map(name -> new ConfigResource(ConfigResource.Type.TOPIC, name))
+              .collect(Collectors.toList());
+      DescribeTopicsResult topicsResult = adminClient.describeTopics(batch);
+      DescribeConfigsResult configsResult = adminClient.describeConfigs(configResources);
+      timed(ADMIN_CLIENT_DESCRIBE_TOPICS, topicsResult.allTopicNames());
+      timed(ADMIN_CLIENT_DESCRIBE_CONFIGS, configsResult.all());
+      batchResults.add(new BatchResult(batch, topicsResult, configsResult));
+    }
+
+    Map<String, TopicMetadata> result = Maps.newHashMap();
+    for (BatchResult batchResult : batchResults) {
+      for (String name : batchResult.topicNames) {
+        try {
+          TopicDescription description =
+              batchResult.topicsResult.topicNameValues().get(name).get();
+          Config config =
+              batchResult
+                  .configsResult
+                  .values()
+                  .get(new ConfigResource(ConfigResource.Type.TOPIC, name))
+                  .get();
+          result.put(name, TopicMetadata.of(description, config));
+        } catch (ExecutionException e) {
+          if (!(e.getCause() instanceof UnknownTopicOrPartitionException)) {
+            throw e;
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  private <T> KafkaFuture<T> timed(String timerName, KafkaFuture<T> future) {
+    Timer.Context context = metricsSource.getTimer(timerName).time();
+    future.whenComplete((value, error) -> context.stop());
+    return future;
+  }
+
+  /** The metadata of a Kafka topic. */
+  static class TopicMetadata {
+    private final Uuid topicId;
+    private final int partitionCount;
+    private final int replicationFactor;
+    private final Map<String, String> configs;
+
+    private TopicMetadata(
+        Uuid topicId, int partitionCount, int replicationFactor, Map<String, String> configs) {
+      this.topicId = topicId;
+      this.partitionCount = partitionCount;
+      this.replicationFactor = replicationFactor;
+      this.configs = configs;
+    }
+
+    static TopicMetadata of(TopicDescription description, Config config) {
+      Map<String, String> configs = Maps.newHashMap();
+      config.entries().forEach(e -> configs.put(e.name(), e.value()));
+      return new TopicMetadata(
+          description.topicId(),
+          description.partitions().size(),
+          description.partitions().get(0).replicas().size(),
+          Collections.unmodifiableMap(configs));
+    }
+
+    Uuid topicId() {
+      return topicId;
+    }
+
+    int partitionCount() {
+      return partitionCount;
+    }
+
+    int replicationFactor() {
+      return replicationFactor;
+    }
+
+    Map<String, String> configs() {
+      return configs;
+    }
+  }
+
+  private static class TopicNames {
+    private final Set<String> names;
+    private final long loadTimeNanos;
+
+    private TopicNames(Set<String> names, long loadTimeNanos) {
+      this.names = names;
+      this.loadTimeNanos = loadTimeNanos;
+    }
+  }
+
+  private static class BatchResult {
+    private final List<String> topicNames;
+    private final DescribeTopicsResult topicsResult;
+    private final DescribeConfigsResult configsResult;
+
+    private BatchResult(
+        List<String> topicNames,
+        DescribeTopicsResult topicsResult,
+        DescribeConfigsResult configsResult) {
+      this.topicNames = topicNames;
+      this.topicsResult = topicsResult;
+      this.configsResult = configsResult;
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.kafka.metrics;
+
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * KafkaCatalogMetricsSource collects the Kafka AdminClient latency and topic metadata cache metrics
+ * of a Kafka catalog, the metrics source name is "kafka-catalog.{metalake}.{catalog}".
+ */
+public class KafkaCatalogMetricsSource extends MetricsSource {
+
+  public static final String KAFKA_CATALOG_METRIC_NAME = "kafka-catalog";
+
+  public static final String ADMIN_CLIENT_LIST_TOPICS = "admin-client.list-topics";
+  public static final String ADMIN_CLIENT_DESCRIBE_TOPICS = "admin-client.describe-topics";
+  public static final String ADMIN_CLIENT_DESCRIBE_CONFIGS = "admin-client.describe-configs";
+  public static final String TOPIC_METADATA_CACHE_HIT = "topic-metadata-cache.hit";
+  public static final String TOPIC_METADATA_CACHE_MISS = "topic-metadata-cache.miss";
+  public static final String TOPIC_METADATA_CACHE_SIZE = "topic-metadata-cache.size";
+  public static final String TOPIC_NAMES_CACHE_HIT = "topic-names-cache.hit";
+  public static final String TOPIC_NAMES_CACHE_MISS = "topic-names-cache.miss";
+
+  /**
+   * Creates the metrics source of a Kafka catalog.
+   *
+   * @param metalake The metalake of the catalog.
+   * @param catalog The name of the catalog.
+   */
+  public KafkaCatalogMetricsSource(String metalake, String catalog) {
+    super(String.join(".", KAFKA_CATALOG_METRIC_NAME, metalake, catalog));
+  }
+}
@@ -41,6 +41,8 @@ import static org.apache.gravitino.catalog.kafka.KafkaCatalog.SCHEMA_PROPERTIES_
 import static org.apache.gravitino.catalog.kafka.KafkaCatalog.TOPIC_PROPERTIES_METADATA;
 import static org.apache.gravitino.catalog.kafka.KafkaCatalogOperations.CLIENT_ID_TEMPLATE;
 import static org.apache.gravitino.catalog.kafka.KafkaCatalogPropertiesMetadata.BOOTSTRAP_SERVERS;
+import static org.apache.gravitino.catalog.kafka.KafkaCatalogPropertiesMetadata.TOPIC_DESCRIBE_BATCH_SIZE;
+import static org.apache.gravitino.catalog.kafka.KafkaCatalogPropertiesMetadata.TOPIC_METADATA_CACHE_TTL_MS;
 import static org.apache.gravitino.catalog.kafka.KafkaTopicPropertiesMetadata.PARTITION_COUNT;
 import static org.apache.gravitino.catalog.kafka.KafkaTopicPropertiesMetadata.REPLICATION_FACTOR;
 import static org.mockito.Mockito.doReturn;
@@ -50,6 +52,8 @@ import com.google.common.collect.ImmutableMap;
 import java.io.File;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import org.apache.commons.io.FileUtils;
 import org.apache.gravitino.Config;
@@ -437,6 +441,53 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
         exception.getMessage());
   }
 
+  @Test
+  public void testLoadTopicsWithMetadataCache() throws IOException {
+    Map<String, String> properties =
+        ImmutableMap.<String, String>builder()
+            .putAll(MOCK_CATALOG_PROPERTIES)
+            .put(TOPIC_METADATA_CACHE_TTL_MS, "60000")
+            .put(TOPIC_DESCRIBE_BATCH_SIZE, "1")
+            .build();
+    KafkaCatalogOperations ops = new KafkaCatalogOperations(store, idGenerator);
+    ops.initialize(properties, kafkaCatalogEntity.toCatalogInfo(), KAFKA_PROPERTIES_METADATA);
+
+    try {
+      Namespace namespace = Namespace.of(METALAKE_NAME, CATALOG_NAME, DEFAULT_SCHEMA_NAME);
+      NameIdentifier ident = NameIdentifier.of(namespace, "test_cached_topic");
+      ops.createTopic(
+          ident, null, null, ImmutableMap.of(PARTITION_COUNT, "2", REPLICATION_FACTOR, "1"));
+
+      // The batch size is 1, so every topic is described by its own request, and the topics that
+      // do not exist are skipped
+      List<Topic> topics =
+          ops.loadTopics(namespace, Arrays.asList(TOPIC_1, ident.name(), "error_topic"));
+      Assertions.assertEquals(2, topics.size());
+      Assertions.assertEquals(TOPIC_1, topics.get(0).name());
+      Assertions.assertEquals(ident.name(), topics.get(1).name());
+      Assertions.assertEquals("2", topics.get(1).properties().get(PARTITION_COUNT));
+      Assertions.assertNotNull(topics.get(1).properties().get(ID_KEY));
+
+      // Served from the cache
+      Topic cachedTopic = ops.loadTopic(ident);
+      Assertions.assertEquals(topics.get(1).properties(), cachedTopic.properties());
+      Assertions.assertTrue(Arrays.asList(ops.listTopics(namespace)).contains(ident));
+
+      // Altering the topic invalidates the cached metadata
+      ops.alterTopic(ident, TopicChange.setProperty(PARTITION_COUNT, "3"));
+      Assertions.assertEquals("3", ops.loadTopic(ident).properties().get(PARTITION_COUNT));
+
+      // The background refresh keeps the accessed topics up to date
+      ops.topicMetadataCache.refreshAccessedTopics();
+      Assertions.assertEquals("3", ops.loadTopic(ident).properties().get(PARTITION_COUNT));
+
+      Assertions.assertTrue(ops.dropTopic(ident));
+      Assertions.assertThrows(NoSuchTopicException.class, () -> ops.loadTopic(ident));
+    } finally {
+      ops.close();
+    }
+  }
+
   @Test
   public void testListTopics() {
     NameIdentifier[] topics =
@@ -18,14 +18,49 @@
  */
 package org.apache.gravitino.catalog.lakehouse.hudi;
 
-import java.util.Collections;
+import com.google.common.collect.ImmutableMap;
 import java.util.Map;
+import org.apache.gravitino.catalog.hive.HiveConstants;
 import org.apache.gravitino.connector.BaseCatalogPropertiesMetadata;
 import org.apache.gravitino.connector.PropertyEntry;
+import org.apache.gravitino.hive.ClientPropertiesMetadata;
 
 public class HudiCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata {
+
+  public static final String METASTORE_URIS = HiveConstants.METASTORE_URIS;
+
+  // The maximum number of tables to cache the schema read from the Hudi timeline for, the cache is
+  // disabled if the value is 0.
+  public static final String TIMELINE_CACHE_MAX_SIZE = "timeline-cache.max-size";
+
+  public static final long DEFAULT_TIMELINE_CACHE_MAX_SIZE = 1000L;
+
+  private static final ClientPropertiesMetadata CLIENT_PROPERTIES_METADATA =
+      new ClientPropertiesMetadata();
+
+  private static final Map<String, PropertyEntry<?>> HUDI_CATALOG_PROPERTY_ENTRIES =
+      ImmutableMap.<String, PropertyEntry<?>>builder()
+          .put(
+              METASTORE_URIS,
+              PropertyEntry.stringRequiredPropertyEntry(
+                  METASTORE_URIS,
+                  "The Hive metastore URIs of the Hudi tables",
+                  false /* immutable */,
+                  false /* hidden */))
+          .put(
+              TIMELINE_CACHE_MAX_SIZE,
+              PropertyEntry.longOptionalPropertyEntry(
+                  TIMELINE_CACHE_MAX_SIZE,
+                  "The maximum number of tables to cache the schema read from the Hudi timeline "
+                      + "for, 0 means disabled",
+                  false /* immutable */,
+                  DEFAULT_TIMELINE_CACHE_MAX_SIZE,
+                  false /* hidden */))
+          .putAll(CLIENT_PROPERTIES_METADATA.propertyEntries())
+          .build();
+
   @Override
   protected Map<String, PropertyEntry<?>> specificPropertyEntries() {
-    return Collections.emptyMap();
+    return HUDI_CATALOG_PROPERTY_ENTRIES;
   }
 }
@@ -18,39 +18,131 @@
  */
 package org.apache.gravitino.catalog.lakehouse.hudi.backend.hms;
 
+import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.DEFAULT_TIMELINE_CACHE_MAX_SIZE;
+import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.METASTORE_URIS;
+import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.TIMELINE_CACHE_MAX_SIZE;
+import static org.apache.gravitino.connector.BaseCatalog.CATALOG_BYPASS_PREFIX;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SchemaChange;
+import org.apache.gravitino.catalog.lakehouse.hudi.HudiColumn;
 import org.apache.gravitino.catalog.lakehouse.hudi.ops.HudiCatalogBackendOps;
+import org.apache.gravitino.catalog.lakehouse.hudi.ops.HudiTimeline;
+import org.apache.gravitino.catalog.lakehouse.hudi.ops.HudiTimelineCache;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.exceptions.NonEmptySchemaException;
 import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
+import org.apache.gravitino.hive.CachedClientPool;
+import org.apache.gravitino.hive.converter.HiveTableConverter;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
 import org.apache.gravitino.rel.expressions.sorts.SortOrder;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
 import org.apache.gravitino.rel.indexes.Index;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hive.conf.HiveConf;
+import org.apache.hadoop.hive.metastore.IMetaStoreClient;
+import org.apache.hadoop.hive.metastore.api.Database;
+import org.apache.hadoop.hive.metastore.api.FieldSchema;
+import org.apache.hadoop.hive.metastore.api.NoSuchObjectException;
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.hadoop.hive.metastore.api.UnknownDBException;
+import org.apache.thrift.TException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class HudiHMSBackendOps implements HudiCatalogBackendOps {
 
+  private static final Logger LOG = LoggerFactory.getLogger(HudiHMSBackendOps.class);
+
+  // The input formats of both the copy-on-write and the merge-on-read Hudi tables are in this
+  // package, e.g. "org.apache.hudi.hadoop.HoodieParquetInputFormat".
+  private static final String HUDI_PACKAGE_PREFIX = "org.apache.hudi";
+
+  private static final String SPARK_SOURCE_PROVIDER = "spark.sql.sources.provider";
+
+  // The meta columns Hudi adds to every record, like "_hoodie_commit_time", which the writer schema
+  // recorded in the timeline leaves out.
+  private static final String HUDI_META_COLUMN_PREFIX = "_hoodie_";
+
+  @VisibleForTesting CachedClientPool clientPool;
+
+  private Configuration hadoopConf;
+
+  // The cache of the table schema read from the Hudi timeline, null if the cache is disabled.
+  private HudiTimelineCache timelineCache;
+
   @Override
   public void initialize(Map<String, String> properties) {
-    // todo: initialize the catalogOps
+    hadoopConf = new Configuration();
+    properties.forEach(
+        (key, value) -> {
+          if (key.startsWith(CATALOG_BYPASS_PREFIX)) {
+            hadoopConf.set(key.substring(CATALOG_BYPASS_PREFIX.length()), value);
+          }
+        });
+    // The Gravitino property takes precedence over the bypass one.
+    if (properties.containsKey(METASTORE_URIS)) {
+      hadoopConf.set(HiveConf.ConfVars.METASTOREURIS.varname, properties.get(METASTORE_URIS));
+    }
+    this.clientPool =
+        new CachedClientPool(new HiveConf(hadoopConf, HudiHMSBackendOps.class), properties);
+
+    long timelineCacheMaxSize =
+        Long.parseLong(
+            properties.getOrDefault(
+                TIMELINE_CACHE_MAX_SIZE, String.valueOf(DEFAULT_TIMELINE_CACHE_MAX_SIZE)));
+    if (timelineCacheMaxSize > 0) {
+      timelineCache = new HudiTimelineCache(hadoopConf, timelineCacheMaxSize);
+    }
   }
 
   @Override
   public HudiHMSSchema loadSchema(NameIdentifier schemaIdent) throws NoSuchSchemaException {
-    throw new UnsupportedOperationException("Not implemented yet");
+    try {
+      Database database = clientPool.run(client -> client.getDatabase(schemaIdent.name()));
+      return (HudiHMSSchema) HudiHMSSchema.builder().withBackendSchema(database).build();
+
+    } catch (NoSuchObjectException e) {
+      throw new NoSuchSchemaException(
+          e, "Hudi schema (database) does not exist: %s in Hive Metastore", schemaIdent.name());
+
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to load Hudi schema (database) " + schemaIdent.name() + " from Hive Metastore",
+          e);
+    }
   }
 
   @Override
   public NameIdentifier[] listSchemas(Namespace namespace) throws NoSuchCatalogException {
-    throw new UnsupportedOperationException("Not implemented yet");
+    try {
+      return clientPool.run(IMetaStoreClient::getAllDatabases).stream()
+          .map(db -> NameIdentifier.of(namespace, db))
+          .toArray(NameIdentifier[]::new);
+
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException("Failed to list all schemas (database) under Hive Metastore", e);
+    }
   }
 
   @Override
@@ -73,12 +165,56 @@ public class HudiHMSBackendOps implements HudiCatalogBackendOps {
 
   @Override
   public NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException {
-    throw new UnsupportedOperationException("Not implemented yet");
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    try {
+      return clientPool.run(
+          client -> {
+            List<String> allTables = client.getAllTables(schemaIdent.name());
+            return client.getTableObjectsByName(schemaIdent.name(), allTables).stream()
+                .filter(HudiHMSBackendOps::isHudiTable)
+                .map(table -> NameIdentifier.of(namespace, table.getTableName()))
+                .toArray(NameIdentifier[]::new);
+          });
+
+    } catch (UnknownDBException e) {
+      throw new NoSuchSchemaException(
+          "Schema (database) does not exist %s in Hive Metastore", namespace);
+
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to list all tables under the namespace : " + namespace + " in Hive Metastore",
+          e);
+    }
   }
 
   @Override
   public HudiHMSTable loadTable(NameIdentifier ident) throws NoSuchTableException {
-    throw new UnsupportedOperationException("Not implemented yet");
+    NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
+    Table table;
+    try {
+      table = clientPool.run(client -> client.getTable(schemaIdent.name(), ident.name()));
+
+    } catch (NoSuchObjectException e) {
+      throw new NoSuchTableException(
+          e, "Hudi table does not exist: %s in Hive Metastore", ident.name());
+
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to load Hudi table " + ident.name() + " from Hive Metastore", e);
+    }
+
+    if (!isHudiTable(table)) {
+      throw new NoSuchTableException(
+          "Table %s is not a Hudi table in Hive Metastore", ident.name());
+    }
+
+    Column[] hmsColumns = HiveTableConverter.getColumns(table, HudiColumn.builder());
+    Column[] columns =
+        loadColumnsFromTimeline(table)
+            .map(timelineColumns -> mergeColumns(table, hmsColumns, timelineColumns))
+            .orElse(hmsColumns);
+    return (HudiHMSTable)
+        HudiHMSTable.builder().withBackendTable(table).withColumns(columns).build();
   }
 
   @Override
@@ -108,6 +244,85 @@ public class HudiHMSBackendOps implements HudiCatalogBackendOps {
 
   @Override
   public void close() {
-    // todo: close the HMS connection
+    if (clientPool != null) {
+      clientPool.close();
+      clientPool = null;
+    }
+    if (timelineCache != null) {
+      timelineCache.invalidateAll();
+    }
+  }
+
+  /**
+   * Loads the columns of the Hudi table from its timeline, the columns loaded from HMS should be
+   * used if the timeline carries no schema, e.g. the table has no completed commit yet, or can't be
+   * read.
+   *
+   * @param table The HMS table of the Hudi table.
+   * @return The columns of the table, empty if the timeline carries no schema.
+   */
+  private Optional<Column[]> loadColumnsFromTimeline(Table table) {
+    String location = table.getSd() == null ? null : table.getSd().getLocation();
+    if (location == null) {
+      return Optional.empty();
+    }
+
+    try {
+      if (timelineCache != null) {
+        return timelineCache.loadColumns(location);
+      }
+
+      Path basePath = new Path(location);
+      FileSystem fs = basePath.getFileSystem(hadoopConf);
+      List<FileStatus> instants = HudiTimeline.completedInstants(fs, basePath);
+      return HudiTimeline.readColumns(fs, instants);
+
+    } catch (IOException | RuntimeException e) {
+      LOG.warn(
+          "Failed to read the schema of Hudi table {}.{} from its timeline at {}, use the "
+              + "columns in Hive Metastore",
+          table.getDbName(),
+          table.getTableName(),
+          location,
+          e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Merges the columns read from the timeline with the ones in HMS. The writer schema in the
+   * timeline leaves out the Hudi meta columns, and may leave out the partition columns, so these
+   * are kept from HMS.
+   */
+  private static Column[] mergeColumns(Table table, Column[] hmsColumns, Column[] timelineColumns) {
+    // HMS lower cases the column names, while the writer schema keeps the case.
+    Set<String> timelineNames =
+        Arrays.stream(timelineColumns)
+            .map(column -> column.name().toLowerCase(Locale.ROOT))
+            .collect(Collectors.toSet());
+    Set<String> partitionNames =
+        table.getPartitionKeys().stream().map(FieldSchema::getName).collect(Collectors.toSet());
+
+    Stream<Column> metaColumns =
+        Arrays.stream(hmsColumns)
+            .filter(column -> column.name().startsWith(HUDI_META_COLUMN_PREFIX))
+            .filter(column -> !timelineNames.contains(column.name()));
+    Stream<Column> partitionColumns =
+        Arrays.stream(hmsColumns)
+            .filter(column -> partitionNames.contains(column.name()))
+            .filter(column -> !timelineNames.contains(column.name()));
+    return Stream.of(metaColumns, Arrays.stream(timelineColumns), partitionColumns)
+        .flatMap(Function.identity())
+        .toArray(Column[]::new);
+  }
+
+  private static boolean isHudiTable(Table table) {
+    String inputFormat = table.getSd() == null ? null : table.getSd().getInputFormat();
+    if (inputFormat != null && inputFormat.startsWith(HUDI_PACKAGE_PREFIX)) {
+      return true;
+    }
+    // The tables created by the Spark data source may not set a Hudi input format.
+    return table.getParameters() != null
+        && "hudi".equalsIgnoreCase(table.getParameters().get(SPARK_SOURCE_PROVIDER));
   }
 }
@@ -18,7 +18,12 @@
  */
 package org.apache.gravitino.catalog.lakehouse.hudi.backend.hms;
 
+import com.google.common.collect.Maps;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.gravitino.catalog.hive.HiveConstants;
 import org.apache.gravitino.catalog.lakehouse.hudi.HudiSchema;
+import org.apache.gravitino.meta.AuditInfo;
 import org.apache.hadoop.hive.metastore.api.Database;
 
 public class HudiHMSSchema extends HudiSchema<Database> {
@@ -49,8 +54,23 @@ public class HudiHMSSchema extends HudiSchema<Database> {
     }
 
     @Override
-    protected HudiSchema buildFromSchema(Database schema) {
-      // todo: convert HMS database to HudiSchema
+    protected HudiSchema buildFromSchema(Database database) {
+      name = database.getName();
+      comment = database.getDescription();
+
+      Map<String, String> schemaProperties = Maps.newHashMap();
+      if (database.getParameters() != null) {
+        schemaProperties.putAll(database.getParameters());
+      }
+      if (database.getLocationUri() != null) {
+        schemaProperties.put(HiveConstants.LOCATION, database.getLocationUri());
+      }
+      properties = schemaProperties;
+
+      // HMS databases only record the owner, neither the create time nor the last modification.
+      AuditInfo.Builder auditInfoBuilder = AuditInfo.builder();
+      Optional.ofNullable(database.getOwnerName()).ifPresent(auditInfoBuilder::withCreator);
+      auditInfo = auditInfoBuilder.build();
       return simpleBuild();
     }
   }
@@ -18,7 +18,10 @@
  */
 package org.apache.gravitino.catalog.lakehouse.hudi.backend.hms;
 
+import org.apache.gravitino.catalog.hive.HiveConstants;
+import org.apache.gravitino.catalog.lakehouse.hudi.HudiColumn;
 import org.apache.gravitino.catalog.lakehouse.hudi.HudiTable;
+import org.apache.gravitino.hive.converter.HiveTableConverter;
 import org.apache.hadoop.hive.metastore.api.Table;
 
 public class HudiHMSTable extends HudiTable<Table> {
@@ -45,14 +48,26 @@ public class HudiHMSTable extends HudiTable<Table> {
       table.indexes = indexes;
       table.partitioning = partitioning;
       table.distribution = distribution;
+      table.sortOrders = sortOrders;
       table.properties = properties;
       table.auditInfo = auditInfo;
       return table;
     }
 
     @Override
-    protected HudiTable buildFromTable(Table backendTable) {
-      // todo: convert HMS table to HudiTable
+    protected HudiTable buildFromTable(Table hmsTable) {
+      name = hmsTable.getTableName();
+      comment = hmsTable.getParameters().get(HiveConstants.COMMENT);
+      // The columns read from the Hudi timeline are set by the backend, which are newer than the
+      // columns synced to HMS.
+      if (columns == null) {
+        columns = HiveTableConverter.getColumns(hmsTable, HudiColumn.builder());
+      }
+      partitioning = HiveTableConverter.getPartitioning(hmsTable);
+      sortOrders = HiveTableConverter.getSortOrders(hmsTable);
+      distribution = HiveTableConverter.getDistribution(hmsTable);
+      properties = hmsTable.getParameters();
+      auditInfo = HiveTableConverter.getAuditInfo(hmsTable);
       return simpleBuild();
     }
   }
@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.lakehouse.hudi.ops;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.types.Type;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+/**
+ * Reads the completed instants and the table schema from the timeline of a Hudi table, which is
+ * stored in the ".hoodie" folder under the table location.
+ *
+ * <p>The writer records the Avro schema of the table in the commit metadata of every completed
+ * write instant, so the schema is read from the latest completed instant which carries one
+ * instead of from the metastore.
+ */
+public class HudiTimeline {
+
+  private static final String METAFOLDER_NAME = ".hoodie";
+
+  // Since Hudi 1.0, the active timeline lives in a sub folder of the ".hoodie" folder.
+  private static final String TIMELINE_FOLDER_NAME = "timeline";
+
+  private static final String SCHEMA_KEY = "schema";
+
+  private static final String EXTRA_METADATA_KEY = "extraMetadata";
+
+  // The completed write instants, like "20240101120000123.commit" or, since Hudi 1.0,
+  // "20240101120000123_20240101120001456.deltacommit". The requested and inflight instants have
+  // an extra suffix, so they are not matched.
+  private static final Pattern COMPLETED_INSTANT_PATTERN =
+      Pattern.compile("^(\\d+)(_\\d+)?\\.(commit|deltacommit|replacecommit)$");
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private HudiTimeline() {}
+
+  /**
+   * Lists the completed write instants of the table, sorted from the latest to the earliest.
+   *
+   * @param fs The file system of the table.
+   * @param basePath The location of the table.
+   * @return The completed instant files, empty if the table has no timeline or no completed
+   *     instant.
+   * @throws IOException If failed to list the timeline.
+   */
+  public static List<FileStatus> completedInstants(FileSystem fs, Path basePath)
+      throws IOException {
+    Path metaPath = new Path(basePath, METAFOLDER_NAME);
+    FileStatus[] statuses;
+    try {
+      statuses = fs.listStatus(metaPath);
+    } catch (FileNotFoundException e) {
+      // The table has not been written by Hudi yet.
+      return Collections.emptyList();
+    }
+
+    List<FileStatus> instants = Lists.newArrayList();
+    for (FileStatus status : statuses) {
+      if (status.isDirectory() && TIMELINE_FOLDER_NAME.equals(status.getPath().getName())) {
+        instants.addAll(Arrays.asList(fs.listStatus(status.getPath())));
+      } else {
+        instants.add(status);
+      }
+    }
+
+    return instants.stream()
+        .filter(s -> s.isFile() && instantTime(s) != null)
+        .sorted(Comparator.comparing(HudiTimeline::instantTime).reversed())
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Gets the instant time of the completed instant file.
+   *
+   * @param instant The instant file.
+   * @return The instant time, or null if the file is not a completed write instant.
+   */
+  public static String instantTime(FileStatus instant) {
+    Matcher matcher = COMPLETED_INSTANT_PATTERN.matcher(instant.getPath().getName());
+    return matcher.matches() ? matcher.group(1) : null;
+  }
+
+  /**
+   * Reads the columns of the table from the latest completed instant which carries the schema.
+   *
+   * @param fs The file system of the table.
+   * @param instants The completed instants, sorted from the latest to the earliest.
+   * @return The columns of the table, empty if none of the instants carries the schema.
+   * @throws IOException If failed to read the instant files.
+   */
+  public static Optional<Column[]> readColumns(FileSystem fs, List<FileStatus> instants)
+      throws IOException {
+    for (FileStatus instant : instants) {
+      Optional<String> schema = readSchema(fs, instant.getPath());
+      if (schema.isPresent()) {
+        return Optional.of(toColumns(MAPPER.readTree(schema.get())));
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static Optional<String> readSchema(FileSystem fs, Path instantPath) throws IOException {
+    if (fs.getFileStatus(instantPath).getLen() == 0) {
+      return Optional.empty();
+    }
+
+    JsonNode metadata;
+    try (InputStream in = fs.open(instantPath)) {
+      metadata = MAPPER.readTree(in);
+    } catch (JsonProcessingException e) {
+      // Hudi 1.0 writes the commit metadata in Avro, the schema is loaded from the metastore for
+      // such tables.
+      return Optional.empty();
+    }
+
+    JsonNode schema = metadata.path(EXTRA_METADATA_KEY).path(SCHEMA_KEY);
+    return schema.isTextual() && !schema.asText().isEmpty()
+        ? Optional.of(schema.asText())
+        : Optional.empty();
+  }
+
+  private static Column[] toColumns(JsonNode recordSchema) {
+    Map<String, Type> namedTypes = Maps.newHashMap();
+    return fields(recordSchema).stream()
+        .map(
+            field -> {
+              JsonNode fieldType = field.get("type");
+              return Column.of(
+                  field.get("name").asText(),
+                  toGravitinoType(fieldType, namedTypes),
+                  field.hasNonNull("doc") ? field.get("doc").asText() : null,
+                  isNullable(fieldType),
+                  false /* autoIncrement */,
+                  null /* defaultValue */);
+            })
+        .toArray(Column[]::new);
+  }
+
+  private static List<JsonNode> fields(JsonNode recordSchema) {
+    List<JsonNode> fields = Lists.newArrayList();
+    recordSchema.path("fields").forEach(fields::add);
+    return fields;
+  }
+
+  private static boolean isNullable(JsonNode avroType) {
+    if (avroType.isArray()) {
+      for (JsonNode branch : avroType) {
+        if ("null".equals(branch.asText())) {
+          return true;
+        }
+      }
+      return false;
+    }
+    return "null".equals(avroType.asText());
+  }
+
+  private static Type toGravitinoType(JsonNode avroType, Map<String, Type> namedTypes) {
+    if (avroType.isArray()) {
+      // A union, the nullable types are written as a union of "null" and the actual type.
+      List<Type> types = Lists.newArrayList();
+      for (JsonNode branch : avroType) {
+        if (!"null".equals(branch.asText())) {
+          types.add(toGravitinoType(branch, namedTypes));
+        }
+      }
+      if (types.isEmpty()) {
+        return Types.NullType.get();
+      }
+      return types.size() == 1 ? types.get(0) : Types.UnionType.of(types.toArray(new Type[0]));
+    }
+
+    if (avroType.isTextual()) {
+      return primitiveType(avroType.asText(), namedTypes);
+    }
+
+    String type = avroType.path("type").asText();
+    String logicalType = avroType.path("logicalType").asText(null);
+    Type gravitinoType;
+    switch (type) {
+      case "record":
+        gravitinoType =
+            Types.StructType.of(
+                fields(avroType).stream()
+                    .map(
+                        field ->
+                            Types.StructType.Field.of(
+                                field.get("name").asText(),
+                                toGravitinoType(field.get("type"), namedTypes),
+                                isNullable(field.get("type")),
+                                field.hasNonNull("doc") ? field.get("doc").asText() : null))
+                    .toArray(Types.StructType.Field[]::new));
+        break;
+      case "array":
+        JsonNode items = avroType.get("items");
+        return Types.ListType.of(toGravitinoType(items, namedTypes), isNullable(items));
+      case "map":
+        JsonNode values = avroType.get("values");
+        return Types.MapType.of(
+            Types.StringType.get(), toGravitinoType(values, namedTypes), isNullable(values));
+      case "enum":
+        gravitinoType = Types.StringType.get();
+        break;
+      case "fixed":
+        gravitinoType =
+            "decimal".equals(logicalType)
+                ? decimalType(avroType)
+                : Types.FixedType.of(avroType.get("size").asInt());
+        break;
+      default:
+        return logicalType == null
+            ? primitiveType(type, namedTypes)
+            : logicalType(type, logicalType, avroType, namedTypes);
+    }
+
+    // Records, enums and fixed types are named, and may be referenced by name later.
+    if (avroType.hasNonNull("name")) {
+      namedTypes.put(avroType.get("name").asText(), gravitinoType);
+    }
+    return gravitinoType;
+  }
+
+  private static Type logicalType(
+      String type, String logicalType, JsonNode avroType, Map<String, Type> namedTypes) {
+    switch (logicalType) {
+      case "decimal":
+        return decimalType(avroType);
+      case "date":
+        return Types.DateType.get();
+      case "time-millis":
+      case "time-micros":
+        return Types.TimeType.get();
+      case "timestamp-millis":
+      case "timestamp-micros":
+        return Types.TimestampType.withTimeZone();
+      case "local-timestamp-millis":
+      case "local-timestamp-micros":
+        return Types.TimestampType.withoutTimeZone();
+      case "uuid":
+        return Types.UUIDType.get();
+      default:
+        // Unknown logical types fall back to the underlying type, as the Avro spec requires.
+        return primitiveType(type, namedTypes);
+    }
+  }
+
+  private static Type decimalType(JsonNode avroType) {
+    return Types.DecimalType.of(avroType.get("precision").asInt(), avroType.path("scale").asInt(0));
+  }
+
+  private static Type primitiveType(String type, Map<String, Type> namedTypes) {
+    switch (type) {
+      case "null":
+        return Types.NullType.get();
+      case "boolean":
+        return Types.BooleanType.get();
+      case "int":
+        return Types.IntegerType.get();
+      case "long":
+        return Types.LongType.get();
+      case "float":
+        return Types.FloatType.get();
+      case "double":
+        return Types.DoubleType.get();
+      case "bytes":
+        return Types.BinaryType.get();
+      case "string":
+        return Types.StringType.get();
+      default:
+        Type namedType = namedTypes.get(type);
+        if (namedType == null) {
+          namedType = namedTypes.get(type.substring(type.lastIndexOf('.') + 1));
+        }
+        return namedType != null ? namedType : Types.ExternalType.of(type);
+    }
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.lakehouse.hudi.ops;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import org.apache.gravitino.rel.Column;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+/**
+ * Caches the columns read from the timeline of the Hudi tables, keyed by the table location and
+ * validated by the latest completed instant.
+ *
+ * <p>A cached schema is served as long as no instant has completed on the table since it was read,
+ * which costs one listing of the timeline instead of reading and parsing the commit metadata on
+ * every load. Besides the latest completed instant, the number of the completed instants is
+ * compared too, so an instant completing behind the latest one, as concurrent writers may do, also
+ * re-reads the schema.
+ */
+public class HudiTimelineCache {
+
+  private final Configuration hadoopConf;
+  private final Cache<String, CachedSchema> cache;
+
+  /**
+   * Creates a timeline cache of the Hudi catalog.
+   *
+   * @param hadoopConf The Hadoop configuration to access the table locations with.
+   * @param maxSize The maximum number of the cached tables.
+   */
+  public HudiTimelineCache(Configuration hadoopConf, long maxSize) {
+    Preconditions.checkArgument(maxSize > 0, "The timeline cache size must be positive");
+    this.hadoopConf = hadoopConf;
+    this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+  }
+
+  /**
+   * Loads the columns of the table from its timeline, the cached columns are served if the
+   * completed instants are unchanged.
+   *
+   * @param location The location of the table.
+   * @return The columns of the table, empty if the timeline has no completed instant which carries
+   *     the schema, in which case the columns should be loaded from the metastore.
+   * @throws IOException If failed to read the timeline.
+   */
+  public Optional<Column[]> loadColumns(String location) throws IOException {
+    Path basePath = new Path(location);
+    FileSystem fs = basePath.getFileSystem(hadoopConf);
+    List<FileStatus> instants = HudiTimeline.completedInstants(fs, basePath);
+    if (instants.isEmpty()) {
+      cache.invalidate(location);
+      return Optional.empty();
+    }
+
+    String latestInstant = instants.get(0).getPath().getName();
+    CachedSchema cached = cache.getIfPresent(location);
+    if (cached != null
+        && cached.latestInstant.equals(latestInstant)
+        && cached.instantCount == instants.size()) {
+      return cached.columns;
+    }
+
+    Optional<Column[]> columns = HudiTimeline.readColumns(fs, instants);
+    cache.put(location, new CachedSchema(latestInstant, instants.size(), columns));
+    return columns;
+  }
+
+  /**
+   * Invalidates the cached columns of the table.
+   *
+   * @param location The location of the table.
+   */
+  public void invalidate(String location) {
+    cache.invalidate(location);
+  }
+
+  /** Invalidates all the cached columns. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private static class CachedSchema {
+    private final String latestInstant;
+    private final int instantCount;
+    private final Optional<Column[]> columns;
+
+    private CachedSchema(String latestInstant, int instantCount, Optional<Column[]> columns) {
+      this.latestInstant = latestInstant;
+      this.instantCount = instantCount;
+      this.columns = columns;
+    }
+  }
+}
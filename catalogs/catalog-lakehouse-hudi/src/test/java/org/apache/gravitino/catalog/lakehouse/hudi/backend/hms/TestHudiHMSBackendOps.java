@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.lakehouse.hudi.backend.hms;
+
+import static org.apache.gravitino.catalog.lakehouse.hudi.ops.TestHudiTimelineCache.SCHEMA_V2;
+import static org.apache.gravitino.catalog.lakehouse.hudi.ops.TestHudiTimelineCache.commitMetadata;
+import static org.apache.gravitino.catalog.lakehouse.hudi.ops.TestHudiTimelineCache.writeInstant;
+import static org.apache.gravitino.rel.expressions.transforms.Transforms.identity;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.hive.hms.MiniHiveMetastoreService;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.expressions.transforms.Transform;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.hadoop.hive.conf.HiveConf;
+import org.apache.hadoop.hive.metastore.TableType;
+import org.apache.hadoop.hive.metastore.api.FieldSchema;
+import org.apache.hadoop.hive.metastore.api.SerDeInfo;
+import org.apache.hadoop.hive.metastore.api.StorageDescriptor;
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestHudiHMSBackendOps extends MiniHiveMetastoreService {
+
+  private static final String METALAKE_NAME = "metalake";
+  private static final String CATALOG_NAME = "catalog";
+  private static final String HUDI_TABLE_NAME = "hudi_table";
+  private static final String HIVE_TABLE_NAME = "hive_table";
+  private static final String HUDI_INPUT_FORMAT = "org.apache.hudi.hadoop.HoodieParquetInputFormat";
+
+  @TempDir private static File hudiTableLocation;
+
+  private static HudiHMSBackendOps ops;
+
+  @BeforeAll
+  public static void prepare() throws Exception {
+    ops = new HudiHMSBackendOps();
+    ops.initialize(
+        ImmutableMap.of(
+            HudiCatalogPropertiesMetadata.METASTORE_URIS,
+            hiveConf.get(HiveConf.ConfVars.METASTOREURIS.varname)));
+
+    metastoreClient.createTable(
+        newTable(HUDI_TABLE_NAME, HUDI_INPUT_FORMAT, hudiTableLocation.toURI().toString()));
+    metastoreClient.createTable(
+        newTable(
+            HIVE_TABLE_NAME,
+            "org.apache.hadoop.mapred.TextInputFormat",
+            metastore.getDatabasePath(DB_NAME) + "/" + HIVE_TABLE_NAME));
+  }
+
+  @AfterAll
+  public static void cleanup() throws Exception {
+    metastoreClient.dropTable(DB_NAME, HUDI_TABLE_NAME);
+    metastoreClient.dropTable(DB_NAME, HIVE_TABLE_NAME);
+    ops.close();
+  }
+
+  @Test
+  public void testLoadSchema() {
+    HudiHMSSchema schema = ops.loadSchema(NameIdentifier.of(METALAKE_NAME, CATALOG_NAME, DB_NAME));
+    Assertions.assertEquals(DB_NAME, schema.name());
+    Assertions.assertEquals("description", schema.comment());
+
+    Assertions.assertThrows(
+        NoSuchSchemaException.class,
+        () -> ops.loadSchema(NameIdentifier.of(METALAKE_NAME, CATALOG_NAME, "not_exist")));
+  }
+
+  @Test
+  public void testListSchemasAndTables() {
+    Namespace catalogNamespace = Namespace.of(METALAKE_NAME, CATALOG_NAME);
+    List<String> schemas =
+        Arrays.stream(ops.listSchemas(catalogNamespace))
+            .map(NameIdentifier::name)
+            .collect(Collectors.toList());
+    Assertions.assertTrue(schemas.contains(DB_NAME));
+
+    // Only the Hudi tables are listed.
+    NameIdentifier[] tables = ops.listTables(Namespace.of(METALAKE_NAME, CATALOG_NAME, DB_NAME));
+    Assertions.assertEquals(1, tables.length);
+    Assertions.assertEquals(HUDI_TABLE_NAME, tables[0].name());
+  }
+
+  @Test
+  public void testLoadTable() throws Exception {
+    Namespace schemaNamespace = Namespace.of(METALAKE_NAME, CATALOG_NAME, DB_NAME);
+
+    // Without a completed commit, the columns in HMS are used.
+    HudiHMSTable table = ops.loadTable(NameIdentifier.of(schemaNamespace, HUDI_TABLE_NAME));
+    Assertions.assertEquals(HUDI_TABLE_NAME, table.name());
+    Assertions.assertEquals("comment", table.comment());
+    Assertions.assertArrayEquals(
+        new String[] {"_hoodie_commit_time", "id", "name", "ts", "dt"}, columnNames(table));
+    Assertions.assertArrayEquals(new Transform[] {identity("dt")}, table.partitioning());
+
+    // The columns are read from the timeline once the table has a completed commit, which has
+    // evolved beyond the columns synced to HMS.
+    writeInstant(hudiTableLocation, "20240101000000000.commit", commitMetadata(SCHEMA_V2));
+    table = ops.loadTable(NameIdentifier.of(schemaNamespace, HUDI_TABLE_NAME));
+    Assertions.assertArrayEquals(
+        new String[] {"_hoodie_commit_time", "id", "name", "ts", "price", "dt"},
+        columnNames(table));
+    Column ts = table.columns()[3];
+    Assertions.assertEquals(Types.TimestampType.withTimeZone(), ts.dataType());
+    Column price = table.columns()[4];
+    Assertions.assertEquals(Types.DecimalType.of(10, 2), price.dataType());
+
+    Assertions.assertThrows(
+        NoSuchTableException.class,
+        () -> ops.loadTable(NameIdentifier.of(schemaNamespace, HIVE_TABLE_NAME)));
+    Assertions.assertThrows(
+        NoSuchTableException.class,
+        () -> ops.loadTable(NameIdentifier.of(schemaNamespace, "not_exist")));
+  }
+
+  private static String[] columnNames(HudiHMSTable table) {
+    return Arrays.stream(table.columns()).map(Column::name).toArray(String[]::new);
+  }
+
+  private static Table newTable(String name, String inputFormat, String location) {
+    List<FieldSchema> columns =
+        Lists.newArrayList(
+            new FieldSchema("_hoodie_commit_time", "string", null),
+            new FieldSchema("id", "int", null),
+            new FieldSchema("name", "string", null),
+            new FieldSchema("ts", "bigint", null));
+
+    StorageDescriptor sd = new StorageDescriptor();
+    sd.setCols(columns);
+    sd.setLocation(location);
+    sd.setInputFormat(inputFormat);
+    sd.setOutputFormat("org.apache.hadoop.hive.ql.io.HiveIgnoreKeyTextOutputFormat");
+    SerDeInfo serDeInfo = new SerDeInfo();
+    serDeInfo.setSerializationLib("org.apache.hadoop.hive.serde2.lazy.LazySimpleSerDe");
+    serDeInfo.setParameters(Maps.newHashMap());
+    sd.setSerdeInfo(serDeInfo);
+
+    Map<String, String> parameters = Maps.newHashMap();
+    parameters.put("comment", "comment");
+    parameters.put("EXTERNAL", "TRUE");
+
+    Table table = new Table();
+    table.setDbName(DB_NAME);
+    table.setTableName(name);
+    table.setTableType(TableType.EXTERNAL_TABLE.name());
+    table.setSd(sd);
+    table.setPartitionKeys(Lists.newArrayList(new FieldSchema("dt", "string", null)));
+    table.setParameters(parameters);
+    return table;
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.lakehouse.hudi.ops;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.hadoop.conf.Configuration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for {@link HudiTimelineCache}. */
+public class TestHudiTimelineCache {
+
+  public static final String SCHEMA_V1 =
+      "{\"type\":\"record\",\"name\":\"t_record\",\"namespace\":\"hoodie.t\",\"fields\":["
+          + "{\"name\":\"id\",\"type\":\"int\"},"
+          + "{\"name\":\"name\",\"type\":[\"null\",\"string\"],\"default\":null,\"doc\":\"c\"},"
+          + "{\"name\":\"ts\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-micros\"}},"
+          + "{\"name\":\"dt\",\"type\":\"string\"}]}";
+
+  public static final String SCHEMA_V2 =
+      "{\"type\":\"record\",\"name\":\"t_record\",\"namespace\":\"hoodie.t\",\"fields\":["
+          + "{\"name\":\"id\",\"type\":\"int\"},"
+          + "{\"name\":\"name\",\"type\":[\"null\",\"string\"],\"default\":null,\"doc\":\"c\"},"
+          + "{\"name\":\"ts\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-micros\"}},"
+          + "{\"name\":\"price\",\"type\":[\"null\",{\"type\":\"fixed\",\"name\":\"fixed\","
+          + "\"size\":5,\"logicalType\":\"decimal\",\"precision\":10,\"scale\":2}]},"
+          + "{\"name\":\"dt\",\"type\":\"string\"}]}";
+
+  @TempDir private File tableLocation;
+
+  @Test
+  void testLoadColumns() throws IOException {
+    HudiTimelineCache cache = new HudiTimelineCache(new Configuration(), 10);
+    String location = tableLocation.toURI().toString();
+
+    // The table has no timeline yet.
+    Assertions.assertFalse(cache.loadColumns(location).isPresent());
+
+    // The requested and inflight instants are not completed.
+    writeInstant(tableLocation, "20240101000000000.commit.requested", "");
+    writeInstant(tableLocation, "20240101000000000.inflight", "");
+    Assertions.assertFalse(cache.loadColumns(location).isPresent());
+
+    writeInstant(tableLocation, "20240101000000000.commit", commitMetadata(SCHEMA_V1));
+    Column[] columns = cache.loadColumns(location).get();
+    Assertions.assertEquals(4, columns.length);
+    Assertions.assertEquals("id", columns[0].name());
+    Assertions.assertEquals(Types.IntegerType.get(), columns[0].dataType());
+    Assertions.assertFalse(columns[0].nullable());
+    Assertions.assertEquals("name", columns[1].name());
+    Assertions.assertEquals(Types.StringType.get(), columns[1].dataType());
+    Assertions.assertTrue(columns[1].nullable());
+    Assertions.assertEquals("c", columns[1].comment());
+    Assertions.assertEquals(Types.TimestampType.withTimeZone(), columns[2].dataType());
+
+    // The commit metadata is not read again as long as no instant has completed.
+    writeInstant(tableLocation, "20240101000000000.commit", commitMetadata(SCHEMA_V2));
+    Assertions.assertArrayEquals(columns, cache.loadColumns(location).get());
+
+    writeInstant(tableLocation, "20240102000000000.deltacommit", commitMetadata(SCHEMA_V2));
+    Column[] evolvedColumns = cache.loadColumns(location).get();
+    Assertions.assertEquals(5, evolvedColumns.length);
+    Assertions.assertEquals("price", evolvedColumns[3].name());
+    Assertions.assertEquals(Types.DecimalType.of(10, 2), evolvedColumns[3].dataType());
+    Assertions.assertTrue(evolvedColumns[3].nullable());
+
+    // An instant completing behind the latest one is noticed too.
+    writeInstant(tableLocation, "20240101120000000.commit", commitMetadata(SCHEMA_V1));
+    writeInstant(tableLocation, "20240102000000000.deltacommit", commitMetadata(SCHEMA_V1));
+    Assertions.assertEquals(4, cache.loadColumns(location).get().length);
+
+    // The latest instant without a schema falls back to the older ones.
+    writeInstant(tableLocation, "20240103000000000.replacecommit", "");
+    Assertions.assertEquals(4, cache.loadColumns(location).get().length);
+  }
+
+  @Test
+  void testTimelineFolder() throws IOException {
+    HudiTimelineCache cache = new HudiTimelineCache(new Configuration(), 10);
+    String location = tableLocation.toURI().toString();
+
+    // Since Hudi 1.0, the completed instants carry the completion time and live in a sub folder.
+    File timeline = new File(new File(tableLocation, ".hoodie"), "timeline");
+    Assertions.assertTrue(timeline.mkdirs());
+    Files.write(
+        new File(timeline, "20240101000000000_20240101000001000.commit").toPath(),
+        commitMetadata(SCHEMA_V2).getBytes(StandardCharsets.UTF_8));
+    Optional<Column[]> columns = cache.loadColumns(location);
+    Assertions.assertTrue(columns.isPresent());
+    Assertions.assertEquals(5, columns.get().length);
+  }
+
+  @Test
+  void testInvalidCacheSize() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new HudiTimelineCache(new Configuration(), 0));
+  }
+
+  public static void writeInstant(File tableLocation, String instant, String content)
+      throws IOException {
+    File metaFolder = new File(tableLocation, ".hoodie");
+    if (!metaFolder.exists()) {
+      Assertions.assertTrue(metaFolder.mkdirs());
+    }
+    Files.write(new File(metaFolder, instant).toPath(), content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static String commitMetadata(String schema) {
+    return "{\"partitionToWriteStats\":{},\"compacted\":false,\"extraMetadata\":{\"schema\":"
+        + "\""
+        + schema.replace("\"", "\\\"")
+        + "\"},\"operationType\":\"UPSERT\"}";
+  }
+}
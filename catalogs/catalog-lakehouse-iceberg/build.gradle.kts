@@ -50,6 +50,7 @@ dependencies {
   implementation(libs.commons.io)
   implementation(libs.commons.lang3)
   implementation(libs.guava)
+  implementation(libs.metrics.core)
 
   annotationProcessor(libs.lombok)
 
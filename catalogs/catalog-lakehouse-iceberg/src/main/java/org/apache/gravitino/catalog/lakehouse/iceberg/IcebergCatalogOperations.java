@@ -18,6 +18,8 @@
  */
 package org.apache.gravitino.catalog.lakehouse.iceberg;
 
+import static org.apache.gravitino.catalog.lakehouse.iceberg.IcebergCatalogPropertiesMetadata.TABLE_METADATA_CACHE_MAX_BYTES;
+import static org.apache.gravitino.catalog.lakehouse.iceberg.IcebergCatalogPropertiesMetadata.TABLE_SUMMARY_PARALLELISM;
 import static org.apache.gravitino.connector.BaseCatalog.CATALOG_BYPASS_PREFIX;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -34,14 +36,18 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SchemaChange;
+import org.apache.gravitino.catalog.lakehouse.iceberg.metrics.IcebergCatalogMetricsSource;
 import org.apache.gravitino.catalog.lakehouse.iceberg.ops.IcebergCatalogWrapperHelper;
+import org.apache.gravitino.catalog.lakehouse.iceberg.ops.IcebergTableMetadataCache;
 import org.apache.gravitino.connector.CatalogInfo;
 import org.apache.gravitino.connector.CatalogOperations;
 import org.apache.gravitino.connector.HasPropertyMetadata;
 import org.apache.gravitino.connector.SupportsSchemas;
+import org.apache.gravitino.connector.TableSummaryLoader;
 import org.apache.gravitino.exceptions.ConnectionFailedException;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -53,7 +59,9 @@ import org.apache.gravitino.iceberg.common.IcebergConfig;
 import org.apache.gravitino.iceberg.common.ops.IcebergCatalogWrapper;
 import org.apache.gravitino.iceberg.common.ops.IcebergCatalogWrapper.IcebergTableChange;
 import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.SupportsTableSummaries;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.rel.TableChange;
@@ -62,6 +70,8 @@ import org.apache.gravitino.rel.expressions.sorts.SortOrder;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
 import org.apache.gravitino.rel.indexes.Index;
 import org.apache.gravitino.utils.MapUtils;
+import org.apache.iceberg.HasTableOperations;
+import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
 import org.apache.iceberg.exceptions.NamespaceNotEmptyException;
@@ -76,7 +86,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /** Operations for interacting with an Apache Iceberg catalog in Apache Gravitino. */
-public class IcebergCatalogOperations implements CatalogOperations, SupportsSchemas, TableCatalog {
+public class IcebergCatalogOperations
+    implements CatalogOperations, SupportsSchemas, TableCatalog, SupportsTableSummaries {
 
   private static final String ICEBERG_TABLE_DOES_NOT_EXIST_MSG = "Iceberg table does not exist: %s";
 
@@ -86,6 +97,13 @@ public class IcebergCatalogOperations implements CatalogOperations, SupportsSche
 
   private IcebergCatalogWrapperHelper icebergCatalogWrapperHelper;
 
+  // The cache of the loaded tables, null if the cache is disabled.
+  @VisibleForTesting IcebergTableMetadataCache tableMetadataCache;
+
+  private IcebergCatalogMetricsSource metricsSource;
+
+  private TableSummaryLoader<IcebergTableSummary> tableSummaryLoader;
+
   /**
    * Initializes the Iceberg catalog operations with the provided configuration.
    *
@@ -113,6 +131,30 @@ public class IcebergCatalogOperations implements CatalogOperations, SupportsSche
     this.icebergCatalogWrapper = new IcebergCatalogWrapper(icebergConfig);
     this.icebergCatalogWrapperHelper =
         new IcebergCatalogWrapperHelper(icebergCatalogWrapper.getCatalog());
+
+    long tableMetadataCacheMaxBytes =
+        (long)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(conf, TABLE_METADATA_CACHE_MAX_BYTES);
+    if (tableMetadataCacheMaxBytes > 0) {
+      this.metricsSource = new IcebergCatalogMetricsSource(info.namespace().level(0), info.name());
+      this.tableMetadataCache =
+          new IcebergTableMetadataCache(
+              icebergCatalogWrapper.getCatalog(), tableMetadataCacheMaxBytes, metricsSource);
+      MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+      if (metricsSystem != null) {
+        metricsSystem.register(metricsSource);
+      }
+    }
+
+    int tableSummaryParallelism =
+        (int)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(conf, TABLE_SUMMARY_PARALLELISM);
+    this.tableSummaryLoader =
+        new TableSummaryLoader<>("iceberg-table-summary-" + info.name(), tableSummaryParallelism);
   }
 
   /** Closes the Iceberg catalog and releases the associated client pool. */
@@ -125,6 +167,21 @@ public class IcebergCatalogOperations implements CatalogOperations, SupportsSche
         LOG.warn("Failed to close Iceberg catalog", e);
       }
     }
+
+    if (tableSummaryLoader != null) {
+      tableSummaryLoader.close();
+      tableSummaryLoader = null;
+    }
+
+    if (tableMetadataCache != null) {
+      tableMetadataCache.invalidateAll();
+      tableMetadataCache = null;
+    }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
   }
 
   /**
@@ -352,6 +409,25 @@ public class IcebergCatalogOperations implements CatalogOperations, SupportsSche
     }
   }
 
+  /**
+   * Lists all the tables under the specified namespace with the summary of each table. The
+   * summaries are loaded concurrently from the current metadata of the tables, served from the
+   * table metadata cache if the table is cached, the tables aren't converted and their manifests
+   * aren't read.
+   *
+   * @param namespace The namespace to list tables for.
+   * @return An array of {@link IcebergTableSummary}, the tables dropped during listing are skipped.
+   * @throws NoSuchSchemaException If the schema with the provided namespace does not exist.
+   */
+  @Override
+  public IcebergTableSummary[] listTableSummaries(Namespace namespace)
+      throws NoSuchSchemaException {
+    List<IcebergTableSummary> summaries =
+        tableSummaryLoader.load(listTables(namespace), this::loadTableSummary);
+    LOG.info("Loaded {} Iceberg table summaries under {}", summaries.size(), namespace);
+    return summaries.toArray(new IcebergTableSummary[0]);
+  }
+
   /**
    * Loads a table from the Iceberg.
    *
@@ -362,12 +438,16 @@ public class IcebergCatalogOperations implements CatalogOperations, SupportsSche
   @Override
   public Table loadTable(NameIdentifier tableIdent) throws NoSuchTableException {
     try {
-
-      LoadTableResponse tableResponse =
-          icebergCatalogWrapper.loadTable(
-              IcebergCatalogWrapperHelper.buildIcebergTableIdentifier(tableIdent));
-      IcebergTable icebergTable =
-          IcebergTable.fromIcebergTable(tableResponse.tableMetadata(), tableIdent.name());
+      TableIdentifier icebergTableIdent =
+          IcebergCatalogWrapperHelper.buildIcebergTableIdentifier(tableIdent);
+      IcebergTable icebergTable;
+      if (tableMetadataCache != null) {
+        icebergTable = tableMetadataCache.loadTable(icebergTableIdent, tableIdent.name());
+      } else {
+        LoadTableResponse tableResponse = icebergCatalogWrapper.loadTable(icebergTableIdent);
+        icebergTable =
+            IcebergTable.fromIcebergTable(tableResponse.tableMetadata(), tableIdent.name());
+      }
 
       LOG.info("Loaded Iceberg table {}", tableIdent.name());
       return icebergTable;
@@ -392,6 +472,7 @@ public class IcebergCatalogOperations implements CatalogOperations, SupportsSche
         Arrays.stream(changes)
             .filter(tableChange -> tableChange instanceof TableChange.RenameTable)
             .reduce((a, b) -> b);
+    invalidateTableMetadataCache(tableIdent);
     if (renameTableOptional.isPresent()) {
       String otherChange =
           Arrays.stream(changes)
@@ -458,6 +539,7 @@ public class IcebergCatalogOperations implements CatalogOperations, SupportsSche
    */
   @Override
   public boolean dropTable(NameIdentifier tableIdent) {
+    invalidateTableMetadataCache(tableIdent);
     try {
       icebergCatalogWrapper.dropTable(
           IcebergCatalogWrapperHelper.buildIcebergTableIdentifier(tableIdent));
@@ -550,6 +632,7 @@ public class IcebergCatalogOperations implements CatalogOperations, SupportsSche
    */
   @Override
   public boolean purgeTable(NameIdentifier tableIdent) throws UnsupportedOperationException {
+    invalidateTableMetadataCache(tableIdent);
     try {
       String schema = NameIdentifier.of(tableIdent.namespace().levels()).name();
       icebergCatalogWrapper.purgeTable(TableIdentifier.of(schema, tableIdent.name()));
@@ -587,6 +670,35 @@ public class IcebergCatalogOperations implements CatalogOperations, SupportsSche
     }
   }
 
+  private IcebergTableSummary loadTableSummary(NameIdentifier tableIdent) {
+    TableIdentifier icebergTableIdent =
+        IcebergCatalogWrapperHelper.buildIcebergTableIdentifier(tableIdent);
+    try {
+      TableMetadata metadata =
+          tableMetadataCache == null ? null : tableMetadataCache.currentMetadata(icebergTableIdent);
+      if (metadata == null) {
+        org.apache.iceberg.Table table =
+            icebergCatalogWrapper.getCatalog().loadTable(icebergTableIdent);
+        Preconditions.checkState(
+            table instanceof HasTableOperations,
+            "Iceberg table %s doesn't expose its metadata",
+            tableIdent.name());
+        metadata = ((HasTableOperations) table).operations().current();
+      }
+      return IcebergTableSummary.fromTableMetadata(tableIdent.name(), metadata);
+    } catch (org.apache.iceberg.exceptions.NoSuchTableException e) {
+      LOG.warn("Iceberg table {} was dropped while listing the table summaries", tableIdent);
+      return null;
+    }
+  }
+
+  private void invalidateTableMetadataCache(NameIdentifier tableIdent) {
+    if (tableMetadataCache != null) {
+      tableMetadataCache.invalidate(
+          IcebergCatalogWrapperHelper.buildIcebergTableIdentifier(tableIdent));
+    }
+  }
+
   // TODO. We should figure out a better way to get the current user from servlet container.
   private static String currentUser() {
     return System.getProperty("user.name");
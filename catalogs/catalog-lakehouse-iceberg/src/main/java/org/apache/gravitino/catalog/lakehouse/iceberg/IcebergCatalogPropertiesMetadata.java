@@ -44,6 +44,18 @@ public class IcebergCatalogPropertiesMetadata extends BaseCatalogPropertiesMetad
   public static final String URI = IcebergConstants.URI;
   public static final String CATALOG_BACKEND_NAME = IcebergConstants.CATALOG_BACKEND_NAME;
 
+  // The maximum total size in bytes of the metadata files of the tables cached by the catalog, the
+  // cache is disabled if the value is 0.
+  public static final String TABLE_METADATA_CACHE_MAX_BYTES = "table-metadata-cache.max-bytes";
+
+  public static final long DEFAULT_TABLE_METADATA_CACHE_MAX_BYTES = 0L;
+
+  // The maximum number of tables whose summaries are loaded concurrently when listing the tables
+  // with summaries, the summaries are loaded one by one if the value is 1.
+  public static final String TABLE_SUMMARY_PARALLELISM = "table-summary.parallelism";
+
+  public static final int DEFAULT_TABLE_SUMMARY_PARALLELISM = 8;
+
   private static final Map<String, PropertyEntry<?>> PROPERTIES_METADATA;
 
   public static final Map<String, String> KERBEROS_CONFIGURATION_FOR_HIVE_BACKEND =
@@ -108,7 +120,24 @@ public class IcebergCatalogPropertiesMetadata extends BaseCatalogPropertiesMetad
                 "OSS access key secret",
                 false /* immutable */,
                 null /* defaultValue */,
-                true /* hidden */));
+                true /* hidden */),
+            PropertyEntry.longPropertyEntry(
+                TABLE_METADATA_CACHE_MAX_BYTES,
+                "The maximum total size in bytes of the metadata files of the cached tables, 0 "
+                    + "means disabled",
+                false /* required */,
+                false /* immutable */,
+                DEFAULT_TABLE_METADATA_CACHE_MAX_BYTES,
+                false /* hidden */,
+                false /* reserved */),
+            PropertyEntry.integerPropertyEntry(
+                TABLE_SUMMARY_PARALLELISM,
+                "The maximum number of tables whose summaries are loaded concurrently",
+                false /* required */,
+                false /* immutable */,
+                DEFAULT_TABLE_SUMMARY_PARALLELISM,
+                false /* hidden */,
+                false /* reserved */));
     HashMap<String, PropertyEntry<?>> result = Maps.newHashMap();
     result.putAll(Maps.uniqueIndex(propertyEntries, PropertyEntry::getName));
     result.putAll(KerberosConfig.KERBEROS_PROPERTY_ENTRIES);
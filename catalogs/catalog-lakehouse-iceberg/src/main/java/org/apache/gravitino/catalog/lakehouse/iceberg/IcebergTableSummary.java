@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.lakehouse.iceberg;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import org.apache.gravitino.rel.TableSummary;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.TableMetadata;
+
+/**
+ * A summary of an Iceberg table, built from the current metadata of the table without converting
+ * the table or reading its manifests.
+ */
+public class IcebergTableSummary implements TableSummary {
+
+  private final String name;
+  private final int formatVersion;
+  private final String location;
+  private final String metadataLocation;
+  private final long lastUpdatedMillis;
+  private final Long currentSnapshotId;
+
+  private IcebergTableSummary(
+      String name,
+      int formatVersion,
+      String location,
+      String metadataLocation,
+      long lastUpdatedMillis,
+      Long currentSnapshotId) {
+    this.name = name;
+    this.formatVersion = formatVersion;
+    this.location = location;
+    this.metadataLocation = metadataLocation;
+    this.lastUpdatedMillis = lastUpdatedMillis;
+    this.currentSnapshotId = currentSnapshotId;
+  }
+
+  /**
+   * Creates the summary of a table from its current metadata.
+   *
+   * @param name The name of the table.
+   * @param metadata The current metadata of the table.
+   * @return The summary of the table.
+   */
+  public static IcebergTableSummary fromTableMetadata(String name, TableMetadata metadata) {
+    Snapshot currentSnapshot = metadata.currentSnapshot();
+    return new IcebergTableSummary(
+        name,
+        metadata.formatVersion(),
+        metadata.location(),
+        metadata.metadataFileLocation(),
+        metadata.lastUpdatedMillis(),
+        currentSnapshot == null ? null : currentSnapshot.snapshotId());
+  }
+
+  /** @return The name of the table. */
+  @Override
+  public String name() {
+    return name;
+  }
+
+  /**
+   * @return The summary of the table with the keys {@code format-version}, {@code location},
+   *     {@code metadata-location}, {@code last-updated-ms} and {@code current-snapshot-id}, the
+   *     snapshot id is absent if the table has no snapshot.
+   */
+  @Override
+  public Map<String, String> summary() {
+    ImmutableMap.Builder<String, String> builder =
+        ImmutableMap.<String, String>builder()
+            .put("format-version", String.valueOf(formatVersion))
+            .put("location", location)
+            .put("last-updated-ms", String.valueOf(lastUpdatedMillis));
+    if (metadataLocation != null) {
+      builder.put("metadata-location", metadataLocation);
+    }
+    if (currentSnapshotId != null) {
+      builder.put("current-snapshot-id", String.valueOf(currentSnapshotId));
+    }
+    return builder.build();
+  }
+
+  /** @return The format version of the table. */
+  public int formatVersion() {
+    return formatVersion;
+  }
+
+  /** @return The base location of the table. */
+  public String location() {
+    return location;
+  }
+
+  /** @return The location of the current metadata file of the table. */
+  public String metadataLocation() {
+    return metadataLocation;
+  }
+
+  /** @return The time in milliseconds when the table was last updated. */
+  public long lastUpdatedMillis() {
+    return lastUpdatedMillis;
+  }
+
+  /** @return The id of the current snapshot, null if the table has no snapshot. */
+  public Long currentSnapshotId() {
+    return currentSnapshotId;
+  }
+}
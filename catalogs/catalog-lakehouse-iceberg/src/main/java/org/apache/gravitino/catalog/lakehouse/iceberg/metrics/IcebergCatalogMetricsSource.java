@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.lakehouse.iceberg.metrics;
+
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * IcebergCatalogMetricsSource collects the table metadata cache metrics of an Iceberg catalog, the
+ * metrics source name is "lakehouse-iceberg-catalog.{metalake}.{catalog}".
+ */
+public class IcebergCatalogMetricsSource extends MetricsSource {
+
+  public static final String ICEBERG_CATALOG_METRIC_NAME = "lakehouse-iceberg-catalog";
+
+  public static final String TABLE_METADATA_CACHE_HITS = "table-metadata-cache.hits";
+  public static final String TABLE_METADATA_CACHE_MISSES = "table-metadata-cache.misses";
+  public static final String TABLE_METADATA_CACHE_ENTRIES = "table-metadata-cache.entries";
+  public static final String TABLE_METADATA_CACHE_BYTES = "table-metadata-cache.bytes";
+
+  /**
+   * Creates the metrics source of an Iceberg catalog.
+   *
+   * @param metalake The metalake of the catalog.
+   * @param catalog The name of the catalog.
+   */
+  public IcebergCatalogMetricsSource(String metalake, String catalog) {
+    super(String.join(".", ICEBERG_CATALOG_METRIC_NAME, metalake, catalog));
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.lakehouse.iceberg.ops;
+
+import static org.apache.gravitino.catalog.lakehouse.iceberg.metrics.IcebergCatalogMetricsSource.TABLE_METADATA_CACHE_BYTES;
+import static org.apache.gravitino.catalog.lakehouse.iceberg.metrics.IcebergCatalogMetricsSource.TABLE_METADATA_CACHE_ENTRIES;
+import static org.apache.gravitino.catalog.lakehouse.iceberg.metrics.IcebergCatalogMetricsSource.TABLE_METADATA_CACHE_HITS;
+import static org.apache.gravitino.catalog.lakehouse.iceberg.metrics.IcebergCatalogMetricsSource.TABLE_METADATA_CACHE_MISSES;
+
+import com.codahale.metrics.Counter;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergTable;
+import org.apache.gravitino.catalog.lakehouse.iceberg.metrics.IcebergCatalogMetricsSource;
+import org.apache.iceberg.BaseMetadataTable;
+import org.apache.iceberg.BaseTable;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.catalog.Catalog;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.NoSuchTableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the loaded Iceberg tables and their converted {@link IcebergTable}, keyed by the table
+ * identifier and validated by the metadata location.
+ *
+ * <p>A cached table is refreshed on every load, which only reads the pointer to the current
+ * metadata file from the catalog backend, the metadata file is read and parsed again only if the
+ * pointer changed, and the table is converted again only if the metadata location changed. So the
+ * cache never serves a stale table, and a table whose pointer hasn't changed is served without
+ * reading the metadata file.
+ *
+ * <p>The cache is bounded by the total size of the metadata files of the cached tables.
+ */
+public class IcebergTableMetadataCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IcebergTableMetadataCache.class);
+
+  private final Catalog catalog;
+  private final Cache<TableIdentifier, CachedTable> cache;
+  private final AtomicLong totalBytes = new AtomicLong(0);
+  private final Counter hits;
+  private final Counter misses;
+
+  /**
+   * Creates a table metadata cache of the Iceberg catalog.
+   *
+   * @param catalog The Iceberg catalog to load the tables from.
+   * @param maxBytes The maximum total size of the metadata files of the cached tables.
+   * @param metricsSource The metrics source to record the cache metrics to.
+   */
+  public IcebergTableMetadataCache(
+      Catalog catalog, long maxBytes, IcebergCatalogMetricsSource metricsSource) {
+    Preconditions.checkArgument(maxBytes > 0, "The table metadata cache size must be positive");
+    this.catalog = catalog;
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxBytes)
+            .<TableIdentifier, CachedTable>weigher((ident, cachedTable) -> cachedTable.weight)
+            .removalListener(
+                notification -> totalBytes.addAndGet(-notification.getValue().weight))
+            .build();
+    this.hits = metricsSource.getCounter(TABLE_METADATA_CACHE_HITS);
+    this.misses = metricsSource.getCounter(TABLE_METADATA_CACHE_MISSES);
+    metricsSource.registerGauge(TABLE_METADATA_CACHE_ENTRIES, cache::size);
+    metricsSource.registerGauge(TABLE_METADATA_CACHE_BYTES, totalBytes::get);
+  }
+
+  /**
+   * Loads the table, the cached table is served if its metadata location is still the current one.
+   *
+   * @param ident The identifier of the Iceberg table.
+   * @param tableName The name of the table in Gravitino.
+   * @return The converted table.
+   * @throws NoSuchTableException If the table doesn't exist.
+   */
+  public IcebergTable loadTable(TableIdentifier ident, String tableName) {
+    CachedTable cached = cache.getIfPresent(ident);
+    Table table;
+    if (cached != null) {
+      try {
+        // Only reads the pointer, the metadata file is read again only if the pointer changed.
+        cached.table.refresh();
+      } catch (NoSuchTableException e) {
+        invalidate(ident);
+        throw e;
+      }
+
+      TableMetadata current = cached.table.operations().current();
+      if (cached.metadataLocation.equals(current.metadataFileLocation())) {
+        hits.inc();
+        return cached.icebergTable;
+      }
+      table = cached.table;
+    } else {
+      table = catalog.loadTable(ident);
+    }
+
+    misses.inc();
+    if (!(table instanceof BaseTable)) {
+      // Same as the REST catalog handlers, the metadata tables are loaded on the client side.
+      if (table instanceof BaseMetadataTable) {
+        throw new NoSuchTableException("Table does not exist: %s", ident);
+      }
+      throw new IllegalStateException("Cannot wrap catalog that does not produce BaseTable");
+    }
+
+    BaseTable baseTable = (BaseTable) table;
+    TableMetadata metadata = baseTable.operations().current();
+    IcebergTable icebergTable = IcebergTable.fromIcebergTable(metadata, tableName);
+    if (metadata.metadataFileLocation() != null) {
+      CachedTable newCached =
+          new CachedTable(baseTable, metadata.metadataFileLocation(), icebergTable, weigh(table));
+      totalBytes.addAndGet(newCached.weight);
+      cache.put(ident, newCached);
+    }
+    return icebergTable;
+  }
+
+  /**
+   * Gets the current metadata of the cached table, the table is refreshed but not converted.
+   *
+   * @param ident The identifier of the Iceberg table.
+   * @return The current metadata of the table, or null if the table isn't cached.
+   * @throws NoSuchTableException If the cached table doesn't exist anymore.
+   */
+  public TableMetadata currentMetadata(TableIdentifier ident) {
+    CachedTable cached = cache.getIfPresent(ident);
+    if (cached == null) {
+      return null;
+    }
+
+    try {
+      cached.table.refresh();
+    } catch (NoSuchTableException e) {
+      invalidate(ident);
+      throw e;
+    }
+    return cached.table.operations().current();
+  }
+
+  /**
+   * Invalidates the cached table, the tables changed through this catalog are invalidated so the
+   * next load doesn't need to compare the metadata location.
+   *
+   * @param ident The identifier of the Iceberg table.
+   */
+  public void invalidate(TableIdentifier ident) {
+    cache.invalidate(ident);
+  }
+
+  /** Invalidates all the cached tables. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  @VisibleForTesting
+  long size() {
+    cache.cleanUp();
+    return cache.size();
+  }
+
+  private static int weigh(Table table) {
+    String location = ((BaseTable) table).operations().current().metadataFileLocation();
+    try {
+      long length = table.io().newInputFile(location).getLength();
+      return (int) Math.min(Math.max(length, 1L), Integer.MAX_VALUE);
+    } catch (RuntimeException e) {
+      // Weigh the table as the largest one, so it's evicted first rather than failing the load.
+      LOG.warn("Failed to get the length of the metadata file {}", location, e);
+      return Integer.MAX_VALUE;
+    }
+  }
+
+  private static class CachedTable {
+    private final BaseTable table;
+    private final String metadataLocation;
+    private final IcebergTable icebergTable;
+    private final int weight;
+
+    private CachedTable(
+        BaseTable table, String metadataLocation, IcebergTable icebergTable, int weight) {
+      this.table = table;
+      this.metadataLocation = metadataLocation;
+      this.icebergTable = icebergTable;
+      this.weight = weight;
+    }
+  }
+}
@@ -355,6 +355,53 @@ public class TestIcebergTable {
     Assertions.assertFalse(icebergCatalogOperations.tableExists(tableIdentifier));
   }
 
+  @Test
+  public void testListTableSummaries() {
+    Namespace tableNs =
+        Namespace.of(ArrayUtils.add(schemaIdent.namespace().levels(), schemaIdent.name()));
+    Column[] columns =
+        new Column[] {
+          IcebergColumn.builder()
+              .withName("col_1")
+              .withType(Types.IntegerType.get())
+              .withComment(ICEBERG_COMMENT)
+              .build()
+        };
+    List<String> tableNames = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      NameIdentifier tableIdentifier = NameIdentifier.of(tableNs, genRandomName());
+      icebergCatalogOperations.createTable(
+          tableIdentifier,
+          columns,
+          ICEBERG_COMMENT,
+          Maps.newHashMap(),
+          new Transform[0],
+          Distributions.NONE,
+          new SortOrder[0]);
+      tableNames.add(tableIdentifier.name());
+    }
+
+    IcebergTableSummary[] summaries = icebergCatalogOperations.listTableSummaries(tableNs);
+    Assertions.assertEquals(tableNames.size(), summaries.length);
+    for (IcebergTableSummary summary : summaries) {
+      Assertions.assertTrue(tableNames.contains(summary.name()));
+      Assertions.assertTrue(summary.formatVersion() > 0);
+      Assertions.assertTrue(summary.location().contains(summary.name()));
+      Assertions.assertNotNull(summary.metadataLocation());
+      Assertions.assertTrue(summary.lastUpdatedMillis() > 0);
+      Assertions.assertNull(summary.currentSnapshotId());
+      Assertions.assertEquals(summary.location(), summary.summary().get("location"));
+      Assertions.assertEquals(
+          summary.metadataLocation(), summary.summary().get("metadata-location"));
+      Assertions.assertFalse(summary.summary().containsKey("current-snapshot-id"));
+    }
+
+    Namespace notExistNs = Namespace.of("metalake", icebergCatalog.name(), "not_exist_db");
+    Assertions.assertThrows(
+        NoSuchSchemaException.class,
+        () -> icebergCatalogOperations.listTableSummaries(notExistNs));
+  }
+
   @Test
   public void testListTableException() {
     Namespace tableNs = Namespace.of("metalake", icebergCatalog.name(), "not_exist_db");
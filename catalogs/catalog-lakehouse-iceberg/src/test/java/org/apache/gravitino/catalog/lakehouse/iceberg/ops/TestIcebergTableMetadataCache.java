@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.lakehouse.iceberg.ops;
+
+import static org.apache.gravitino.catalog.lakehouse.iceberg.metrics.IcebergCatalogMetricsSource.TABLE_METADATA_CACHE_HITS;
+import static org.apache.gravitino.catalog.lakehouse.iceberg.metrics.IcebergCatalogMetricsSource.TABLE_METADATA_CACHE_MISSES;
+
+import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergTable;
+import org.apache.gravitino.catalog.lakehouse.iceberg.metrics.IcebergCatalogMetricsSource;
+import org.apache.gravitino.iceberg.common.ops.IcebergCatalogWrapper;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.catalog.Catalog;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.NoSuchTableException;
+import org.apache.iceberg.rest.requests.CreateNamespaceRequest;
+import org.apache.iceberg.types.Types.NestedField;
+import org.apache.iceberg.types.Types.StringType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestIcebergTableMetadataCache {
+  private static final String TEST_NAMESPACE_NAME = "gravitino_test_cache_namespace";
+  private static final String TEST_TABLE_NAME = "gravitino_test_cache_table";
+  private static final TableIdentifier icebergIdentifier =
+      TableIdentifier.of(TEST_NAMESPACE_NAME, TEST_TABLE_NAME);
+  private static final Schema tableSchema =
+      new Schema(NestedField.of(1, false, "foo_string", StringType.get()));
+
+  private IcebergCatalogWrapper icebergCatalogWrapper;
+  private Catalog catalog;
+  private IcebergCatalogMetricsSource metricsSource;
+
+  @BeforeEach
+  public void init() {
+    icebergCatalogWrapper = new IcebergCatalogWrapper();
+    icebergCatalogWrapper.createNamespace(
+        CreateNamespaceRequest.builder().withNamespace(Namespace.of(TEST_NAMESPACE_NAME)).build());
+    catalog = icebergCatalogWrapper.getCatalog();
+    catalog.createTable(icebergIdentifier, tableSchema);
+    metricsSource = new IcebergCatalogMetricsSource("metalake", "catalog");
+  }
+
+  @AfterEach
+  public void cleanUp() throws Exception {
+    icebergCatalogWrapper.close();
+  }
+
+  @Test
+  public void testLoadTable() {
+    IcebergTableMetadataCache cache =
+        new IcebergTableMetadataCache(catalog, 1024 * 1024, metricsSource);
+
+    IcebergTable table = cache.loadTable(icebergIdentifier, TEST_TABLE_NAME);
+    Assertions.assertEquals(TEST_TABLE_NAME, table.name());
+    Assertions.assertEquals(1, cache.size());
+    Assertions.assertSame(table, cache.loadTable(icebergIdentifier, TEST_TABLE_NAME));
+    Assertions.assertEquals(1, metricsSource.getCounter(TABLE_METADATA_CACHE_HITS).getCount());
+    Assertions.assertEquals(1, metricsSource.getCounter(TABLE_METADATA_CACHE_MISSES).getCount());
+
+    // The table changed outside of the cache is loaded again.
+    catalog.loadTable(icebergIdentifier).updateProperties().set("key", "value").commit();
+    IcebergTable changedTable = cache.loadTable(icebergIdentifier, TEST_TABLE_NAME);
+    Assertions.assertNotSame(table, changedTable);
+    Assertions.assertEquals("value", changedTable.properties().get("key"));
+    Assertions.assertEquals(2, metricsSource.getCounter(TABLE_METADATA_CACHE_MISSES).getCount());
+
+    cache.invalidate(icebergIdentifier);
+    Assertions.assertEquals(0, cache.size());
+
+    cache.loadTable(icebergIdentifier, TEST_TABLE_NAME);
+    catalog.dropTable(icebergIdentifier);
+    Assertions.assertThrows(
+        NoSuchTableException.class, () -> cache.loadTable(icebergIdentifier, TEST_TABLE_NAME));
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testCacheBoundedByMetadataSize() {
+    IcebergTableMetadataCache cache = new IcebergTableMetadataCache(catalog, 1, metricsSource);
+
+    cache.loadTable(icebergIdentifier, TEST_TABLE_NAME);
+    Assertions.assertEquals(0, cache.size());
+    cache.loadTable(icebergIdentifier, TEST_TABLE_NAME);
+    Assertions.assertEquals(2, metricsSource.getCounter(TABLE_METADATA_CACHE_MISSES).getCount());
+  }
+}
@@ -19,6 +19,8 @@
 package org.apache.gravitino.catalog.lakehouse.paimon;
 
 import static org.apache.gravitino.catalog.lakehouse.paimon.GravitinoPaimonTable.fromPaimonTable;
+import static org.apache.gravitino.catalog.lakehouse.paimon.PaimonCatalogPropertiesMetadata.TABLE_CACHE_MAX_SIZE;
+import static org.apache.gravitino.catalog.lakehouse.paimon.PaimonCatalogPropertiesMetadata.TABLE_SUMMARY_PARALLELISM;
 import static org.apache.gravitino.catalog.lakehouse.paimon.PaimonSchema.fromPaimonProperties;
 import static org.apache.gravitino.connector.BaseCatalog.CATALOG_BYPASS_PREFIX;
 import static org.apache.gravitino.rel.expressions.transforms.Transforms.EMPTY_TRANSFORM;
@@ -39,11 +41,13 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.catalog.lakehouse.paimon.ops.PaimonCatalogOps;
+import org.apache.gravitino.catalog.lakehouse.paimon.ops.PaimonTableCache;
 import org.apache.gravitino.catalog.lakehouse.paimon.utils.TableOpsUtils;
 import org.apache.gravitino.connector.CatalogInfo;
 import org.apache.gravitino.connector.CatalogOperations;
 import org.apache.gravitino.connector.HasPropertyMetadata;
 import org.apache.gravitino.connector.SupportsSchemas;
+import org.apache.gravitino.connector.TableSummaryLoader;
 import org.apache.gravitino.exceptions.ConnectionFailedException;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchColumnException;
@@ -54,6 +58,7 @@ import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.SupportsTableSummaries;
 import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.TableChange.RenameTable;
@@ -75,12 +80,18 @@ import org.slf4j.LoggerFactory;
  * Implementation of {@link CatalogOperations} that represents operations for interacting with the
  * Apache Paimon catalog in Apache Gravitino.
  */
-public class PaimonCatalogOperations implements CatalogOperations, SupportsSchemas, TableCatalog {
+public class PaimonCatalogOperations
+    implements CatalogOperations, SupportsSchemas, TableCatalog, SupportsTableSummaries {
 
   public static final Logger LOG = LoggerFactory.getLogger(PaimonCatalogOperations.class);
 
   @VisibleForTesting public PaimonCatalogOps paimonCatalogOps;
 
+  // The cache of the loaded tables, null if the cache is disabled.
+  @VisibleForTesting PaimonTableCache tableCache;
+
+  private TableSummaryLoader<PaimonTableSummary> tableSummaryLoader;
+
   private static final String NO_SUCH_SCHEMA_EXCEPTION =
       "Paimon schema (database) %s does not exist.";
   private static final String NON_EMPTY_SCHEMA_EXCEPTION =
@@ -115,6 +126,23 @@ public class PaimonCatalogOperations implements CatalogOperations, SupportsSchem
     resultConf.putAll(gravitinoConfig);
 
     this.paimonCatalogOps = new PaimonCatalogOps(new PaimonConfig(resultConf));
+
+    long tableCacheMaxSize =
+        (long)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(conf, TABLE_CACHE_MAX_SIZE);
+    if (tableCacheMaxSize > 0) {
+      this.tableCache = new PaimonTableCache(paimonCatalogOps, tableCacheMaxSize);
+    }
+
+    int tableSummaryParallelism =
+        (int)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(conf, TABLE_SUMMARY_PARALLELISM);
+    this.tableSummaryLoader =
+        new TableSummaryLoader<>("paimon-table-summary-" + info.name(), tableSummaryParallelism);
   }
 
   /**
@@ -281,6 +309,24 @@ public class PaimonCatalogOperations implements CatalogOperations, SupportsSchem
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * Lists all the tables under the specified namespace with the summary of each table. The
+   * summaries are loaded concurrently from the latest schema and snapshot of the tables, the tables
+   * aren't converted and their manifests aren't read.
+   *
+   * @param namespace The namespace to list tables for.
+   * @return An array of {@link PaimonTableSummary}, the tables dropped during listing are skipped.
+   * @throws NoSuchSchemaException If the schema with the provided namespace does not exist.
+   */
+  @Override
+  public PaimonTableSummary[] listTableSummaries(Namespace namespace)
+      throws NoSuchSchemaException {
+    List<PaimonTableSummary> summaries =
+        tableSummaryLoader.load(listTables(namespace), this::loadTableSummary);
+    LOG.info("Loaded {} Paimon table summaries under {}.", summaries.size(), namespace);
+    return summaries.toArray(new PaimonTableSummary[0]);
+  }
+
   /**
    * Loads the table with the provided identifier.
    *
@@ -290,15 +336,18 @@ public class PaimonCatalogOperations implements CatalogOperations, SupportsSchem
    */
   @Override
   public GravitinoPaimonTable loadTable(NameIdentifier identifier) throws NoSuchTableException {
-    Table table;
+    GravitinoPaimonTable table;
     try {
       NameIdentifier tableIdentifier = buildPaimonNameIdentifier(identifier);
-      table = paimonCatalogOps.loadTable(tableIdentifier.toString());
+      table =
+          tableCache != null
+              ? tableCache.loadTable(tableIdentifier.toString())
+              : fromPaimonTable(paimonCatalogOps.loadTable(tableIdentifier.toString()));
     } catch (Catalog.TableNotExistException e) {
       throw new NoSuchTableException(e, NO_SUCH_TABLE_EXCEPTION, identifier);
     }
     LOG.info("Loaded Paimon table {}.", identifier);
-    return fromPaimonTable(table);
+    return table;
   }
 
   /**
@@ -381,6 +430,7 @@ public class PaimonCatalogOperations implements CatalogOperations, SupportsSchem
             .build();
     try {
       Schema paimonTableSchema = createdTable.toPaimonTableSchema();
+      invalidateTableCache(identifier);
       paimonCatalogOps.createTable(nameIdentifier.toString(), paimonTableSchema);
     } catch (Catalog.DatabaseNotExistException e) {
       throw new NoSuchSchemaException(e, NO_SUCH_SCHEMA_EXCEPTION, identifier);
@@ -413,6 +463,7 @@ public class PaimonCatalogOperations implements CatalogOperations, SupportsSchem
         Arrays.stream(changes)
             .filter(tableChange -> tableChange instanceof RenameTable)
             .reduce((a, b) -> b);
+    invalidateTableCache(identifier);
     if (renameTableOpt.isPresent()) {
       String otherChanges =
           Arrays.stream(changes)
@@ -451,6 +502,7 @@ public class PaimonCatalogOperations implements CatalogOperations, SupportsSchem
    */
   @Override
   public boolean purgeTable(NameIdentifier identifier) throws UnsupportedOperationException {
+    invalidateTableCache(identifier);
     try {
       NameIdentifier tableIdentifier = buildPaimonNameIdentifier(identifier);
       paimonCatalogOps.purgeTable(tableIdentifier.toString());
@@ -464,6 +516,16 @@ public class PaimonCatalogOperations implements CatalogOperations, SupportsSchem
 
   @Override
   public void close() {
+    if (tableSummaryLoader != null) {
+      tableSummaryLoader.close();
+      tableSummaryLoader = null;
+    }
+
+    if (tableCache != null) {
+      tableCache.invalidateAll();
+      tableCache = null;
+    }
+
     if (paimonCatalogOps != null) {
       try {
         paimonCatalogOps.close();
@@ -477,6 +539,26 @@ public class PaimonCatalogOperations implements CatalogOperations, SupportsSchem
     return PrincipalUtils.getCurrentUserName();
   }
 
+  private PaimonTableSummary loadTableSummary(NameIdentifier identifier) {
+    try {
+      NameIdentifier tableIdentifier = buildPaimonNameIdentifier(identifier);
+      Table table =
+          tableCache != null
+              ? tableCache.loadPaimonTable(tableIdentifier.toString())
+              : paimonCatalogOps.loadTable(tableIdentifier.toString());
+      return PaimonTableSummary.fromPaimonTable(identifier.name(), table);
+    } catch (Catalog.TableNotExistException e) {
+      LOG.warn("Paimon table {} was dropped while listing the table summaries.", identifier);
+      return null;
+    }
+  }
+
+  private void invalidateTableCache(NameIdentifier identifier) {
+    if (tableCache != null) {
+      tableCache.invalidate(buildPaimonNameIdentifier(identifier).toString());
+    }
+  }
+
   private NameIdentifier buildPaimonNameIdentifier(NameIdentifier identifier) {
     Preconditions.checkArgument(
         identifier != null
@@ -513,6 +595,7 @@ public class PaimonCatalogOperations implements CatalogOperations, SupportsSchem
         NameIdentifier.of(identifier.namespace(), renameTable.getNewName());
     NameIdentifier oldIdentifier = buildPaimonNameIdentifier(identifier);
     NameIdentifier newIdentifier = buildPaimonNameIdentifier(newNnameIdentifier);
+    invalidateTableCache(newNnameIdentifier);
     try {
       paimonCatalogOps.renameTable(oldIdentifier.toString(), newIdentifier.toString());
     } catch (Catalog.TableNotExistException e) {
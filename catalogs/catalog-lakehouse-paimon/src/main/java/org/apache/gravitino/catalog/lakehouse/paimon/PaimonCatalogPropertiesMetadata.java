@@ -45,6 +45,18 @@ public class PaimonCatalogPropertiesMetadata extends BaseCatalogPropertiesMetada
   public static final String WAREHOUSE = "warehouse";
   public static final String URI = "uri";
 
+  // The maximum number of tables whose summaries are loaded concurrently when listing the tables
+  // with summaries, the summaries are loaded one by one if the value is 1.
+  public static final String TABLE_SUMMARY_PARALLELISM = "table-summary.parallelism";
+
+  public static final int DEFAULT_TABLE_SUMMARY_PARALLELISM = 8;
+
+  // The maximum number of the loaded tables the catalog caches, the cache is disabled if the value
+  // is 0.
+  public static final String TABLE_CACHE_MAX_SIZE = "table-cache.max-size";
+
+  public static final long DEFAULT_TABLE_CACHE_MAX_SIZE = 0L;
+
   public static final Map<String, String> GRAVITINO_CONFIG_TO_PAIMON =
       ImmutableMap.of(GRAVITINO_CATALOG_BACKEND, PAIMON_METASTORE, WAREHOUSE, WAREHOUSE, URI, URI);
   private static final Map<String, PropertyEntry<?>> PROPERTIES_METADATA;
@@ -83,7 +95,23 @@ public class PaimonCatalogPropertiesMetadata extends BaseCatalogPropertiesMetada
                 "Paimon catalog uri config",
                 false /* immutable */,
                 null /* defaultValue */,
-                false /* hidden */));
+                false /* hidden */),
+            PropertyEntry.integerPropertyEntry(
+                TABLE_SUMMARY_PARALLELISM,
+                "The maximum number of tables whose summaries are loaded concurrently",
+                false /* required */,
+                false /* immutable */,
+                DEFAULT_TABLE_SUMMARY_PARALLELISM,
+                false /* hidden */,
+                false /* reserved */),
+            PropertyEntry.longPropertyEntry(
+                TABLE_CACHE_MAX_SIZE,
+                "The maximum number of the loaded tables the catalog caches, 0 means disabled",
+                false /* required */,
+                false /* immutable */,
+                DEFAULT_TABLE_CACHE_MAX_SIZE,
+                false /* hidden */,
+                false /* reserved */));
     HashMap<String, PropertyEntry<?>> result = Maps.newHashMap();
     result.putAll(Maps.uniqueIndex(propertyEntries, PropertyEntry::getName));
     result.putAll(KerberosConfig.KERBEROS_PROPERTY_ENTRIES);
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.lakehouse.paimon;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import org.apache.gravitino.rel.TableSummary;
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.Table;
+
+/**
+ * A summary of a Paimon table, built from the latest schema and snapshot of the table without
+ * converting the table or reading its manifests.
+ */
+public class PaimonTableSummary implements TableSummary {
+
+  private final String name;
+  private final String location;
+  private final long schemaId;
+  private final Long latestSnapshotId;
+  private final Long lastUpdatedMillis;
+
+  private PaimonTableSummary(
+      String name, String location, long schemaId, Long latestSnapshotId, Long lastUpdatedMillis) {
+    this.name = name;
+    this.location = location;
+    this.schemaId = schemaId;
+    this.latestSnapshotId = latestSnapshotId;
+    this.lastUpdatedMillis = lastUpdatedMillis;
+  }
+
+  /**
+   * Creates the summary of a table from the loaded Paimon table.
+   *
+   * @param name The name of the table.
+   * @param table The loaded Paimon table.
+   * @return The summary of the table.
+   */
+  public static PaimonTableSummary fromPaimonTable(String name, Table table) {
+    Preconditions.checkState(
+        table instanceof FileStoreTable, "Paimon table %s isn't a data table", name);
+    FileStoreTable fileStoreTable = (FileStoreTable) table;
+    Snapshot latestSnapshot = fileStoreTable.snapshotManager().latestSnapshot();
+    return new PaimonTableSummary(
+        name,
+        fileStoreTable.location().toString(),
+        fileStoreTable.schema().id(),
+        latestSnapshot == null ? null : latestSnapshot.id(),
+        latestSnapshot == null ? null : latestSnapshot.timeMillis());
+  }
+
+  /** @return The name of the table. */
+  @Override
+  public String name() {
+    return name;
+  }
+
+  /**
+   * @return The summary of the table with the keys {@code location}, {@code schema-id}, {@code
+   *     latest-snapshot-id} and {@code last-updated-ms}, the snapshot facts are absent if the table
+   *     has no snapshot.
+   */
+  @Override
+  public Map<String, String> summary() {
+    ImmutableMap.Builder<String, String> builder =
+        ImmutableMap.<String, String>builder()
+            .put("location", location)
+            .put("schema-id", String.valueOf(schemaId));
+    if (latestSnapshotId != null) {
+      builder.put("latest-snapshot-id", String.valueOf(latestSnapshotId));
+      builder.put("last-updated-ms", String.valueOf(lastUpdatedMillis));
+    }
+    return builder.build();
+  }
+
+  /** @return The location of the table. */
+  public String location() {
+    return location;
+  }
+
+  /** @return The id of the latest schema of the table. */
+  public long schemaId() {
+    return schemaId;
+  }
+
+  /** @return The id of the latest snapshot, null if the table has no snapshot. */
+  public Long latestSnapshotId() {
+    return latestSnapshotId;
+  }
+
+  /** @return The time in milliseconds of the latest snapshot, null if the table has no snapshot. */
+  public Long lastUpdatedMillis() {
+    return lastUpdatedMillis;
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.lakehouse.paimon.ops;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import org.apache.gravitino.catalog.lakehouse.paimon.GravitinoPaimonTable;
+import org.apache.paimon.catalog.Catalog.TableNotExistException;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.FileStatus;
+import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the loaded Paimon tables and their converted {@link GravitinoPaimonTable}, keyed by the
+ * table identifier and validated by the latest schema file.
+ *
+ * <p>A cached table is served if its schema file still has the length and the modification time
+ * seen when the table was loaded, and no newer schema file exists, which costs a status and an
+ * existence check on the warehouse instead of listing and reading the schema files. Every change
+ * of the columns, the options or the comment of a Paimon table writes a new schema file, and a
+ * table dropped and recreated at the same location rewrites its schema file, which changes its
+ * modification time. The check relies on the modification time of the file system, so a table
+ * recreated with a schema file of the same length within its time granularity is not detected.
+ */
+public class PaimonTableCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PaimonTableCache.class);
+
+  private final PaimonCatalogOps paimonCatalogOps;
+  private final Cache<String, CachedTable> cache;
+
+  /**
+   * Creates a table cache of the Paimon catalog.
+   *
+   * @param paimonCatalogOps The Paimon catalog operations to load the tables from.
+   * @param maxSize The maximum number of the cached tables.
+   */
+  public PaimonTableCache(PaimonCatalogOps paimonCatalogOps, long maxSize) {
+    Preconditions.checkArgument(maxSize > 0, "The table cache size must be positive");
+    this.paimonCatalogOps = paimonCatalogOps;
+    this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+  }
+
+  /**
+   * Loads the table, the cached table is served if its schema file is still the latest one.
+   *
+   * @param tableName The name of the table, in the format of "database.table".
+   * @return The converted table.
+   * @throws TableNotExistException If the table doesn't exist.
+   */
+  public GravitinoPaimonTable loadTable(String tableName) throws TableNotExistException {
+    return load(tableName).gravitinoTable.get();
+  }
+
+  /**
+   * Loads the Paimon table, the cached table is served if its schema file is still the latest one.
+   *
+   * @param tableName The name of the table, in the format of "database.table".
+   * @return The Paimon table.
+   * @throws TableNotExistException If the table doesn't exist.
+   */
+  public Table loadPaimonTable(String tableName) throws TableNotExistException {
+    return load(tableName).table;
+  }
+
+  /**
+   * Invalidates the cached table, the tables changed through this catalog are invalidated so the
+   * next load doesn't need to check the schema files.
+   *
+   * @param tableName The name of the table, in the format of "database.table".
+   */
+  public void invalidate(String tableName) {
+    cache.invalidate(tableName);
+  }
+
+  /** Invalidates all the cached tables. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  @VisibleForTesting
+  long size() {
+    cache.cleanUp();
+    return cache.size();
+  }
+
+  private CachedTable load(String tableName) throws TableNotExistException {
+    CachedTable cached = cache.getIfPresent(tableName);
+    if (cached != null) {
+      if (isLatestSchema(cached)) {
+        return cached;
+      }
+      cache.invalidate(tableName);
+    }
+
+    Table table = paimonCatalogOps.loadTable(tableName);
+    // Only the data tables have the schema files to validate the cached table with.
+    if (!(table instanceof FileStoreTable)) {
+      return new CachedTable(table, null);
+    }
+
+    FileStatus schemaFileStatus = schemaFileStatus((FileStoreTable) table);
+    CachedTable newCached = new CachedTable(table, schemaFileStatus);
+    if (schemaFileStatus != null) {
+      cache.put(tableName, newCached);
+    }
+    return newCached;
+  }
+
+  private static boolean isLatestSchema(CachedTable cached) {
+    FileStoreTable table = (FileStoreTable) cached.table;
+    FileStatus schemaFileStatus = schemaFileStatus(table);
+    if (schemaFileStatus == null
+        || schemaFileStatus.getLen() != cached.schemaFileLength
+        || schemaFileStatus.getModificationTime() != cached.schemaFileModificationTime) {
+      return false;
+    }
+
+    FileIO fileIO = table.fileIO();
+    SchemaManager schemaManager = new SchemaManager(fileIO, table.location());
+    try {
+      return !fileIO.exists(schemaManager.toSchemaPath(table.schema().id() + 1));
+    } catch (IOException e) {
+      LOG.warn("Failed to check the schema files of Paimon table {}", table.name(), e);
+      return false;
+    }
+  }
+
+  private static FileStatus schemaFileStatus(FileStoreTable table) {
+    FileIO fileIO = table.fileIO();
+    SchemaManager schemaManager = new SchemaManager(fileIO, table.location());
+    try {
+      return fileIO.getFileStatus(schemaManager.toSchemaPath(table.schema().id()));
+    } catch (FileNotFoundException e) {
+      return null;
+    } catch (IOException e) {
+      LOG.warn("Failed to check the schema files of Paimon table {}", table.name(), e);
+      return null;
+    }
+  }
+
+  private static class CachedTable {
+    private final Table table;
+    private final long schemaFileLength;
+    private final long schemaFileModificationTime;
+    private final Supplier<GravitinoPaimonTable> gravitinoTable;
+
+    private CachedTable(Table table, FileStatus schemaFileStatus) {
+      this.table = table;
+      this.schemaFileLength = schemaFileStatus == null ? -1 : schemaFileStatus.getLen();
+      this.schemaFileModificationTime =
+          schemaFileStatus == null ? -1 : schemaFileStatus.getModificationTime();
+      this.gravitinoTable = Suppliers.memoize(() -> GravitinoPaimonTable.fromPaimonTable(table));
+    }
+  }
+}
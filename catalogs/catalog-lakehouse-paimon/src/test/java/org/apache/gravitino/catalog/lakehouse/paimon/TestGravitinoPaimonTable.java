@@ -31,6 +31,7 @@ import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -362,6 +363,45 @@ public class TestGravitinoPaimonTable {
     Assertions.assertFalse(paimonCatalogOperations.tableExists(tableIdentifier));
   }
 
+  @Test
+  void testListTableSummaries() {
+    GravitinoPaimonColumn col1 =
+        fromPaimonColumn(new DataField(0, "col_1", DataTypes.INT().nullable(), PAIMON_COMMENT));
+    Column[] columns = new Column[] {col1};
+    List<String> tableNames = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      NameIdentifier tableIdentifier = NameIdentifier.of(paimonSchema.name(), genRandomName());
+      paimonCatalogOperations.createTable(
+          tableIdentifier,
+          columns,
+          PAIMON_COMMENT,
+          Maps.newHashMap(),
+          new Transform[0],
+          Distributions.NONE,
+          new SortOrder[0]);
+      tableNames.add(tableIdentifier.name());
+    }
+
+    Namespace tableNs =
+        Namespace.of(ArrayUtils.add(schemaIdent.namespace().levels(), schemaIdent.name()));
+    PaimonTableSummary[] summaries = paimonCatalogOperations.listTableSummaries(tableNs);
+    Assertions.assertEquals(tableNames.size(), summaries.length);
+    for (PaimonTableSummary summary : summaries) {
+      Assertions.assertTrue(tableNames.contains(summary.name()));
+      Assertions.assertTrue(summary.location().contains(summary.name()));
+      Assertions.assertEquals(0, summary.schemaId());
+      Assertions.assertNull(summary.latestSnapshotId());
+      Assertions.assertNull(summary.lastUpdatedMillis());
+      Assertions.assertEquals(summary.location(), summary.summary().get("location"));
+      Assertions.assertEquals("0", summary.summary().get("schema-id"));
+      Assertions.assertFalse(summary.summary().containsKey("latest-snapshot-id"));
+    }
+
+    Namespace notExistNs = Namespace.of("metalake", paimonCatalog.name(), "not_exist_db");
+    Assertions.assertThrows(
+        NoSuchSchemaException.class, () -> paimonCatalogOperations.listTableSummaries(notExistNs));
+  }
+
   @Test
   void testListTableException() {
     Namespace tableNs = Namespace.of("metalake", paimonCatalog.name(), "not_exist_db");
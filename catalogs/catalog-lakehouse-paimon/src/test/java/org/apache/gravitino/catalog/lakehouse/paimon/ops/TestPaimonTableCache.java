@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.lakehouse.paimon.ops;
+
+import static org.apache.gravitino.rel.TableChange.setProperty;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import java.io.File;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.catalog.lakehouse.paimon.GravitinoPaimonTable;
+import org.apache.gravitino.catalog.lakehouse.paimon.PaimonCatalogPropertiesMetadata;
+import org.apache.gravitino.catalog.lakehouse.paimon.PaimonConfig;
+import org.apache.paimon.catalog.Catalog.TableNotExistException;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.types.DataTypes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for {@link PaimonTableCache}. */
+public class TestPaimonTableCache {
+
+  private PaimonCatalogOps paimonCatalogOps;
+  @TempDir private File warehouse;
+
+  private static final String DATABASE = "test_table_cache_database";
+  private static final String TABLE = "test_table_cache_table";
+  private static final NameIdentifier IDENTIFIER = NameIdentifier.of(Namespace.of(DATABASE), TABLE);
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    paimonCatalogOps =
+        new PaimonCatalogOps(
+            new PaimonConfig(
+                ImmutableMap.of(PaimonCatalogPropertiesMetadata.WAREHOUSE, warehouse.getPath())));
+    paimonCatalogOps.createDatabase(DATABASE, Maps.newHashMap());
+    paimonCatalogOps.createTable(
+        IDENTIFIER.toString(), Schema.newBuilder().column("col_1", DataTypes.INT()).build());
+  }
+
+  @AfterEach
+  public void tearDown() throws Exception {
+    paimonCatalogOps.dropDatabase(DATABASE, true);
+    paimonCatalogOps.close();
+  }
+
+  @Test
+  void testLoadTable() throws Exception {
+    PaimonTableCache tableCache = new PaimonTableCache(paimonCatalogOps, 10);
+
+    GravitinoPaimonTable table = tableCache.loadTable(IDENTIFIER.toString());
+    Assertions.assertEquals(TABLE, table.name());
+    Assertions.assertEquals(1, tableCache.size());
+    Assertions.assertSame(table, tableCache.loadTable(IDENTIFIER.toString()));
+    Assertions.assertEquals(TABLE, tableCache.loadPaimonTable(IDENTIFIER.toString()).name());
+
+    // The table changed outside of the cache writes a new schema file and is loaded again.
+    paimonCatalogOps.alterTable(IDENTIFIER.toString(), setProperty("key", "value"));
+    GravitinoPaimonTable alteredTable = tableCache.loadTable(IDENTIFIER.toString());
+    Assertions.assertNotSame(table, alteredTable);
+    Assertions.assertEquals("value", alteredTable.properties().get("key"));
+
+    tableCache.invalidate(IDENTIFIER.toString());
+    Assertions.assertEquals(0, tableCache.size());
+
+    // The table dropped and recreated at the same location rewrites its first schema file.
+    tableCache.loadTable(IDENTIFIER.toString());
+    paimonCatalogOps.purgeTable(IDENTIFIER.toString());
+    paimonCatalogOps.createTable(
+        IDENTIFIER.toString(),
+        Schema.newBuilder()
+            .column("recreated_col_1", DataTypes.STRING())
+            .column("recreated_col_2", DataTypes.BIGINT())
+            .build());
+    GravitinoPaimonTable recreatedTable = tableCache.loadTable(IDENTIFIER.toString());
+    Assertions.assertEquals(2, recreatedTable.columns().length);
+    Assertions.assertEquals("recreated_col_1", recreatedTable.columns()[0].name());
+    Assertions.assertSame(recreatedTable, tableCache.loadTable(IDENTIFIER.toString()));
+
+    paimonCatalogOps.purgeTable(IDENTIFIER.toString());
+    Assertions.assertThrows(
+        TableNotExistException.class, () -> tableCache.loadTable(IDENTIFIER.toString()));
+    Assertions.assertEquals(0, tableCache.size());
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import java.util.concurrent.CompletableFuture;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.NoSuchFilesetException;
+import org.apache.gravitino.file.Fileset;
+import org.apache.gravitino.file.FilesetCatalog;
+
+/**
+ * The {@link FilesetCatalog} of the Java client with the asynchronous read operations, it's used to
+ * resolve many filesets and file locations concurrently. The fileset catalog returned by {@link
+ * org.apache.gravitino.Catalog#asFilesetCatalog()} of the client implements it. The requests are
+ * sent by the thread pool of the client.
+ */
+public interface AsyncFilesetCatalog extends FilesetCatalog {
+
+  /**
+   * Load a fileset asynchronously.
+   *
+   * @param ident The identifier of the fileset, which should be "schema.fileset" format.
+   * @return A future of the fileset, it fails with {@link NoSuchFilesetException} if the fileset
+   *     does not exist.
+   */
+  CompletableFuture<Fileset> loadFilesetAsync(NameIdentifier ident);
+
+  /**
+   * Get the actual location of a file or directory of a fileset asynchronously. The caller context
+   * of the calling thread is sent with the request and cleared, the same as {@link
+   * #getFileLocation(NameIdentifier, String)}.
+   *
+   * @param ident The identifier of the fileset.
+   * @param subPath The sub path to the file or directory.
+   * @return A future of the actual location of the file or directory, it fails with {@link
+   *     NoSuchFilesetException} if the fileset does not exist.
+   */
+  CompletableFuture<String> getFileLocationAsync(NameIdentifier ident, String subPath);
+}
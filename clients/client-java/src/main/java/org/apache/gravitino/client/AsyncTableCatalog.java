@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import java.util.concurrent.CompletableFuture;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableCatalog;
+
+/**
+ * The {@link TableCatalog} of the Java client with the asynchronous read operations, it's used to
+ * load many tables concurrently, like the tables of a query planned by an engine. The table catalog
+ * returned by {@link org.apache.gravitino.Catalog#asTableCatalog()} of the client implements it.
+ * The requests are sent by the thread pool of the client.
+ */
+public interface AsyncTableCatalog extends TableCatalog {
+
+  /**
+   * List the tables under a schema namespace asynchronously.
+   *
+   * @param namespace The namespace to list the tables under it, which is the schema name.
+   * @return A future of the identifiers of the tables, it fails with {@link NoSuchSchemaException}
+   *     if the schema does not exist.
+   */
+  CompletableFuture<NameIdentifier[]> listTablesAsync(Namespace namespace);
+
+  /**
+   * Load a table asynchronously.
+   *
+   * @param ident The identifier of the table, which should be "schema.table" format.
+   * @return A future of the table, it fails with {@link NoSuchTableException} if the table does
+   *     not exist.
+   */
+  CompletableFuture<Table> loadTableAsync(NameIdentifier ident);
+}
@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
@@ -52,7 +53,7 @@ import org.apache.gravitino.rest.RESTUtils;
  * example, schemas and filesets list, creation, update and deletion. A Fileset catalog is under the
  * metalake.
  */
-class FilesetCatalog extends BaseSchemaCatalog implements org.apache.gravitino.file.FilesetCatalog {
+class FilesetCatalog extends BaseSchemaCatalog implements AsyncFilesetCatalog {
 
   FilesetCatalog(
       Namespace namespace,
@@ -121,6 +122,19 @@ class FilesetCatalog extends BaseSchemaCatalog implements org.apache.gravitino.f
     return new GenericFileset(resp.getFileset(), restClient, fullNamespace);
   }
 
+  /**
+   * Load fileset metadata by {@link NameIdentifier} from the catalog asynchronously, the request is
+   * sent by the {@link RESTClient#asyncExecutor()} of the client.
+   *
+   * @param ident A fileset identifier, which should be "schema.fileset" format.
+   * @return A future of the fileset metadata, it fails with {@link NoSuchFilesetException} if the
+   *     fileset does not exist.
+   */
+  @Override
+  public CompletableFuture<Fileset> loadFilesetAsync(NameIdentifier ident) {
+    return CompletableFuture.supplyAsync(() -> loadFileset(ident), restClient.asyncExecutor());
+  }
+
   /**
    * Create a fileset metadata in the catalog.
    *
@@ -265,6 +279,31 @@ class FilesetCatalog extends BaseSchemaCatalog implements org.apache.gravitino.f
     }
   }
 
+  /**
+   * Get the actual path of a file or directory asynchronously, the request is sent by the {@link
+   * RESTClient#asyncExecutor()} of the client. The caller context of the calling thread is sent
+   * with the request and cleared, the same as {@link #getFileLocation(NameIdentifier, String)}.
+   *
+   * @param ident A fileset identifier.
+   * @param subPath The sub path to the file or directory.
+   * @return A future of the actual location of the file or directory, it fails with {@link
+   *     NoSuchFilesetException} if the fileset does not exist.
+   */
+  @Override
+  public CompletableFuture<String> getFileLocationAsync(NameIdentifier ident, String subPath) {
+    // The caller context is thread local, hand it over to the thread sending the request.
+    CallerContext callerContext = CallerContext.CallerContextHolder.get();
+    CallerContext.CallerContextHolder.remove();
+    return CompletableFuture.supplyAsync(
+        () -> {
+          if (callerContext != null) {
+            CallerContext.CallerContextHolder.set(callerContext);
+          }
+          return getFileLocation(ident, subPath);
+        },
+        restClient.asyncExecutor());
+  }
+
   @VisibleForTesting
   static String formatFilesetRequestPath(Namespace ns) {
     Namespace schemaNs = Namespace.of(ns.level(0), ns.level(1));
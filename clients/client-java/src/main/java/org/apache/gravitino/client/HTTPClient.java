@@ -23,12 +23,19 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apache.gravitino.auth.AuthConstants;
@@ -37,14 +44,18 @@ import org.apache.gravitino.exceptions.RESTException;
 import org.apache.gravitino.rest.RESTRequest;
 import org.apache.gravitino.rest.RESTResponse;
 import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.tracing.TraceContext;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.Method;
@@ -55,6 +66,7 @@ import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.message.BasicHeader;
 import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.net.URIBuilder;
+import org.apache.hc.core5.util.TimeValue;
 
 /**
  * An HttpClient for usage with the REST catalog.
@@ -67,10 +79,44 @@ import org.apache.hc.core5.net.URIBuilder;
  */
 public class HTTPClient implements RESTClient {
 
+  /** The maximum number of the pooled connections of the client. */
+  public static final String CONNECTION_POOL_MAX_TOTAL = "gravitino.client.connectionPool.maxTotal";
+
+  /** The maximum number of the pooled connections of the client to the same server. */
+  public static final String CONNECTION_POOL_MAX_PER_ROUTE =
+      "gravitino.client.connectionPool.maxPerRoute";
+
+  /** The time in milliseconds after which the idle pooled connections are closed. */
+  public static final String CONNECTION_POOL_IDLE_TIMEOUT_MS =
+      "gravitino.client.connectionPool.idleTimeoutMs";
+
+  /**
+   * Whether the clients in the same JVM with the same pool limits share the connection pool, like
+   * the clients created by the tasks of an engine.
+   */
+  public static final String CONNECTION_POOL_SHARED = "gravitino.client.connectionPool.shared";
+
+  /** The number of the threads sending the asynchronous requests of the client. */
+  public static final String ASYNC_THREADS = "gravitino.client.asyncThreads";
+
+  private static final int DEFAULT_CONNECTION_POOL_MAX_TOTAL = 100;
+  private static final int DEFAULT_CONNECTION_POOL_MAX_PER_ROUTE = 100;
+  // Less than the default idle timeout of the server, so the client closes the idle connections
+  // before the server does, and doesn't send requests on the half-closed connections.
+  private static final int DEFAULT_CONNECTION_POOL_IDLE_TIMEOUT_MS = 20 * 1000;
+  private static final int DEFAULT_ASYNC_THREADS = 8;
+
+  // The connection pools shared by the clients, keyed by the pool limits. They live as long as the
+  // JVM, the clients using them don't close them.
+  private static final Map<String, PoolingHttpClientConnectionManager> SHARED_CONNECTION_POOLS =
+      new ConcurrentHashMap<>();
+
   private static final String VERSION_HEADER = "application/vnd.gravitino.v1+json";
 
   private final String uri;
   private final CloseableHttpClient httpClient;
+  private final int asyncThreads;
+  private volatile ExecutorService asyncExecutor;
   private final ObjectMapper mapper;
   private final AuthDataProvider authDataProvider;
 
@@ -93,6 +139,7 @@ public class HTTPClient implements RESTClient {
    * Constructs an instance of HTTPClient with the provided information.
    *
    * @param uri The base URI of the REST API.
+   * @param properties A map of properties used to configure the HTTP client.
    * @param baseHeaders A map of base headers to be included in all HTTP requests.
    * @param objectMapper The ObjectMapper used for JSON serialization and deserialization.
    * @param authDataProvider The provider of authentication data.
@@ -100,14 +147,39 @@ public class HTTPClient implements RESTClient {
    */
   private HTTPClient(
       String uri,
+      Map<String, String> properties,
       Map<String, String> baseHeaders,
       ObjectMapper objectMapper,
       AuthDataProvider authDataProvider,
       Runnable beforeConnectHandler) {
     this.uri = uri;
     this.mapper = objectMapper;
-
-    HttpClientBuilder clientBuilder = HttpClients.custom();
+    this.asyncThreads = intProperty(properties, ASYNC_THREADS, DEFAULT_ASYNC_THREADS);
+
+    int maxTotal =
+        intProperty(properties, CONNECTION_POOL_MAX_TOTAL, DEFAULT_CONNECTION_POOL_MAX_TOTAL);
+    int maxPerRoute =
+        intProperty(
+            properties, CONNECTION_POOL_MAX_PER_ROUTE, DEFAULT_CONNECTION_POOL_MAX_PER_ROUTE);
+    int idleTimeoutMs =
+        intProperty(
+            properties, CONNECTION_POOL_IDLE_TIMEOUT_MS, DEFAULT_CONNECTION_POOL_IDLE_TIMEOUT_MS);
+    boolean sharedPool = Boolean.parseBoolean(properties.get(CONNECTION_POOL_SHARED));
+
+    PoolingHttpClientConnectionManager connectionManager =
+        sharedPool
+            ? SHARED_CONNECTION_POOLS.computeIfAbsent(
+                maxTotal + ":" + maxPerRoute, k -> createConnectionPool(maxTotal, maxPerRoute))
+            : createConnectionPool(maxTotal, maxPerRoute);
+
+    // The content compression of the client is enabled by default, it sends the Accept-Encoding
+    // header and decompresses the gzip or deflate responses transparently.
+    HttpClientBuilder clientBuilder =
+        HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setConnectionManagerShared(sharedPool)
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeoutMs));
 
     if (baseHeaders != null) {
       clientBuilder.setDefaultHeaders(
@@ -125,6 +197,30 @@ public class HTTPClient implements RESTClient {
     this.beforeConnectHandler = beforeConnectHandler;
   }
 
+  private static PoolingHttpClientConnectionManager createConnectionPool(
+      int maxTotal, int maxPerRoute) {
+    return PoolingHttpClientConnectionManagerBuilder.create()
+        .setMaxConnTotal(maxTotal)
+        .setMaxConnPerRoute(maxPerRoute)
+        .build();
+  }
+
+  private static int intProperty(Map<String, String> properties, String key, int defaultValue) {
+    String value = properties.get(key);
+    if (value == null) {
+      return defaultValue;
+    }
+
+    try {
+      int intValue = Integer.parseInt(value.trim());
+      Preconditions.checkArgument(intValue > 0, "%s must be positive, but got %s", key, value);
+      return intValue;
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(
+          String.format("%s must be an integer, but got %s", key, value), e);
+    }
+  }
+
   /**
    * Extracts the response body as a string from the provided HTTP response.
    *
@@ -370,15 +466,14 @@ public class HTTPClient implements RESTClient {
         return null;
       }
 
-      String responseBody = extractResponseBodyAsString(response);
-
       if (!isSuccessful(response)) {
         // The provided error handler is expected to throw, but a RESTException.java is thrown if
         // not.
-        throwFailure(response, responseBody, errorHandler);
+        throwFailure(response, extractResponseBodyAsString(response), errorHandler);
       }
 
-      if (responseBody == null) {
+      HttpEntity entity = response.getEntity();
+      if (entity == null) {
         throw new RESTException(
             "Invalid (null) response body for request (expected %s): method=%s, path=%s, status=%d",
             responseType != null ? responseType.getSimpleName() : "unknown",
@@ -387,8 +482,10 @@ public class HTTPClient implements RESTClient {
             response.getCode());
       }
 
-      try {
-        return mapper.readValue(responseBody, responseType);
+      // Parse the response body from the stream directly, so that the big responses are not
+      // buffered as a string before they are parsed.
+      try (InputStream content = entity.getContent()) {
+        return mapper.readValue(content, responseType);
       } catch (JsonProcessingException e) {
         throw new RESTException(
             e,
@@ -649,6 +746,37 @@ public class HTTPClient implements RESTClient {
     request.setHeader(HttpHeaders.CONTENT_TYPE, bodyMimeType);
     request.setHeader(HttpHeaders.ACCEPT, VERSION_HEADER);
     requestHeaders.forEach(request::setHeader);
+
+    // Propagate the trace of the caller to the server, like the query planning of an engine.
+    TraceContext traceContext = TraceContext.TraceContextHolder.get();
+    if (traceContext != null) {
+      request.setHeader(TraceContext.TRACEPARENT_HEADER, traceContext.toTraceparent());
+    }
+  }
+
+  /**
+   * Returns the executor running the asynchronous requests, it's created on the first use with
+   * {@link #ASYNC_THREADS} daemon threads. The requests run by it share the connection pool of the
+   * client, so it can send as many requests concurrently as the pool allows.
+   *
+   * @return The executor running the asynchronous requests.
+   */
+  @Override
+  public Executor asyncExecutor() {
+    if (asyncExecutor == null) {
+      synchronized (this) {
+        if (asyncExecutor == null) {
+          asyncExecutor =
+              Executors.newFixedThreadPool(
+                  asyncThreads,
+                  new ThreadFactoryBuilder()
+                      .setDaemon(true)
+                      .setNameFormat("gravitino-client-async-%d")
+                      .build());
+        }
+      }
+    }
+    return asyncExecutor;
   }
 
   /**
@@ -658,6 +786,9 @@ public class HTTPClient implements RESTClient {
    */
   @Override
   public void close() throws IOException {
+    if (asyncExecutor != null) {
+      asyncExecutor.shutdown();
+    }
     if (authDataProvider != null) {
       authDataProvider.close();
     }
@@ -681,7 +812,6 @@ public class HTTPClient implements RESTClient {
    * URI, request headers, and ObjectMapper.
    */
   public static class Builder {
-    @SuppressWarnings("UnusedVariable")
     private final Map<String, String> properties;
 
     private final Map<String, String> baseHeaders = Maps.newHashMap();
@@ -770,7 +900,13 @@ public class HTTPClient implements RESTClient {
      */
     public HTTPClient build() {
 
-      return new HTTPClient(uri, baseHeaders, mapper, authDataProvider, beforeConnectHandler);
+      return new HTTPClient(
+          uri,
+          properties == null ? Collections.emptyMap() : properties,
+          baseHeaders,
+          mapper,
+          authDataProvider,
+          beforeConnectHandler);
     }
   }
 
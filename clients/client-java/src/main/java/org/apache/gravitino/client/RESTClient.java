@@ -21,6 +21,7 @@ package org.apache.gravitino.client;
 import com.google.common.collect.ImmutableMap;
 import java.io.Closeable;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.apache.gravitino.dto.responses.ErrorResponse;
@@ -416,4 +417,15 @@ public interface RESTClient extends Closeable {
       Class<T> responseType,
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler);
+
+  /**
+   * Returns the executor running the asynchronous requests of the client, like the ones sent by
+   * the {@code *Async} methods of the catalogs. The default executor runs the requests in the
+   * calling thread.
+   *
+   * @return The executor running the asynchronous requests.
+   */
+  default Executor asyncExecutor() {
+    return Runnable::run;
+  }
 }
@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
@@ -41,13 +42,16 @@ import org.apache.gravitino.dto.requests.TableUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
+import org.apache.gravitino.dto.responses.TableSummaryListResponse;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.SupportsTableSummaries;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.rel.TableSummary;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
 import org.apache.gravitino.rel.expressions.sorts.SortOrder;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
@@ -59,7 +63,8 @@ import org.apache.gravitino.rest.RESTUtils;
  * operations, for example, schemas and tables list, creation, update and deletion. A Relational
  * catalog is under the metalake.
  */
-class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
+class RelationalCatalog extends BaseSchemaCatalog
+    implements AsyncTableCatalog, SupportsTableSummaries {
 
   RelationalCatalog(
       Namespace namespace,
@@ -104,6 +109,35 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List all the tables under the given Schema namespace with the summary of each table. The
+   * summaries are served by the catalogs supporting them, like the Iceberg and Paimon catalogs.
+   *
+   * @param namespace The namespace to list the tables under it. This namespace should have 1 level,
+   *     which is the schema name;
+   * @return A list of {@link TableSummary} of the tables under the given namespace.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   * @throws UnsupportedOperationException if the catalog doesn't support table summaries.
+   */
+  @Override
+  public TableSummary[] listTableSummaries(Namespace namespace) throws NoSuchSchemaException {
+    checkTableNamespace(namespace);
+
+    Namespace fullNamespace = getTableFullNamespace(namespace);
+    Map<String, String> params = new HashMap<>();
+    params.put("details", "true");
+    TableSummaryListResponse resp =
+        restClient.get(
+            formatTableRequestPath(fullNamespace),
+            params,
+            TableSummaryListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler());
+    resp.validate();
+
+    return resp.getTables();
+  }
+
   /**
    * Load the table with specified identifier.
    *
@@ -127,6 +161,34 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
     return RelationalTable.from(fullNamespace, resp.getTable(), restClient);
   }
 
+  /**
+   * List all the tables under the given Schema namespace asynchronously, the request is sent by the
+   * {@link RESTClient#asyncExecutor()} of the client.
+   *
+   * @param namespace The namespace to list the tables under it. This namespace should have 1 level,
+   *     which is the schema name;
+   * @return A future of the list of {@link NameIdentifier} of the tables under the given namespace,
+   *     it fails with {@link NoSuchSchemaException} if the schema does not exist.
+   */
+  @Override
+  public CompletableFuture<NameIdentifier[]> listTablesAsync(Namespace namespace) {
+    return CompletableFuture.supplyAsync(() -> listTables(namespace), restClient.asyncExecutor());
+  }
+
+  /**
+   * Load the table with specified identifier asynchronously, the request is sent by the {@link
+   * RESTClient#asyncExecutor()} of the client. It's used to load many tables concurrently, like
+   * the tables of a query planned by an engine.
+   *
+   * @param ident The identifier of the table to load, which should be "schema.table" format.
+   * @return A future of the {@link Table} with specified identifier, it fails with {@link
+   *     NoSuchTableException} if the table does not exist.
+   */
+  @Override
+  public CompletableFuture<Table> loadTableAsync(NameIdentifier ident) {
+    return CompletableFuture.supplyAsync(() -> loadTable(ident), restClient.asyncExecutor());
+  }
+
   /**
    * Create a new table with specified identifier, columns, comment and properties.
    *
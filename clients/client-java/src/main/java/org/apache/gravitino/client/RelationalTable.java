@@ -23,9 +23,12 @@ import static org.apache.gravitino.dto.util.DTOConverters.toDTO;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import lombok.SneakyThrows;
 import org.apache.gravitino.Audit;
@@ -40,6 +43,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.PartitionListResponse;
 import org.apache.gravitino.dto.responses.PartitionNameListResponse;
 import org.apache.gravitino.dto.responses.PartitionResponse;
+import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.NoSuchTagException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
@@ -260,6 +264,110 @@ class RelationalTable implements Table, SupportsPartitions, SupportsTags, Suppor
     return resp.dropped();
   }
 
+  /**
+   * Returns the names of the partitions matching the pattern, sorted by name and paged.
+   *
+   * @param namePattern The SQL LIKE pattern of the partition names, or null to match all.
+   * @param offset The number of matching partitions to skip.
+   * @param limit The maximum number of partitions to return, 0 means no limit.
+   * @return The partition names of the page.
+   */
+  @Override
+  public String[] listPartitionNames(String namePattern, int offset, int limit) {
+    PartitionNameListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            pagingParams(namePattern, offset, limit),
+            PartitionNameListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    return resp.partitionNames();
+  }
+
+  /**
+   * Returns the partitions matching the pattern, sorted by name and paged.
+   *
+   * @param namePattern The SQL LIKE pattern of the partition names, or null to match all.
+   * @param offset The number of matching partitions to skip.
+   * @param limit The maximum number of partitions to return, 0 means no limit.
+   * @return The partitions of the page.
+   */
+  @Override
+  public Partition[] listPartitions(String namePattern, int offset, int limit) {
+    Map<String, String> params = pagingParams(namePattern, offset, limit);
+    params.put("details", "true");
+    PartitionListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            params,
+            PartitionListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    return resp.getPartitions();
+  }
+
+  /**
+   * Adds the partitions to the table in one request.
+   *
+   * @param partitions The partitions to add.
+   * @return The added partitions.
+   * @throws PartitionAlreadyExistsException If any of the partitions already exists.
+   */
+  @Override
+  public Partition[] addPartitions(Partition... partitions)
+      throws PartitionAlreadyExistsException {
+    AddPartitionsRequest req =
+        new AddPartitionsRequest(
+            Arrays.stream(partitions).map(DTOConverters::toDTO).toArray(PartitionDTO[]::new));
+    req.validate();
+
+    PartitionListResponse resp =
+        restClient.post(
+            getPartitionRequestPath(),
+            req,
+            PartitionListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    resp.validate();
+
+    return resp.getPartitions();
+  }
+
+  /**
+   * Drops the partitions with the given names in one request.
+   *
+   * @param partitionNames The names of the partitions.
+   * @return true if all the partitions are dropped, false if any of them does not exist.
+   */
+  @Override
+  public boolean dropPartitions(String... partitionNames) {
+    Preconditions.checkArgument(
+        partitionNames.length > 0, "The partitions to drop must not be empty");
+    // The names are a repeated query parameter, which the query parameter map can't express.
+    String query =
+        Arrays.stream(partitionNames)
+            .map(name -> "names=" + RESTUtils.encodeString(name))
+            .collect(Collectors.joining("&"));
+    DropResponse resp =
+        restClient.delete(
+            getPartitionRequestPath() + "?" + query,
+            DropResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    resp.validate();
+    return resp.dropped();
+  }
+
+  private static Map<String, String> pagingParams(String namePattern, int offset, int limit) {
+    Map<String, String> params = new HashMap<>();
+    if (namePattern != null) {
+      params.put("pattern", namePattern);
+    }
+    params.put("offset", String.valueOf(offset));
+    params.put("limit", String.valueOf(limit));
+    return params;
+  }
+
   /**
    * Returns the partitioning strategy of the table.
    *
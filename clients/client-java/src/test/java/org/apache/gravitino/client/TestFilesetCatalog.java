@@ -31,6 +31,8 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
@@ -187,6 +189,9 @@ public class TestFilesetCatalog extends TestBase {
     Assertions.assertNotNull(loadedFileset);
     assertFileset(mockFileset, loadedFileset);
 
+    AsyncFilesetCatalog asyncFilesetCatalog = (AsyncFilesetCatalog) catalog.asFilesetCatalog();
+    assertFileset(mockFileset, asyncFilesetCatalog.loadFilesetAsync(fileset).join());
+
     // Throw schema not found exception
     ErrorResponse errResp =
         ErrorResponse.notFound(NoSuchSchemaException.class.getSimpleName(), "schema not found");
@@ -196,6 +201,10 @@ public class TestFilesetCatalog extends TestBase {
         () -> catalog.asFilesetCatalog().loadFileset(fileset),
         "schema not found");
 
+    CompletableFuture<Fileset> future = asyncFilesetCatalog.loadFilesetAsync(fileset);
+    Throwable ex = Assertions.assertThrows(CompletionException.class, future::join);
+    Assertions.assertInstanceOf(NoSuchSchemaException.class, ex.getCause());
+
     ErrorResponse errResp1 =
         ErrorResponse.notFound(NotFoundException.class.getSimpleName(), "fileset not found");
     buildMockResource(Method.GET, filesetPath, null, errResp1, SC_NOT_FOUND);
@@ -439,6 +448,14 @@ public class TestFilesetCatalog extends TestBase {
     Assertions.assertTrue(StringUtils.isNotBlank(actualFileLocation));
     Assertions.assertEquals(mockFileLocation, actualFileLocation);
 
+    AsyncFilesetCatalog asyncFilesetCatalog = (AsyncFilesetCatalog) catalog.asFilesetCatalog();
+    Assertions.assertEquals(
+        mockFileLocation,
+        asyncFilesetCatalog
+            .getFileLocationAsync(
+                NameIdentifier.of(fileset.namespace().level(2), fileset.name()), mockSubPath)
+            .join());
+
     // Throw schema not found exception
     ErrorResponse errResp =
         ErrorResponse.notFound(NoSuchSchemaException.class.getSimpleName(), "schema not found");
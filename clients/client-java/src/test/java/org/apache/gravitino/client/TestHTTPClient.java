@@ -32,14 +32,19 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.exceptions.NotFoundException;
 import org.apache.gravitino.rest.RESTRequest;
 import org.apache.gravitino.rest.RESTResponse;
+import org.apache.gravitino.tracing.TraceContext;
 import org.apache.hc.core5.http.Method;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
@@ -127,6 +132,81 @@ public class TestHTTPClient {
     testHttpMethodOnFailure(Method.HEAD, false, false);
   }
 
+  @Test
+  public void testTraceparentHeader() throws JsonProcessingException {
+    Item body = new Item(0L, "hank");
+    TraceContext traceContext = TraceContext.newTrace(true);
+    // The server only matches the request carrying the trace context of the caller
+    mockServer
+        .when(
+            request("/traced")
+                .withMethod("GET")
+                .withHeader(TraceContext.TRACEPARENT_HEADER, traceContext.toTraceparent()))
+        .respond(response().withStatusCode(200).withBody(MAPPER.writeValueAsString(body)));
+
+    ErrorHandler onError = mock(ErrorHandler.class);
+    doThrow(new RuntimeException("Failure response")).when(onError).accept(any());
+    try {
+      TraceContext.TraceContextHolder.set(traceContext);
+      Item item = restClient.get("traced", Item.class, ImmutableMap.of(), onError);
+      Assertions.assertEquals(body, item);
+    } finally {
+      TraceContext.TraceContextHolder.remove();
+    }
+
+    verify(onError, never()).accept(any());
+  }
+
+  @Test
+  public void testConnectionPoolProperties() throws Exception {
+    Item body = new Item(0L, "hank");
+    mockServer
+        .when(request("/pooled").withMethod("GET"))
+        .respond(response().withStatusCode(200).withBody(MAPPER.writeValueAsString(body)));
+
+    Map<String, String> properties =
+        ImmutableMap.of(
+            HTTPClient.CONNECTION_POOL_MAX_TOTAL, "4",
+            HTTPClient.CONNECTION_POOL_MAX_PER_ROUTE, "4",
+            HTTPClient.CONNECTION_POOL_SHARED, "true",
+            HTTPClient.ASYNC_THREADS, "4");
+    String uri = String.format("http://127.0.0.1:%d", mockServer.getPort());
+    ErrorHandler onError = mock(ErrorHandler.class);
+    try (HTTPClient client1 = HTTPClient.builder(properties).uri(uri).build();
+        HTTPClient client2 = HTTPClient.builder(properties).uri(uri).build()) {
+      List<CompletableFuture<Item>> futures = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        HTTPClient client = i % 2 == 0 ? client1 : client2;
+        futures.add(
+            CompletableFuture.supplyAsync(
+                () -> client.get("pooled", Item.class, ImmutableMap.of(), onError),
+                client.asyncExecutor()));
+      }
+      for (CompletableFuture<Item> future : futures) {
+        Assertions.assertEquals(body, future.get(10, TimeUnit.SECONDS));
+      }
+    }
+
+    // The shared pool is still usable after the clients using it are closed
+    try (HTTPClient client = HTTPClient.builder(properties).uri(uri).build()) {
+      Assertions.assertEquals(body, client.get("pooled", Item.class, ImmutableMap.of(), onError));
+    }
+    verify(onError, never()).accept(any());
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            HTTPClient.builder(ImmutableMap.of(HTTPClient.CONNECTION_POOL_MAX_TOTAL, "0"))
+                .uri(uri)
+                .build());
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            HTTPClient.builder(ImmutableMap.of(HTTPClient.ASYNC_THREADS, "many"))
+                .uri(uri)
+                .build());
+  }
+
   public static void testHttpMethodOnSuccess(
       Method method, boolean hasRequestBody, boolean hasResponseBody)
       throws JsonProcessingException {
@@ -36,6 +36,8 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -48,6 +50,7 @@ import org.apache.gravitino.dto.rel.ColumnDTO;
 import org.apache.gravitino.dto.rel.DistributionDTO;
 import org.apache.gravitino.dto.rel.SortOrderDTO;
 import org.apache.gravitino.dto.rel.TableDTO;
+import org.apache.gravitino.dto.rel.TableSummaryDTO;
 import org.apache.gravitino.dto.rel.expressions.FieldReferenceDTO;
 import org.apache.gravitino.dto.rel.expressions.FunctionArg;
 import org.apache.gravitino.dto.rel.expressions.LiteralDTO;
@@ -70,6 +73,7 @@ import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.SchemaResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
+import org.apache.gravitino.dto.responses.TableSummaryListResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -79,9 +83,11 @@ import org.apache.gravitino.exceptions.RESTException;
 import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.SupportsTableSummaries;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.rel.TableSummary;
 import org.apache.gravitino.rel.expressions.distributions.Strategy;
 import org.apache.gravitino.rel.expressions.sorts.SortDirection;
 import org.apache.gravitino.rel.expressions.sorts.SortOrder;
@@ -333,6 +339,10 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertEquals(expectedResult1, tables[0]);
     Assertions.assertEquals(expectedResult2, tables[1]);
 
+    AsyncTableCatalog asyncTableCatalog = (AsyncTableCatalog) catalog.asTableCatalog();
+    Assertions.assertArrayEquals(
+        tables, asyncTableCatalog.listTablesAsync(Namespace.of("schema1")).join());
+
     // Test throw NoSuchSchemaException
     ErrorResponse errorResp =
         ErrorResponse.notFound(NoSuchSchemaException.class.getSimpleName(), "schema not found");
@@ -345,6 +355,10 @@ public class TestRelationalCatalog extends TestBase {
             NoSuchSchemaException.class, () -> tableCatalog.listTables(namespace1));
     Assertions.assertTrue(ex.getMessage().contains("schema not found"));
 
+    CompletableFuture<NameIdentifier[]> future = asyncTableCatalog.listTablesAsync(namespace1);
+    ex = Assertions.assertThrows(CompletionException.class, future::join);
+    Assertions.assertInstanceOf(NoSuchSchemaException.class, ex.getCause());
+
     // Test throw RuntimeException
     ErrorResponse errorResp1 = ErrorResponse.internalError("runtime exception");
     buildMockResource(Method.GET, tablePath, null, errorResp1, SC_INTERNAL_SERVER_ERROR);
@@ -360,6 +374,46 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertTrue(ex2.getMessage().contains("unparsed error"));
   }
 
+  @Test
+  public void testListTableSummaries() throws JsonProcessingException {
+    NameIdentifier table1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
+    String tablePath = withSlash(RelationalCatalog.formatTableRequestPath(table1.namespace()));
+    Map<String, String> params = ImmutableMap.of("details", "true");
+
+    TableSummaryDTO summary =
+        TableSummaryDTO.builder()
+            .withName("table1")
+            .withSummary(ImmutableMap.of("total-records", "10"))
+            .build();
+    TableSummaryListResponse resp = new TableSummaryListResponse(new TableSummaryDTO[] {summary});
+    buildMockResource(Method.GET, tablePath, params, null, resp, SC_OK);
+    SupportsTableSummaries tableCatalog = (SupportsTableSummaries) catalog.asTableCatalog();
+    TableSummary[] summaries = tableCatalog.listTableSummaries(Namespace.of("schema1"));
+
+    Assertions.assertEquals(1, summaries.length);
+    Assertions.assertEquals("table1", summaries[0].name());
+    Assertions.assertEquals("10", summaries[0].summary().get("total-records"));
+
+    // Test throw NoSuchSchemaException
+    ErrorResponse errorResp =
+        ErrorResponse.notFound(NoSuchSchemaException.class.getSimpleName(), "schema not found");
+    buildMockResource(Method.GET, tablePath, params, null, errorResp, SC_NOT_FOUND);
+    Namespace namespace1 = Namespace.of("schema1");
+    Throwable ex =
+        Assertions.assertThrows(
+            NoSuchSchemaException.class, () -> tableCatalog.listTableSummaries(namespace1));
+    Assertions.assertTrue(ex.getMessage().contains("schema not found"));
+
+    // Test throw UnsupportedOperationException if the catalog doesn't support table summaries
+    ErrorResponse errorResp1 = ErrorResponse.unsupportedOperation("summaries not supported");
+    buildMockResource(Method.GET, tablePath, params, null, errorResp1, SC_METHOD_NOT_ALLOWED);
+    Throwable ex1 =
+        Assertions.assertThrows(
+            UnsupportedOperationException.class,
+            () -> tableCatalog.listTableSummaries(namespace1));
+    Assertions.assertTrue(ex1.getMessage().contains("summaries not supported"));
+  }
+
   @Test
   public void testCreateTable() throws JsonProcessingException {
     NameIdentifier tableId = NameIdentifier.of("schema1", "table1");
@@ -764,6 +818,10 @@ public class TestRelationalCatalog extends TestBase {
     Table table = catalog.asTableCatalog().loadTable(tableId);
     assertTableEquals(fromDTO(expectedTable), table);
 
+    AsyncTableCatalog asyncTableCatalog = (AsyncTableCatalog) catalog.asTableCatalog();
+    Table asyncTable = asyncTableCatalog.loadTableAsync(tableId).join();
+    assertTableEquals(fromDTO(expectedTable), asyncTable);
+
     // Test throw NoSuchTableException
     ErrorResponse errorResp =
         ErrorResponse.notFound(NoSuchTableException.class.getSimpleName(), "table not found");
@@ -773,6 +831,10 @@ public class TestRelationalCatalog extends TestBase {
     Throwable ex =
         Assertions.assertThrows(NoSuchTableException.class, () -> tableCatalog.loadTable(tableId));
     Assertions.assertTrue(ex.getMessage().contains("table not found"));
+
+    CompletableFuture<Table> future = asyncTableCatalog.loadTableAsync(tableId);
+    ex = Assertions.assertThrows(CompletionException.class, future::join);
+    Assertions.assertInstanceOf(NoSuchTableException.class, ex.getCause());
   }
 
   @Test
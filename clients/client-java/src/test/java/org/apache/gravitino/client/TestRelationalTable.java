@@ -26,8 +26,10 @@ import static org.apache.http.HttpStatus.SC_NOT_FOUND;
 import static org.apache.http.HttpStatus.SC_NOT_IMPLEMENTED;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.util.Collections;
+import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.dto.SchemaDTO;
@@ -286,4 +288,48 @@ public class TestRelationalTable extends TestRelationalCatalog {
     buildMockResource(Method.DELETE, partitionPath, null, notExistResp, SC_OK);
     Assertions.assertFalse(table.supportPartitions().dropPartition(partitionName));
   }
+
+  @Test
+  public void testListPartitionNamesWithPaging() throws JsonProcessingException {
+    String partitionPath =
+        withSlash(((RelationalTable) partitionedTable).getPartitionRequestPath());
+    Map<String, String> params = ImmutableMap.of("pattern", "p%", "offset", "1", "limit", "1");
+    PartitionNameListResponse resp = new PartitionNameListResponse(new String[] {"p2"});
+    buildMockResource(Method.GET, partitionPath, params, null, resp, SC_OK);
+
+    String[] partitionNames = partitionedTable.supportPartitions().listPartitionNames("p%", 1, 1);
+    Assertions.assertArrayEquals(new String[] {"p2"}, partitionNames);
+  }
+
+  @Test
+  public void testAddPartitions() throws JsonProcessingException {
+    Partition partition1 =
+        Partitions.list("p1", new Literal<?>[][] {{Literals.integerLiteral(1)}}, Maps.newHashMap());
+    Partition partition2 =
+        Partitions.list("p2", new Literal<?>[][] {{Literals.integerLiteral(2)}}, Maps.newHashMap());
+
+    RelationalTable table = (RelationalTable) partitionedTable;
+    String partitionPath = withSlash(table.getPartitionRequestPath());
+    PartitionDTO[] partitionDTOs = new PartitionDTO[] {toDTO(partition1), toDTO(partition2)};
+    AddPartitionsRequest req = new AddPartitionsRequest(partitionDTOs);
+    PartitionListResponse resp = new PartitionListResponse(partitionDTOs);
+    buildMockResource(Method.POST, partitionPath, req, resp, SC_OK);
+
+    Partition[] addedPartitions =
+        partitionedTable.supportPartitions().addPartitions(partition1, partition2);
+    Assertions.assertArrayEquals(partitionDTOs, addedPartitions);
+  }
+
+  @Test
+  public void testDropPartitions() throws JsonProcessingException {
+    RelationalTable table = (RelationalTable) partitionedTable;
+    String partitionPath = withSlash(table.getPartitionRequestPath());
+    DropResponse resp = new DropResponse(true);
+    buildMockResource(
+        Method.DELETE, partitionPath, ImmutableMap.of("names", "p1"), null, resp, SC_OK);
+    Assertions.assertTrue(table.supportPartitions().dropPartitions("p1"));
+
+    SupportsPartitions partitions = table.supportPartitions();
+    Assertions.assertThrows(IllegalArgumentException.class, () -> partitions.dropPartitions());
+  }
 }
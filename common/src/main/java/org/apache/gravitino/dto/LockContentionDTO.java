@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/** Represents the sampled contention of the tree lock of one path in the Gravitino server. */
+@EqualsAndHashCode
+@ToString
+public class LockContentionDTO {
+
+  @JsonProperty("path")
+  private String path;
+
+  @JsonProperty("samples")
+  private long samples;
+
+  @JsonProperty("contendedSamples")
+  private long contendedSamples;
+
+  @JsonProperty("writeSamples")
+  private long writeSamples;
+
+  @JsonProperty("totalWaitMs")
+  private double totalWaitMs;
+
+  @JsonProperty("maxWaitMs")
+  private double maxWaitMs;
+
+  @JsonProperty("totalHoldMs")
+  private double totalHoldMs;
+
+  @JsonProperty("maxHoldMs")
+  private double maxHoldMs;
+
+  @JsonProperty("waitHistogram")
+  private long[] waitHistogram;
+
+  @JsonProperty("holdHistogram")
+  private long[] holdHistogram;
+
+  private LockContentionDTO() {}
+
+  /** @return The path of the tree lock, like "metalake.catalog.schema". */
+  public String path() {
+    return path;
+  }
+
+  /** @return The number of the sampled acquisitions of the lock. */
+  public long samples() {
+    return samples;
+  }
+
+  /** @return The number of the sampled acquisitions that had to wait for other holders. */
+  public long contendedSamples() {
+    return contendedSamples;
+  }
+
+  /** @return The number of the sampled acquisitions of the write lock. */
+  public long writeSamples() {
+    return writeSamples;
+  }
+
+  /** @return The sum of the sampled wait time in milliseconds. */
+  public double totalWaitMs() {
+    return totalWaitMs;
+  }
+
+  /** @return The maximum of the sampled wait time in milliseconds. */
+  public double maxWaitMs() {
+    return maxWaitMs;
+  }
+
+  /** @return The sum of the sampled hold time in milliseconds. */
+  public double totalHoldMs() {
+    return totalHoldMs;
+  }
+
+  /** @return The maximum of the sampled hold time in milliseconds. */
+  public double maxHoldMs() {
+    return maxHoldMs;
+  }
+
+  /** @return The number of the sampled wait time in each bucket of the histogram. */
+  public long[] waitHistogram() {
+    return waitHistogram;
+  }
+
+  /** @return The number of the sampled hold time in each bucket of the histogram. */
+  public long[] holdHistogram() {
+    return holdHistogram;
+  }
+
+  /**
+   * Creates a new Builder for constructing a LockContentionDTO.
+   *
+   * @return A new Builder instance.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Builder class for constructing a LockContentionDTO instance. */
+  public static class Builder {
+
+    private final LockContentionDTO lockContention = new LockContentionDTO();
+
+    private Builder() {}
+
+    /**
+     * Sets the path of the tree lock.
+     *
+     * @param path The path of the tree lock.
+     * @return The builder instance.
+     */
+    public Builder withPath(String path) {
+      lockContention.path = path;
+      return this;
+    }
+
+    /**
+     * Sets the number of the sampled acquisitions.
+     *
+     * @param samples The number of the sampled acquisitions.
+     * @param contendedSamples The number of the sampled acquisitions that had to wait.
+     * @param writeSamples The number of the sampled acquisitions of the write lock.
+     * @return The builder instance.
+     */
+    public Builder withSamples(long samples, long contendedSamples, long writeSamples) {
+      lockContention.samples = samples;
+      lockContention.contendedSamples = contendedSamples;
+      lockContention.writeSamples = writeSamples;
+      return this;
+    }
+
+    /**
+     * Sets the sampled wait time.
+     *
+     * @param totalWaitMs The sum of the sampled wait time in milliseconds.
+     * @param maxWaitMs The maximum of the sampled wait time in milliseconds.
+     * @param waitHistogram The number of the sampled wait time in each bucket.
+     * @return The builder instance.
+     */
+    public Builder withWaitTime(double totalWaitMs, double maxWaitMs, long[] waitHistogram) {
+      lockContention.totalWaitMs = totalWaitMs;
+      lockContention.maxWaitMs = maxWaitMs;
+      lockContention.waitHistogram = waitHistogram;
+      return this;
+    }
+
+    /**
+     * Sets the sampled hold time.
+     *
+     * @param totalHoldMs The sum of the sampled hold time in milliseconds.
+     * @param maxHoldMs The maximum of the sampled hold time in milliseconds.
+     * @param holdHistogram The number of the sampled hold time in each bucket.
+     * @return The builder instance.
+     */
+    public Builder withHoldTime(double totalHoldMs, double maxHoldMs, long[] holdHistogram) {
+      lockContention.totalHoldMs = totalHoldMs;
+      lockContention.maxHoldMs = maxHoldMs;
+      lockContention.holdHistogram = holdHistogram;
+      return this;
+    }
+
+    /**
+     * Builds an instance of LockContentionDTO using the builder's properties.
+     *
+     * @return An instance of LockContentionDTO.
+     */
+    public LockContentionDTO build() {
+      return lockContention;
+    }
+  }
+}
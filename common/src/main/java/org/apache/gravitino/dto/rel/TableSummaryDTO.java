@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.rel;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.gravitino.rel.TableSummary;
+
+/** Represents a Table Summary DTO (Data Transfer Object). */
+@EqualsAndHashCode
+@ToString
+public class TableSummaryDTO implements TableSummary {
+
+  @JsonProperty("name")
+  private String name;
+
+  @JsonProperty("summary")
+  private Map<String, String> summary;
+
+  private TableSummaryDTO() {}
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public Map<String, String> summary() {
+    return summary;
+  }
+
+  /** @return a new builder for constructing a Table Summary DTO. */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Builder for constructing a Table Summary DTO. */
+  public static class Builder {
+
+    private final TableSummaryDTO tableSummaryDTO = new TableSummaryDTO();
+
+    /**
+     * Sets the name of the table.
+     *
+     * @param name The name of the table.
+     * @return The builder.
+     */
+    public Builder withName(String name) {
+      tableSummaryDTO.name = name;
+      return this;
+    }
+
+    /**
+     * Sets the summary of the table.
+     *
+     * @param summary The summary of the table.
+     * @return The builder.
+     */
+    public Builder withSummary(Map<String, String> summary) {
+      tableSummaryDTO.summary = summary;
+      return this;
+    }
+
+    /** @return The constructed Table Summary DTO. */
+    public TableSummaryDTO build() {
+      return tableSummaryDTO;
+    }
+  }
+}
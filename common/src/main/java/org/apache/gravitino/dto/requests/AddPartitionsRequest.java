@@ -56,7 +56,6 @@ public class AddPartitionsRequest implements RESTRequest {
   @Override
   public void validate() throws IllegalArgumentException {
     Preconditions.checkArgument(partitions != null, "partitions must not be null");
-    Preconditions.checkArgument(
-        partitions.length == 1, "Haven't yet implemented multiple partitions");
+    Preconditions.checkArgument(partitions.length > 0, "partitions must not be empty");
   }
 }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.gravitino.dto.LockContentionDTO;
+
+/** Represents a response containing the most contended tree lock paths of the Gravitino server. */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString
+public class LockContentionResponse extends BaseResponse {
+
+  @JsonProperty("profilingEnabled")
+  private final boolean profilingEnabled;
+
+  @JsonProperty("nodeCount")
+  private final long nodeCount;
+
+  @JsonProperty("bucketBoundsMs")
+  private final long[] bucketBoundsMs;
+
+  @JsonProperty("paths")
+  private final LockContentionDTO[] paths;
+
+  /**
+   * Constructor for LockContentionResponse.
+   *
+   * @param profilingEnabled Whether the contention of the tree locks is sampled.
+   * @param nodeCount The number of the tree lock nodes in memory.
+   * @param bucketBoundsMs The upper bounds in milliseconds of the histogram buckets.
+   * @param paths The most contended paths, ordered by the sampled wait time.
+   */
+  public LockContentionResponse(
+      boolean profilingEnabled, long nodeCount, long[] bucketBoundsMs, LockContentionDTO[] paths) {
+    super(0);
+    this.profilingEnabled = profilingEnabled;
+    this.nodeCount = nodeCount;
+    this.bucketBoundsMs = bucketBoundsMs;
+    this.paths = paths;
+  }
+
+  /** Default constructor for LockContentionResponse. (Used for Jackson deserialization.) */
+  public LockContentionResponse() {
+    super();
+    this.profilingEnabled = false;
+    this.nodeCount = 0;
+    this.bucketBoundsMs = null;
+    this.paths = null;
+  }
+
+  /**
+   * Validates the response data.
+   *
+   * @throws IllegalArgumentException if bucket bounds or paths are not set.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(bucketBoundsMs != null, "bucket bounds must be non-null");
+    Preconditions.checkArgument(paths != null, "paths must be non-null");
+  }
+}
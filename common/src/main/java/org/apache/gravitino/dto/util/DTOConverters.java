@@ -52,6 +52,7 @@ import org.apache.gravitino.dto.rel.ColumnDTO;
 import org.apache.gravitino.dto.rel.DistributionDTO;
 import org.apache.gravitino.dto.rel.SortOrderDTO;
 import org.apache.gravitino.dto.rel.TableDTO;
+import org.apache.gravitino.dto.rel.TableSummaryDTO;
 import org.apache.gravitino.dto.rel.expressions.FieldReferenceDTO;
 import org.apache.gravitino.dto.rel.expressions.FuncExpressionDTO;
 import org.apache.gravitino.dto.rel.expressions.FunctionArg;
@@ -79,6 +80,7 @@ import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.messaging.Topic;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableSummary;
 import org.apache.gravitino.rel.expressions.Expression;
 import org.apache.gravitino.rel.expressions.FunctionExpression;
 import org.apache.gravitino.rel.expressions.NamedReference;
@@ -601,6 +603,19 @@ public class DTOConverters {
         .build();
   }
 
+  /**
+   * Converts a TableSummary to a TableSummaryDTO.
+   *
+   * @param tableSummary The table summary to be converted.
+   * @return The table summary DTO.
+   */
+  public static TableSummaryDTO toDTO(TableSummary tableSummary) {
+    return TableSummaryDTO.builder()
+        .withName(tableSummary.name())
+        .withSummary(tableSummary.summary())
+        .build();
+  }
+
   /**
    * Converts an array of Columns to an array of ColumnDTOs.
    *
@@ -614,6 +629,19 @@ public class DTOConverters {
     return Arrays.stream(columns).map(DTOConverters::toDTO).toArray(ColumnDTO[]::new);
   }
 
+  /**
+   * Converts an array of TableSummaries to an array of TableSummaryDTOs.
+   *
+   * @param tableSummaries The table summaries to be converted.
+   * @return The array of TableSummaryDTOs.
+   */
+  public static TableSummaryDTO[] toDTOs(TableSummary[] tableSummaries) {
+    if (ArrayUtils.isEmpty(tableSummaries)) {
+      return new TableSummaryDTO[0];
+    }
+    return Arrays.stream(tableSummaries).map(DTOConverters::toDTO).toArray(TableSummaryDTO[]::new);
+  }
+
   /**
    * Converts an array of SortOrders to an array of SortOrderDTOs.
    *
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * The context of a trace propagated between the processes, it is encoded as the W3C
+ * "traceparent" header, like "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01".
+ *
+ * <p>Reference: <a href="https://www.w3.org/TR/trace-context/">W3C Trace Context</a>
+ */
+public class TraceContext {
+
+  /** The HTTP header to propagate the trace context. */
+  public static final String TRACEPARENT_HEADER = "traceparent";
+
+  private static final String VERSION = "00";
+
+  private static final String SAMPLED_FLAGS = "01";
+
+  private static final String NOT_SAMPLED_FLAGS = "00";
+
+  private static final String INVALID_TRACE_ID = "00000000000000000000000000000000";
+
+  private static final String INVALID_SPAN_ID = "0000000000000000";
+
+  private static final Pattern TRACEPARENT_PATTERN =
+      Pattern.compile("[0-9a-f]{2}-[0-9a-f]{32}-[0-9a-f]{16}-[0-9a-f]{2}");
+
+  private final String traceId;
+
+  private final String spanId;
+
+  private final boolean sampled;
+
+  private TraceContext(String traceId, String spanId, boolean sampled) {
+    this.traceId = traceId;
+    this.spanId = spanId;
+    this.sampled = sampled;
+  }
+
+  /**
+   * Creates the context of a new trace.
+   *
+   * @param sampled Whether the trace is sampled.
+   * @return The context of the root span of the new trace.
+   */
+  public static TraceContext newTrace(boolean sampled) {
+    String traceId;
+    do {
+      traceId = randomHex(16);
+    } while (INVALID_TRACE_ID.equals(traceId));
+    return new TraceContext(traceId, newSpanId(), sampled);
+  }
+
+  /**
+   * Parses the trace context from the "traceparent" header.
+   *
+   * @param traceparent The value of the "traceparent" header.
+   * @return The trace context, or null if the value is absent or invalid.
+   */
+  public static TraceContext fromTraceparent(String traceparent) {
+    if (traceparent == null) {
+      return null;
+    }
+
+    String value = traceparent.trim();
+    // The version "ff" is invalid, the future versions may append more fields after the flags.
+    if (value.length() < 55
+        || !TRACEPARENT_PATTERN.matcher(value.substring(0, 55)).matches()
+        || value.startsWith("ff")
+        || (value.startsWith(VERSION) && value.length() != 55)) {
+      return null;
+    }
+
+    String traceId = value.substring(3, 35);
+    String spanId = value.substring(36, 52);
+    if (INVALID_TRACE_ID.equals(traceId) || INVALID_SPAN_ID.equals(spanId)) {
+      return null;
+    }
+
+    int flags = Integer.parseInt(value.substring(53, 55), 16);
+    return new TraceContext(traceId, spanId, (flags & 0x01) != 0);
+  }
+
+  /**
+   * Creates the context of a child span in the same trace.
+   *
+   * @return The context of the child span.
+   */
+  public TraceContext newChild() {
+    return new TraceContext(traceId, newSpanId(), sampled);
+  }
+
+  /**
+   * Returns the id of the trace, 32 lowercase hex characters.
+   *
+   * @return The trace id.
+   */
+  public String traceId() {
+    return traceId;
+  }
+
+  /**
+   * Returns the id of the span, 16 lowercase hex characters.
+   *
+   * @return The span id.
+   */
+  public String spanId() {
+    return spanId;
+  }
+
+  /**
+   * Returns whether the trace is sampled.
+   *
+   * @return True if the trace is sampled.
+   */
+  public boolean sampled() {
+    return sampled;
+  }
+
+  /**
+   * Encodes the trace context as the value of the "traceparent" header.
+   *
+   * @return The value of the "traceparent" header.
+   */
+  public String toTraceparent() {
+    return String.join(
+        "-", VERSION, traceId, spanId, sampled ? SAMPLED_FLAGS : NOT_SAMPLED_FLAGS);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof TraceContext)) return false;
+    TraceContext that = (TraceContext) o;
+    return sampled == that.sampled
+        && Objects.equal(traceId, that.traceId)
+        && Objects.equal(spanId, that.spanId);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(traceId, spanId, sampled);
+  }
+
+  @Override
+  public String toString() {
+    return toTraceparent();
+  }
+
+  private static String newSpanId() {
+    String spanId;
+    do {
+      spanId = randomHex(8);
+    } while (INVALID_SPAN_ID.equals(spanId));
+    return spanId;
+  }
+
+  private static String randomHex(int bytes) {
+    Preconditions.checkArgument(bytes > 0, "The number of bytes must be positive");
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    StringBuilder builder = new StringBuilder(bytes * 2);
+    for (int i = 0; i < bytes; i++) {
+      builder.append(String.format("%02x", random.nextInt(256)));
+    }
+    return builder.toString();
+  }
+
+  /**
+   * A thread local holder for the TraceContext. The Gravitino Java client sends the trace context
+   * held by the calling thread to the server, so that the server spans are linked to the trace of
+   * the caller, like the query planning of a compute engine.
+   */
+  public static class TraceContextHolder {
+
+    private static final ThreadLocal<TraceContext> TRACE_CONTEXT = new ThreadLocal<>();
+
+    private TraceContextHolder() {}
+
+    /**
+     * Get the TraceContext from the thread local.
+     *
+     * @return The TraceContext.
+     */
+    public static TraceContext get() {
+      return TRACE_CONTEXT.get();
+    }
+
+    /**
+     * Set the TraceContext in the thread local.
+     *
+     * @param context The TraceContext to set.
+     */
+    public static void set(TraceContext context) {
+      TRACE_CONTEXT.set(context);
+    }
+
+    /** Remove the TraceContext from the thread local. */
+    public static void remove() {
+      TRACE_CONTEXT.remove();
+    }
+  }
+}
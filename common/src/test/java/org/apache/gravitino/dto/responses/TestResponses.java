@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import java.time.Instant;
 import org.apache.gravitino.Catalog;
@@ -43,6 +44,7 @@ import org.apache.gravitino.dto.authorization.SecurableObjectDTO;
 import org.apache.gravitino.dto.authorization.UserDTO;
 import org.apache.gravitino.dto.rel.ColumnDTO;
 import org.apache.gravitino.dto.rel.TableDTO;
+import org.apache.gravitino.dto.rel.TableSummaryDTO;
 import org.apache.gravitino.dto.rel.partitioning.Partitioning;
 import org.apache.gravitino.dto.tag.TagDTO;
 import org.apache.gravitino.dto.util.DTOConverters;
@@ -213,6 +215,43 @@ public class TestResponses {
     assertThrows(IllegalArgumentException.class, () -> table.validate());
   }
 
+  @Test
+  void testColumnListResponse() throws IllegalArgumentException {
+    ColumnDTO column =
+        ColumnDTO.builder().withName("ColumnA").withDataType(Types.ByteType.get()).build();
+    ColumnListResponse response = new ColumnListResponse(new ColumnDTO[] {column});
+    response.validate(); // No exception thrown
+  }
+
+  @Test
+  void testColumnListException() throws IllegalArgumentException {
+    ColumnListResponse response = new ColumnListResponse();
+    assertThrows(IllegalArgumentException.class, () -> response.validate());
+  }
+
+  @Test
+  void testTableSummaryListResponse() throws IllegalArgumentException {
+    TableSummaryDTO summary =
+        TableSummaryDTO.builder()
+            .withName("TableA")
+            .withSummary(ImmutableMap.of("location", "file:/tmp/TableA"))
+            .build();
+    TableSummaryListResponse response =
+        new TableSummaryListResponse(new TableSummaryDTO[] {summary});
+    response.validate(); // No exception thrown
+  }
+
+  @Test
+  void testTableSummaryListException() throws IllegalArgumentException {
+    TableSummaryListResponse response = new TableSummaryListResponse();
+    assertThrows(IllegalArgumentException.class, () -> response.validate());
+
+    TableSummaryDTO summary = TableSummaryDTO.builder().withName("TableA").build();
+    TableSummaryListResponse response1 =
+        new TableSummaryListResponse(new TableSummaryDTO[] {summary});
+    assertThrows(IllegalArgumentException.class, () -> response1.validate());
+  }
+
   @Test
   void testRestErrorResponse() throws IllegalArgumentException {
     ErrorResponse error = ErrorResponse.restError("Rest error");
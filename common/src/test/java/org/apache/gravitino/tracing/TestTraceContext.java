@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestTraceContext {
+
+  @Test
+  public void testParseTraceparent() {
+    TraceContext context =
+        TraceContext.fromTraceparent("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+    Assertions.assertNotNull(context);
+    Assertions.assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", context.traceId());
+    Assertions.assertEquals("00f067aa0ba902b7", context.spanId());
+    Assertions.assertTrue(context.sampled());
+    Assertions.assertEquals(
+        "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01", context.toTraceparent());
+
+    TraceContext notSampled =
+        TraceContext.fromTraceparent("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00");
+    Assertions.assertFalse(notSampled.sampled());
+
+    // Future versions may append more fields
+    TraceContext future =
+        TraceContext.fromTraceparent(
+            "01-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-extra");
+    Assertions.assertEquals(context, future);
+  }
+
+  @Test
+  public void testParseInvalidTraceparent() {
+    Assertions.assertNull(TraceContext.fromTraceparent(null));
+    Assertions.assertNull(TraceContext.fromTraceparent(""));
+    // Upper case hex
+    Assertions.assertNull(
+        TraceContext.fromTraceparent("00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01"));
+    // All zero trace id and span id
+    Assertions.assertNull(
+        TraceContext.fromTraceparent("00-00000000000000000000000000000000-00f067aa0ba902b7-01"));
+    Assertions.assertNull(
+        TraceContext.fromTraceparent("00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01"));
+    // Invalid version
+    Assertions.assertNull(
+        TraceContext.fromTraceparent("ff-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01"));
+    // Version 00 doesn't have more fields
+    Assertions.assertNull(
+        TraceContext.fromTraceparent(
+            "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-extra"));
+  }
+
+  @Test
+  public void testNewTraceAndChild() {
+    TraceContext root = TraceContext.newTrace(true);
+    Assertions.assertEquals(32, root.traceId().length());
+    Assertions.assertEquals(16, root.spanId().length());
+    Assertions.assertEquals(root, TraceContext.fromTraceparent(root.toTraceparent()));
+
+    TraceContext child = root.newChild();
+    Assertions.assertEquals(root.traceId(), child.traceId());
+    Assertions.assertNotEquals(root.spanId(), child.spanId());
+    Assertions.assertTrue(child.sampled());
+  }
+}
@@ -166,6 +166,19 @@ public class Configs {
           .stringConf()
           .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_PATH);
 
+  public static final ConfigEntry<String> ENTITY_RELATIONAL_PAYLOAD_ENCODING =
+      new ConfigBuilder("gravitino.entity.store.relational.payloadEncoding")
+          .doc(
+              "The encoding of the properties, audit info and other payload columns written by "
+                  + "`JDBCBackend`, `json` or `proto`. Both encodings can always be read, so the "
+                  + "rows are migrated when they are rewritten")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .stringConf()
+          .checkValue(
+              value -> "json".equalsIgnoreCase(value) || "proto".equalsIgnoreCase(value),
+              "The value must be `json` or `proto`")
+          .createWithDefault("json");
+
   public static final ConfigEntry<String> ENTITY_KV_ROCKSDB_BACKEND_PATH =
       new ConfigBuilder(ENTITY_KV_ROCKSDB_BACKEND_PATH_KEY)
           .doc(
@@ -198,6 +211,43 @@ public class Configs {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final ConfigEntry<Boolean> CATALOG_LOAD_COALESCING_ENABLE =
+      new ConfigBuilder("gravitino.catalog.loadCoalescing.enable")
+          .doc(
+              "Whether to merge the concurrent loads of the same object by the same user into one "
+                  + "call to the underlying catalog")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final ConfigEntry<Boolean> TABLE_STORE_COLUMNS_ENABLE =
+      new ConfigBuilder("gravitino.catalog.table.storeColumns.enable")
+          .doc(
+              "Whether to store the columns of the tables in the entity store, the columns are "
+                  + "always stored if the table column loads are served from the store")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Boolean> TABLE_LOAD_FROM_STORE_ENABLE =
+      new ConfigBuilder("gravitino.catalog.table.loadFromStore.enable")
+          .doc(
+              "Whether to serve the table column loads from the columns stored in the entity "
+                  + "store, the table loads are always served by the underlying catalog")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> TABLE_LOAD_FROM_STORE_MAX_STALENESS_MS =
+      new ConfigBuilder("gravitino.catalog.table.loadFromStore.maxStalenessMs")
+          .doc(
+              "The maximum time in milliseconds to serve the stored columns of a table since they "
+                  + "were last verified against the underlying catalog")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60 * 1000L);
+
   public static final ConfigEntry<String> AUTHENTICATOR =
       new ConfigBuilder("gravitino.authenticator")
           .doc(
@@ -308,6 +358,41 @@ public class Configs {
           .longConf()
           .createWithDefault(CLEAN_INTERVAL_IN_SECS);
 
+  public static final ConfigEntry<Integer> TREE_LOCK_CLEAN_THRESHOLD_PERCENT =
+      new ConfigBuilder("gravitino.lock.cleanThresholdPercent")
+          .doc(
+              "The percent of the maximum number of tree lock nodes above which the stale tree "
+                  + "lock nodes are cleaned up")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0 && value <= 100, "The value must be in [0, 100]")
+          .createWithDefault(50);
+
+  public static final ConfigEntry<Long> TREE_LOCK_NODE_IDLE_TIME_IN_SECS =
+      new ConfigBuilder("gravitino.lock.nodeIdleTimeInSecs")
+          .doc(
+              "The time in seconds a tree lock node must stay unreferenced before it can be "
+                  + "cleaned up, 0 means the node can be cleaned up as soon as it is unreferenced")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  public static final ConfigEntry<Boolean> TREE_LOCK_CONTENTION_PROFILING_ENABLE =
+      new ConfigBuilder("gravitino.lock.contentionProfiling.enable")
+          .doc("Whether to record the wait time and the hold time of the tree lock nodes")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> TREE_LOCK_CONTENTION_SAMPLE_PERCENT =
+      new ConfigBuilder("gravitino.lock.contentionProfiling.samplePercent")
+          .doc("The percent of the tree lock acquisitions to record the wait time and hold time of")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0 && value <= 100, "The value must be in [0, 100]")
+          .createWithDefault(10);
+
   public static final ConfigEntry<Boolean> ENABLE_AUTHORIZATION =
       new ConfigBuilder("gravitino.authorization.enable")
           .doc("Enable the authorization")
@@ -327,6 +412,51 @@ public class Configs {
               ConfigConstants.NOT_BLANK_ERROR_MSG)
           .create();
 
+  public static final ConfigEntry<Boolean> OWNER_ASYNC_PROPAGATION_ENABLE =
+      new ConfigBuilder("gravitino.authorization.ownerPropagation.async")
+          .doc(
+              "Whether to notify the authorization plugins of the creators set as the owners of "
+                  + "the newly created metadata objects in the background")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> OWNER_ASYNC_PROPAGATION_THREADS =
+      new ConfigBuilder("gravitino.authorization.ownerPropagation.threads")
+          .doc("The number of threads to notify the authorization plugins of the owners")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(2);
+
+  public static final ConfigEntry<Integer> OWNER_ASYNC_PROPAGATION_QUEUE_SIZE =
+      new ConfigBuilder("gravitino.authorization.ownerPropagation.queueSize")
+          .doc(
+              "The maximum number of pending owner notifications, the notification is done "
+                  + "synchronously when the queue is full")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000);
+
+  public static final ConfigEntry<Integer> OWNER_ASYNC_PROPAGATION_MAX_RETRIES =
+      new ConfigBuilder("gravitino.authorization.ownerPropagation.maxRetries")
+          .doc("The maximum number of retries of a failed owner notification")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(5);
+
+  public static final ConfigEntry<Long> OWNER_ASYNC_PROPAGATION_RETRY_INTERVAL_MS =
+      new ConfigBuilder("gravitino.authorization.ownerPropagation.retryIntervalMs")
+          .doc(
+              "The interval in milliseconds before the first retry of a failed owner "
+                  + "notification, the interval doubles on every retry")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
   public static final int DEFAULT_METRICS_TIME_SLIDING_WINDOW_SECONDS = 60;
   public static final ConfigEntry<Integer> METRICS_TIME_SLIDING_WINDOW_SECONDS =
       new ConfigBuilder("gravitino.metrics.timeSlidingWindowSecs")
@@ -335,6 +465,43 @@ public class Configs {
           .intConf()
           .createWithDefault(DEFAULT_METRICS_TIME_SLIDING_WINDOW_SECONDS);
 
+  public static final ConfigEntry<Long> SLOW_OPERATION_LOG_THRESHOLD_MS =
+      new ConfigBuilder("gravitino.metrics.slowOperation.thresholdMs")
+          .doc(
+              "The threshold in milliseconds to log a schema, table, partition, fileset or topic "
+                  + "operation as slow with the time of its phases, 0 means disabled")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  public static final ConfigEntry<Boolean> TRACING_ENABLE =
+      new ConfigBuilder("gravitino.tracing.enable")
+          .doc("Whether to record the spans of the requests served by Gravitino")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<String> TRACING_EXPORTER =
+      new ConfigBuilder("gravitino.tracing.exporter")
+          .doc(
+              "The exporter of the spans, `log`, `file`, `memory` or the class name of a custom "
+                  + "span exporter")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault("log");
+
+  public static final ConfigEntry<Integer> TRACING_SAMPLE_PERCENT =
+      new ConfigBuilder("gravitino.tracing.samplePercent")
+          .doc(
+              "The percent of the requests without a sampled `traceparent` header to trace, the "
+                  + "requests with the header follow the sampling decision of the caller")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0 && value <= 100, "The value must be in [0, 100]")
+          .createWithDefault(100);
+
   public static final ConfigEntry<List<String>> REST_API_EXTENSION_PACKAGES =
       new ConfigBuilder("gravitino.server.rest.extensionPackages")
           .doc("Comma-separated list of REST API packages to expand")
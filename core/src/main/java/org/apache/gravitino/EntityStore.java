@@ -81,7 +81,10 @@ public interface EntityStore extends Closeable {
    * @param allFields Some fields may have a relatively high acquisition cost, EntityStore provides
    *     an optional setting to avoid fetching these high-cost fields to improve the performance. If
    *     true, the method will fetch all the fields, Otherwise, the method will fetch all the fields
-   *     except for high-cost fields.
+   *     except for high-cost fields. For example, the catalogs, schemas, tables, filesets and
+   *     topics listed without all the fields only carry their ids, names and the other required
+   *     fields, without the comments, the properties and the audit info, which is empty. Use it
+   *     when only the names of the entities are needed.
    * @return the list of entities
    * @throws IOException if the list operation fails
    */
@@ -30,6 +30,7 @@ import org.apache.gravitino.catalog.CatalogNormalizeDispatcher;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.catalog.FilesetNormalizeDispatcher;
 import org.apache.gravitino.catalog.FilesetOperationDispatcher;
+import org.apache.gravitino.catalog.OperationProfilingProxy;
 import org.apache.gravitino.catalog.PartitionDispatcher;
 import org.apache.gravitino.catalog.PartitionNormalizeDispatcher;
 import org.apache.gravitino.catalog.PartitionOperationDispatcher;
@@ -67,6 +68,7 @@ import org.apache.gravitino.metrics.source.JVMMetricsSource;
 import org.apache.gravitino.storage.IdGenerator;
 import org.apache.gravitino.storage.RandomIdGenerator;
 import org.apache.gravitino.tag.TagManager;
+import org.apache.gravitino.tracing.Tracer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -317,6 +319,11 @@ public class GravitinoEnv {
   public void shutdown() {
     LOG.info("Shutting down Gravitino Environment...");
 
+    // Finish the pending owner notifications before the catalogs and the store are closed.
+    if (ownerManager != null) {
+      ownerManager.close();
+    }
+
     if (entityStore != null) {
       try {
         entityStore.close();
@@ -345,17 +352,21 @@ public class GravitinoEnv {
       eventListenerManager.stop();
     }
 
+    Tracer.close();
+
     LOG.info("Gravitino Environment is shut down.");
   }
 
   private void initBaseComponents() {
     this.metricsSystem = new MetricsSystem();
     metricsSystem.register(new JVMMetricsSource());
+    Tracer.initialize(config);
 
     this.eventListenerManager = new EventListenerManager();
     eventListenerManager.init(
         config.getConfigsWithPrefix(EventListenerManager.GRAVITINO_EVENT_LISTENER_PREFIX));
     this.eventBus = eventListenerManager.createEventBus();
+    metricsSystem.register(eventListenerManager.metricsSource());
   }
 
   private void initGravitinoServerComponents() {
@@ -380,15 +391,19 @@ public class GravitinoEnv {
         new CatalogNormalizeDispatcher(catalogHookDispatcher);
     this.catalogDispatcher = new CatalogEventDispatcher(eventBus, catalogNormalizeDispatcher);
 
-    SchemaOperationDispatcher schemaOperationDispatcher =
-        new SchemaOperationDispatcher(catalogManager, entityStore, idGenerator);
+    SchemaDispatcher schemaOperationDispatcher =
+        OperationProfilingProxy.createProxy(
+            SchemaDispatcher.class,
+            new SchemaOperationDispatcher(catalogManager, entityStore, idGenerator));
     SchemaHookDispatcher schemaHookDispatcher = new SchemaHookDispatcher(schemaOperationDispatcher);
     SchemaNormalizeDispatcher schemaNormalizeDispatcher =
         new SchemaNormalizeDispatcher(schemaHookDispatcher, catalogManager);
     this.schemaDispatcher = new SchemaEventDispatcher(eventBus, schemaNormalizeDispatcher);
 
-    TableOperationDispatcher tableOperationDispatcher =
-        new TableOperationDispatcher(catalogManager, entityStore, idGenerator);
+    TableDispatcher tableOperationDispatcher =
+        OperationProfilingProxy.createProxy(
+            TableDispatcher.class,
+            new TableOperationDispatcher(catalogManager, entityStore, idGenerator));
     TableHookDispatcher tableHookDispatcher = new TableHookDispatcher(tableOperationDispatcher);
     TableNormalizeDispatcher tableNormalizeDispatcher =
         new TableNormalizeDispatcher(tableHookDispatcher, catalogManager);
@@ -396,22 +411,28 @@ public class GravitinoEnv {
 
     // TODO: We can install hooks when we need, we only supports ownership post hook,
     //  partition doesn't have ownership, so we don't need it now.
-    PartitionOperationDispatcher partitionOperationDispatcher =
-        new PartitionOperationDispatcher(catalogManager, entityStore, idGenerator);
+    PartitionDispatcher partitionOperationDispatcher =
+        OperationProfilingProxy.createProxy(
+            PartitionDispatcher.class,
+            new PartitionOperationDispatcher(catalogManager, entityStore, idGenerator));
     PartitionNormalizeDispatcher partitionNormalizeDispatcher =
         new PartitionNormalizeDispatcher(partitionOperationDispatcher, catalogManager);
     this.partitionDispatcher = new PartitionEventDispatcher(eventBus, partitionNormalizeDispatcher);
 
-    FilesetOperationDispatcher filesetOperationDispatcher =
-        new FilesetOperationDispatcher(catalogManager, entityStore, idGenerator);
+    FilesetDispatcher filesetOperationDispatcher =
+        OperationProfilingProxy.createProxy(
+            FilesetDispatcher.class,
+            new FilesetOperationDispatcher(catalogManager, entityStore, idGenerator));
     FilesetHookDispatcher filesetHookDispatcher =
         new FilesetHookDispatcher(filesetOperationDispatcher);
     FilesetNormalizeDispatcher filesetNormalizeDispatcher =
         new FilesetNormalizeDispatcher(filesetHookDispatcher, catalogManager);
     this.filesetDispatcher = new FilesetEventDispatcher(eventBus, filesetNormalizeDispatcher);
 
-    TopicOperationDispatcher topicOperationDispatcher =
-        new TopicOperationDispatcher(catalogManager, entityStore, idGenerator);
+    TopicDispatcher topicOperationDispatcher =
+        OperationProfilingProxy.createProxy(
+            TopicDispatcher.class,
+            new TopicOperationDispatcher(catalogManager, entityStore, idGenerator));
     TopicHookDispatcher topicHookDispatcher = new TopicHookDispatcher(topicOperationDispatcher);
     TopicNormalizeDispatcher topicNormalizeDispatcher =
         new TopicNormalizeDispatcher(topicHookDispatcher, catalogManager);
@@ -425,7 +446,7 @@ public class GravitinoEnv {
               new AccessControlManager(entityStore, idGenerator, config));
 
       this.accessControlDispatcher = accessControlHookDispatcher;
-      this.ownerManager = new OwnerManager(entityStore);
+      this.ownerManager = new OwnerManager(entityStore, config);
       this.futureGrantManager = new FutureGrantManager(entityStore, ownerManager);
     } else {
       this.accessControlDispatcher = null;
@@ -438,6 +459,7 @@ public class GravitinoEnv {
 
     // Tree lock
     this.lockManager = new LockManager(config);
+    metricsSystem.register(lockManager.metricsSource());
 
     // Tag manager
     this.tagManager = new TagManager(idGenerator, entityStore);
@@ -41,6 +41,8 @@ import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchMetadataObjectException;
 import org.apache.gravitino.exceptions.NoSuchMetalakeException;
+import org.apache.gravitino.tracing.Span;
+import org.apache.gravitino.tracing.Tracer;
 import org.apache.gravitino.utils.MetadataObjectUtil;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.slf4j.Logger;
@@ -196,7 +198,15 @@ public class AuthorizationUtils {
     if (catalog instanceof BaseCatalog) {
       BaseCatalog baseCatalog = (BaseCatalog) catalog;
       if (baseCatalog.getAuthorizationPlugin() != null) {
-        consumer.accept(baseCatalog.getAuthorizationPlugin());
+        try (Span span = Tracer.startSpan("authorization-plugin")) {
+          span.setAttribute("catalog", catalog.name());
+          try {
+            consumer.accept(baseCatalog.getAuthorizationPlugin());
+          } catch (RuntimeException e) {
+            span.setError(e);
+            throw e;
+          }
+        }
       }
     }
   }
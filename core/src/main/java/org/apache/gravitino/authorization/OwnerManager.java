@@ -21,6 +21,8 @@ package org.apache.gravitino.authorization;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.MetadataObject;
@@ -47,7 +49,15 @@ public class OwnerManager {
   private static final Logger LOG = LoggerFactory.getLogger(OwnerManager.class);
   private final EntityStore store;
 
+  // Notifies the authorization plugins of the owners of the newly created objects in the
+  // background, null if the notifications are done synchronously.
+  private final OwnerSetPropagator propagator;
+
   public OwnerManager(EntityStore store) {
+    this(store, null);
+  }
+
+  public OwnerManager(EntityStore store, Config config) {
     if (store instanceof KvEntityStore) {
       String errorMsg =
           "OwnerManager cannot run with kv entity store, please configure the entity "
@@ -63,13 +73,76 @@ public class OwnerManager {
       LOG.error(errorMsg);
       throw new RuntimeException(errorMsg);
     }
+
+    this.propagator =
+        config != null && config.get(Configs.OWNER_ASYNC_PROPAGATION_ENABLE)
+            ? new OwnerSetPropagator(
+                config.get(Configs.OWNER_ASYNC_PROPAGATION_THREADS),
+                config.get(Configs.OWNER_ASYNC_PROPAGATION_QUEUE_SIZE),
+                config.get(Configs.OWNER_ASYNC_PROPAGATION_MAX_RETRIES),
+                config.get(Configs.OWNER_ASYNC_PROPAGATION_RETRY_INTERVAL_MS),
+                this::getOwner)
+            : null;
   }
 
   public void setOwner(
       String metalake, MetadataObject metadataObject, String ownerName, Owner.Type ownerType) {
-    try {
-      Optional<Owner> originOwner = getOwner(metalake, metadataObject);
+    if (propagator != null) {
+      // Order the change against the pending notification of the owner of the created object.
+      propagator.runExclusively(
+          metalake,
+          metadataObject,
+          () -> changeOwner(metalake, metadataObject, ownerName, ownerType));
+    } else {
+      changeOwner(metalake, metadataObject, ownerName, ownerType);
+    }
+  }
+
+  /**
+   * Sets the creator as the owner of a newly created metadata object. The object has no owner
+   * before, so the origin owner isn't loaded, and the authorization plugins are notified in the
+   * background if the asynchronous propagation is enabled.
+   *
+   * @param metalake The metalake of the metadata object.
+   * @param metadataObject The newly created metadata object.
+   * @param userName The name of the user who created the metadata object.
+   */
+  public void setOwnerOfCreatedObject(
+      String metalake, MetadataObject metadataObject, String userName) {
+    Owner newOwner = storeOwner(metalake, metadataObject, userName, Owner.Type.USER);
+
+    if (propagator != null) {
+      propagator.propagate(metalake, metadataObject, newOwner);
+    } else {
+      AuthorizationUtils.callAuthorizationPluginForMetadataObject(
+          metalake,
+          metadataObject,
+          authorizationPlugin -> authorizationPlugin.onOwnerSet(metadataObject, null, newOwner));
+    }
+  }
+
+  /** Waits for the pending notifications of the owners to finish and stops the propagation. */
+  public void close() {
+    if (propagator != null) {
+      propagator.close();
+    }
+  }
+
+  private void changeOwner(
+      String metalake, MetadataObject metadataObject, String ownerName, Owner.Type ownerType) {
+    Optional<Owner> originOwner = getOwner(metalake, metadataObject);
+    Owner newOwner = storeOwner(metalake, metadataObject, ownerName, ownerType);
 
+    AuthorizationUtils.callAuthorizationPluginForMetadataObject(
+        metalake,
+        metadataObject,
+        authorizationPlugin ->
+            authorizationPlugin.onOwnerSet(metadataObject, originOwner.orElse(null), newOwner));
+  }
+
+  private Owner storeOwner(
+      String metalake, MetadataObject metadataObject, String ownerName, Owner.Type ownerType) {
+    try {
       NameIdentifier objectIdent = MetadataObjectUtil.toEntityIdent(metalake, metadataObject);
       OwnerImpl newOwner = new OwnerImpl();
 
@@ -115,11 +188,7 @@ public class OwnerManager {
         newOwner.type = Owner.Type.GROUP;
       }
 
-      AuthorizationUtils.callAuthorizationPluginForMetadataObject(
-          metalake,
-          metadataObject,
-          authorizationPlugin ->
-              authorizationPlugin.onOwnerSet(metadataObject, originOwner.orElse(null), newOwner));
+      return newOwner;
     } catch (NoSuchEntityException nse) {
       LOG.warn(
           "Metadata object {} or owner {} is not found", metadataObject.fullName(), ownerName, nse);
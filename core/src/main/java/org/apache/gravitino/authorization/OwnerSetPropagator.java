@@ -0,0 +1,326 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.Striped;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BiFunction;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.exceptions.NoSuchMetadataObjectException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Notifies the authorization plugins of the owners set on the newly created metadata objects in
+ * the background, so a DDL doesn't wait for the round-trips to the underlying authorization
+ * systems. A failed notification is retried with an exponential backoff. The owner relation itself
+ * is stored before the notification is queued, so only the plugin side is eventually consistent.
+ *
+ * <p>The notifications of an object are ordered against the later owner changes of it: a change
+ * run by {@link #runExclusively(String, MetadataObject, Runnable)} supersedes the pending
+ * notification, and a notification is delivered only if the object still exists and its current
+ * owner is still the notified one, both checked under the per-object lock of the changes. The lock
+ * isn't held while the plugins are called, so a change may reach the plugins before a notification
+ * it overlaps with. The notification then checks again whether it was superseded, and if the owner
+ * was changed, it queues a notification moving the ownership to the current owner.
+ */
+class OwnerSetPropagator implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(OwnerSetPropagator.class);
+
+  private static final long SHUTDOWN_TIMEOUT_MS = 10_000L;
+
+  // The backoff doesn't grow anymore after this many retries.
+  private static final int MAX_BACKOFF_SHIFT = 10;
+
+  private static final int LOCK_STRIPES = 64;
+
+  private final ScheduledThreadPoolExecutor executor;
+  private final int queueSize;
+  private final int maxRetries;
+  private final long retryIntervalMs;
+  // Loads the current owner of an object, it throws NoSuchMetadataObjectException if the object
+  // doesn't exist.
+  private final BiFunction<String, MetadataObject, Optional<Owner>> ownerLoader;
+
+  private final Striped<Lock> locks = Striped.lock(LOCK_STRIPES);
+  private final AtomicLong sequence = new AtomicLong();
+  // The sequence of the pending notification of each object, a notification whose sequence isn't
+  // the one here is superseded.
+  private final Map<String, Long> pendingNotifications = new ConcurrentHashMap<>();
+
+  OwnerSetPropagator(
+      int threads,
+      int queueSize,
+      int maxRetries,
+      long retryIntervalMs,
+      BiFunction<String, MetadataObject, Optional<Owner>> ownerLoader) {
+    this.executor =
+        new ScheduledThreadPoolExecutor(
+            threads,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("owner-set-propagator-%d")
+                .build());
+    this.queueSize = queueSize;
+    this.maxRetries = maxRetries;
+    this.retryIntervalMs = retryIntervalMs;
+    this.ownerLoader = ownerLoader;
+  }
+
+  /**
+   * Notifies the authorization plugins of the owner set on the newly created metadata object. The
+   * notification is done in the calling thread if too many notifications are pending, to push
+   * back on the callers instead of growing the queue without bound.
+   *
+   * @param metalake The metalake of the metadata object.
+   * @param metadataObject The newly created metadata object.
+   * @param owner The owner of the metadata object.
+   */
+  void propagate(String metalake, MetadataObject metadataObject, Owner owner) {
+    propagate(metalake, metadataObject, null, owner);
+  }
+
+  private void propagate(
+      String metalake, MetadataObject metadataObject, Owner preOwner, Owner owner) {
+    String key = key(metalake, metadataObject);
+    long seq = sequence.incrementAndGet();
+    pendingNotifications.put(key, seq);
+
+    if (executor.getQueue().size() >= queueSize) {
+      LOG.warn(
+          "Too many pending owner notifications, notify the owner of {} synchronously",
+          metadataObject.fullName());
+      notifySynchronously(key, seq, metalake, metadataObject, preOwner, owner);
+      return;
+    }
+
+    try {
+      executor.execute(() -> attempt(key, seq, metalake, metadataObject, preOwner, owner, 1));
+    } catch (RejectedExecutionException e) {
+      // The propagator is closed, don't lose the notification.
+      notifySynchronously(key, seq, metalake, metadataObject, preOwner, owner);
+    }
+  }
+
+  /**
+   * Runs an owner change of the metadata object exclusively with the notifications of it. The
+   * pending notification of the object, including its retries, is superseded by the change.
+   *
+   * @param metalake The metalake of the metadata object.
+   * @param metadataObject The metadata object whose owner is changed.
+   * @param change The owner change, which stores the owner and notifies the plugins of it.
+   */
+  void runExclusively(String metalake, MetadataObject metadataObject, Runnable change) {
+    String key = key(metalake, metadataObject);
+    Lock lock = locks.get(key);
+    lock.lock();
+    try {
+      pendingNotifications.remove(key);
+      change.run();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @VisibleForTesting
+  int pending() {
+    return executor.getQueue().size() + executor.getActiveCount();
+  }
+
+  @Override
+  public void close() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        LOG.warn(
+            "{} owner notifications are not finished before the shutdown",
+            executor.shutdownNow().size());
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void notifySynchronously(
+      String key,
+      long seq,
+      String metalake,
+      MetadataObject metadataObject,
+      Owner preOwner,
+      Owner owner) {
+    try {
+      deliver(key, seq, metalake, metadataObject, preOwner, owner);
+    } finally {
+      pendingNotifications.remove(key, seq);
+    }
+  }
+
+  private void attempt(
+      String key,
+      long seq,
+      String metalake,
+      MetadataObject metadataObject,
+      Owner preOwner,
+      Owner owner,
+      int attempt) {
+    try {
+      deliver(key, seq, metalake, metadataObject, preOwner, owner);
+      pendingNotifications.remove(key, seq);
+    } catch (RuntimeException e) {
+      if (attempt > maxRetries) {
+        LOG.error(
+            "Failed to notify the owner {} of {} after {} attempts, give up",
+            owner.name(),
+            metadataObject.fullName(),
+            attempt,
+            e);
+        pendingNotifications.remove(key, seq);
+        return;
+      }
+
+      long delayMs = retryIntervalMs << Math.min(attempt - 1, MAX_BACKOFF_SHIFT);
+      LOG.warn(
+          "Failed to notify the owner {} of {}, retry in {}ms",
+          owner.name(),
+          metadataObject.fullName(),
+          delayMs,
+          e);
+      try {
+        executor.schedule(
+            () -> attempt(key, seq, metalake, metadataObject, preOwner, owner, attempt + 1),
+            delayMs,
+            TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException ree) {
+        LOG.error(
+            "Failed to retry notifying the owner {} of {}, the propagator is closed",
+            owner.name(),
+            metadataObject.fullName());
+        pendingNotifications.remove(key, seq);
+      }
+    }
+  }
+
+  private void deliver(
+      String key,
+      long seq,
+      String metalake,
+      MetadataObject metadataObject,
+      Owner preOwner,
+      Owner owner) {
+    if (!isDeliverable(key, seq, metalake, metadataObject, owner)) {
+      return;
+    }
+
+    // The plugins are called without the lock, so the owner changes of the object, and of the
+    // other objects sharing the lock stripe, don't wait for the underlying authorization systems.
+    AuthorizationUtils.callAuthorizationPluginForMetadataObject(
+        metalake,
+        metadataObject,
+        authorizationPlugin -> authorizationPlugin.onOwnerSet(metadataObject, preOwner, owner));
+
+    Optional<Owner> changedOwner = changedOwner(key, seq, metalake, metadataObject, owner);
+    if (changedOwner.isPresent()) {
+      LOG.debug(
+          "The owner of {} is changed from {} while notifying it, notify {} again",
+          metadataObject.fullName(),
+          owner.name(),
+          changedOwner.get().name());
+      propagate(metalake, metadataObject, owner, changedOwner.get());
+    }
+  }
+
+  private boolean isDeliverable(
+      String key, long seq, String metalake, MetadataObject metadataObject, Owner owner) {
+    Lock lock = locks.get(key);
+    lock.lock();
+    try {
+      if (!Objects.equals(pendingNotifications.get(key), seq)) {
+        LOG.debug(
+            "The notification of the owner {} of {} is superseded",
+            owner.name(),
+            metadataObject.fullName());
+        return false;
+      }
+
+      Optional<Owner> currentOwner;
+      try {
+        currentOwner = ownerLoader.apply(metalake, metadataObject);
+      } catch (NoSuchMetadataObjectException e) {
+        LOG.debug("{} is dropped, skip notifying its owner", metadataObject.fullName());
+        return false;
+      }
+      if (!currentOwner.isPresent() || !sameOwner(currentOwner.get(), owner)) {
+        LOG.debug(
+            "The owner of {} is changed from {}, skip notifying it",
+            metadataObject.fullName(),
+            owner.name());
+        return false;
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the current owner of the object if the notification was superseded by an owner change
+   * while the plugins were called, since the change may have reached the plugins first.
+   */
+  private Optional<Owner> changedOwner(
+      String key, long seq, String metalake, MetadataObject metadataObject, Owner owner) {
+    Lock lock = locks.get(key);
+    lock.lock();
+    try {
+      if (Objects.equals(pendingNotifications.get(key), seq)) {
+        return Optional.empty();
+      }
+
+      Optional<Owner> currentOwner;
+      try {
+        currentOwner = ownerLoader.apply(metalake, metadataObject);
+      } catch (NoSuchMetadataObjectException e) {
+        return Optional.empty();
+      }
+      return currentOwner.filter(o -> !sameOwner(o, owner));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static boolean sameOwner(Owner owner, Owner other) {
+    return Objects.equals(owner.name(), other.name()) && owner.type() == other.type();
+  }
+
+  private static String key(String metalake, MetadataObject metadataObject) {
+    return String.join(".", metalake, metadataObject.type().name(), metadataObject.fullName());
+  }
+}
@@ -85,10 +85,15 @@ import org.apache.gravitino.messaging.TopicCatalog;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.CatalogEntity;
 import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.metrics.OperationProfiler;
+import org.apache.gravitino.metrics.OperationProfiler.Phase;
 import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.tracing.Span;
+import org.apache.gravitino.tracing.Tracer;
+import org.apache.gravitino.utils.Executable;
 import org.apache.gravitino.utils.IsolatedClassLoader;
 import org.apache.gravitino.utils.PrincipalUtils;
 import org.apache.gravitino.utils.ThrowableFunction;
@@ -119,7 +124,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
             if (asSchemas() == null) {
               throw new UnsupportedOperationException("Catalog does not support schema operations");
             }
-            return fn.apply(asSchemas());
+            return callCatalog("schema", () -> fn.apply(asSchemas()));
           });
     }
 
@@ -129,7 +134,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
             if (asTables() == null) {
               throw new UnsupportedOperationException("Catalog does not support table operations");
             }
-            return fn.apply(asTables());
+            return callCatalog("table", () -> fn.apply(asTables()));
           });
     }
 
@@ -140,7 +145,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
               throw new UnsupportedOperationException(
                   "Catalog does not support fileset operations");
             }
-            return fn.apply(asFilesets());
+            return callCatalog("fileset", () -> fn.apply(asFilesets()));
           });
     }
 
@@ -150,12 +155,13 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
             if (asTopics() == null) {
               throw new UnsupportedOperationException("Catalog does not support topic operations");
             }
-            return fn.apply(asTopics());
+            return callCatalog("topic", () -> fn.apply(asTopics()));
           });
     }
 
     public <R> R doWithCatalogOps(ThrowableFunction<CatalogOperations, R> fn) throws Exception {
-      return classLoader.withClassLoader(cl -> fn.apply(catalog.ops()));
+      return classLoader.withClassLoader(
+          cl -> callCatalog("catalog", () -> fn.apply(catalog.ops())));
     }
 
     public <R> R doWithPartitionOps(
@@ -164,10 +170,15 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
           cl -> {
             Preconditions.checkArgument(
                 asTables() != null, "Catalog does not support table operations");
-            Table table = asTables().loadTable(tableIdent);
-            Preconditions.checkArgument(
-                table.supportPartitions() != null, "Table does not support partition operations");
-            return fn.apply(table.supportPartitions());
+            return callCatalog(
+                "partition",
+                () -> {
+                  Table table = asTables().loadTable(tableIdent);
+                  Preconditions.checkArgument(
+                      table.supportPartitions() != null,
+                      "Table does not support partition operations");
+                  return fn.apply(table.supportPartitions());
+                });
           });
     }
 
@@ -197,6 +208,20 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
       classLoader.close();
     }
 
+    // Calls the underlying catalog in a span and profiles it as the catalog phase.
+    private <R> R callCatalog(String operations, Executable<R, Exception> call) throws Exception {
+      return Tracer.doWithSpan(
+          "catalog." + operations,
+          () -> {
+            Span span = Tracer.currentSpan();
+            if (span.isRecording()) {
+              span.setAttribute("catalog", catalog.name())
+                  .setAttribute("provider", catalog.provider());
+            }
+            return OperationProfiler.doWithPhase(Phase.CATALOG, call);
+          });
+    }
+
     private SupportsSchemas asSchemas() {
       return catalog.ops() instanceof SupportsSchemas ? (SupportsSchemas) catalog.ops() : null;
     }
@@ -276,7 +301,9 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     checkMetalakeExists(metalakeIdent);
 
     try {
-      return store.list(namespace, CatalogEntity.class, EntityType.CATALOG).stream()
+      return store
+          .list(namespace, CatalogEntity.class, EntityType.CATALOG, false /* allFields */)
+          .stream()
           .map(entity -> NameIdentifier.of(namespace, entity.name()))
           .toArray(NameIdentifier[]::new);
 
@@ -598,7 +625,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
    * @throws NoSuchCatalogException If the specified catalog does not exist.
    */
   public CatalogWrapper loadCatalogAndWrap(NameIdentifier ident) throws NoSuchCatalogException {
-    return catalogCache.get(ident, this::loadCatalogInternal);
+    return OperationProfiler.doWithPhase(
+        Phase.CATALOG_LOAD, () -> catalogCache.get(ident, this::loadCatalogInternal));
   }
 
   private Map<String, String> buildCatalogConf(String provider, Map<String, String> properties) {
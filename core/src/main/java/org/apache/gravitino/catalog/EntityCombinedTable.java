@@ -128,6 +128,10 @@ public final class EntityCombinedTable implements Table {
     return imported;
   }
 
+  TableEntity tableEntity() {
+    return tableEntity;
+  }
+
   @Override
   public Audit auditInfo() {
     AuditInfo mergedAudit =
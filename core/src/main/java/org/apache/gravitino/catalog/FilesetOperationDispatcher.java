@@ -72,20 +72,25 @@ public class FilesetOperationDispatcher extends OperationDispatcher implements F
    */
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
-    NameIdentifier catalogIdent = getCatalogIdentifier(ident);
-    Fileset fileset =
-        doWithCatalog(
-            catalogIdent,
-            c -> c.doWithFilesetOps(f -> f.loadFileset(ident)),
-            NoSuchFilesetException.class);
+    return doWithLoadCoalescing(
+        "load-fileset",
+        ident,
+        () -> {
+          NameIdentifier catalogIdent = getCatalogIdentifier(ident);
+          Fileset fileset =
+              doWithCatalog(
+                  catalogIdent,
+                  c -> c.doWithFilesetOps(f -> f.loadFileset(ident)),
+                  NoSuchFilesetException.class);
 
-    // Currently we only support maintaining the Fileset in the Gravitino's store.
-    return EntityCombinedFileset.of(fileset)
-        .withHiddenPropertiesSet(
-            getHiddenPropertyNames(
-                catalogIdent,
-                HasPropertyMetadata::filesetPropertiesMetadata,
-                fileset.properties()));
+          // Currently we only support maintaining the Fileset in the Gravitino's store.
+          return EntityCombinedFileset.of(fileset)
+              .withHiddenPropertiesSet(
+                  getHiddenPropertyNames(
+                      catalogIdent,
+                      HasPropertyMetadata::filesetPropertiesMetadata,
+                      fileset.properties()));
+        });
   }
 
   /**
@@ -23,10 +23,16 @@ import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier
 
 import com.google.common.collect.Maps;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.SchemaChange;
@@ -37,9 +43,12 @@ import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.file.FilesetChange;
 import org.apache.gravitino.messaging.TopicChange;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.OperationDispatcherMetricsSource;
 import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.utils.PrincipalUtils;
 import org.apache.gravitino.utils.ThrowableFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,6 +66,13 @@ public abstract class OperationDispatcher {
 
   protected final IdGenerator idGenerator;
 
+  private final boolean loadCoalescingEnabled;
+
+  private final SingleFlight<LoadKey> loadSingleFlight = new SingleFlight<>();
+
+  private final Map<String, OperationDispatcherMetricsSource> metricsSources =
+      new ConcurrentHashMap<>();
+
   /**
    * Creates a new CatalogOperationDispatcher instance.
    *
@@ -69,6 +85,53 @@ public abstract class OperationDispatcher {
     this.catalogManager = catalogManager;
     this.store = store;
     this.idGenerator = idGenerator;
+
+    Config config = GravitinoEnv.getInstance().config();
+    this.loadCoalescingEnabled =
+        config == null || !Boolean.FALSE.equals(config.get(Configs.CATALOG_LOAD_COALESCING_ENABLE));
+  }
+
+  /**
+   * Runs the load of an object, the concurrent loads of the same object by the same user are merged
+   * into one call to the underlying catalog and share its result. The number of merged loads is
+   * recorded per catalog in the "operation-dispatcher.{operation}" metrics source.
+   *
+   * @param operation The name of the load operation, like "load-table".
+   * @param ident The identifier of the object to load.
+   * @param load The function to load the object.
+   * @param <R> The type of the loaded object.
+   * @return The loaded object.
+   */
+  protected <R> R doWithLoadCoalescing(String operation, NameIdentifier ident, Supplier<R> load) {
+    if (!loadCoalescingEnabled) {
+      return load.get();
+    }
+
+    // The user is part of the key because the underlying catalog may load the object on behalf of
+    // the user, for example with impersonation.
+    LoadKey key = new LoadKey(operation, PrincipalUtils.getCurrentUserName(), ident);
+    return loadSingleFlight.execute(
+        key,
+        load,
+        () -> {
+          NameIdentifier catalogIdent = getCatalogIdentifier(ident);
+          metricsSource(operation)
+              .collapsedCallsCounter(catalogIdent.namespace().level(0), catalogIdent.name())
+              .inc();
+        });
+  }
+
+  OperationDispatcherMetricsSource metricsSource(String operation) {
+    return metricsSources.computeIfAbsent(
+        operation,
+        op -> {
+          OperationDispatcherMetricsSource metricsSource = new OperationDispatcherMetricsSource(op);
+          MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+          if (metricsSystem != null) {
+            metricsSystem.register(metricsSource);
+          }
+          return metricsSource;
+        });
   }
 
   protected <R, E extends Throwable> R doWithTable(
@@ -285,4 +348,35 @@ public abstract class OperationDispatcher {
             + "Gravitino. This might be due to some operations that are not performed through Gravitino. "
             + "With this situation the returned object will not contain the metadata from Gravitino";
   }
+
+  private static final class LoadKey {
+    private final String operation;
+    private final String user;
+    private final NameIdentifier ident;
+
+    private LoadKey(String operation, String user, NameIdentifier ident) {
+      this.operation = operation;
+      this.user = user;
+      this.ident = ident;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof LoadKey)) {
+        return false;
+      }
+      LoadKey that = (LoadKey) o;
+      return operation.equals(that.operation)
+          && Objects.equals(user, that.user)
+          && ident.equals(that.ident);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(operation, user, ident);
+    }
+  }
 }
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.metrics.OperationProfiler;
+import org.apache.gravitino.metrics.source.OperationDispatcherMetricsSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Proxy wrapper on an {@link OperationDispatcher} to profile its operations. The latency of each
+ * operation and of its phases is recorded per catalog in the "operation-dispatcher.{operation}"
+ * metrics source, and the operations slower than {@link Configs#SLOW_OPERATION_LOG_THRESHOLD_MS}
+ * are logged with the time of their phases.
+ */
+public class OperationProfilingProxy implements InvocationHandler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(OperationProfilingProxy.class);
+
+  private final OperationDispatcher dispatcher;
+
+  private final long slowOperationThresholdNanos;
+
+  private OperationProfilingProxy(OperationDispatcher dispatcher) {
+    this.dispatcher = dispatcher;
+
+    Config config = GravitinoEnv.getInstance().config();
+    Long thresholdMs = config == null ? null : config.get(Configs.SLOW_OPERATION_LOG_THRESHOLD_MS);
+    this.slowOperationThresholdNanos =
+        thresholdMs == null ? 0L : TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+  }
+
+  /**
+   * Creates a proxy of the dispatcher to profile its operations.
+   *
+   * @param dispatcherInterface The dispatcher interface, like {@link TableDispatcher}.
+   * @param dispatcher The dispatcher to profile.
+   * @return The proxy of the dispatcher.
+   * @param <T> The type of the dispatcher interface.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T createProxy(Class<T> dispatcherInterface, OperationDispatcher dispatcher) {
+    if (!dispatcherInterface.isInstance(dispatcher)) {
+      throw new IllegalArgumentException(
+          "The dispatcher doesn't implement " + dispatcherInterface.getSimpleName());
+    }
+    return (T)
+        Proxy.newProxyInstance(
+            dispatcherInterface.getClassLoader(),
+            new Class<?>[] {dispatcherInterface},
+            new OperationProfilingProxy(dispatcher));
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    NameIdentifier catalogIdent = catalogIdentifier(args);
+    if (catalogIdent == null) {
+      return invokeDispatcher(method, args);
+    }
+
+    String operation = operationName(method.getName());
+    return OperationProfiler.doWithOperation(
+        () -> invokeDispatcher(method, args),
+        profile -> report(operation, catalogIdent, args[0], profile));
+  }
+
+  private Object invokeDispatcher(Method method, Object[] args) throws Exception {
+    try {
+      return method.invoke(dispatcher, args);
+    } catch (InvocationTargetException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Exception) {
+        throw (Exception) cause;
+      }
+      throw (Error) cause;
+    }
+  }
+
+  private void report(
+      String operation,
+      NameIdentifier catalogIdent,
+      Object target,
+      OperationProfiler.Profile profile) {
+    String metalake = catalogIdent.namespace().level(0);
+    String catalog = catalogIdent.name();
+    OperationDispatcherMetricsSource metricsSource = dispatcher.metricsSource(operation);
+    metricsSource
+        .latencyTimer(metalake, catalog)
+        .update(profile.totalNanos(), TimeUnit.NANOSECONDS);
+    for (OperationProfiler.Phase phase : OperationProfiler.Phase.values()) {
+      metricsSource
+          .phaseLatencyTimer(metalake, catalog, phase)
+          .update(profile.phaseNanos(phase), TimeUnit.NANOSECONDS);
+    }
+
+    if (slowOperationThresholdNanos > 0 && profile.totalNanos() >= slowOperationThresholdNanos) {
+      LOG.warn(
+          "Slow operation {} on {} took {}ms: {}",
+          operation,
+          target,
+          TimeUnit.NANOSECONDS.toMillis(profile.totalNanos()),
+          profile);
+    }
+  }
+
+  // The dispatcher operations take the identifier or the namespace of the object as the first
+  // argument, the level 0 and 1 of which are the metalake and the catalog.
+  private static NameIdentifier catalogIdentifier(Object[] args) {
+    if (args == null || args.length == 0) {
+      return null;
+    }
+
+    Namespace namespace;
+    if (args[0] instanceof NameIdentifier) {
+      NameIdentifier ident = (NameIdentifier) args[0];
+      if (ident.namespace().length() == 1) {
+        return ident;
+      }
+      namespace = ident.namespace();
+    } else if (args[0] instanceof Namespace) {
+      namespace = (Namespace) args[0];
+    } else {
+      return null;
+    }
+
+    return namespace.length() < 2
+        ? null
+        : NameIdentifier.of(namespace.level(0), namespace.level(1));
+  }
+
+  // Converts the method name to the operation name, like "loadTable" to "load-table".
+  private static String operationName(String methodName) {
+    StringBuilder builder = new StringBuilder(methodName.length() + 4);
+    for (char c : methodName.toCharArray()) {
+      if (Character.isUpperCase(c)) {
+        builder.append('-').append(Character.toLowerCase(c));
+      } else {
+        builder.append(c);
+      }
+    }
+    return builder.toString();
+  }
+}
@@ -47,6 +47,29 @@ public interface PartitionDispatcher {
    */
   Partition[] listPartitions(NameIdentifier tableIdent);
 
+  /**
+   * List the names of the partitions in the table whose names match the pattern, ordered by the
+   * name.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param namePattern The SQL LIKE pattern of the partition names, or null to match all.
+   * @param offset The number of the matched partitions to skip.
+   * @param limit The maximum number of the partitions to return, 0 means no limit.
+   * @return The names of the matched partitions.
+   */
+  String[] listPartitionNames(NameIdentifier tableIdent, String namePattern, int offset, int limit);
+
+  /**
+   * List the partitions in the table whose names match the pattern, ordered by the name.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param namePattern The SQL LIKE pattern of the partition names, or null to match all.
+   * @param offset The number of the matched partitions to skip.
+   * @param limit The maximum number of the partitions to return, 0 means no limit.
+   * @return The matched partitions.
+   */
+  Partition[] listPartitions(NameIdentifier tableIdent, String namePattern, int offset, int limit);
+
   /**
    * Get a partition by name from the table.
    *
@@ -94,6 +117,26 @@ public interface PartitionDispatcher {
    */
   boolean dropPartition(NameIdentifier tableIdent, String partitionName);
 
+  /**
+   * Add the partitions to the table.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param partitions The partitions to add.
+   * @return The added partitions.
+   * @throws PartitionAlreadyExistsException If any of the partitions already exists.
+   */
+  Partition[] addPartitions(NameIdentifier tableIdent, Partition... partitions)
+      throws PartitionAlreadyExistsException;
+
+  /**
+   * Drop the partitions from the table by names.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param partitionNames The names of the partitions.
+   * @return True if all the partitions were dropped, false if any of them does not exist.
+   */
+  boolean dropPartitions(NameIdentifier tableIdent, String... partitionNames);
+
   /**
    * Purge a partition from the table by name.
    *
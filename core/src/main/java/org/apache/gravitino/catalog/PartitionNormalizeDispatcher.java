@@ -61,6 +61,36 @@ public class PartitionNormalizeDispatcher implements PartitionDispatcher {
     return applyCaseSensitive(partitions, capabilities);
   }
 
+  @Override
+  public String[] listPartitionNames(
+      NameIdentifier tableIdent, String namePattern, int offset, int limit) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    String[] partitionNames =
+        dispatcher.listPartitionNames(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+            namePattern,
+            offset,
+            limit);
+    return Arrays.stream(partitionNames)
+        .map(
+            partitionName ->
+                applyCaseSensitiveOnName(Capability.Scope.PARTITION, partitionName, capabilities))
+        .toArray(String[]::new);
+  }
+
+  @Override
+  public Partition[] listPartitions(
+      NameIdentifier tableIdent, String namePattern, int offset, int limit) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    Partition[] partitions =
+        dispatcher.listPartitions(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+            namePattern,
+            offset,
+            limit);
+    return applyCaseSensitive(partitions, capabilities);
+  }
+
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
@@ -87,6 +117,28 @@ public class PartitionNormalizeDispatcher implements PartitionDispatcher {
         applyCaseSensitiveOnName(Capability.Scope.PARTITION, partitionName, capabilities));
   }
 
+  @Override
+  public Partition[] addPartitions(NameIdentifier tableIdent, Partition... partitions)
+      throws PartitionAlreadyExistsException {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    return dispatcher.addPartitions(
+        applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+        applyCaseSensitive(partitions, capabilities));
+  }
+
+  @Override
+  public boolean dropPartitions(NameIdentifier tableIdent, String... partitionNames) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    return dispatcher.dropPartitions(
+        applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+        Arrays.stream(partitionNames)
+            .map(
+                partitionName ->
+                    applyCaseSensitiveOnName(
+                        Capability.Scope.PARTITION, partitionName, capabilities))
+            .toArray(String[]::new));
+  }
+
   @Override
   public boolean purgePartition(NameIdentifier tableIdent, String partitionName)
       throws UnsupportedOperationException {
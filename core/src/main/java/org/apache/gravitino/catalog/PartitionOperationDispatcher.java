@@ -53,6 +53,22 @@ public class PartitionOperationDispatcher extends OperationDispatcher
     return doWithTable(tableIdent, SupportsPartitions::listPartitions, NoSuchTableException.class);
   }
 
+  @Override
+  public String[] listPartitionNames(
+      NameIdentifier tableIdent, String namePattern, int offset, int limit) {
+    return doWithTable(
+        tableIdent,
+        p -> p.listPartitionNames(namePattern, offset, limit),
+        NoSuchTableException.class);
+  }
+
+  @Override
+  public Partition[] listPartitions(
+      NameIdentifier tableIdent, String namePattern, int offset, int limit) {
+    return doWithTable(
+        tableIdent, p -> p.listPartitions(namePattern, offset, limit), NoSuchTableException.class);
+  }
+
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
@@ -73,6 +89,19 @@ public class PartitionOperationDispatcher extends OperationDispatcher
         tableIdent, p -> p.dropPartition(partitionName), NoSuchPartitionException.class);
   }
 
+  @Override
+  public Partition[] addPartitions(NameIdentifier tableIdent, Partition... partitions)
+      throws PartitionAlreadyExistsException {
+    return doWithTable(
+        tableIdent, p -> p.addPartitions(partitions), PartitionAlreadyExistsException.class);
+  }
+
+  @Override
+  public boolean dropPartitions(NameIdentifier tableIdent, String... partitionNames) {
+    return doWithTable(
+        tableIdent, p -> p.dropPartitions(partitionNames), NoSuchPartitionException.class);
+  }
+
   @Override
   public boolean purgePartition(NameIdentifier tableIdent, String partitionName)
       throws UnsupportedOperationException {
@@ -171,21 +171,26 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
    */
   @Override
   public Schema loadSchema(NameIdentifier ident) throws NoSuchSchemaException {
-    // Load the schema and check if this schema is already imported.
-    EntityCombinedSchema schema =
-        TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadSchema(ident));
-
-    if (!schema.imported()) {
-      TreeLockUtils.doWithTreeLock(
-          NameIdentifier.of(ident.namespace().levels()),
-          LockType.WRITE,
-          () -> {
-            importSchema(ident);
-            return null;
-          });
-    }
+    return doWithLoadCoalescing(
+        "load-schema",
+        ident,
+        () -> {
+          // Load the schema and check if this schema is already imported.
+          EntityCombinedSchema schema =
+              TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadSchema(ident));
+
+          if (!schema.imported()) {
+            TreeLockUtils.doWithTreeLock(
+                NameIdentifier.of(ident.namespace().levels()),
+                LockType.WRITE,
+                () -> {
+                  importSchema(ident);
+                  return null;
+                });
+          }
 
-    return schema;
+          return schema;
+        });
   }
 
   /**
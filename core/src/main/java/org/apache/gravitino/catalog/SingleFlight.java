@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * SingleFlight merges the concurrent calls with the same key into one in-flight call. The first
+ * caller of a key runs the call, and the callers arriving while it is running wait for it and share
+ * its result or exception instead of running the call again.
+ *
+ * <p>The result is not cached, a call arriving after the in-flight call finished runs again.
+ *
+ * @param <K> The type of the call key.
+ */
+class SingleFlight<K> {
+
+  private final ConcurrentMap<K, CompletableFuture<Object>> inFlightCalls =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Runs the call, or waits for the in-flight call with the same key if there is one.
+   *
+   * @param key The key of the call.
+   * @param call The call to run.
+   * @param onCollapsed The callback invoked when this call is merged into an in-flight call.
+   * @param <R> The type of the result.
+   * @return The result of the call.
+   */
+  @SuppressWarnings("unchecked")
+  <R> R execute(K key, Supplier<R> call, Runnable onCollapsed) {
+    CompletableFuture<Object> future = new CompletableFuture<>();
+    CompletableFuture<Object> inFlight = inFlightCalls.putIfAbsent(key, future);
+    if (inFlight != null) {
+      onCollapsed.run();
+      return (R) await(inFlight);
+    }
+
+    try {
+      R result = call.get();
+      future.complete(result);
+      return result;
+    } catch (Throwable t) {
+      future.completeExceptionally(t);
+      throw t;
+    } finally {
+      inFlightCalls.remove(key, future);
+    }
+  }
+
+  private static Object await(CompletableFuture<Object> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new RuntimeException(cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for the in-flight call", e);
+    }
+  }
+}
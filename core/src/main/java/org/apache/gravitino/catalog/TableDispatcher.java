@@ -19,7 +19,13 @@
 
 package org.apache.gravitino.catalog;
 
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.TableCatalog;
+import org.apache.gravitino.rel.TableSummary;
 
 /**
  * {@code TableDispatcher} interface acts as a specialization of the {@link TableCatalog} interface.
@@ -27,4 +33,30 @@ import org.apache.gravitino.rel.TableCatalog;
  * dispatching or handling table-related events or actions that are not covered by the standard
  * {@code TableCatalog} operations.
  */
-public interface TableDispatcher extends TableCatalog {}
+public interface TableDispatcher extends TableCatalog {
+
+  /**
+   * Load the columns of a table. Unlike {@link #loadTable(NameIdentifier)}, the columns may be
+   * served from the entity store without loading the table from the underlying catalog.
+   *
+   * @param ident A table identifier.
+   * @return The columns of the table.
+   * @throws NoSuchTableException If the table does not exist.
+   */
+  default Column[] loadTableColumns(NameIdentifier ident) throws NoSuchTableException {
+    return loadTable(ident).columns();
+  }
+
+  /**
+   * List the tables under a schema namespace with the summary of each table. Only supported by the
+   * catalogs implementing {@link org.apache.gravitino.rel.SupportsTableSummaries}.
+   *
+   * @param namespace A schema namespace.
+   * @return An array of table summaries in the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   * @throws UnsupportedOperationException If the catalog doesn't support table summaries.
+   */
+  default TableSummary[] listTableSummaries(Namespace namespace) throws NoSuchSchemaException {
+    throw new UnsupportedOperationException("Listing table summaries is not supported");
+  }
+}
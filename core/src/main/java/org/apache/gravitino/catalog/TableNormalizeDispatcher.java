@@ -33,6 +33,7 @@ import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.rel.TableSummary;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
 import org.apache.gravitino.rel.expressions.sorts.SortOrder;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
@@ -63,6 +64,16 @@ public class TableNormalizeDispatcher implements TableDispatcher {
     return dispatcher.loadTable(normalizeCaseSensitive(ident));
   }
 
+  @Override
+  public Column[] loadTableColumns(NameIdentifier ident) throws NoSuchTableException {
+    return dispatcher.loadTableColumns(normalizeCaseSensitive(ident));
+  }
+
+  @Override
+  public TableSummary[] listTableSummaries(Namespace namespace) throws NoSuchSchemaException {
+    return dispatcher.listTableSummaries(normalizeCaseSensitive(namespace));
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
@@ -24,9 +24,16 @@ import static org.apache.gravitino.catalog.PropertiesMetadataHelpers.validatePro
 import static org.apache.gravitino.rel.expressions.transforms.Transforms.EMPTY_TRANSFORM;
 import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.Maps;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
@@ -34,6 +41,7 @@ import org.apache.gravitino.Namespace;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.HasPropertyMetadata;
 import org.apache.gravitino.connector.capability.Capability;
+import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
@@ -41,10 +49,14 @@ import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.lock.LockType;
 import org.apache.gravitino.lock.TreeLockUtils;
 import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.SupportsTableSummaries;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.rel.TableSummary;
+import org.apache.gravitino.rel.expressions.Expression;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
 import org.apache.gravitino.rel.expressions.distributions.Distributions;
 import org.apache.gravitino.rel.expressions.sorts.SortOrder;
@@ -60,6 +72,16 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
 
   private static final Logger LOG = LoggerFactory.getLogger(TableOperationDispatcher.class);
 
+  private static final long MAX_STORE_VERIFIED_TABLES = 100000L;
+
+  // The tables whose stored columns were verified against the underlying catalog within the max
+  // staleness, the column loads of them are served from the store. It is null if the column loads
+  // are always served by the underlying catalog.
+  private final Cache<NameIdentifier, Boolean> storeVerifiedTables;
+
+  // Whether to store the columns of the tables in the entity store.
+  private final boolean storeColumns;
+
   /**
    * Creates a new TableOperationDispatcher instance.
    *
@@ -70,6 +92,24 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
   public TableOperationDispatcher(
       CatalogManager catalogManager, EntityStore store, IdGenerator idGenerator) {
     super(catalogManager, store, idGenerator);
+
+    Config config = GravitinoEnv.getInstance().config();
+    boolean loadFromStore =
+        config != null && Boolean.TRUE.equals(config.get(Configs.TABLE_LOAD_FROM_STORE_ENABLE));
+    this.storeColumns =
+        loadFromStore
+            || (config != null
+                && Boolean.TRUE.equals(config.get(Configs.TABLE_STORE_COLUMNS_ENABLE)));
+    if (loadFromStore) {
+      this.storeVerifiedTables =
+          Caffeine.newBuilder()
+              .expireAfterWrite(
+                  config.get(Configs.TABLE_LOAD_FROM_STORE_MAX_STALENESS_MS), TimeUnit.MILLISECONDS)
+              .maximumSize(MAX_STORE_VERIFIED_TABLES)
+              .build();
+    } else {
+      this.storeVerifiedTables = null;
+    }
   }
 
   /**
@@ -88,6 +128,31 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         NoSuchSchemaException.class);
   }
 
+  /**
+   * Lists the tables within a schema with the summary of each table, served by the catalog.
+   *
+   * @param namespace The namespace of the schema containing the tables.
+   * @return An array of {@link TableSummary} objects of the tables in the schema.
+   * @throws NoSuchSchemaException If the specified schema does not exist.
+   * @throws UnsupportedOperationException If the catalog doesn't support table summaries.
+   */
+  @Override
+  public TableSummary[] listTableSummaries(Namespace namespace) throws NoSuchSchemaException {
+    NameIdentifier catalogIdent = getCatalogIdentifier(NameIdentifier.of(namespace.levels()));
+    return doWithCatalog(
+        catalogIdent,
+        c ->
+            c.doWithTableOps(
+                t -> {
+                  if (!(t instanceof SupportsTableSummaries)) {
+                    throw new UnsupportedOperationException(
+                        "Catalog " + catalogIdent.name() + " doesn't support table summaries");
+                  }
+                  return ((SupportsTableSummaries) t).listTableSummaries(namespace);
+                }),
+        NoSuchSchemaException.class);
+  }
+
   /**
    * Loads a table.
    *
@@ -97,26 +162,52 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    */
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
-    EntityCombinedTable table =
-        TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadTable(ident));
-
-    if (!table.imported()) {
-      // Load the schema to make sure the schema is imported.
-      SchemaDispatcher schemaDispatcher = GravitinoEnv.getInstance().schemaDispatcher();
-      NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
-      schemaDispatcher.loadSchema(schemaIdent);
-
-      // Import the table.
-      TreeLockUtils.doWithTreeLock(
-          schemaIdent,
-          LockType.WRITE,
-          () -> {
-            importTable(ident);
-            return null;
-          });
+    return doWithLoadCoalescing(
+        "load-table",
+        ident,
+        () -> {
+          EntityCombinedTable table =
+              TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadTable(ident));
+
+          if (!table.imported()) {
+            // Load the schema to make sure the schema is imported.
+            SchemaDispatcher schemaDispatcher = GravitinoEnv.getInstance().schemaDispatcher();
+            NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
+            schemaDispatcher.loadSchema(schemaIdent);
+
+            // Import the table.
+            TreeLockUtils.doWithTreeLock(
+                schemaIdent,
+                LockType.WRITE,
+                () -> {
+                  importTable(ident);
+                  return null;
+                });
+          } else {
+            verifyStoredColumns(ident, table);
+          }
+
+          return table;
+        });
+  }
+
+  /**
+   * Loads the columns of a table. The columns are served from the entity store if they were
+   * verified against the underlying catalog within the max staleness, otherwise the table is
+   * loaded from the underlying catalog.
+   *
+   * @param ident The identifier of the table to load the columns.
+   * @return The columns of the table.
+   * @throws NoSuchTableException If the specified table does not exist.
+   */
+  @Override
+  public Column[] loadTableColumns(NameIdentifier ident) throws NoSuchTableException {
+    Column[] storedColumns = loadColumnsFromStore(ident);
+    if (storedColumns != null) {
+      return storedColumns;
     }
 
-    return table;
+    return loadTable(ident).columns();
   }
 
   /**
@@ -227,10 +318,19 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
                                   .withLastModifier(PrincipalUtils.getCurrentPrincipal().getName())
                                   .withLastModifiedTime(Instant.now())
                                   .build())
+                          .withColumns(
+                              storeColumns
+                                  ? toColumnEntities(
+                                      alteredTable.columns(), tableEntity.columns(), changes)
+                                  : null)
                           .build();
                     }),
             "UPDATE",
             stringId.id());
+    invalidateStoreVerifiedTable(ident);
+    if (updatedTableEntity != null) {
+      invalidateStoreVerifiedTable(updatedTableEntity.nameIdentifier());
+    }
 
     return EntityCombinedTable.of(alteredTable, updatedTableEntity)
         .withHiddenPropertiesSet(
@@ -254,6 +354,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
     boolean droppedFromCatalog =
         doWithCatalog(
             catalogIdent, c -> c.doWithTableOps(t -> t.dropTable(ident)), RuntimeException.class);
+    invalidateStoreVerifiedTable(ident);
 
     // For unmanaged table, it could happen that the table:
     // 1. Is not found in the catalog (dropped directly from underlying sources)
@@ -302,6 +403,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
             c -> c.doWithTableOps(t -> t.purgeTable(ident)),
             RuntimeException.class,
             UnsupportedOperationException.class);
+    invalidateStoreVerifiedTable(ident);
 
     // For unmanaged table, it could happen that the table:
     // 1. Is not found in the catalog (dropped directly from underlying sources)
@@ -369,6 +471,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
                     .withLastModifier(table.auditInfo().lastModifier())
                     .withLastModifiedTime(table.auditInfo().lastModifiedTime())
                     .build())
+            .withColumns(storeColumns ? toColumnEntities(table.columns(), null) : null)
             .build();
     try {
       store.put(tableEntity, true);
@@ -376,6 +479,10 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
       LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", identifier, e);
       throw new RuntimeException("Fail to import the table entity to the store.", e);
     }
+
+    if (storeVerifiedTables != null) {
+      storeVerifiedTables.put(identifier, Boolean.TRUE);
+    }
   }
 
   private EntityCombinedTable internalLoadTable(NameIdentifier ident) {
@@ -475,7 +582,9 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
                     .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
                     .withCreateTime(Instant.now())
                     .build())
+            .withColumns(storeColumns ? toColumnEntities(table.columns(), null) : null)
             .build();
+    invalidateStoreVerifiedTable(ident);
 
     try {
       store.put(tableEntity, true /* overwrite */);
@@ -492,4 +601,150 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
             getHiddenPropertyNames(
                 catalogIdent, HasPropertyMetadata::tablePropertiesMetadata, table.properties()));
   }
+
+  private Column[] loadColumnsFromStore(NameIdentifier ident) {
+    if (storeVerifiedTables == null || storeVerifiedTables.getIfPresent(ident) == null) {
+      return null;
+    }
+
+    TableEntity tableEntity;
+    try {
+      tableEntity =
+          TreeLockUtils.doWithTreeLock(
+              ident, LockType.READ, () -> store.get(ident, TABLE, TableEntity.class));
+    } catch (Exception e) {
+      // The table may be dropped or renamed by other servers, let the catalog decide.
+      LOG.debug("Failed to load table {} from the store, load it from the catalog", ident, e);
+      storeVerifiedTables.invalidate(ident);
+      return null;
+    }
+
+    if (tableEntity.columns() == null) {
+      return null;
+    }
+    return Arrays.stream(tableEntity.columns())
+        .map(
+            c ->
+                Column.of(
+                    c.name(),
+                    c.dataType(),
+                    c.comment(),
+                    c.nullable(),
+                    c.autoIncrement(),
+                    c.defaultValue()))
+        .toArray(Column[]::new);
+  }
+
+  /**
+   * Verifies the stored columns of the table against the columns loaded from the underlying
+   * catalog. It never writes the store, the stored columns are only written when the table is
+   * created, altered or imported, so the column loads of a table whose stored columns don't match
+   * are served by the underlying catalog until the next table DDL.
+   */
+  private void verifyStoredColumns(NameIdentifier ident, EntityCombinedTable table) {
+    if (storeVerifiedTables == null) {
+      return;
+    }
+
+    ColumnEntity[] storedColumns =
+        table.tableEntity() == null ? null : table.tableEntity().columns();
+    if (storedColumns != null && sameColumns(storedColumns, table.columns())) {
+      storeVerifiedTables.put(ident, Boolean.TRUE);
+    } else {
+      // The table is changed by other systems, or it is stored before the columns are stored.
+      storeVerifiedTables.invalidate(ident);
+    }
+  }
+
+  private void invalidateStoreVerifiedTable(NameIdentifier ident) {
+    if (storeVerifiedTables != null) {
+      storeVerifiedTables.invalidate(ident);
+    }
+  }
+
+  /**
+   * Converts the columns of the table to the column entities to store. The columns existing in
+   * the stored entities, including the ones renamed by the changes, keep their ids.
+   */
+  private ColumnEntity[] toColumnEntities(
+      Column[] columns, ColumnEntity[] storedColumns, TableChange... changes) {
+    Map<String, ColumnEntity> storedColumnsByName = Maps.newHashMap();
+    if (storedColumns != null) {
+      Arrays.stream(storedColumns).forEach(c -> storedColumnsByName.put(c.name(), c));
+    }
+    for (TableChange change : changes) {
+      if (change instanceof TableChange.RenameColumn) {
+        TableChange.RenameColumn rename = (TableChange.RenameColumn) change;
+        // Only the top level columns are stored
+        if (rename.getFieldName().length == 1) {
+          ColumnEntity renamed = storedColumnsByName.remove(rename.getFieldName()[0]);
+          if (renamed != null) {
+            storedColumnsByName.put(rename.getNewName(), renamed);
+          }
+        }
+      }
+    }
+
+    String currentUser = PrincipalUtils.getCurrentPrincipal().getName();
+    Instant now = Instant.now();
+    return Arrays.stream(columns)
+        .map(
+            column -> {
+              ColumnEntity storedColumn = storedColumnsByName.get(column.name());
+              if (storedColumn != null && sameColumn(storedColumn, column)) {
+                return storedColumn;
+              }
+
+              AuditInfo auditInfo =
+                  storedColumn == null
+                      ? AuditInfo.builder().withCreator(currentUser).withCreateTime(now).build()
+                      : AuditInfo.builder()
+                          .withCreator(storedColumn.auditInfo().creator())
+                          .withCreateTime(storedColumn.auditInfo().createTime())
+                          .withLastModifier(currentUser)
+                          .withLastModifiedTime(now)
+                          .build();
+              return ColumnEntity.builder()
+                  .withId(storedColumn == null ? idGenerator.nextId() : storedColumn.id())
+                  .withName(column.name())
+                  .withDataType(column.dataType())
+                  .withComment(column.comment())
+                  .withNullable(column.nullable())
+                  .withAutoIncrement(column.autoIncrement())
+                  .withDefaultValue(normalizeDefaultValue(column.defaultValue()))
+                  .withAuditInfo(auditInfo)
+                  .build();
+            })
+        .toArray(ColumnEntity[]::new);
+  }
+
+  private static boolean sameColumns(ColumnEntity[] storedColumns, Column[] columns) {
+    if (storedColumns.length != columns.length) {
+      return false;
+    }
+    for (int i = 0; i < columns.length; i++) {
+      if (!storedColumns[i].name().equals(columns[i].name())
+          || !sameColumn(storedColumns[i], columns[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean sameColumn(ColumnEntity storedColumn, Column column) {
+    return Objects.equals(storedColumn.dataType(), column.dataType())
+        && Objects.equals(storedColumn.comment(), column.comment())
+        && storedColumn.nullable() == column.nullable()
+        && storedColumn.autoIncrement() == column.autoIncrement()
+        && Objects.equals(
+            storedColumn.defaultValue(), normalizeDefaultValue(column.defaultValue()));
+  }
+
+  // The default values are stored as DTOs, convert them to compare with the stored ones.
+  private static Expression normalizeDefaultValue(Expression defaultValue) {
+    if (defaultValue == null || defaultValue.equals(Column.DEFAULT_VALUE_NOT_SET)) {
+      return Column.DEFAULT_VALUE_NOT_SET;
+    }
+    return DTOConverters.toFunctionArg(defaultValue);
+  }
 }
@@ -88,27 +88,32 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
    */
   @Override
   public Topic loadTopic(NameIdentifier ident) throws NoSuchTopicException {
-    EntityCombinedTopic topic =
-        TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadTopic(ident));
-
-    if (!topic.imported()) {
-      // Load the schema to make sure the schema is imported.
-      // This is not necessary for Kafka catalog.
-      SchemaDispatcher schemaDispatcher = GravitinoEnv.getInstance().schemaDispatcher();
-      NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
-      schemaDispatcher.loadSchema(schemaIdent);
-
-      // Import the topic
-      TreeLockUtils.doWithTreeLock(
-          schemaIdent,
-          LockType.WRITE,
-          () -> {
-            importTopic(ident);
-            return null;
-          });
-    }
+    return doWithLoadCoalescing(
+        "load-topic",
+        ident,
+        () -> {
+          EntityCombinedTopic topic =
+              TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadTopic(ident));
+
+          if (!topic.imported()) {
+            // Load the schema to make sure the schema is imported.
+            // This is not necessary for Kafka catalog.
+            SchemaDispatcher schemaDispatcher = GravitinoEnv.getInstance().schemaDispatcher();
+            NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
+            schemaDispatcher.loadSchema(schemaIdent);
+
+            // Import the topic
+            TreeLockUtils.doWithTreeLock(
+                schemaIdent,
+                LockType.WRITE,
+                () -> {
+                  importTopic(ident);
+                  return null;
+                });
+          }
 
-    return topic;
+          return topic;
+        });
   }
 
   /**
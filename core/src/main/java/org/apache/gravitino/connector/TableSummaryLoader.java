@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.connector;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.rel.TableSummary;
+import org.apache.gravitino.utils.PrincipalUtils;
+
+/**
+ * Loads the summaries of tables concurrently on a bounded executor, used by the catalogs that
+ * implement {@link org.apache.gravitino.rel.SupportsTableSummaries}. The caller's principal is
+ * carried to the worker threads, since the backend may authorize the calls by the current user.
+ *
+ * @param <T> The type of the table summary.
+ */
+public class TableSummaryLoader<T extends TableSummary> implements Closeable {
+
+  // The executor to load the summaries concurrently, null if they are loaded one by one.
+  private final ThreadPoolExecutor executor;
+
+  /**
+   * Creates a loader of table summaries.
+   *
+   * @param threadNamePrefix The prefix of the names of the worker threads.
+   * @param parallelism The max number of summaries loaded concurrently, 1 loads them one by one.
+   */
+  public TableSummaryLoader(String threadNamePrefix, int parallelism) {
+    if (parallelism > 1) {
+      this.executor =
+          new ThreadPoolExecutor(
+              parallelism,
+              parallelism,
+              60L,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat(threadNamePrefix + "-%d")
+                  .build());
+      executor.allowCoreThreadTimeOut(true);
+    } else {
+      this.executor = null;
+    }
+  }
+
+  /**
+   * Loads the summaries of the tables.
+   *
+   * @param tableIdents The identifiers of the tables.
+   * @param loader The function to load the summary of a table, returns null if the table doesn't
+   *     exist anymore.
+   * @return The summaries in the order of the tables, the tables without summary are skipped.
+   */
+  public List<T> load(NameIdentifier[] tableIdents, Function<NameIdentifier, T> loader) {
+    List<T> summaries = new ArrayList<>(tableIdents.length);
+    if (executor == null) {
+      for (NameIdentifier tableIdent : tableIdents) {
+        T summary = loader.apply(tableIdent);
+        if (summary != null) {
+          summaries.add(summary);
+        }
+      }
+      return summaries;
+    }
+
+    Principal principal = PrincipalUtils.getCurrentPrincipal();
+    List<Future<T>> futures = new ArrayList<>(tableIdents.length);
+    try {
+      for (NameIdentifier tableIdent : tableIdents) {
+        futures.add(
+            executor.submit(() -> PrincipalUtils.doAs(principal, () -> loader.apply(tableIdent))));
+      }
+      for (Future<T> future : futures) {
+        T summary = future.get();
+        if (summary != null) {
+          summaries.add(summary);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while loading the table summaries");
+    } catch (ExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+    return summaries;
+  }
+
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+}
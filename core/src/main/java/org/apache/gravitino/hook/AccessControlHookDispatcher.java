@@ -26,7 +26,6 @@ import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.authorization.AccessControlDispatcher;
 import org.apache.gravitino.authorization.AuthorizationUtils;
 import org.apache.gravitino.authorization.Group;
-import org.apache.gravitino.authorization.Owner;
 import org.apache.gravitino.authorization.OwnerManager;
 import org.apache.gravitino.authorization.Role;
 import org.apache.gravitino.authorization.SecurableObject;
@@ -149,12 +148,11 @@ public class AccessControlHookDispatcher implements AccessControlDispatcher {
     // Set the creator as the owner of role.
     OwnerManager ownerManager = GravitinoEnv.getInstance().ownerManager();
     if (ownerManager != null) {
-      ownerManager.setOwner(
+      ownerManager.setOwnerOfCreatedObject(
           metalake,
           NameIdentifierUtil.toMetadataObject(
               AuthorizationUtils.ofRole(metalake, role), Entity.EntityType.ROLE),
-          PrincipalUtils.getCurrentUserName(),
-          Owner.Type.USER);
+          PrincipalUtils.getCurrentUserName());
     }
     return createdRole;
   }
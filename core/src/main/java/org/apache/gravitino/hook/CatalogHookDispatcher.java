@@ -26,7 +26,6 @@ import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.authorization.FutureGrantManager;
-import org.apache.gravitino.authorization.Owner;
 import org.apache.gravitino.authorization.OwnerManager;
 import org.apache.gravitino.catalog.CatalogDispatcher;
 import org.apache.gravitino.connector.BaseCatalog;
@@ -76,11 +75,10 @@ public class CatalogHookDispatcher implements CatalogDispatcher {
     // Set the creator as the owner of the catalog.
     OwnerManager ownerManager = GravitinoEnv.getInstance().ownerManager();
     if (ownerManager != null) {
-      ownerManager.setOwner(
+      ownerManager.setOwnerOfCreatedObject(
           ident.namespace().level(0),
           NameIdentifierUtil.toMetadataObject(ident, Entity.EntityType.CATALOG),
-          PrincipalUtils.getCurrentUserName(),
-          Owner.Type.USER);
+          PrincipalUtils.getCurrentUserName());
     }
 
     // Apply the metalake securable object privileges to authorization plugin
@@ -23,7 +23,6 @@ import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
-import org.apache.gravitino.authorization.Owner;
 import org.apache.gravitino.authorization.OwnerManager;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
@@ -69,11 +68,10 @@ public class FilesetHookDispatcher implements FilesetDispatcher {
     // Set the creator as the owner of the fileset.
     OwnerManager ownerManager = GravitinoEnv.getInstance().ownerManager();
     if (ownerManager != null) {
-      ownerManager.setOwner(
+      ownerManager.setOwnerOfCreatedObject(
           ident.namespace().level(0),
           NameIdentifierUtil.toMetadataObject(ident, Entity.EntityType.FILESET),
-          PrincipalUtils.getCurrentUserName(),
-          Owner.Type.USER);
+          PrincipalUtils.getCurrentUserName());
     }
     return fileset;
   }
@@ -25,7 +25,6 @@ import org.apache.gravitino.Metalake;
 import org.apache.gravitino.MetalakeChange;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.authorization.AccessControlDispatcher;
-import org.apache.gravitino.authorization.Owner;
 import org.apache.gravitino.authorization.OwnerManager;
 import org.apache.gravitino.exceptions.MetalakeAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchMetalakeException;
@@ -71,11 +70,10 @@ public class MetalakeHookDispatcher implements MetalakeDispatcher {
     // Set the creator as owner of the metalake.
     OwnerManager ownerManager = GravitinoEnv.getInstance().ownerManager();
     if (ownerManager != null) {
-      ownerManager.setOwner(
+      ownerManager.setOwnerOfCreatedObject(
           ident.name(),
           NameIdentifierUtil.toMetadataObject(ident, Entity.EntityType.METALAKE),
-          PrincipalUtils.getCurrentUserName(),
-          Owner.Type.USER);
+          PrincipalUtils.getCurrentUserName());
     }
     return metalake;
   }
@@ -25,7 +25,6 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
-import org.apache.gravitino.authorization.Owner;
 import org.apache.gravitino.authorization.OwnerManager;
 import org.apache.gravitino.catalog.SchemaDispatcher;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
@@ -60,11 +59,10 @@ public class SchemaHookDispatcher implements SchemaDispatcher {
     // Set the creator as the owner of the schema.
     OwnerManager ownerManager = GravitinoEnv.getInstance().ownerManager();
     if (ownerManager != null) {
-      ownerManager.setOwner(
+      ownerManager.setOwnerOfCreatedObject(
           ident.namespace().level(0),
           NameIdentifierUtil.toMetadataObject(ident, Entity.EntityType.SCHEMA),
-          PrincipalUtils.getCurrentUserName(),
-          Owner.Type.USER);
+          PrincipalUtils.getCurrentUserName());
     }
     return schema;
   }
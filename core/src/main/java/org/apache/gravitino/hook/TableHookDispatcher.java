@@ -23,7 +23,6 @@ import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
-import org.apache.gravitino.authorization.Owner;
 import org.apache.gravitino.authorization.OwnerManager;
 import org.apache.gravitino.catalog.TableDispatcher;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -32,6 +31,7 @@ import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.rel.TableSummary;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
 import org.apache.gravitino.rel.expressions.sorts.SortOrder;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
@@ -61,6 +61,16 @@ public class TableHookDispatcher implements TableDispatcher {
     return dispatcher.loadTable(ident);
   }
 
+  @Override
+  public Column[] loadTableColumns(NameIdentifier ident) throws NoSuchTableException {
+    return dispatcher.loadTableColumns(ident);
+  }
+
+  @Override
+  public TableSummary[] listTableSummaries(Namespace namespace) throws NoSuchSchemaException {
+    return dispatcher.listTableSummaries(namespace);
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
@@ -79,11 +89,10 @@ public class TableHookDispatcher implements TableDispatcher {
     // Set the creator as the owner of the table.
     OwnerManager ownerManager = GravitinoEnv.getInstance().ownerManager();
     if (ownerManager != null) {
-      ownerManager.setOwner(
+      ownerManager.setOwnerOfCreatedObject(
           ident.namespace().level(0),
           NameIdentifierUtil.toMetadataObject(ident, Entity.EntityType.TABLE),
-          PrincipalUtils.getCurrentUserName(),
-          Owner.Type.USER);
+          PrincipalUtils.getCurrentUserName());
     }
     return table;
   }
@@ -24,10 +24,12 @@ import com.google.common.base.Preconditions;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.Event;
 import org.slf4j.Logger;
@@ -50,8 +52,9 @@ public class AsyncQueueListener implements EventListenerPlugin {
   private final AtomicBoolean stopped = new AtomicBoolean(false);
   private final AtomicLong dropEventCounters = new AtomicLong(0);
   private final AtomicLong lastDropEventCounters = new AtomicLong(0);
-  private Instant lastRecordDropEventTime;
+  private volatile Instant lastRecordDropEventTime = Instant.now();
   private final String asyncQueueListenerName;
+  private final Set<Class<? extends Event>> subscribedEventTypes;
 
   public AsyncQueueListener(
       List<EventListenerPlugin> listeners,
@@ -60,6 +63,10 @@ public class AsyncQueueListener implements EventListenerPlugin {
       int dispatcherJoinSeconds) {
     this.asyncQueueListenerName = NAME_PREFIX + name;
     this.eventListeners = listeners;
+    this.subscribedEventTypes =
+        listeners.stream()
+            .flatMap(listener -> listener.subscribedEventTypes().stream())
+            .collect(Collectors.toSet());
     this.queue = new LinkedBlockingQueue<>(queueCapacity);
     this.asyncProcessor = new Thread(() -> processEvents());
     this.dispatcherJoinSeconds = dispatcherJoinSeconds;
@@ -109,6 +116,11 @@ public class AsyncQueueListener implements EventListenerPlugin {
     eventListeners.forEach(listenerPlugin -> listenerPlugin.stop());
   }
 
+  @Override
+  public Set<Class<? extends Event>> subscribedEventTypes() {
+    return subscribedEventTypes;
+  }
+
   @VisibleForTesting
   List<EventListenerPlugin> getEventListeners() {
     return this.eventListeners;
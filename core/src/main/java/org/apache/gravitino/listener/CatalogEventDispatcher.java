@@ -67,7 +67,9 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
   public NameIdentifier[] listCatalogs(Namespace namespace) throws NoSuchMetalakeException {
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listCatalogs(namespace);
-      eventBus.dispatchEvent(new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      eventBus.dispatchEvent(
+          ListCatalogEvent.class,
+          () -> new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -80,7 +82,9 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
   public Catalog[] listCatalogsInfo(Namespace namespace) throws NoSuchMetalakeException {
     try {
       Catalog[] catalogs = dispatcher.listCatalogsInfo(namespace);
-      eventBus.dispatchEvent(new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      eventBus.dispatchEvent(
+          ListCatalogEvent.class,
+          () -> new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
       return catalogs;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -94,8 +98,10 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
     try {
       Catalog catalog = dispatcher.loadCatalog(ident);
       eventBus.dispatchEvent(
-          new LoadCatalogEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new CatalogInfo(catalog)));
+          LoadCatalogEvent.class,
+          () ->
+              new LoadCatalogEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, new CatalogInfo(catalog)));
       return catalog;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -21,8 +21,14 @@ package org.apache.gravitino.listener;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The {@code EventBus} class serves as a mechanism to dispatch events to registered listeners. It
@@ -30,12 +36,19 @@ import org.apache.gravitino.listener.api.event.Event;
  * within its internal management.
  */
 public class EventBus {
+  private static final Logger LOG = LoggerFactory.getLogger(EventBus.class);
+
   // Holds instances of EventListenerPlugin. These instances can either be
   // EventListenerPluginWrapper,
   // which are meant for synchronous event listening, or AsyncQueueListener, designed for
   // asynchronous event processing.
   private final List<EventListenerPlugin> postEventListeners;
 
+  // Whether any listener receives the events of a type, the listeners don't change after the
+  // EventBus is created.
+  private final Map<Class<? extends Event>, Boolean> subscribedEventTypes =
+      new ConcurrentHashMap<>();
+
   /**
    * Constructs an EventBus with a predefined list of event listeners.
    *
@@ -53,7 +66,61 @@ public class EventBus {
    * @param event The event to be dispatched to all registered listeners.
    */
   public void dispatchEvent(Event event) {
-    postEventListeners.forEach(postEventListener -> postEventListener.onPostEvent(event));
+    for (EventListenerPlugin postEventListener : postEventListeners) {
+      if (!isSubscribed(postEventListener.subscribedEventTypes(), event.getClass())) {
+        continue;
+      }
+
+      // One listener failing to take the event shouldn't fail the operation or keep the event
+      // from the other listeners.
+      try {
+        postEventListener.onPostEvent(event);
+      } catch (Exception e) {
+        LOG.warn(
+            "Failed to dispatch event {} to listener {}",
+            event.getClass().getSimpleName(),
+            postEventListener.getClass().getSimpleName(),
+            e);
+      }
+    }
+  }
+
+  /**
+   * Dispatches an event created by the supplier to the registered listeners, the event is only
+   * created if any listener receives the events of the type.
+   *
+   * @param eventType The type of the event.
+   * @param eventSupplier The supplier to create the event.
+   * @param <T> The type of the event.
+   */
+  public <T extends Event> void dispatchEvent(Class<T> eventType, Supplier<T> eventSupplier) {
+    if (isSubscribed(eventType)) {
+      dispatchEvent(eventSupplier.get());
+    }
+  }
+
+  /**
+   * Checks whether any registered listener receives the events of the type.
+   *
+   * @param eventType The type of the event.
+   * @return True if any listener receives the events of the type, false otherwise.
+   */
+  public boolean isSubscribed(Class<? extends Event> eventType) {
+    return subscribedEventTypes.computeIfAbsent(
+        eventType,
+        type ->
+            postEventListeners.stream()
+                .anyMatch(listener -> isSubscribed(listener.subscribedEventTypes(), type)));
+  }
+
+  static boolean isSubscribed(
+      Set<Class<? extends Event>> subscribedEventTypes, Class<? extends Event> eventType) {
+    for (Class<? extends Event> subscribedEventType : subscribedEventTypes) {
+      if (subscribedEventType.isAssignableFrom(eventType)) {
+        return true;
+      }
+    }
+    return false;
   }
 
   /**
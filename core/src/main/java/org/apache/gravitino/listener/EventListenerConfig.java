@@ -49,6 +49,42 @@ class EventListenerConfig extends Config {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(3);
 
+  static final ConfigEntry<Long> SYNC_TIMEOUT_MS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_SYNC_TIMEOUT_MS)
+          .doc(
+              "The time in milliseconds an operation waits for a sync event listener to process "
+                  + "its event, 0 means the listener runs in the thread of the operation")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  static final ConfigEntry<Integer> SYNC_THREADS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_SYNC_THREADS)
+          .doc("The number of threads of every sync event listener with a timeout")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(4);
+
+  static final ConfigEntry<Integer> FAILURE_THRESHOLD =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_FAILURE_THRESHOLD)
+          .doc(
+              "The number of the events an event listener fails to process in a row before it "
+                  + "is disabled for a while, 0 means never disabled")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0);
+
+  static final ConfigEntry<Integer> OPEN_SECONDS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_OPEN_SECONDS)
+          .doc("The seconds a failing event listener is disabled for")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60);
+
   EventListenerConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
@@ -31,6 +31,7 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.metrics.source.EventListenerMetricsSource;
 import org.apache.gravitino.utils.MapUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,15 +56,22 @@ public class EventListenerManager {
   @VisibleForTesting static final String GRAVITINO_EVENT_LISTENER_CLASS = "class";
   static final String GRAVITINO_EVENT_LISTENER_QUEUE_CAPACITY = "queueCapacity";
   static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_JOIN_SECONDS = "dispatcherJoinSeconds";
+  static final String GRAVITINO_EVENT_LISTENER_SYNC_TIMEOUT_MS = "syncTimeoutMs";
+  static final String GRAVITINO_EVENT_LISTENER_SYNC_THREADS = "syncThreads";
+  static final String GRAVITINO_EVENT_LISTENER_FAILURE_THRESHOLD =
+      "circuitBreaker.failureThreshold";
+  static final String GRAVITINO_EVENT_LISTENER_OPEN_SECONDS = "circuitBreaker.openSeconds";
   private static final Splitter splitter = Splitter.on(",");
   private static final Joiner DOT = Joiner.on(".");
 
   private int queueCapacity;
   private int dispatcherJoinSeconds;
+  private EventListenerConfig config;
+  private final EventListenerMetricsSource metricsSource = new EventListenerMetricsSource();
   private List<EventListenerPlugin> eventListeners;
 
   public void init(Map<String, String> properties) {
-    EventListenerConfig config = new EventListenerConfig(properties);
+    this.config = new EventListenerConfig(properties);
     this.queueCapacity = config.get(EventListenerConfig.QUEUE_CAPACITY);
     this.dispatcherJoinSeconds = config.get(EventListenerConfig.DISPATCHER_JOIN_SECONDS);
 
@@ -99,6 +107,15 @@ public class EventListenerManager {
     return new EventBus(eventListeners);
   }
 
+  /**
+   * Returns the metrics source of the event listeners.
+   *
+   * @return The metrics source of the event listeners.
+   */
+  public EventListenerMetricsSource metricsSource() {
+    return metricsSource;
+  }
+
   private List<EventListenerPlugin> assembleEventListeners(
       Map<String, EventListenerPlugin> userEventListeners) {
     List<EventListenerPlugin> sharedQueueListeners = new ArrayList<>();
@@ -111,16 +128,15 @@ public class EventListenerManager {
                   EventListenerPlugin listener = entrySet.getValue();
                   switch (listener.mode()) {
                     case SYNC:
-                      return new EventListenerPluginWrapper(listenerName, listener);
+                      return wrap(listenerName, listener);
                     case ASYNC_ISOLATED:
                       return new AsyncQueueListener(
-                          ImmutableList.of(new EventListenerPluginWrapper(listenerName, listener)),
+                          ImmutableList.of(wrap(listenerName, listener)),
                           listenerName,
                           queueCapacity,
                           dispatcherJoinSeconds);
                     case ASYNC_SHARED:
-                      sharedQueueListeners.add(
-                          new EventListenerPluginWrapper(listenerName, listener));
+                      sharedQueueListeners.add(wrap(listenerName, listener));
                       return null;
                     default:
                       throw new RuntimeException("Unexpected listener mode:" + listener.mode());
@@ -137,6 +153,10 @@ public class EventListenerManager {
     return listeners;
   }
 
+  private EventListenerPluginWrapper wrap(String listenerName, EventListenerPlugin listener) {
+    return new EventListenerPluginWrapper(listenerName, listener, config, metricsSource);
+  }
+
   private EventListenerPlugin loadUserEventListenerPlugin(
       String listenerName, Map<String, String> config) {
     LOG.info("EventListener:{}, config:{}.", listenerName, config);
@@ -19,25 +19,96 @@
 
 package org.apache.gravitino.listener;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.metrics.source.EventListenerMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A wrapper for user provided event listener, could contain common logic like exception handling,
  * recording metrics, recording slow event process.
+ *
+ * <p>A sync listener with a timeout processes the events in its own bounded thread pool, and the
+ * operation only waits for the listener up to the timeout. A listener failing too many events in a
+ * row is disabled for a while, and is enabled again once it processes an event successfully.
  */
 public class EventListenerPluginWrapper implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(EventListenerPluginWrapper.class);
   private String listenerName;
   private EventListenerPlugin userEventListener;
 
+  private final Set<Class<? extends Event>> subscribedEventTypes;
+  private final long timeoutMs;
+  // The threads to process the events of a sync listener with a timeout, null otherwise.
+  private final ThreadPoolExecutor executor;
+  private final int dispatcherJoinSeconds;
+  private final int failureThreshold;
+  private final long openMillis;
+  private final AtomicInteger consecutiveFailures = new AtomicInteger(0);
+  private volatile long disabledUntilMillis = 0L;
+
+  private final Timer processTimer;
+  private final Counter failureCounter;
+  private final Counter timeoutCounter;
+  private final Counter skippedCounter;
+
   public EventListenerPluginWrapper(String listenerName, EventListenerPlugin userEventListener) {
+    this(
+        listenerName,
+        userEventListener,
+        new EventListenerConfig(Collections.emptyMap()),
+        new EventListenerMetricsSource());
+  }
+
+  EventListenerPluginWrapper(
+      String listenerName,
+      EventListenerPlugin userEventListener,
+      EventListenerConfig config,
+      EventListenerMetricsSource metricsSource) {
     this.listenerName = listenerName;
     this.userEventListener = userEventListener;
+    this.subscribedEventTypes = userEventListener.subscribedEventTypes();
+    this.timeoutMs = config.get(EventListenerConfig.SYNC_TIMEOUT_MS);
+    this.dispatcherJoinSeconds = config.get(EventListenerConfig.DISPATCHER_JOIN_SECONDS);
+    this.failureThreshold = config.get(EventListenerConfig.FAILURE_THRESHOLD);
+    this.openMillis = TimeUnit.SECONDS.toMillis(config.get(EventListenerConfig.OPEN_SECONDS));
+
+    if (userEventListener.mode() == Mode.SYNC && timeoutMs > 0) {
+      int threads = config.get(EventListenerConfig.SYNC_THREADS);
+      this.executor =
+          new ThreadPoolExecutor(
+              threads,
+              threads,
+              0L,
+              TimeUnit.MILLISECONDS,
+              new ArrayBlockingQueue<>(config.get(EventListenerConfig.QUEUE_CAPACITY)),
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("event-listener-" + listenerName + "-%d")
+                  .build());
+    } else {
+      this.executor = null;
+    }
+
+    this.processTimer = metricsSource.processTimer(listenerName);
+    this.failureCounter = metricsSource.failureCounter(listenerName);
+    this.timeoutCounter = metricsSource.timeoutCounter(listenerName);
+    this.skippedCounter = metricsSource.skippedCounter(listenerName);
   }
 
   @Override
@@ -54,6 +125,21 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
 
   @Override
   public void stop() {
+    if (executor != null) {
+      executor.shutdown();
+      try {
+        if (!executor.awaitTermination(dispatcherJoinSeconds, TimeUnit.SECONDS)) {
+          LOG.warn(
+              "Event listener {} drop {} events since it is stopped.",
+              listenerName,
+              executor.shutdownNow().size());
+        }
+      } catch (InterruptedException e) {
+        executor.shutdownNow();
+        Thread.currentThread().interrupt();
+      }
+    }
+
     try {
       userEventListener.stop();
       LOG.info("Stop event listener {}.", listenerName);
@@ -64,19 +150,79 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
 
   @Override
   public void onPostEvent(Event event) {
-    try {
-      userEventListener.onPostEvent(event);
+    // The listeners sharing a queue receive all the events the others subscribe to.
+    if (!EventBus.isSubscribed(subscribedEventTypes, event.getClass())) {
+      return;
+    }
+
+    if (isDisabled()) {
+      skippedCounter.inc();
+      return;
+    }
+
+    try (Timer.Context ignored = processTimer.time()) {
+      process(event);
+      consecutiveFailures.set(0);
+    } catch (TimeoutException e) {
+      timeoutCounter.inc();
+      LOG.warn(
+          "Event listener {} didn't process event {} in {}ms,",
+          listenerName,
+          event.getClass().getSimpleName(),
+          timeoutMs);
+      recordFailure();
     } catch (Exception e) {
+      failureCounter.inc();
       LOG.warn(
           "Event listener {} process event {} failed,",
           listenerName,
           event.getClass().getSimpleName(),
           e);
+      recordFailure();
     }
   }
 
+  @Override
+  public Set<Class<? extends Event>> subscribedEventTypes() {
+    return subscribedEventTypes;
+  }
+
   @VisibleForTesting
   EventListenerPlugin getUserEventListener() {
     return userEventListener;
   }
+
+  @VisibleForTesting
+  boolean isDisabled() {
+    return failureThreshold > 0 && System.currentTimeMillis() < disabledUntilMillis;
+  }
+
+  private void process(Event event) throws Exception {
+    if (executor == null) {
+      userEventListener.onPostEvent(event);
+      return;
+    }
+
+    // The event keeps being processed after the timeout, the thread pool and its bounded queue
+    // limit the events a stuck listener holds.
+    Future<?> future = executor.submit(() -> userEventListener.onPostEvent(event));
+    try {
+      future.get(timeoutMs, TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+    }
+  }
+
+  private void recordFailure() {
+    // The counter isn't reset when the listener is disabled, so a listener enabled again is
+    // disabled on its first failure.
+    if (failureThreshold > 0 && consecutiveFailures.incrementAndGet() >= failureThreshold) {
+      disabledUntilMillis = System.currentTimeMillis() + openMillis;
+      LOG.warn(
+          "Event listener {} failed {} events in a row, disable it for {}ms.",
+          listenerName,
+          consecutiveFailures.get(),
+          openMillis);
+    }
+  }
 }
@@ -64,7 +64,9 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
   public NameIdentifier[] listFilesets(Namespace namespace) throws NoSuchSchemaException {
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listFilesets(namespace);
-      eventBus.dispatchEvent(new ListFilesetEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      eventBus.dispatchEvent(
+          ListFilesetEvent.class,
+          () -> new ListFilesetEvent(PrincipalUtils.getCurrentUserName(), namespace));
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -78,8 +80,10 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
     try {
       Fileset fileset = dispatcher.loadFileset(ident);
       eventBus.dispatchEvent(
-          new LoadFilesetEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new FilesetInfo(fileset)));
+          LoadFilesetEvent.class,
+          () ->
+              new LoadFilesetEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, () -> new FilesetInfo(fileset)));
       return fileset;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -148,19 +152,22 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
       throws NoSuchFilesetException {
     try {
       String actualFileLocation = dispatcher.getFileLocation(ident, subPath);
-      // get the audit info from the thread local context
-      ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
-      CallerContext callerContext = CallerContext.CallerContextHolder.get();
-      if (callerContext != null && callerContext.context() != null) {
-        builder.putAll(callerContext.context());
-      }
       eventBus.dispatchEvent(
-          new GetFileLocationEvent(
-              PrincipalUtils.getCurrentUserName(),
-              ident,
-              actualFileLocation,
-              subPath,
-              builder.build()));
+          GetFileLocationEvent.class,
+          () -> {
+            // get the audit info from the thread local context
+            ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
+            CallerContext callerContext = CallerContext.CallerContextHolder.get();
+            if (callerContext != null && callerContext.context() != null) {
+              builder.putAll(callerContext.context());
+            }
+            return new GetFileLocationEvent(
+                PrincipalUtils.getCurrentUserName(),
+                ident,
+                actualFileLocation,
+                subPath,
+                builder.build());
+          });
       return actualFileLocation;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -65,7 +65,9 @@ public class MetalakeEventDispatcher implements MetalakeDispatcher {
   public Metalake[] listMetalakes() {
     try {
       Metalake[] metalakes = dispatcher.listMetalakes();
-      eventBus.dispatchEvent(new ListMetalakeEvent(PrincipalUtils.getCurrentUserName()));
+      eventBus.dispatchEvent(
+          ListMetalakeEvent.class,
+          () -> new ListMetalakeEvent(PrincipalUtils.getCurrentUserName()));
       return metalakes;
     } catch (Exception e) {
       eventBus.dispatchEvent(new ListMetalakeFailureEvent(PrincipalUtils.getCurrentUserName(), e));
@@ -78,8 +80,10 @@ public class MetalakeEventDispatcher implements MetalakeDispatcher {
     try {
       Metalake metalake = dispatcher.loadMetalake(ident);
       eventBus.dispatchEvent(
-          new LoadMetalakeEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new MetalakeInfo(metalake)));
+          LoadMetalakeEvent.class,
+          () ->
+              new LoadMetalakeEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, new MetalakeInfo(metalake)));
       return metalake;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -19,14 +19,18 @@
 
 package org.apache.gravitino.listener;
 
+import java.util.Arrays;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.catalog.PartitionDispatcher;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
 import org.apache.gravitino.listener.api.event.AddPartitionEvent;
 import org.apache.gravitino.listener.api.event.AddPartitionFailureEvent;
+import org.apache.gravitino.listener.api.event.AddPartitionsFailureEvent;
 import org.apache.gravitino.listener.api.event.DropPartitionEvent;
 import org.apache.gravitino.listener.api.event.DropPartitionFailureEvent;
+import org.apache.gravitino.listener.api.event.DropPartitionsEvent;
+import org.apache.gravitino.listener.api.event.DropPartitionsFailureEvent;
 import org.apache.gravitino.listener.api.event.GetPartitionEvent;
 import org.apache.gravitino.listener.api.event.GetPartitionFailureEvent;
 import org.apache.gravitino.listener.api.event.ListPartitionEvent;
@@ -81,14 +85,39 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     }
   }
 
+  @Override
+  public Partition[] addPartitions(NameIdentifier ident, Partition... partitions)
+      throws PartitionAlreadyExistsException {
+    try {
+      Partition[] newPartitions = dispatcher.addPartitions(ident, partitions);
+      for (Partition newPartition : newPartitions) {
+        eventBus.dispatchEvent(
+            new AddPartitionEvent(
+                PrincipalUtils.getCurrentUserName(), ident, PartitionInfo.of(newPartition)));
+      }
+      return newPartitions;
+    } catch (Exception e) {
+      // The batch is not atomic, so the failure is reported for the batch rather than for each of
+      // the partitions.
+      PartitionInfo[] createdPartitionInfos =
+          Arrays.stream(partitions).map(PartitionInfo::of).toArray(PartitionInfo[]::new);
+      eventBus.dispatchEvent(
+          new AddPartitionsFailureEvent(
+              PrincipalUtils.getCurrentUserName(), ident, e, createdPartitionInfos));
+      throw e;
+    }
+  }
+
   @Override
   public Partition getPartition(NameIdentifier ident, String partitionName)
       throws NoSuchPartitionException {
     try {
       Partition partition = dispatcher.getPartition(ident, partitionName);
       eventBus.dispatchEvent(
-          new GetPartitionEvent(
-              PrincipalUtils.getCurrentUserName(), ident, PartitionInfo.of(partition)));
+          GetPartitionEvent.class,
+          () ->
+              new GetPartitionEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, PartitionInfo.of(partition)));
       return partition;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -114,11 +143,31 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     }
   }
 
+  @Override
+  public boolean dropPartitions(NameIdentifier ident, String... partitionNames) {
+    try {
+      // The batch only tells whether all the partitions existed, so one event is dispatched for the
+      // batch instead of guessing the outcome of each partition.
+      boolean isAllExists = dispatcher.dropPartitions(ident, partitionNames);
+      eventBus.dispatchEvent(
+          new DropPartitionsEvent(
+              PrincipalUtils.getCurrentUserName(), ident, isAllExists, partitionNames));
+      return isAllExists;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new DropPartitionsFailureEvent(
+              PrincipalUtils.getCurrentUserName(), ident, e, partitionNames));
+      throw e;
+    }
+  }
+
   @Override
   public Partition[] listPartitions(NameIdentifier ident) {
     try {
       Partition[] listPartitions = dispatcher.listPartitions(ident);
-      eventBus.dispatchEvent(new ListPartitionEvent(PrincipalUtils.getCurrentUserName(), ident));
+      eventBus.dispatchEvent(
+          ListPartitionEvent.class,
+          () -> new ListPartitionEvent(PrincipalUtils.getCurrentUserName(), ident));
       return listPartitions;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -132,7 +181,41 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     try {
       String[] listPartitionNames = dispatcher.listPartitionNames(ident);
       eventBus.dispatchEvent(
-          new ListPartitionNamesEvent(PrincipalUtils.getCurrentUserName(), ident));
+          ListPartitionNamesEvent.class,
+          () -> new ListPartitionNamesEvent(PrincipalUtils.getCurrentUserName(), ident));
+      return listPartitionNames;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPartitionNamesFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
+  @Override
+  public Partition[] listPartitions(
+      NameIdentifier ident, String namePattern, int offset, int limit) {
+    try {
+      Partition[] listPartitions = dispatcher.listPartitions(ident, namePattern, offset, limit);
+      eventBus.dispatchEvent(
+          ListPartitionEvent.class,
+          () -> new ListPartitionEvent(PrincipalUtils.getCurrentUserName(), ident));
+      return listPartitions;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPartitionFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
+  @Override
+  public String[] listPartitionNames(
+      NameIdentifier ident, String namePattern, int offset, int limit) {
+    try {
+      String[] listPartitionNames =
+          dispatcher.listPartitionNames(ident, namePattern, offset, limit);
+      eventBus.dispatchEvent(
+          ListPartitionNamesEvent.class,
+          () -> new ListPartitionNamesEvent(PrincipalUtils.getCurrentUserName(), ident));
       return listPartitionNames;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -146,8 +229,10 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     try {
       boolean isExists = dispatcher.partitionExists(ident, partitionName);
       eventBus.dispatchEvent(
-          new PartitionExistsEvent(
-              PrincipalUtils.getCurrentUserName(), ident, isExists, partitionName));
+          PartitionExistsEvent.class,
+          () ->
+              new PartitionExistsEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, isExists, partitionName));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
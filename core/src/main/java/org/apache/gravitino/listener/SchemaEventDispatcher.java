@@ -69,7 +69,9 @@ public class SchemaEventDispatcher implements SchemaDispatcher {
   public NameIdentifier[] listSchemas(Namespace namespace) throws NoSuchCatalogException {
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listSchemas(namespace);
-      eventBus.dispatchEvent(new ListSchemaEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      eventBus.dispatchEvent(
+          ListSchemaEvent.class,
+          () -> new ListSchemaEvent(PrincipalUtils.getCurrentUserName(), namespace));
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -106,7 +108,10 @@ public class SchemaEventDispatcher implements SchemaDispatcher {
     try {
       Schema schema = dispatcher.loadSchema(ident);
       eventBus.dispatchEvent(
-          new LoadSchemaEvent(PrincipalUtils.getCurrentUserName(), ident, new SchemaInfo(schema)));
+          LoadSchemaEvent.class,
+          () ->
+              new LoadSchemaEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, new SchemaInfo(schema)));
       return schema;
     } catch (Exception e) {
       eventBus.dispatchEvent(
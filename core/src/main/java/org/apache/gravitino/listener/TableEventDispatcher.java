@@ -43,6 +43,7 @@ import org.apache.gravitino.listener.api.info.TableInfo;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.rel.TableSummary;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
 import org.apache.gravitino.rel.expressions.sorts.SortOrder;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
@@ -75,7 +76,9 @@ public class TableEventDispatcher implements TableDispatcher {
   public NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException {
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listTables(namespace);
-      eventBus.dispatchEvent(new ListTableEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      eventBus.dispatchEvent(
+          ListTableEvent.class,
+          () -> new ListTableEvent(PrincipalUtils.getCurrentUserName(), namespace));
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -89,7 +92,10 @@ public class TableEventDispatcher implements TableDispatcher {
     try {
       Table table = dispatcher.loadTable(ident);
       eventBus.dispatchEvent(
-          new LoadTableEvent(PrincipalUtils.getCurrentUserName(), ident, new TableInfo(table)));
+          LoadTableEvent.class,
+          () ->
+              new LoadTableEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, () -> new TableInfo(table)));
       return table;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -98,6 +104,26 @@ public class TableEventDispatcher implements TableDispatcher {
     }
   }
 
+  @Override
+  public Column[] loadTableColumns(NameIdentifier ident) throws NoSuchTableException {
+    return dispatcher.loadTableColumns(ident);
+  }
+
+  @Override
+  public TableSummary[] listTableSummaries(Namespace namespace) throws NoSuchSchemaException {
+    try {
+      TableSummary[] tableSummaries = dispatcher.listTableSummaries(namespace);
+      eventBus.dispatchEvent(
+          ListTableEvent.class,
+          () -> new ListTableEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return tableSummaries;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListTableFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
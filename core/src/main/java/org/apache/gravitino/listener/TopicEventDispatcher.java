@@ -97,7 +97,9 @@ public class TopicEventDispatcher implements TopicDispatcher {
   public NameIdentifier[] listTopics(Namespace namespace) throws NoSuchTopicException {
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listTopics(namespace);
-      eventBus.dispatchEvent(new ListTopicEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      eventBus.dispatchEvent(
+          ListTopicEvent.class,
+          () -> new ListTopicEvent(PrincipalUtils.getCurrentUserName(), namespace));
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -111,7 +113,9 @@ public class TopicEventDispatcher implements TopicDispatcher {
     try {
       Topic topic = dispatcher.loadTopic(ident);
       eventBus.dispatchEvent(
-          new LoadTopicEvent(PrincipalUtils.getCurrentUserName(), ident, new TopicInfo(topic)));
+          LoadTopicEvent.class,
+          () ->
+              new LoadTopicEvent(PrincipalUtils.getCurrentUserName(), ident, new TopicInfo(topic)));
       return topic;
     } catch (Exception e) {
       eventBus.dispatchEvent(
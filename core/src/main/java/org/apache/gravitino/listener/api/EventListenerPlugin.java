@@ -19,7 +19,9 @@
 
 package org.apache.gravitino.listener.api;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.event.Event;
 
@@ -117,4 +119,18 @@ public interface EventListenerPlugin {
   default Mode mode() {
     return Mode.SYNC;
   }
+
+  /**
+   * Specifies the types of the events the plugin receives, the plugin receives the events of these
+   * types and of their subtypes. The default implementation receives all the events.
+   *
+   * <p>An event no plugin receives isn't created at all, so leaving out the frequent events like
+   * {@code LoadTableEvent} and {@code ListTableEvent} when they aren't needed saves the cost of
+   * creating them on the read path.
+   *
+   * @return The types of the events the plugin receives.
+   */
+  default Set<Class<? extends Event>> subscribedEventTypes() {
+    return Collections.singleton(Event.class);
+  }
 }
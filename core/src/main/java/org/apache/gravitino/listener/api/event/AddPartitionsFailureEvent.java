@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.listener.api.event;
+
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.annotation.DeveloperApi;
+import org.apache.gravitino.listener.api.info.partitions.PartitionInfo;
+
+/**
+ * Represents an event that is generated when an attempt to add a batch of partitions fails due to
+ * an exception. The batch is not atomic, so some of the partitions may have been added before the
+ * failure.
+ */
+@DeveloperApi
+public final class AddPartitionsFailureEvent extends PartitionFailureEvent {
+  private final PartitionInfo[] createdPartitionInfos;
+
+  /**
+   * Constructs a {@code AddPartitionsFailureEvent} instance, capturing detailed information about
+   * the failed add partitions attempt.
+   *
+   * @param user The user who initiated the add partitions operation.
+   * @param identifier The identifier of the table the partitions were attempted to be added to.
+   * @param exception The exception that was thrown during the add partitions operation, providing
+   *     insight into what went wrong.
+   * @param createdPartitionInfos The original request information of the partitions to add.
+   */
+  public AddPartitionsFailureEvent(
+      String user,
+      NameIdentifier identifier,
+      Exception exception,
+      PartitionInfo[] createdPartitionInfos) {
+    super(user, identifier, exception);
+    this.createdPartitionInfos = createdPartitionInfos;
+  }
+
+  /**
+   * Retrieves the original request information for the attempted add partitions.
+   *
+   * @return The {@link PartitionInfo} instances of the partitions in the batch.
+   */
+  public PartitionInfo[] createdPartitionInfos() {
+    return createdPartitionInfos;
+  }
+}
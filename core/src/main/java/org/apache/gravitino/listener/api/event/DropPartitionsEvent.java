@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.listener.api.event;
+
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.annotation.DeveloperApi;
+
+/**
+ * Represents an event that is generated after a batch of partitions is dropped. The batch is not
+ * atomic, so the event only tells whether all the partitions existed, not which of them did.
+ */
+@DeveloperApi
+public final class DropPartitionsEvent extends PartitionEvent {
+  private final boolean isAllExists;
+  private final String[] partitionNames;
+
+  /**
+   * Constructs a new {@code DropPartitionsEvent} instance, encapsulating information about the
+   * outcome of a batch partition drop operation.
+   *
+   * @param user The user who initiated the drop partitions operation.
+   * @param identifier The identifier of the table whose partitions were attempted to be dropped.
+   * @param isAllExists A boolean flag indicating whether all the partitions existed at the time of
+   *     the drop operation.
+   * @param partitionNames The names of the partitions.
+   */
+  public DropPartitionsEvent(
+      String user, NameIdentifier identifier, boolean isAllExists, String[] partitionNames) {
+    super(user, identifier);
+    this.isAllExists = isAllExists;
+    this.partitionNames = partitionNames;
+  }
+
+  /**
+   * Retrieves whether all the partitions existed at the time of the drop operation.
+   *
+   * @return {@code true} if all the partitions existed and were dropped, {@code false} if any of
+   *     them did not exist.
+   */
+  public boolean isAllExists() {
+    return isAllExists;
+  }
+
+  /**
+   * Retrieves the names of the partitions in the batch.
+   *
+   * @return The names of the partitions.
+   */
+  public String[] partitionNames() {
+    return partitionNames;
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.listener.api.event;
+
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.annotation.DeveloperApi;
+
+/**
+ * Represents an event that is generated when an attempt to drop a batch of partitions fails due to
+ * an exception. The batch is not atomic, so some of the partitions may have been dropped before
+ * the failure.
+ */
+@DeveloperApi
+public final class DropPartitionsFailureEvent extends PartitionFailureEvent {
+  private final String[] partitionNames;
+
+  /**
+   * Constructs a new {@code DropPartitionsFailureEvent} instance, capturing detailed information
+   * about the failed attempt to drop a batch of partitions.
+   *
+   * @param user The user who initiated the drop partitions operation.
+   * @param identifier The identifier of the table whose partitions the operation attempted to drop.
+   * @param exception The exception that was thrown during the drop partitions operation, offering
+   *     insights into what went wrong and why the operation failed.
+   * @param partitionNames The names of the partitions.
+   */
+  public DropPartitionsFailureEvent(
+      String user, NameIdentifier identifier, Exception exception, String[] partitionNames) {
+    super(user, identifier, exception);
+    this.partitionNames = partitionNames;
+  }
+
+  /**
+   * Retrieves the names of the partitions in the batch.
+   *
+   * @return The names of the partitions.
+   */
+  public String[] partitionNames() {
+    return partitionNames;
+  }
+}
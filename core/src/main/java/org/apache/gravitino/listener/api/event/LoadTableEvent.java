@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.info.TableInfo;
@@ -26,7 +28,7 @@ import org.apache.gravitino.listener.api.info.TableInfo;
 /** Represents an event triggered upon the successful loading of a table. */
 @DeveloperApi
 public final class LoadTableEvent extends TableEvent {
-  private final TableInfo loadedTableInfo;
+  private final Supplier<TableInfo> loadedTableInfo;
 
   /**
    * Constructs an instance of {@code LoadTableEvent}.
@@ -37,7 +39,21 @@ public final class LoadTableEvent extends TableEvent {
    */
   public LoadTableEvent(String user, NameIdentifier identifier, TableInfo tableInfo) {
     super(user, identifier);
-    this.loadedTableInfo = tableInfo;
+    this.loadedTableInfo = () -> tableInfo;
+  }
+
+  /**
+   * Constructs an instance of {@code LoadTableEvent} whose table state is created on the first
+   * call of {@link #loadedTableInfo()}, so the listeners not reading it don't pay for it.
+   *
+   * @param user The username of the individual who initiated the table loading.
+   * @param identifier The unique identifier of the table that was loaded.
+   * @param tableInfoSupplier The supplier of the state of the table post-loading.
+   */
+  public LoadTableEvent(
+      String user, NameIdentifier identifier, Supplier<TableInfo> tableInfoSupplier) {
+    super(user, identifier);
+    this.loadedTableInfo = Suppliers.memoize(tableInfoSupplier::get);
   }
 
   /**
@@ -46,6 +62,6 @@ public final class LoadTableEvent extends TableEvent {
    * @return A {@link TableInfo} instance encapsulating the details of the table as loaded.
    */
   public TableInfo loadedTableInfo() {
-    return loadedTableInfo;
+    return loadedTableInfo.get();
   }
 }
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.metrics.source.TreeLockMetricsSource;
+
+/**
+ * LockContentionProfiler decides which tree lock acquisitions to sample, and records the wait time
+ * and hold time of the sampled ones into the {@link LockContentionStats} of the tree lock nodes and
+ * the {@link TreeLockMetricsSource}. Only the sampled {@link TreeLock}s are timed, the others only
+ * pay for drawing a random number.
+ */
+class LockContentionProfiler {
+
+  static final LockContentionProfiler DISABLED = new LockContentionProfiler(0, null);
+
+  private final int samplePercent;
+  private final TreeLockMetricsSource metricsSource;
+
+  LockContentionProfiler(int samplePercent, TreeLockMetricsSource metricsSource) {
+    this.samplePercent = samplePercent;
+    this.metricsSource = metricsSource;
+  }
+
+  boolean isEnabled() {
+    return samplePercent > 0;
+  }
+
+  boolean shouldSample() {
+    return samplePercent > 0 && ThreadLocalRandom.current().nextInt(100) < samplePercent;
+  }
+
+  void recordWait(TreeLockNode node, LockType lockType, long nanos, boolean contended) {
+    node.getOrCreateContentionStats().recordWait(lockType, nanos, contended);
+    if (metricsSource != null) {
+      metricsSource.waitTimer(lockType).update(nanos, TimeUnit.NANOSECONDS);
+      if (contended) {
+        metricsSource.contendedCounter().inc();
+      }
+    }
+  }
+
+  void recordHold(TreeLockNode node, LockType lockType, long nanos) {
+    node.getOrCreateContentionStats().recordHold(nanos);
+    if (metricsSource != null) {
+      metricsSource.holdTimer(lockType).update(nanos, TimeUnit.NANOSECONDS);
+    }
+  }
+}
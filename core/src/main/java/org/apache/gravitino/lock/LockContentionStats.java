@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LockContentionStats records the sampled wait time and hold time of one {@link TreeLockNode}.
+ * Besides the count, the sum and the maximum, the times are counted into the buckets bounded by
+ * {@link #BUCKET_BOUNDS_MS}, the last bucket counts the times not less than the last bound.
+ */
+public final class LockContentionStats {
+
+  /** The upper bounds in milliseconds of the buckets of the wait time and hold time histograms. */
+  public static final long[] BUCKET_BOUNDS_MS = {1, 10, 100, 1000, 10000};
+
+  private final AtomicLong samples = new AtomicLong();
+  private final AtomicLong contendedSamples = new AtomicLong();
+  private final AtomicLong writeSamples = new AtomicLong();
+
+  private final AtomicLong totalWaitNanos = new AtomicLong();
+  private final AtomicLong maxWaitNanos = new AtomicLong();
+  private final AtomicLongArray waitBuckets = new AtomicLongArray(BUCKET_BOUNDS_MS.length + 1);
+
+  private final AtomicLong totalHoldNanos = new AtomicLong();
+  private final AtomicLong maxHoldNanos = new AtomicLong();
+  private final AtomicLongArray holdBuckets = new AtomicLongArray(BUCKET_BOUNDS_MS.length + 1);
+
+  void recordWait(LockType lockType, long nanos, boolean contended) {
+    samples.incrementAndGet();
+    if (contended) {
+      contendedSamples.incrementAndGet();
+    }
+    if (lockType == LockType.WRITE) {
+      writeSamples.incrementAndGet();
+    }
+
+    totalWaitNanos.addAndGet(nanos);
+    maxWaitNanos.accumulateAndGet(nanos, Math::max);
+    waitBuckets.incrementAndGet(bucketOf(nanos));
+  }
+
+  void recordHold(long nanos) {
+    totalHoldNanos.addAndGet(nanos);
+    maxHoldNanos.accumulateAndGet(nanos, Math::max);
+    holdBuckets.incrementAndGet(bucketOf(nanos));
+  }
+
+  /** @return The number of the sampled acquisitions of the node. */
+  public long samples() {
+    return samples.get();
+  }
+
+  /** @return The number of the sampled acquisitions that had to wait for other holders. */
+  public long contendedSamples() {
+    return contendedSamples.get();
+  }
+
+  /** @return The number of the sampled acquisitions of the write lock of the node. */
+  public long writeSamples() {
+    return writeSamples.get();
+  }
+
+  /** @return The sum of the sampled wait time in nanoseconds. */
+  public long totalWaitNanos() {
+    return totalWaitNanos.get();
+  }
+
+  /** @return The maximum of the sampled wait time in nanoseconds. */
+  public long maxWaitNanos() {
+    return maxWaitNanos.get();
+  }
+
+  /** @return The sum of the sampled hold time in nanoseconds. */
+  public long totalHoldNanos() {
+    return totalHoldNanos.get();
+  }
+
+  /** @return The maximum of the sampled hold time in nanoseconds. */
+  public long maxHoldNanos() {
+    return maxHoldNanos.get();
+  }
+
+  /** @return The number of the sampled wait time in each bucket. */
+  public long[] waitHistogram() {
+    return toArray(waitBuckets);
+  }
+
+  /** @return The number of the sampled hold time in each bucket. */
+  public long[] holdHistogram() {
+    return toArray(holdBuckets);
+  }
+
+  private static int bucketOf(long nanos) {
+    long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+    for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+      if (millis < BUCKET_BOUNDS_MS[i]) {
+        return i;
+      }
+    }
+    return BUCKET_BOUNDS_MS.length;
+  }
+
+  private static long[] toArray(AtomicLongArray buckets) {
+    long[] values = new long[buckets.length()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = buckets.get(i);
+    }
+    return values;
+  }
+}
@@ -20,13 +20,20 @@
 package org.apache.gravitino.lock;
 
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
+import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_THRESHOLD_PERCENT;
+import static org.apache.gravitino.Configs.TREE_LOCK_CONTENTION_PROFILING_ENABLE;
+import static org.apache.gravitino.Configs.TREE_LOCK_CONTENTION_SAMPLE_PERCENT;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_NODE_IDLE_TIME_IN_SECS;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -35,6 +42,9 @@ import org.apache.commons.lang3.time.StopWatch;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.config.ConfigEntry;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.TreeLockMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,6 +73,16 @@ public class LockManager {
   // The interval in seconds to clean up the stale tree lock nodes.
   @VisibleForTesting long cleanTreeNodeIntervalInSecs;
 
+  // The percent of the maxTreeNodeInMemory above which we will do the cleanup.
+  @VisibleForTesting int cleanThresholdPercent;
+
+  // The time in milliseconds a node must stay unreferenced before it can be evicted.
+  @VisibleForTesting long nodeIdleTimeInMillis;
+
+  private final TreeLockMetricsSource metricsSource;
+
+  @VisibleForTesting LockContentionProfiler contentionProfiler;
+
   private void initParameters(Config config) {
     long maxNodesInMemory = config.get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     if (maxNodesInMemory <= 0) {
@@ -98,6 +118,21 @@ public class LockManager {
     }
 
     this.cleanTreeNodeIntervalInSecs = cleanIntervalInSecs;
+
+    this.cleanThresholdPercent = getOrDefault(config, TREE_LOCK_CLEAN_THRESHOLD_PERCENT);
+    this.nodeIdleTimeInMillis =
+        TimeUnit.SECONDS.toMillis(getOrDefault(config, TREE_LOCK_NODE_IDLE_TIME_IN_SECS));
+
+    this.contentionProfiler =
+        getOrDefault(config, TREE_LOCK_CONTENTION_PROFILING_ENABLE)
+            ? new LockContentionProfiler(
+                getOrDefault(config, TREE_LOCK_CONTENTION_SAMPLE_PERCENT), metricsSource)
+            : LockContentionProfiler.DISABLED;
+  }
+
+  private static <T> T getOrDefault(Config config, ConfigEntry<T> entry) {
+    T value = config.get(entry);
+    return value == null ? entry.getDefaultValue() : value;
   }
 
   private void startDeadLockChecker() {
@@ -157,9 +192,9 @@ public class LockManager {
         () -> {
           long nodeCount = totalNodeCount.get();
           LOG.info("Total tree lock node count: {}", nodeCount);
-          // If the total node count is greater than the maxTreeNodeInMemory * 0.5, we will do the
-          // clear up in case of the memory explosion.
-          if (nodeCount > maxTreeNodeInMemory * 0.5) {
+          // If the total node count is greater than the maxTreeNodeInMemory *
+          // cleanThresholdPercent / 100, we will do the clear up in case of the memory explosion.
+          if (nodeCount > maxTreeNodeInMemory * cleanThresholdPercent / 100.0) {
             StopWatch watch = StopWatch.createStarted();
             LOG.trace("Start to clean up the stale tree lock nodes...");
             treeLockRootNode
@@ -179,6 +214,9 @@ public class LockManager {
   public LockManager(Config config) {
     treeLockRootNode = new TreeLockNode(ROOT.name());
 
+    metricsSource = new TreeLockMetricsSource();
+    metricsSource.registerGauge(MetricNames.TREE_LOCK_NODE_COUNT, totalNodeCount::get);
+
     // Init the parameters.
     initParameters(config);
 
@@ -207,12 +245,13 @@ public class LockManager {
     // Handle from leaf nodes first.
     treeNode.getAllChildren().forEach(child -> evictStaleNodes(child, treeNode));
 
-    // Handle self node.
-    if (treeNode.getReference() == 0) {
+    // Handle self node, the node referenced recently is likely to be used again, so we keep it
+    // and its contention stats until it has been idle for nodeIdleTimeInMillis.
+    if (treeNode.getReference() == 0 && isIdle(treeNode)) {
       synchronized (parent) {
         // Once goes here, the parent node has been locked, so the reference of child (treeNode)
         // could not be changed.
-        if (treeNode.getReference() == 0) {
+        if (treeNode.getReference() == 0 && isIdle(treeNode)) {
           parent.removeChild(treeNode.getName());
           long leftNodeCount = totalNodeCount.decrementAndGet();
           if (LOG.isTraceEnabled()) {
@@ -226,6 +265,78 @@ public class LockManager {
     }
   }
 
+  private boolean isIdle(TreeLockNode treeNode) {
+    return nodeIdleTimeInMillis == 0
+        || System.currentTimeMillis() - treeNode.getLastReferencedTime() >= nodeIdleTimeInMillis;
+  }
+
+  /**
+   * Get the metrics source of the tree locks.
+   *
+   * @return The metrics source of the tree locks.
+   */
+  public TreeLockMetricsSource metricsSource() {
+    return metricsSource;
+  }
+
+  /**
+   * Whether the wait time and hold time of the tree lock nodes are sampled.
+   *
+   * @return True if the contention profiling is enabled.
+   */
+  public boolean isContentionProfilingEnabled() {
+    return contentionProfiler.isEnabled();
+  }
+
+  /**
+   * Get the total number of the tree lock nodes in memory.
+   *
+   * @return The total number of the tree lock nodes.
+   */
+  public long totalNodeCount() {
+    return totalNodeCount.get();
+  }
+
+  /**
+   * Get the most contended paths of the tree lock nodes in memory, ordered by the sampled wait time
+   * in descending order. The path of a node is the names from the root to the node joined by ".",
+   * the root node itself is "/".
+   *
+   * @param limit The maximum number of paths to return.
+   * @return The contention stats of the most contended paths.
+   */
+  public Map<String, LockContentionStats> topContendedPaths(int limit) {
+    List<Pair<String, LockContentionStats>> paths = Lists.newArrayList();
+    addContentionStats(ROOT.name(), treeLockRootNode, paths);
+    treeLockRootNode.getAllChildren().forEach(child -> collectContentionStats(child, null, paths));
+
+    Map<String, LockContentionStats> result = new LinkedHashMap<>();
+    paths.stream()
+        .sorted(
+            Comparator.comparingLong(
+                    (Pair<String, LockContentionStats> p) -> p.getRight().totalWaitNanos())
+                .thenComparingLong(p -> p.getRight().contendedSamples())
+                .reversed())
+        .limit(limit)
+        .forEach(p -> result.put(p.getLeft(), p.getRight()));
+    return result;
+  }
+
+  private static void collectContentionStats(
+      TreeLockNode node, String parentPath, List<Pair<String, LockContentionStats>> paths) {
+    String path = parentPath == null ? node.getName() : parentPath + "." + node.getName();
+    addContentionStats(path, node, paths);
+    node.getAllChildren().forEach(child -> collectContentionStats(child, path, paths));
+  }
+
+  private static void addContentionStats(
+      String path, TreeLockNode node, List<Pair<String, LockContentionStats>> paths) {
+    LockContentionStats stats = node.getContentionStats();
+    if (stats != null && stats.samples() > 0) {
+      paths.add(Pair.of(path, stats));
+    }
+  }
+
   /**
    * Create a tree lock with the given identifier.
    *
@@ -246,7 +357,7 @@ public class LockManager {
       // Otherwise, there will be an unexpected result when using NameIdentifier.of("/").
       if (identifier == ROOT) {
         // The lock tree root node
-        return new TreeLock(treeLockNodes, identifier);
+        return new TreeLock(treeLockNodes, identifier, contentionProfiler);
       }
 
       String[] levels = identifier.namespace().levels();
@@ -266,7 +377,7 @@ public class LockManager {
         lockNode = child;
       }
 
-      return new TreeLock(treeLockNodes, identifier);
+      return new TreeLock(treeLockNodes, identifier, contentionProfiler);
     } catch (Exception e) {
       LOG.error("Failed to create tree lock {}", identifier, e);
       // Release reference if fails.
@@ -82,9 +82,22 @@ public class TreeLock {
   private final Deque<Pair<TreeLockNode, LockType>> heldLocks = new ConcurrentLinkedDeque<>();
   private LockType lockType;
 
+  private final LockContentionProfiler contentionProfiler;
+  // The time in nanoseconds each node in lockNodes is locked, it's only set if this lock is sampled
+  // by the contention profiler.
+  private long[] lockedNanos;
+
   TreeLock(List<TreeLockNode> lockNodes, NameIdentifier identifier) {
+    this(lockNodes, identifier, LockContentionProfiler.DISABLED);
+  }
+
+  TreeLock(
+      List<TreeLockNode> lockNodes,
+      NameIdentifier identifier,
+      LockContentionProfiler contentionProfiler) {
     this.lockNodes = lockNodes;
     this.identifier = identifier;
+    this.contentionProfiler = contentionProfiler;
   }
 
   /**
@@ -98,11 +111,16 @@ public class TreeLock {
     this.lockType = lockType;
 
     int length = lockNodes.size();
+    this.lockedNanos = contentionProfiler.shouldSample() ? new long[length] : null;
     for (int i = 0; i < length; i++) {
       TreeLockNode treeLockNode = lockNodes.get(i);
       LockType type = i == length - 1 ? lockType : LockType.READ;
       try {
-        treeLockNode.lock(type);
+        if (lockedNanos == null) {
+          treeLockNode.lock(type);
+        } else {
+          lockSampled(i, treeLockNode, type);
+        }
         heldLocks.push(Pair.of(treeLockNode, type));
 
         treeLockNode.addHoldingThreadTimestamp(
@@ -138,6 +156,17 @@ public class TreeLock {
     }
   }
 
+  private void lockSampled(int index, TreeLockNode treeLockNode, LockType type) {
+    long startNanos = System.nanoTime();
+    boolean contended = !treeLockNode.tryLock(type);
+    if (contended) {
+      treeLockNode.lock(type);
+    }
+
+    lockedNanos[index] = System.nanoTime();
+    contentionProfiler.recordWait(treeLockNode, type, lockedNanos[index] - startNanos, contended);
+  }
+
   /** Unlock the tree lock. */
   public void unlock() {
     if (lockType == null) {
@@ -149,6 +178,11 @@ public class TreeLock {
       TreeLockNode current = pair.getLeft();
       LockType type = pair.getRight();
       current.unlock(type);
+      if (lockedNanos != null) {
+        // The nodes are pushed in the order of lockNodes, so the popped one is the last of them.
+        contentionProfiler.recordHold(
+            current, type, System.nanoTime() - lockedNanos[heldLocks.size()]);
+      }
 
       long holdStartTime = current.removeHoldingThreadTimestamp(Thread.currentThread(), identifier);
       if (LOG.isTraceEnabled()) {
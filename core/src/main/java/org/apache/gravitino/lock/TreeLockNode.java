@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.commons.lang3.tuple.Pair;
@@ -53,6 +54,13 @@ public class TreeLockNode {
   // using this node, and this node can be removed from the tree.
   private final AtomicLong referenceCount = new AtomicLong();
 
+  // The last time in milliseconds the reference count of this node was changed, it's used to
+  // decide whether an unreferenced node has been idle long enough to be removed from the tree.
+  private volatile long lastReferencedTime = System.currentTimeMillis();
+
+  // The sampled wait time and hold time of this node, it's created on the first sample.
+  private volatile LockContentionStats contentionStats;
+
   /**
    * The identifier of a thread. This class is used to identify this tree lock node is held by which
    * thread and identifier because one thread can hold multiple tree lock nodes at the same time.
@@ -127,6 +135,7 @@ public class TreeLockNode {
    */
   synchronized void addReference() {
     referenceCount.getAndIncrement();
+    lastReferencedTime = System.currentTimeMillis();
   }
 
   /**
@@ -135,12 +144,35 @@ public class TreeLockNode {
    */
   synchronized void decReference() {
     referenceCount.getAndDecrement();
+    lastReferencedTime = System.currentTimeMillis();
   }
 
   long getReference() {
     return referenceCount.get();
   }
 
+  long getLastReferencedTime() {
+    return lastReferencedTime;
+  }
+
+  LockContentionStats getContentionStats() {
+    return contentionStats;
+  }
+
+  LockContentionStats getOrCreateContentionStats() {
+    LockContentionStats stats = contentionStats;
+    if (stats == null) {
+      synchronized (this) {
+        stats = contentionStats;
+        if (stats == null) {
+          stats = new LockContentionStats();
+          contentionStats = stats;
+        }
+      }
+    }
+    return stats;
+  }
+
   /**
    * Lock the node with the given lock type. This method should be followed by {@link
    * #unlock(LockType)}.
@@ -155,6 +187,28 @@ public class TreeLockNode {
     }
   }
 
+  /**
+   * Try to lock the node with the given lock type without waiting for other holders. Unlike {@link
+   * java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock#tryLock()}, it doesn't acquire the
+   * read lock ahead of the queued writers. This method should be followed by {@link
+   * #unlock(LockType)} if it returns true.
+   *
+   * @param lockType The lock type to lock the node.
+   * @return True if the node is locked, false if it's held by others.
+   */
+  boolean tryLock(LockType lockType) {
+    try {
+      if (lockType == LockType.READ) {
+        return readWriteLock.readLock().tryLock(0, TimeUnit.NANOSECONDS);
+      } else {
+        return readWriteLock.writeLock().tryLock(0, TimeUnit.NANOSECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
   /**
    * Unlock the node with the given lock type. This method should be called after {@link
    * #lock(LockType)}, and the lock type should be the same as the lock type in {@link
@@ -170,6 +224,7 @@ public class TreeLockNode {
     }
 
     this.referenceCount.decrementAndGet();
+    this.lastReferencedTime = System.currentTimeMillis();
   }
 
   /**
@@ -21,6 +21,10 @@ package org.apache.gravitino.lock;
 
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.OperationProfiler;
+import org.apache.gravitino.metrics.OperationProfiler.Phase;
+import org.apache.gravitino.tracing.Span;
+import org.apache.gravitino.tracing.Tracer;
 import org.apache.gravitino.utils.Executable;
 
 /** Utility class for tree locks. */
@@ -44,11 +48,23 @@ public class TreeLockUtils {
   public static <R, E extends Exception> R doWithTreeLock(
       NameIdentifier identifier, LockType lockType, Executable<R, E> executable) throws E {
     TreeLock lock = GravitinoEnv.getInstance().lockManager().createTreeLock(identifier);
+    // The lock is usually acquired before calling the dispatcher, open a scope to count the lock
+    // wait in the operation called with the lock.
+    OperationProfiler.enterScope();
     try {
-      lock.lock(lockType);
+      OperationProfiler.doWithPhase(
+          Phase.LOCK_WAIT,
+          () -> {
+            try (Span span = Tracer.startSpan("tree-lock")) {
+              span.setAttribute("identifier", identifier).setAttribute("lock-type", lockType);
+              lock.lock(lockType);
+            }
+            return null;
+          });
       return executable.execute();
     } finally {
       lock.unlock();
+      OperationProfiler.exitScope();
     }
   }
 
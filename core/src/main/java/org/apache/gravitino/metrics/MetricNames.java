@@ -22,6 +22,20 @@ package org.apache.gravitino.metrics;
 public class MetricNames {
   public static final String HTTP_PROCESS_DURATION = "http-request-duration-seconds";
   public static final String SERVER_IDLE_THREAD_NUM = "http-server.idle-thread.num";
+  public static final String SERVER_ADMISSION = "http-server.admission";
+  public static final String ADMISSION_RUNNING = "running";
+  public static final String ADMISSION_QUEUED = "queued";
+  public static final String ADMISSION_REJECTED = "rejected";
+  public static final String COLLAPSED_CALLS = "collapsed-calls";
+  public static final String OPERATION_LATENCY = "latency";
+  public static final String TREE_LOCK_NODE_COUNT = "node-count";
+  public static final String TREE_LOCK_WAIT_TIME = "wait-time";
+  public static final String TREE_LOCK_HOLD_TIME = "hold-time";
+  public static final String TREE_LOCK_CONTENDED = "contended";
+  public static final String EVENT_LISTENER_PROCESS_TIME = "process-time";
+  public static final String EVENT_LISTENER_FAILURES = "failures";
+  public static final String EVENT_LISTENER_TIMEOUTS = "timeouts";
+  public static final String EVENT_LISTENER_SKIPPED = "skipped";
 
   private MetricNames() {}
 }
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.apache.gravitino.utils.Executable;
+
+/**
+ * OperationProfiler breaks down the time of an operation into phases, like waiting for the tree
+ * lock or calling the entity store, so that the slow operations can be attributed to the lock
+ * contention, the backend storage or the underlying catalog.
+ *
+ * <p>The phases are recorded per thread, only when the thread is running a profiled operation or
+ * holding a scope opened by {@link #enterScope()}. The time of a phase nested in another phase is
+ * only counted in the inner phase, for example, the entity store calls made by a catalog are not
+ * counted as the catalog time.
+ */
+public final class OperationProfiler {
+
+  /** The phases of an operation. */
+  public enum Phase {
+    /** Waiting for the tree lock. */
+    LOCK_WAIT("lock-wait"),
+    /** Loading the catalog from the catalog cache or creating it. */
+    CATALOG_LOAD("catalog-load"),
+    /** Getting and switching to the isolated classloader of the catalog. */
+    CLASSLOADER("classloader"),
+    /** Calling the underlying catalog. */
+    CATALOG("catalog"),
+    /** Calling the entity store. */
+    ENTITY_STORE("entity-store");
+
+    private final String metricName;
+
+    Phase(String metricName) {
+      this.metricName = metricName;
+    }
+
+    /**
+     * Returns the name of the phase used in the metrics and logs.
+     *
+     * @return The name of the phase.
+     */
+    public String metricName() {
+      return metricName;
+    }
+  }
+
+  private static final Phase[] PHASES = Phase.values();
+
+  private static final ThreadLocal<State> STATE = new ThreadLocal<>();
+
+  private OperationProfiler() {}
+
+  /**
+   * Opens a scope to record the phases on the current thread. The phases recorded in the scope
+   * before an operation starts are counted in the operation, this is used to count the tree lock
+   * acquired before calling the operation. Each call must be paired with {@link #exitScope()}.
+   */
+  public static void enterScope() {
+    State state = STATE.get();
+    if (state == null) {
+      state = new State();
+      STATE.set(state);
+    }
+    state.scopeDepth++;
+  }
+
+  /** Closes the scope opened by {@link #enterScope()}. */
+  public static void exitScope() {
+    State state = STATE.get();
+    if (state != null && --state.scopeDepth == 0) {
+      STATE.remove();
+    }
+  }
+
+  /**
+   * Runs the executable as a phase of the current operation. It runs the executable directly if no
+   * operation or scope is active on the current thread.
+   *
+   * @param phase The phase of the executable.
+   * @param executable The executable to run.
+   * @return The result of the executable.
+   * @param <R> The type of the result.
+   * @param <E> The type of the exception.
+   * @throws E If the executable throws an exception.
+   */
+  public static <R, E extends Exception> R doWithPhase(Phase phase, Executable<R, E> executable)
+      throws E {
+    State state = STATE.get();
+    if (state == null) {
+      return executable.execute();
+    }
+
+    // frame[0] is the start time, frame[1] is the time spent in the nested phases.
+    long[] frame = new long[] {System.nanoTime(), 0L};
+    state.frames.push(frame);
+    try {
+      return executable.execute();
+    } finally {
+      state.frames.pop();
+      long elapsed = System.nanoTime() - frame[0];
+      state.phaseNanos[phase.ordinal()] += elapsed - frame[1];
+      long[] parent = state.frames.peek();
+      if (parent != null) {
+        parent[1] += elapsed;
+      }
+    }
+  }
+
+  /**
+   * Runs the executable as a profiled operation. When the outermost operation on the current thread
+   * finishes, the profile of it is passed to the listener, the operations nested in it are counted
+   * as a part of it.
+   *
+   * @param executable The executable to run.
+   * @param listener The listener of the profile of the operation.
+   * @return The result of the executable.
+   * @param <R> The type of the result.
+   * @param <E> The type of the exception.
+   * @throws E If the executable throws an exception.
+   */
+  public static <R, E extends Exception> R doWithOperation(
+      Executable<R, E> executable, Consumer<Profile> listener) throws E {
+    enterScope();
+    State state = STATE.get();
+    if (state.operationDepth > 0) {
+      try {
+        return executable.execute();
+      } finally {
+        exitScope();
+      }
+    }
+
+    // The phases recorded in the scope before the operation starts, like the tree lock wait, are
+    // counted in the operation.
+    long pendingNanos = Arrays.stream(state.phaseNanos).sum();
+    long start = System.nanoTime();
+    state.operationDepth++;
+    try {
+      return executable.execute();
+    } finally {
+      state.operationDepth--;
+      Profile profile =
+          new Profile(System.nanoTime() - start + pendingNanos, state.phaseNanos.clone());
+      Arrays.fill(state.phaseNanos, 0L);
+      exitScope();
+      listener.accept(profile);
+    }
+  }
+
+  /** The profile of a finished operation. */
+  public static final class Profile {
+
+    private final long totalNanos;
+
+    private final long[] phaseNanos;
+
+    private Profile(long totalNanos, long[] phaseNanos) {
+      this.totalNanos = totalNanos;
+      this.phaseNanos = phaseNanos;
+    }
+
+    /**
+     * Returns the total time of the operation.
+     *
+     * @return The total time in nanoseconds.
+     */
+    public long totalNanos() {
+      return totalNanos;
+    }
+
+    /**
+     * Returns the time spent in the given phase.
+     *
+     * @param phase The phase.
+     * @return The time in nanoseconds.
+     */
+    public long phaseNanos(Phase phase) {
+      return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Returns the time not spent in any phase, like the time of Gravitino itself.
+     *
+     * @return The time in nanoseconds.
+     */
+    public long otherNanos() {
+      return Math.max(0L, totalNanos - Arrays.stream(phaseNanos).sum());
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.stream(PHASES)
+              .map(p -> p.metricName() + "=" + toMillis(phaseNanos(p)) + "ms")
+              .collect(Collectors.joining(", "))
+          + ", other="
+          + toMillis(otherNanos())
+          + "ms";
+    }
+
+    private static long toMillis(long nanos) {
+      return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+  }
+
+  private static final class State {
+
+    private final long[] phaseNanos = new long[PHASES.length];
+
+    private final Deque<long[]> frames = new ArrayDeque<>();
+
+    private int scopeDepth;
+
+    private int operationDepth;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * EventListenerMetricsSource collects the metrics of every event listener, like the time to process
+ * an event and the number of the failed, timed out and skipped events.
+ */
+public class EventListenerMetricsSource extends MetricsSource {
+
+  /** Creates the metrics source of the event listeners. */
+  public EventListenerMetricsSource() {
+    super(EVENT_LISTENER_METRIC_NAME);
+  }
+
+  /**
+   * Get or create the timer of the time the listener takes to process an event.
+   *
+   * @param listenerName The name of the event listener.
+   * @return The process time timer of the listener.
+   */
+  public Timer processTimer(String listenerName) {
+    return getTimer(String.join(".", listenerName, MetricNames.EVENT_LISTENER_PROCESS_TIME));
+  }
+
+  /**
+   * Get or create the counter of the events the listener failed to process.
+   *
+   * @param listenerName The name of the event listener.
+   * @return The failure counter of the listener.
+   */
+  public Counter failureCounter(String listenerName) {
+    return getCounter(String.join(".", listenerName, MetricNames.EVENT_LISTENER_FAILURES));
+  }
+
+  /**
+   * Get or create the counter of the events the listener didn't process in time.
+   *
+   * @param listenerName The name of the event listener.
+   * @return The timeout counter of the listener.
+   */
+  public Counter timeoutCounter(String listenerName) {
+    return getCounter(String.join(".", listenerName, MetricNames.EVENT_LISTENER_TIMEOUTS));
+  }
+
+  /**
+   * Get or create the counter of the events not sent to the listener since it is disabled for
+   * failing too many times in a row.
+   *
+   * @param listenerName The name of the event listener.
+   * @return The skipped event counter of the listener.
+   */
+  public Counter skippedCounter(String listenerName) {
+    return getCounter(String.join(".", listenerName, MetricNames.EVENT_LISTENER_SKIPPED));
+  }
+}
@@ -41,6 +41,9 @@ public abstract class MetricsSource {
   public static final String ICEBERG_REST_SERVER_METRIC_NAME = "iceberg-rest-server";
   public static final String GRAVITINO_SERVER_METRIC_NAME = "gravitino-server";
   public static final String JVM_METRIC_NAME = "jvm";
+  public static final String OPERATION_DISPATCHER_METRIC_NAME = "operation-dispatcher";
+  public static final String TREE_LOCK_METRIC_NAME = "tree-lock";
+  public static final String EVENT_LISTENER_METRIC_NAME = "event-listener";
   private final MetricRegistry metricRegistry;
   private final String metricsSourceName;
   private final int timeSlidingWindowSeconds;
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.OperationProfiler;
+
+/**
+ * OperationDispatcherMetricsSource collects the metrics of one kind of catalog operation, like
+ * "load-table", grouped by catalog. The metrics source name is "operation-dispatcher.{operation}".
+ */
+public class OperationDispatcherMetricsSource extends MetricsSource {
+
+  /**
+   * Creates the metrics source of the given operation.
+   *
+   * @param operation The name of the operation.
+   */
+  public OperationDispatcherMetricsSource(String operation) {
+    super(String.join(".", OPERATION_DISPATCHER_METRIC_NAME, operation));
+  }
+
+  /**
+   * Get or create the counter of the calls merged into an in-flight call of the same operation.
+   *
+   * @param metalake The metalake of the catalog.
+   * @param catalog The name of the catalog.
+   * @return The counter of the collapsed calls of the catalog.
+   */
+  public Counter collapsedCallsCounter(String metalake, String catalog) {
+    return getCounter(String.join(".", metalake, catalog, MetricNames.COLLAPSED_CALLS));
+  }
+
+  /**
+   * Get or create the timer of the latency of the operation.
+   *
+   * @param metalake The metalake of the catalog.
+   * @param catalog The name of the catalog.
+   * @return The latency timer of the catalog.
+   */
+  public Timer latencyTimer(String metalake, String catalog) {
+    return getTimer(String.join(".", metalake, catalog, MetricNames.OPERATION_LATENCY));
+  }
+
+  /**
+   * Get or create the timer of the time spent in one phase of the operation.
+   *
+   * @param metalake The metalake of the catalog.
+   * @param catalog The name of the catalog.
+   * @param phase The phase of the operation.
+   * @return The phase latency timer of the catalog.
+   */
+  public Timer phaseLatencyTimer(String metalake, String catalog, OperationProfiler.Phase phase) {
+    return getTimer(
+        String.join(".", metalake, catalog, MetricNames.OPERATION_LATENCY, phase.metricName()));
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import java.util.Locale;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * TreeLockMetricsSource collects the metrics of the tree locks, like the number of the tree lock
+ * nodes in memory and the sampled wait time and hold time of the tree lock nodes.
+ */
+public class TreeLockMetricsSource extends MetricsSource {
+
+  /** Creates the metrics source of the tree locks. */
+  public TreeLockMetricsSource() {
+    super(TREE_LOCK_METRIC_NAME);
+  }
+
+  /**
+   * Get or create the timer of the sampled time spent waiting for the tree lock nodes.
+   *
+   * @param lockType The type of the lock acquired.
+   * @return The wait time timer of the lock type.
+   */
+  public Timer waitTimer(LockType lockType) {
+    return getTimer(String.join(".", MetricNames.TREE_LOCK_WAIT_TIME, typeName(lockType)));
+  }
+
+  /**
+   * Get or create the timer of the sampled time the tree lock nodes are held.
+   *
+   * @param lockType The type of the lock held.
+   * @return The hold time timer of the lock type.
+   */
+  public Timer holdTimer(LockType lockType) {
+    return getTimer(String.join(".", MetricNames.TREE_LOCK_HOLD_TIME, typeName(lockType)));
+  }
+
+  /**
+   * Get or create the counter of the sampled acquisitions that had to wait for other holders.
+   *
+   * @return The counter of the contended acquisitions.
+   */
+  public Counter contendedCounter() {
+    return getCounter(MetricNames.TREE_LOCK_CONTENDED);
+  }
+
+  private static String typeName(LockType lockType) {
+    return lockType.name().toLowerCase(Locale.ROOT);
+  }
+}
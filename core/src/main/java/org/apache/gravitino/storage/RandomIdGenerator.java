@@ -19,11 +19,17 @@
 
 package org.apache.gravitino.storage;
 
-import java.util.UUID;
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
 
 /**
  * Random id generator. This is used to generate random ids for entities. Please see {@link
  * org.apache.gravitino.meta.BaseMetalake#ID} for more details.
+ *
+ * <p>Each thread draws the ids from its own {@link SplittableRandom} seeded by a {@link
+ * SecureRandom}, so the threads creating entities concurrently don't contend on the shared secure
+ * random source like {@link java.util.UUID#randomUUID()} does, while the seeds of the threads and
+ * the servers are still unpredictable and independent.
  */
 public class RandomIdGenerator implements IdGenerator {
 
@@ -31,9 +37,14 @@ public class RandomIdGenerator implements IdGenerator {
 
   public static final long MAX_ID = 0x7fffffffffffffffL;
 
+  private static final SecureRandom SEED_GENERATOR = new SecureRandom();
+
+  private static final ThreadLocal<SplittableRandom> RANDOM =
+      ThreadLocal.withInitial(() -> new SplittableRandom(SEED_GENERATOR.nextLong()));
+
   @Override
   public long nextId() {
     // Make sure this is a positive number.
-    return UUID.randomUUID().getLeastSignificantBits() & MAX_ID;
+    return RANDOM.get().nextLong() & MAX_ID;
   }
 }
@@ -124,6 +124,13 @@ public class KvEntityStore implements EntityStore {
     this.serDe = entitySerDe;
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Class<E> e, EntityType type, boolean allFields) throws IOException {
+    // The entities are stored as a whole, there is nothing to skip.
+    return list(namespace, e, type);
+  }
+
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> e, EntityType type) throws IOException {
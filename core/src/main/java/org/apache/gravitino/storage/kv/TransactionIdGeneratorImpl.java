@@ -25,6 +25,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.storage.TransactionIdGenerator;
@@ -43,8 +44,10 @@ public class TransactionIdGeneratorImpl implements TransactionIdGenerator {
   static final byte[] LAST_TIMESTAMP =
       Bytes.concat(ID_GENERATOR_PREFIX, "last_timestamp".getBytes(StandardCharsets.UTF_8));
 
-  private volatile long incrementId = 0L;
-  private volatile long lastTransactionId = 0L;
+  // The number of the low bits of the transaction id used by the increment id.
+  private static final int INCREMENT_ID_BITS = 18;
+
+  private final AtomicLong lastTransactionId = new AtomicLong(0L);
   private final Config config;
 
   private final ScheduledExecutorService scheduledThreadPoolExecutor =
@@ -132,19 +135,26 @@ public class TransactionIdGeneratorImpl implements TransactionIdGenerator {
   /**
    * We use the timestamp as the high 46 bits and the incrementId as the low 18 bits. The timestamp
    * is always incremental.
+   *
+   * <p>The id is the larger one of the first id of the current millisecond and the last id plus
+   * one, and it's published by a CAS on the last id instead of a lock, so the concurrent callers
+   * only retry on a conflict. If the increment ids of the current millisecond are used up, or the
+   * clock goes backwards, we wait for the clock to catch up rather than borrowing the ids of the
+   * future timestamps, so the timestamp part of the ids never runs ahead of the clock.
    */
   @Override
-  public synchronized long nextId() {
-    incrementId++;
-    if (incrementId >= ((1 << 18) - 1)) {
-      incrementId = 0;
-    }
-
+  public long nextId() {
     while (true) {
-      long tmpId = (System.currentTimeMillis() << 18) + incrementId;
-      if (tmpId > lastTransactionId) {
-        lastTransactionId = tmpId;
-        return tmpId;
+      long current = System.currentTimeMillis();
+      long last = lastTransactionId.get();
+      long next = Math.max(current << INCREMENT_ID_BITS, last + 1);
+      if ((next >>> INCREMENT_ID_BITS) > current) {
+        Thread.yield();
+        continue;
+      }
+
+      if (lastTransactionId.compareAndSet(last, next)) {
+        return next;
       }
     }
   }
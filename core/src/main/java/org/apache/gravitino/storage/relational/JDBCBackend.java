@@ -93,15 +93,18 @@ public class JDBCBackend implements RelationalBackend {
       case METALAKE:
         return (List<E>) MetalakeMetaService.getInstance().listMetalakes();
       case CATALOG:
-        return (List<E>) CatalogMetaService.getInstance().listCatalogsByNamespace(namespace);
+        return (List<E>)
+            CatalogMetaService.getInstance().listCatalogsByNamespace(namespace, allFields);
       case SCHEMA:
-        return (List<E>) SchemaMetaService.getInstance().listSchemasByNamespace(namespace);
+        return (List<E>)
+            SchemaMetaService.getInstance().listSchemasByNamespace(namespace, allFields);
       case TABLE:
-        return (List<E>) TableMetaService.getInstance().listTablesByNamespace(namespace);
+        return (List<E>) TableMetaService.getInstance().listTablesByNamespace(namespace, allFields);
       case FILESET:
-        return (List<E>) FilesetMetaService.getInstance().listFilesetsByNamespace(namespace);
+        return (List<E>)
+            FilesetMetaService.getInstance().listFilesetsByNamespace(namespace, allFields);
       case TOPIC:
-        return (List<E>) TopicMetaService.getInstance().listTopicsByNamespace(namespace);
+        return (List<E>) TopicMetaService.getInstance().listTopicsByNamespace(namespace, allFields);
       case TAG:
         return (List<E>) TagMetaService.getInstance().listTagsByNamespace(namespace);
       case USER:
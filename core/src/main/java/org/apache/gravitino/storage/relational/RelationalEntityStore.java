@@ -37,6 +37,9 @@ import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.meta.TagEntity;
+import org.apache.gravitino.metrics.OperationProfiler;
+import org.apache.gravitino.metrics.OperationProfiler.Phase;
+import org.apache.gravitino.storage.relational.utils.PayloadSerDe;
 import org.apache.gravitino.tag.SupportsTagOperations;
 import org.apache.gravitino.utils.Executable;
 import org.slf4j.Logger;
@@ -58,6 +61,7 @@ public class RelationalEntityStore
 
   @Override
   public void initialize(Config config) throws RuntimeException {
+    PayloadSerDe.initialize(config);
     this.backend = createRelationalEntityBackend(config);
     this.garbageCollector = new RelationalGarbageCollector(backend, config);
     this.garbageCollector.start();
@@ -89,46 +93,56 @@ public class RelationalEntityStore
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType) throws IOException {
-    return backend.list(namespace, entityType, false);
+    return list(namespace, type, entityType, true /* allFields */);
   }
 
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType, boolean allFields)
       throws IOException {
-    return backend.list(namespace, entityType, allFields);
+    return OperationProfiler.doWithPhase(
+        Phase.ENTITY_STORE, () -> backend.list(namespace, entityType, allFields));
   }
 
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
-    return backend.exists(ident, entityType);
+    return OperationProfiler.doWithPhase(
+        Phase.ENTITY_STORE, () -> backend.exists(ident, entityType));
   }
 
   @Override
   public <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
       throws IOException, EntityAlreadyExistsException {
-    backend.insert(e, overwritten);
+    OperationProfiler.doWithPhase(
+        Phase.ENTITY_STORE,
+        () -> {
+          backend.insert(e, overwritten);
+          return null;
+        });
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Class<E> type, Entity.EntityType entityType, Function<E, E> updater)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
-    return backend.update(ident, entityType, updater);
+    return OperationProfiler.doWithPhase(
+        Phase.ENTITY_STORE, () -> backend.update(ident, entityType, updater));
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E get(
       NameIdentifier ident, Entity.EntityType entityType, Class<E> e)
       throws NoSuchEntityException, IOException {
-    return backend.get(ident, entityType);
+    return OperationProfiler.doWithPhase(
+        Phase.ENTITY_STORE, () -> backend.get(ident, entityType));
   }
 
   @Override
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException {
     try {
-      return backend.delete(ident, entityType, cascade);
+      return OperationProfiler.doWithPhase(
+          Phase.ENTITY_STORE, () -> backend.delete(ident, entityType, cascade));
     } catch (NoSuchEntityException nse) {
       return false;
     }
@@ -190,7 +204,9 @@ public class RelationalEntityStore
   public <E extends Entity & HasIdentifier> List<E> listEntitiesByRelation(
       Type relType, NameIdentifier nameIdentifier, Entity.EntityType identType, boolean allFields)
       throws IOException {
-    return backend.listEntitiesByRelation(relType, nameIdentifier, identType, allFields);
+    return OperationProfiler.doWithPhase(
+        Phase.ENTITY_STORE,
+        () -> backend.listEntitiesByRelation(relType, nameIdentifier, identType, allFields));
   }
 
   @Override
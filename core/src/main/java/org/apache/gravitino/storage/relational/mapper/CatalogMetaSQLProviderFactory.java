@@ -56,6 +56,10 @@ public class CatalogMetaSQLProviderFactory {
     return getProvider().listCatalogPOsByMetalakeId(metalakeId);
   }
 
+  public static String listBriefCatalogPOsByMetalakeId(@Param("metalakeId") Long metalakeId) {
+    return getProvider().listBriefCatalogPOsByMetalakeId(metalakeId);
+  }
+
   public static String selectCatalogIdByMetalakeIdAndName(
       @Param("metalakeId") Long metalakeId, @Param("catalogName") String name) {
     return getProvider().selectCatalogIdByMetalakeIdAndName(metalakeId, name);
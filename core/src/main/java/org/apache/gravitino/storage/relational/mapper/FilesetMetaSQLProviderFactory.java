@@ -55,6 +55,10 @@ public class FilesetMetaSQLProviderFactory {
     return getProvider().listFilesetPOsBySchemaId(schemaId);
   }
 
+  public static String listBriefFilesetPOsBySchemaId(@Param("schemaId") Long schemaId) {
+    return getProvider().listBriefFilesetPOsBySchemaId(schemaId);
+  }
+
   public static String selectFilesetIdBySchemaIdAndName(
       @Param("schemaId") Long schemaId, @Param("filesetName") String name) {
     return getProvider().selectFilesetIdBySchemaIdAndName(schemaId, name);
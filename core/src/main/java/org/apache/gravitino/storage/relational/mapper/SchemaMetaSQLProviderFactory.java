@@ -54,6 +54,10 @@ public class SchemaMetaSQLProviderFactory {
     return getProvider().listSchemaPOsByCatalogId(catalogId);
   }
 
+  public static String listBriefSchemaPOsByCatalogId(@Param("catalogId") Long catalogId) {
+    return getProvider().listBriefSchemaPOsByCatalogId(catalogId);
+  }
+
   public static String selectSchemaIdByCatalogIdAndName(
       @Param("catalogId") Long catalogId, @Param("schemaName") String name) {
     return getProvider().selectSchemaIdByCatalogIdAndName(catalogId, name);
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
+import org.apache.gravitino.storage.relational.mapper.provider.base.TableColumnBaseSQLProvider;
+import org.apache.gravitino.storage.relational.mapper.provider.postgresql.TableColumnPostgreSQLProvider;
+import org.apache.gravitino.storage.relational.po.ColumnPO;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.ibatis.annotations.Param;
+
+public class TableColumnSQLProviderFactory {
+  private static final Map<JDBCBackendType, TableColumnBaseSQLProvider>
+      TABLE_COLUMN_SQL_PROVIDER_MAP =
+          ImmutableMap.of(
+              JDBCBackendType.MYSQL, new TableColumnMySQLProvider(),
+              JDBCBackendType.H2, new TableColumnH2Provider(),
+              JDBCBackendType.POSTGRESQL, new TableColumnPostgreSQLProvider());
+
+  public static TableColumnBaseSQLProvider getProvider() {
+    String databaseId =
+        SqlSessionFactoryHelper.getInstance()
+            .getSqlSessionFactory()
+            .getConfiguration()
+            .getDatabaseId();
+
+    JDBCBackendType jdbcBackendType = JDBCBackendType.fromString(databaseId);
+    return TABLE_COLUMN_SQL_PROVIDER_MAP.get(jdbcBackendType);
+  }
+
+  static class TableColumnMySQLProvider extends TableColumnBaseSQLProvider {}
+
+  static class TableColumnH2Provider extends TableColumnBaseSQLProvider {}
+
+  public static String listColumnPOsByTableIdAndVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion) {
+    return getProvider().listColumnPOsByTableIdAndVersion(tableId, tableVersion);
+  }
+
+  public static String batchInsertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs) {
+    return getProvider().batchInsertColumnPOs(columnPOs);
+  }
+
+  public static String softDeleteColumnsByTableId(@Param("tableId") Long tableId) {
+    return getProvider().softDeleteColumnsByTableId(tableId);
+  }
+
+  public static String softDeleteColumnsByTableIdBeforeVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion) {
+    return getProvider().softDeleteColumnsByTableIdBeforeVersion(tableId, tableVersion);
+  }
+
+  public static String softDeleteColumnsByMetalakeId(@Param("metalakeId") Long metalakeId) {
+    return getProvider().softDeleteColumnsByMetalakeId(metalakeId);
+  }
+
+  public static String softDeleteColumnsByCatalogId(@Param("catalogId") Long catalogId) {
+    return getProvider().softDeleteColumnsByCatalogId(catalogId);
+  }
+
+  public static String softDeleteColumnsBySchemaId(@Param("schemaId") Long schemaId) {
+    return getProvider().softDeleteColumnsBySchemaId(schemaId);
+  }
+
+  public static String deleteColumnPOsByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
+    return getProvider().deleteColumnPOsByLegacyTimeline(legacyTimeline, limit);
+  }
+}
@@ -54,6 +54,10 @@ public class TableMetaSQLProviderFactory {
     return getProvider().listTablePOsBySchemaId(schemaId);
   }
 
+  public static String listBriefTablePOsBySchemaId(@Param("schemaId") Long schemaId) {
+    return getProvider().listBriefTablePOsBySchemaId(schemaId);
+  }
+
   public static String selectTableIdBySchemaIdAndName(
       @Param("schemaId") Long schemaId, @Param("tableName") String name) {
     return getProvider().selectTableIdBySchemaIdAndName(schemaId, name);
@@ -40,6 +40,9 @@ public interface TopicMetaMapper {
   @SelectProvider(type = TopicMetaSQLProviderFactory.class, method = "listTopicPOsBySchemaId")
   List<TopicPO> listTopicPOsBySchemaId(@Param("schemaId") Long schemaId);
 
+  @SelectProvider(type = TopicMetaSQLProviderFactory.class, method = "listBriefTopicPOsBySchemaId")
+  List<TopicPO> listBriefTopicPOsBySchemaId(@Param("schemaId") Long schemaId);
+
   @SelectProvider(
       type = TopicMetaSQLProviderFactory.class,
       method = "selectTopicMetaBySchemaIdAndName")
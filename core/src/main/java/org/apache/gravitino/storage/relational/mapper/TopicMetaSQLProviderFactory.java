@@ -63,6 +63,10 @@ public class TopicMetaSQLProviderFactory {
     return getProvider().listTopicPOsBySchemaId(schemaId);
   }
 
+  public static String listBriefTopicPOsBySchemaId(@Param("schemaId") Long schemaId) {
+    return getProvider().listBriefTopicPOsBySchemaId(schemaId);
+  }
+
   public static String selectTopicMetaBySchemaIdAndName(
       @Param("schemaId") Long schemaId, @Param("topicName") String topicName) {
     return getProvider().selectTopicMetaBySchemaIdAndName(schemaId, topicName);
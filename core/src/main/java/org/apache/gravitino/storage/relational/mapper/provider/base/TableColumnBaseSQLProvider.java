@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper.provider.base;
+
+import static org.apache.gravitino.storage.relational.mapper.TableColumnMapper.COLUMN_TABLE_NAME;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.po.ColumnPO;
+import org.apache.ibatis.annotations.Param;
+
+public class TableColumnBaseSQLProvider {
+
+  public String listColumnPOsByTableIdAndVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion) {
+    return "SELECT id, metalake_id as metalakeId, catalog_id as catalogId,"
+        + " schema_id as schemaId, table_id as tableId, table_version as tableVersion,"
+        + " column_id as columnId, column_name as columnName, column_position as columnPosition,"
+        + " column_type as columnType, column_comment as columnComment,"
+        + " column_nullable as nullable, column_auto_increment as autoIncrement,"
+        + " column_default_value as defaultValue, audit_info as auditInfo,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + COLUMN_TABLE_NAME
+        + " WHERE table_id = #{tableId} AND table_version = #{tableVersion} AND deleted_at = 0"
+        + " ORDER BY column_position";
+  }
+
+  public String batchInsertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + COLUMN_TABLE_NAME
+        + "(metalake_id, catalog_id, schema_id, table_id, table_version,"
+        + " column_id, column_name, column_position, column_type, column_comment,"
+        + " column_nullable, column_auto_increment, column_default_value, audit_info,"
+        + " deleted_at)"
+        + " VALUES "
+        + "<foreach collection='columnPOs' item='item' separator=','>"
+        + "(#{item.metalakeId},"
+        + " #{item.catalogId},"
+        + " #{item.schemaId},"
+        + " #{item.tableId},"
+        + " #{item.tableVersion},"
+        + " #{item.columnId},"
+        + " #{item.columnName},"
+        + " #{item.columnPosition},"
+        + " #{item.columnType},"
+        + " #{item.columnComment},"
+        + " #{item.nullable},"
+        + " #{item.autoIncrement},"
+        + " #{item.defaultValue},"
+        + " #{item.auditInfo},"
+        + " #{item.deletedAt})"
+        + "</foreach>"
+        + "</script>";
+  }
+
+  public String softDeleteColumnsByTableId(@Param("tableId") Long tableId) {
+    return "UPDATE "
+        + COLUMN_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE table_id = #{tableId} AND deleted_at = 0";
+  }
+
+  public String softDeleteColumnsByTableIdBeforeVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion) {
+    return "UPDATE "
+        + COLUMN_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE table_id = #{tableId} AND table_version < #{tableVersion} AND deleted_at = 0";
+  }
+
+  public String softDeleteColumnsByMetalakeId(@Param("metalakeId") Long metalakeId) {
+    return "UPDATE "
+        + COLUMN_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE metalake_id = #{metalakeId} AND deleted_at = 0";
+  }
+
+  public String softDeleteColumnsByCatalogId(@Param("catalogId") Long catalogId) {
+    return "UPDATE "
+        + COLUMN_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE catalog_id = #{catalogId} AND deleted_at = 0";
+  }
+
+  public String softDeleteColumnsBySchemaId(@Param("schemaId") Long schemaId) {
+    return "UPDATE "
+        + COLUMN_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE schema_id = #{schemaId} AND deleted_at = 0";
+  }
+
+  public String deleteColumnPOsByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
+    return "DELETE FROM "
+        + COLUMN_TABLE_NAME
+        + " WHERE deleted_at > 0 AND deleted_at < #{legacyTimeline} LIMIT #{limit}";
+  }
+}
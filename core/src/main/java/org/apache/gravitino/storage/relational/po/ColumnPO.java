@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.po;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import org.apache.commons.lang3.StringUtils;
+
+public class ColumnPO {
+  private Long id;
+  private Long metalakeId;
+  private Long catalogId;
+  private Long schemaId;
+  private Long tableId;
+  private Long tableVersion;
+  private Long columnId;
+  private String columnName;
+  private Integer columnPosition;
+  private String columnType;
+  private String columnComment;
+  private Integer nullable;
+  private Integer autoIncrement;
+  private String defaultValue;
+  private String auditInfo;
+  private Long deletedAt;
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getMetalakeId() {
+    return metalakeId;
+  }
+
+  public Long getCatalogId() {
+    return catalogId;
+  }
+
+  public Long getSchemaId() {
+    return schemaId;
+  }
+
+  public Long getTableId() {
+    return tableId;
+  }
+
+  public Long getTableVersion() {
+    return tableVersion;
+  }
+
+  public Long getColumnId() {
+    return columnId;
+  }
+
+  public String getColumnName() {
+    return columnName;
+  }
+
+  public Integer getColumnPosition() {
+    return columnPosition;
+  }
+
+  public String getColumnType() {
+    return columnType;
+  }
+
+  public String getColumnComment() {
+    return columnComment;
+  }
+
+  public Integer getNullable() {
+    return nullable;
+  }
+
+  public Integer getAutoIncrement() {
+    return autoIncrement;
+  }
+
+  public String getDefaultValue() {
+    return defaultValue;
+  }
+
+  public String getAuditInfo() {
+    return auditInfo;
+  }
+
+  public Long getDeletedAt() {
+    return deletedAt;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ColumnPO)) {
+      return false;
+    }
+    ColumnPO that = (ColumnPO) o;
+    return Objects.equal(getId(), that.getId())
+        && Objects.equal(getMetalakeId(), that.getMetalakeId())
+        && Objects.equal(getCatalogId(), that.getCatalogId())
+        && Objects.equal(getSchemaId(), that.getSchemaId())
+        && Objects.equal(getTableId(), that.getTableId())
+        && Objects.equal(getTableVersion(), that.getTableVersion())
+        && Objects.equal(getColumnId(), that.getColumnId())
+        && Objects.equal(getColumnName(), that.getColumnName())
+        && Objects.equal(getColumnPosition(), that.getColumnPosition())
+        && Objects.equal(getColumnType(), that.getColumnType())
+        && Objects.equal(getColumnComment(), that.getColumnComment())
+        && Objects.equal(getNullable(), that.getNullable())
+        && Objects.equal(getAutoIncrement(), that.getAutoIncrement())
+        && Objects.equal(getDefaultValue(), that.getDefaultValue())
+        && Objects.equal(getAuditInfo(), that.getAuditInfo())
+        && Objects.equal(getDeletedAt(), that.getDeletedAt());
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(
+        getId(),
+        getMetalakeId(),
+        getCatalogId(),
+        getSchemaId(),
+        getTableId(),
+        getTableVersion(),
+        getColumnId(),
+        getColumnName(),
+        getColumnPosition(),
+        getColumnType(),
+        getColumnComment(),
+        getNullable(),
+        getAutoIncrement(),
+        getDefaultValue(),
+        getAuditInfo(),
+        getDeletedAt());
+  }
+
+  public static class Builder {
+    private final ColumnPO columnPO;
+
+    private Builder() {
+      columnPO = new ColumnPO();
+    }
+
+    public Builder withId(Long id) {
+      columnPO.id = id;
+      return this;
+    }
+
+    public Builder withMetalakeId(Long metalakeId) {
+      columnPO.metalakeId = metalakeId;
+      return this;
+    }
+
+    public Builder withCatalogId(Long catalogId) {
+      columnPO.catalogId = catalogId;
+      return this;
+    }
+
+    public Builder withSchemaId(Long schemaId) {
+      columnPO.schemaId = schemaId;
+      return this;
+    }
+
+    public Builder withTableId(Long tableId) {
+      columnPO.tableId = tableId;
+      return this;
+    }
+
+    public Builder withTableVersion(Long tableVersion) {
+      columnPO.tableVersion = tableVersion;
+      return this;
+    }
+
+    public Builder withColumnId(Long columnId) {
+      columnPO.columnId = columnId;
+      return this;
+    }
+
+    public Builder withColumnName(String columnName) {
+      columnPO.columnName = columnName;
+      return this;
+    }
+
+    public Builder withColumnPosition(Integer columnPosition) {
+      columnPO.columnPosition = columnPosition;
+      return this;
+    }
+
+    public Builder withColumnType(String columnType) {
+      columnPO.columnType = columnType;
+      return this;
+    }
+
+    public Builder withColumnComment(String columnComment) {
+      columnPO.columnComment = columnComment;
+      return this;
+    }
+
+    public Builder withNullable(Integer nullable) {
+      columnPO.nullable = nullable;
+      return this;
+    }
+
+    public Builder withAutoIncrement(Integer autoIncrement) {
+      columnPO.autoIncrement = autoIncrement;
+      return this;
+    }
+
+    public Builder withDefaultValue(String defaultValue) {
+      columnPO.defaultValue = defaultValue;
+      return this;
+    }
+
+    public Builder withAuditInfo(String auditInfo) {
+      columnPO.auditInfo = auditInfo;
+      return this;
+    }
+
+    public Builder withDeletedAt(Long deletedAt) {
+      columnPO.deletedAt = deletedAt;
+      return this;
+    }
+
+    private void validate() {
+      Preconditions.checkArgument(columnPO.metalakeId != null, "Metalake id is required");
+      Preconditions.checkArgument(columnPO.catalogId != null, "Catalog id is required");
+      Preconditions.checkArgument(columnPO.schemaId != null, "Schema id is required");
+      Preconditions.checkArgument(columnPO.tableId != null, "Table id is required");
+      Preconditions.checkArgument(columnPO.tableVersion != null, "Table version is required");
+      Preconditions.checkArgument(columnPO.columnId != null, "Column id is required");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(columnPO.columnName), "Column name is required and not blank");
+      Preconditions.checkArgument(columnPO.columnPosition != null, "Column position is required");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(columnPO.columnType), "Column type is required and not blank");
+      Preconditions.checkArgument(columnPO.nullable != null, "Column nullable is required");
+      Preconditions.checkArgument(
+          columnPO.autoIncrement != null, "Column auto increment is required");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(columnPO.auditInfo), "Audit info is required and not blank");
+      Preconditions.checkArgument(columnPO.deletedAt != null, "Deleted at is required");
+    }
+
+    public ColumnPO build() {
+      validate();
+      return columnPO;
+    }
+  }
+
+  /**
+   * Creates a new instance of {@link Builder}.
+   *
+   * @return The new instance.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+}
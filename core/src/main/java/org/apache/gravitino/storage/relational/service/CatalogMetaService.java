@@ -38,6 +38,7 @@ import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetVersionMapper;
 import org.apache.gravitino.storage.relational.mapper.OwnerMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
 import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.TopicMetaMapper;
 import org.apache.gravitino.storage.relational.po.CatalogPO;
@@ -112,13 +113,21 @@ public class CatalogMetaService {
   }
 
   public List<CatalogEntity> listCatalogsByNamespace(Namespace namespace) {
+    return listCatalogsByNamespace(namespace, true /* allFields */);
+  }
+
+  public List<CatalogEntity> listCatalogsByNamespace(Namespace namespace, boolean allFields) {
     NamespaceUtil.checkCatalog(namespace);
 
     Long metalakeId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
 
     List<CatalogPO> catalogPOS =
         SessionUtils.getWithoutCommit(
-            CatalogMetaMapper.class, mapper -> mapper.listCatalogPOsByMetalakeId(metalakeId));
+            CatalogMetaMapper.class,
+            mapper ->
+                allFields
+                    ? mapper.listCatalogPOsByMetalakeId(metalakeId)
+                    : mapper.listBriefCatalogPOsByMetalakeId(metalakeId));
 
     return POConverters.fromCatalogPOs(catalogPOS, namespace);
   }
@@ -211,6 +220,10 @@ public class CatalogMetaService {
               SessionUtils.doWithoutCommit(
                   TableMetaMapper.class,
                   mapper -> mapper.softDeleteTableMetasByCatalogId(catalogId)),
+          () ->
+              SessionUtils.doWithoutCommit(
+                  TableColumnMapper.class,
+                  mapper -> mapper.softDeleteColumnsByCatalogId(catalogId)),
           () ->
               SessionUtils.doWithoutCommit(
                   FilesetMetaMapper.class,
@@ -231,7 +244,8 @@ public class CatalogMetaService {
       List<SchemaEntity> schemaEntities =
           SchemaMetaService.getInstance()
               .listSchemasByNamespace(
-                  NamespaceUtil.ofSchema(identifier.namespace().level(0), catalogName));
+                  NamespaceUtil.ofSchema(identifier.namespace().level(0), catalogName),
+                  false /* allFields */);
       if (!schemaEntities.isEmpty()) {
         throw new NonEmptyEntityException(
             "Entity %s has sub-entities, you should remove sub-entities first", identifier);
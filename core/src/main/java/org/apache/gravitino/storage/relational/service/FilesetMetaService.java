@@ -110,13 +110,21 @@ public class FilesetMetaService {
   }
 
   public List<FilesetEntity> listFilesetsByNamespace(Namespace namespace) {
+    return listFilesetsByNamespace(namespace, true /* allFields */);
+  }
+
+  public List<FilesetEntity> listFilesetsByNamespace(Namespace namespace, boolean allFields) {
     NamespaceUtil.checkFileset(namespace);
 
     Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
 
     List<FilesetPO> filesetPOs =
         SessionUtils.getWithoutCommit(
-            FilesetMetaMapper.class, mapper -> mapper.listFilesetPOsBySchemaId(schemaId));
+            FilesetMetaMapper.class,
+            mapper ->
+                allFields
+                    ? mapper.listFilesetPOsBySchemaId(schemaId)
+                    : mapper.listBriefFilesetPOsBySchemaId(schemaId));
 
     return POConverters.fromFilesetPOs(filesetPOs, namespace);
   }
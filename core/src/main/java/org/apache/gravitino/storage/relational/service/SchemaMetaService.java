@@ -37,6 +37,7 @@ import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetVersionMapper;
 import org.apache.gravitino.storage.relational.mapper.OwnerMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
 import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.TopicMetaMapper;
 import org.apache.gravitino.storage.relational.po.SchemaPO;
@@ -105,13 +106,21 @@ public class SchemaMetaService {
   }
 
   public List<SchemaEntity> listSchemasByNamespace(Namespace namespace) {
+    return listSchemasByNamespace(namespace, true /* allFields */);
+  }
+
+  public List<SchemaEntity> listSchemasByNamespace(Namespace namespace, boolean allFields) {
     NamespaceUtil.checkSchema(namespace);
 
     Long catalogId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
 
     List<SchemaPO> schemaPOs =
         SessionUtils.getWithoutCommit(
-            SchemaMetaMapper.class, mapper -> mapper.listSchemaPOsByCatalogId(catalogId));
+            SchemaMetaMapper.class,
+            mapper ->
+                allFields
+                    ? mapper.listSchemaPOsByCatalogId(catalogId)
+                    : mapper.listBriefSchemaPOsByCatalogId(catalogId));
     return POConverters.fromSchemaPOs(schemaPOs, namespace);
   }
 
@@ -197,6 +206,10 @@ public class SchemaMetaService {
                 SessionUtils.doWithoutCommit(
                     TableMetaMapper.class,
                     mapper -> mapper.softDeleteTableMetasBySchemaId(schemaId)),
+            () ->
+                SessionUtils.doWithoutCommit(
+                    TableColumnMapper.class,
+                    mapper -> mapper.softDeleteColumnsBySchemaId(schemaId)),
             () ->
                 SessionUtils.doWithoutCommit(
                     FilesetMetaMapper.class,
@@ -220,7 +233,8 @@ public class SchemaMetaService {
                     NamespaceUtil.ofTable(
                         identifier.namespace().level(0),
                         identifier.namespace().level(1),
-                        schemaName));
+                        schemaName),
+                    false /* allFields */);
         if (!tableEntities.isEmpty()) {
           throw new NonEmptyEntityException(
               "Entity %s has sub-entities, you should remove sub-entities first", identifier);
@@ -231,7 +245,8 @@ public class SchemaMetaService {
                     NamespaceUtil.ofFileset(
                         identifier.namespace().level(0),
                         identifier.namespace().level(1),
-                        schemaName));
+                        schemaName),
+                    false /* allFields */);
         if (!filesetEntities.isEmpty()) {
           throw new NonEmptyEntityException(
               "Entity %s has sub-entities, you should remove sub-entities first", identifier);
@@ -20,6 +20,7 @@ package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Preconditions;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
@@ -29,9 +30,12 @@ import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.storage.relational.mapper.OwnerMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
 import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
+import org.apache.gravitino.storage.relational.po.ColumnPO;
 import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.gravitino.storage.relational.utils.ExceptionUtils;
 import org.apache.gravitino.storage.relational.utils.POConverters;
@@ -94,18 +98,27 @@ public class TableMetaService {
         CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
 
     TablePO tablePO = getTablePOBySchemaIdAndName(schemaId, identifier.name());
+    List<ColumnPO> columnPOs = listColumnPOs(tablePO);
 
-    return POConverters.fromTablePO(tablePO, identifier.namespace());
+    return POConverters.fromTableAndColumnPOs(tablePO, columnPOs, identifier.namespace());
   }
 
   public List<TableEntity> listTablesByNamespace(Namespace namespace) {
+    return listTablesByNamespace(namespace, true /* allFields */);
+  }
+
+  public List<TableEntity> listTablesByNamespace(Namespace namespace, boolean allFields) {
     NamespaceUtil.checkTable(namespace);
 
     Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
 
     List<TablePO> tablePOs =
         SessionUtils.getWithoutCommit(
-            TableMetaMapper.class, mapper -> mapper.listTablePOsBySchemaId(schemaId));
+            TableMetaMapper.class,
+            mapper ->
+                allFields
+                    ? mapper.listTablePOsBySchemaId(schemaId)
+                    : mapper.listBriefTablePOsBySchemaId(schemaId));
 
     return POConverters.fromTablePOs(tablePOs, namespace);
   }
@@ -116,17 +129,29 @@ public class TableMetaService {
 
       TablePO.Builder builder = TablePO.builder();
       fillTablePOBuilderParentEntityId(builder, tableEntity.namespace());
-
-      SessionUtils.doWithCommit(
-          TableMetaMapper.class,
-          mapper -> {
-            TablePO po = POConverters.initializeTablePOWithVersion(tableEntity, builder);
+      TablePO po = POConverters.initializeTablePOWithVersion(tableEntity, builder);
+
+      SessionUtils.doMultipleWithCommit(
+          () ->
+              SessionUtils.doWithoutCommit(
+                  TableMetaMapper.class,
+                  mapper -> {
+                    if (overwrite) {
+                      mapper.insertTableMetaOnDuplicateKeyUpdate(po);
+                    } else {
+                      mapper.insertTableMeta(po);
+                    }
+                  }),
+          () -> {
+            // The overwritten table starts from the initial version again, so the columns of the
+            // old versions should be removed.
             if (overwrite) {
-              mapper.insertTableMetaOnDuplicateKeyUpdate(po);
-            } else {
-              mapper.insertTableMeta(po);
+              SessionUtils.doWithoutCommit(
+                  TableColumnMapper.class,
+                  mapper -> mapper.softDeleteColumnsByTableId(tableEntity.id()));
             }
-          });
+          },
+          () -> insertColumnPOs(po, tableEntity.columns()));
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.TABLE, tableEntity.nameIdentifier().toString());
@@ -144,7 +169,9 @@ public class TableMetaService {
         CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
 
     TablePO oldTablePO = getTablePOBySchemaIdAndName(schemaId, tableName);
-    TableEntity oldTableEntity = POConverters.fromTablePO(oldTablePO, identifier.namespace());
+    TableEntity oldTableEntity =
+        POConverters.fromTableAndColumnPOs(
+            oldTablePO, listColumnPOs(oldTablePO), identifier.namespace());
     TableEntity newEntity = (TableEntity) updater.apply((E) oldTableEntity);
     Preconditions.checkArgument(
         Objects.equals(oldTableEntity.id(), newEntity.id()),
@@ -152,14 +179,43 @@ public class TableMetaService {
         newEntity.id(),
         oldTableEntity.id());
 
+    // The columns are unknown if the updated entity doesn't carry them, keep the stored ones.
+    boolean needUpdateVersion =
+        newEntity.columns() != null
+            && !Arrays.equals(oldTableEntity.columns(), newEntity.columns());
+    TablePO newTablePO =
+        POConverters.updateTablePOWithVersion(oldTablePO, newEntity, needUpdateVersion);
+
     Integer updateResult;
     try {
-      updateResult =
-          SessionUtils.doWithCommitAndFetchResult(
-              TableMetaMapper.class,
-              mapper ->
-                  mapper.updateTableMeta(
-                      POConverters.updateTablePOWithVersion(oldTablePO, newEntity), oldTablePO));
+      if (needUpdateVersion) {
+        // The columns of the new version are only visible if the table meta is updated in the
+        // same transaction, so the transaction is rolled back if the table meta has been changed
+        // by others.
+        SessionUtils.doMultipleWithCommit(
+            () -> {
+              Integer result =
+                  SessionUtils.doWithoutCommitAndFetchResult(
+                      TableMetaMapper.class,
+                      mapper -> mapper.updateTableMeta(newTablePO, oldTablePO));
+              if (result == 0) {
+                throw new IllegalStateException("Failed to update the entity: " + identifier);
+              }
+            },
+            () ->
+                SessionUtils.doWithoutCommit(
+                    TableColumnMapper.class,
+                    mapper ->
+                        mapper.softDeleteColumnsByTableIdBeforeVersion(
+                            newTablePO.getTableId(), newTablePO.getCurrentVersion())),
+            () -> insertColumnPOs(newTablePO, newEntity.columns()));
+        // we set the updateResult to 1 to indicate that the update is successful
+        updateResult = 1;
+      } else {
+        updateResult =
+            SessionUtils.doWithCommitAndFetchResult(
+                TableMetaMapper.class, mapper -> mapper.updateTableMeta(newTablePO, oldTablePO));
+      }
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.TABLE, newEntity.nameIdentifier().toString());
@@ -187,6 +243,9 @@ public class TableMetaService {
         () ->
             SessionUtils.doWithoutCommit(
                 TableMetaMapper.class, mapper -> mapper.softDeleteTableMetasByTableId(tableId)),
+        () ->
+            SessionUtils.doWithoutCommit(
+                TableColumnMapper.class, mapper -> mapper.softDeleteColumnsByTableId(tableId)),
         () ->
             SessionUtils.doWithoutCommit(
                 OwnerMetaMapper.class,
@@ -198,11 +257,37 @@ public class TableMetaService {
   }
 
   public int deleteTableMetasByLegacyTimeline(Long legacyTimeline, int limit) {
-    return SessionUtils.doWithCommitAndFetchResult(
-        TableMetaMapper.class,
-        mapper -> {
-          return mapper.deleteTableMetasByLegacyTimeline(legacyTimeline, limit);
-        });
+    int tableDeletedCount =
+        SessionUtils.doWithCommitAndFetchResult(
+            TableMetaMapper.class,
+            mapper -> {
+              return mapper.deleteTableMetasByLegacyTimeline(legacyTimeline, limit);
+            });
+    int columnDeletedCount =
+        SessionUtils.doWithCommitAndFetchResult(
+            TableColumnMapper.class,
+            mapper -> {
+              return mapper.deleteColumnPOsByLegacyTimeline(legacyTimeline, limit);
+            });
+    return tableDeletedCount + columnDeletedCount;
+  }
+
+  private List<ColumnPO> listColumnPOs(TablePO tablePO) {
+    return SessionUtils.getWithoutCommit(
+        TableColumnMapper.class,
+        mapper ->
+            mapper.listColumnPOsByTableIdAndVersion(
+                tablePO.getTableId(), tablePO.getCurrentVersion()));
+  }
+
+  private void insertColumnPOs(TablePO tablePO, ColumnEntity[] columns) {
+    if (columns == null || columns.length == 0) {
+      return;
+    }
+
+    SessionUtils.doWithoutCommit(
+        TableColumnMapper.class,
+        mapper -> mapper.batchInsertColumnPOs(POConverters.initializeColumnPOs(tablePO, columns)));
   }
 
   private void fillTablePOBuilderParentEntityId(TablePO.Builder builder, Namespace namespace) {
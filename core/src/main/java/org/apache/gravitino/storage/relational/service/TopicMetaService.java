@@ -78,13 +78,21 @@ public class TopicMetaService {
   }
 
   public List<TopicEntity> listTopicsByNamespace(Namespace namespace) {
+    return listTopicsByNamespace(namespace, true /* allFields */);
+  }
+
+  public List<TopicEntity> listTopicsByNamespace(Namespace namespace, boolean allFields) {
     NamespaceUtil.checkTopic(namespace);
 
     Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
 
     List<TopicPO> topicPOs =
         SessionUtils.getWithoutCommit(
-            TopicMetaMapper.class, mapper -> mapper.listTopicPOsBySchemaId(schemaId));
+            TopicMetaMapper.class,
+            mapper ->
+                allFields
+                    ? mapper.listTopicPOsBySchemaId(schemaId)
+                    : mapper.listBriefTopicPOsBySchemaId(schemaId));
 
     return POConverters.fromTopicPOs(topicPOs, namespace);
   }
@@ -34,21 +34,26 @@ import org.apache.gravitino.authorization.Privilege;
 import org.apache.gravitino.authorization.Privileges;
 import org.apache.gravitino.authorization.SecurableObject;
 import org.apache.gravitino.authorization.SecurableObjects;
+import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.json.JsonUtils;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.BaseMetalake;
 import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.FilesetEntity;
 import org.apache.gravitino.meta.GroupEntity;
 import org.apache.gravitino.meta.RoleEntity;
 import org.apache.gravitino.meta.SchemaEntity;
-import org.apache.gravitino.meta.SchemaVersion;
 import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.meta.TagEntity;
 import org.apache.gravitino.meta.TopicEntity;
 import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.expressions.Expression;
+import org.apache.gravitino.rel.types.Type;
 import org.apache.gravitino.storage.relational.po.CatalogPO;
+import org.apache.gravitino.storage.relational.po.ColumnPO;
 import org.apache.gravitino.storage.relational.po.ExtendedGroupPO;
 import org.apache.gravitino.storage.relational.po.ExtendedUserPO;
 import org.apache.gravitino.storage.relational.po.FilesetPO;
@@ -82,22 +87,17 @@ public class POConverters {
    * @return MetalakePO object with version initialized
    */
   public static MetalakePO initializeMetalakePOWithVersion(BaseMetalake baseMetalake) {
-    try {
-      return MetalakePO.builder()
-          .withMetalakeId(baseMetalake.id())
-          .withMetalakeName(baseMetalake.name())
-          .withMetalakeComment(baseMetalake.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(baseMetalake.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(baseMetalake.auditInfo()))
-          .withSchemaVersion(
-              JsonUtils.anyFieldMapper().writeValueAsString(baseMetalake.getVersion()))
-          .withCurrentVersion(INIT_VERSION)
-          .withLastVersion(INIT_VERSION)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    return MetalakePO.builder()
+        .withMetalakeId(baseMetalake.id())
+        .withMetalakeName(baseMetalake.name())
+        .withMetalakeComment(baseMetalake.comment())
+        .withProperties(PayloadSerDe.writeProperties(baseMetalake.properties()))
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(baseMetalake.auditInfo()))
+        .withSchemaVersion(PayloadSerDe.writeSchemaVersion(baseMetalake.getVersion()))
+        .withCurrentVersion(INIT_VERSION)
+        .withLastVersion(INIT_VERSION)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .build();
   }
 
   /**
@@ -112,22 +112,17 @@ public class POConverters {
     Long lastVersion = oldMetalakePO.getLastVersion();
     // Will set the version to the last version + 1 when having some fields need be multiple version
     Long nextVersion = lastVersion;
-    try {
-      return MetalakePO.builder()
-          .withMetalakeId(newMetalake.id())
-          .withMetalakeName(newMetalake.name())
-          .withMetalakeComment(newMetalake.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newMetalake.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newMetalake.auditInfo()))
-          .withSchemaVersion(
-              JsonUtils.anyFieldMapper().writeValueAsString(newMetalake.getVersion()))
-          .withCurrentVersion(nextVersion)
-          .withLastVersion(nextVersion)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    return MetalakePO.builder()
+        .withMetalakeId(newMetalake.id())
+        .withMetalakeName(newMetalake.name())
+        .withMetalakeComment(newMetalake.comment())
+        .withProperties(PayloadSerDe.writeProperties(newMetalake.properties()))
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(newMetalake.auditInfo()))
+        .withSchemaVersion(PayloadSerDe.writeSchemaVersion(newMetalake.getVersion()))
+        .withCurrentVersion(nextVersion)
+        .withLastVersion(nextVersion)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .build();
   }
 
   /**
@@ -137,22 +132,14 @@ public class POConverters {
    * @return BaseMetalake object from MetalakePO object
    */
   public static BaseMetalake fromMetalakePO(MetalakePO metalakePO) {
-    try {
-      return BaseMetalake.builder()
-          .withId(metalakePO.getMetalakeId())
-          .withName(metalakePO.getMetalakeName())
-          .withComment(metalakePO.getMetalakeComment())
-          .withProperties(
-              JsonUtils.anyFieldMapper().readValue(metalakePO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(metalakePO.getAuditInfo(), AuditInfo.class))
-          .withVersion(
-              JsonUtils.anyFieldMapper()
-                  .readValue(metalakePO.getSchemaVersion(), SchemaVersion.class))
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to deserialize json object:", e);
-    }
+    return BaseMetalake.builder()
+        .withId(metalakePO.getMetalakeId())
+        .withName(metalakePO.getMetalakeName())
+        .withComment(metalakePO.getMetalakeComment())
+        .withProperties(PayloadSerDe.readProperties(metalakePO.getProperties()))
+        .withAuditInfo(PayloadSerDe.readAuditInfo(metalakePO.getAuditInfo()))
+        .withVersion(PayloadSerDe.readSchemaVersion(metalakePO.getSchemaVersion()))
+        .build();
   }
 
   /**
@@ -173,24 +160,19 @@ public class POConverters {
    */
   public static CatalogPO initializeCatalogPOWithVersion(
       CatalogEntity catalogEntity, Long metalakeId) {
-    try {
-      return CatalogPO.builder()
-          .withCatalogId(catalogEntity.id())
-          .withCatalogName(catalogEntity.name())
-          .withMetalakeId(metalakeId)
-          .withType(catalogEntity.getType().name())
-          .withProvider(catalogEntity.getProvider())
-          .withCatalogComment(catalogEntity.getComment())
-          .withProperties(
-              JsonUtils.anyFieldMapper().writeValueAsString(catalogEntity.getProperties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(catalogEntity.auditInfo()))
-          .withCurrentVersion(INIT_VERSION)
-          .withLastVersion(INIT_VERSION)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    return CatalogPO.builder()
+        .withCatalogId(catalogEntity.id())
+        .withCatalogName(catalogEntity.name())
+        .withMetalakeId(metalakeId)
+        .withType(catalogEntity.getType().name())
+        .withProvider(catalogEntity.getProvider())
+        .withCatalogComment(catalogEntity.getComment())
+        .withProperties(PayloadSerDe.writeProperties(catalogEntity.getProperties()))
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(catalogEntity.auditInfo()))
+        .withCurrentVersion(INIT_VERSION)
+        .withLastVersion(INIT_VERSION)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .build();
   }
 
   /**
@@ -205,23 +187,19 @@ public class POConverters {
     Long lastVersion = oldCatalogPO.getLastVersion();
     // Will set the version to the last version + 1 when having some fields need be multiple version
     Long nextVersion = lastVersion;
-    try {
-      return CatalogPO.builder()
-          .withCatalogId(newCatalog.id())
-          .withCatalogName(newCatalog.name())
-          .withMetalakeId(metalakeId)
-          .withType(newCatalog.getType().name())
-          .withProvider(newCatalog.getProvider())
-          .withCatalogComment(newCatalog.getComment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newCatalog.getProperties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newCatalog.auditInfo()))
-          .withCurrentVersion(nextVersion)
-          .withLastVersion(nextVersion)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    return CatalogPO.builder()
+        .withCatalogId(newCatalog.id())
+        .withCatalogName(newCatalog.name())
+        .withMetalakeId(metalakeId)
+        .withType(newCatalog.getType().name())
+        .withProvider(newCatalog.getProvider())
+        .withCatalogComment(newCatalog.getComment())
+        .withProperties(PayloadSerDe.writeProperties(newCatalog.getProperties()))
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(newCatalog.auditInfo()))
+        .withCurrentVersion(nextVersion)
+        .withLastVersion(nextVersion)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .build();
   }
 
   /**
@@ -232,22 +210,16 @@ public class POConverters {
    * @return CatalogEntity object from CatalogPO object
    */
   public static CatalogEntity fromCatalogPO(CatalogPO catalogPO, Namespace namespace) {
-    try {
-      return CatalogEntity.builder()
-          .withId(catalogPO.getCatalogId())
-          .withName(catalogPO.getCatalogName())
-          .withNamespace(namespace)
-          .withType(Catalog.Type.valueOf(catalogPO.getType()))
-          .withProvider(catalogPO.getProvider())
-          .withComment(catalogPO.getCatalogComment())
-          .withProperties(
-              JsonUtils.anyFieldMapper().readValue(catalogPO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(catalogPO.getAuditInfo(), AuditInfo.class))
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to deserialize json object:", e);
-    }
+    return CatalogEntity.builder()
+        .withId(catalogPO.getCatalogId())
+        .withName(catalogPO.getCatalogName())
+        .withNamespace(namespace)
+        .withType(Catalog.Type.valueOf(catalogPO.getType()))
+        .withProvider(catalogPO.getProvider())
+        .withComment(catalogPO.getCatalogComment())
+        .withProperties(PayloadSerDe.readProperties(catalogPO.getProperties()))
+        .withAuditInfo(PayloadSerDe.readAuditInfo(catalogPO.getAuditInfo()))
+        .build();
   }
 
   /**
@@ -272,20 +244,16 @@ public class POConverters {
    */
   public static SchemaPO initializeSchemaPOWithVersion(
       SchemaEntity schemaEntity, SchemaPO.Builder builder) {
-    try {
-      return builder
-          .withSchemaId(schemaEntity.id())
-          .withSchemaName(schemaEntity.name())
-          .withSchemaComment(schemaEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(schemaEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(schemaEntity.auditInfo()))
-          .withCurrentVersion(INIT_VERSION)
-          .withLastVersion(INIT_VERSION)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    return builder
+        .withSchemaId(schemaEntity.id())
+        .withSchemaName(schemaEntity.name())
+        .withSchemaComment(schemaEntity.comment())
+        .withProperties(PayloadSerDe.writeProperties(schemaEntity.properties()))
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(schemaEntity.auditInfo()))
+        .withCurrentVersion(INIT_VERSION)
+        .withLastVersion(INIT_VERSION)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .build();
   }
 
   /**
@@ -299,22 +267,18 @@ public class POConverters {
     Long lastVersion = oldSchemaPO.getLastVersion();
     // Will set the version to the last version + 1 when having some fields need be multiple version
     Long nextVersion = lastVersion;
-    try {
-      return SchemaPO.builder()
-          .withSchemaId(oldSchemaPO.getSchemaId())
-          .withSchemaName(newSchema.name())
-          .withMetalakeId(oldSchemaPO.getMetalakeId())
-          .withCatalogId(oldSchemaPO.getCatalogId())
-          .withSchemaComment(newSchema.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newSchema.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newSchema.auditInfo()))
-          .withCurrentVersion(nextVersion)
-          .withLastVersion(nextVersion)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    return SchemaPO.builder()
+        .withSchemaId(oldSchemaPO.getSchemaId())
+        .withSchemaName(newSchema.name())
+        .withMetalakeId(oldSchemaPO.getMetalakeId())
+        .withCatalogId(oldSchemaPO.getCatalogId())
+        .withSchemaComment(newSchema.comment())
+        .withProperties(PayloadSerDe.writeProperties(newSchema.properties()))
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(newSchema.auditInfo()))
+        .withCurrentVersion(nextVersion)
+        .withLastVersion(nextVersion)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .build();
   }
 
   /**
@@ -325,19 +289,14 @@ public class POConverters {
    * @return SchemaEntity object from SchemaPO object
    */
   public static SchemaEntity fromSchemaPO(SchemaPO schemaPO, Namespace namespace) {
-    try {
-      return SchemaEntity.builder()
-          .withId(schemaPO.getSchemaId())
-          .withName(schemaPO.getSchemaName())
-          .withNamespace(namespace)
-          .withComment(schemaPO.getSchemaComment())
-          .withProperties(JsonUtils.anyFieldMapper().readValue(schemaPO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(schemaPO.getAuditInfo(), AuditInfo.class))
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to deserialize json object:", e);
-    }
+    return SchemaEntity.builder()
+        .withId(schemaPO.getSchemaId())
+        .withName(schemaPO.getSchemaName())
+        .withNamespace(namespace)
+        .withComment(schemaPO.getSchemaComment())
+        .withProperties(PayloadSerDe.readProperties(schemaPO.getProperties()))
+        .withAuditInfo(PayloadSerDe.readAuditInfo(schemaPO.getAuditInfo()))
+        .build();
   }
 
   /**
@@ -361,18 +320,14 @@ public class POConverters {
    */
   public static TablePO initializeTablePOWithVersion(
       TableEntity tableEntity, TablePO.Builder builder) {
-    try {
-      return builder
-          .withTableId(tableEntity.id())
-          .withTableName(tableEntity.name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(tableEntity.auditInfo()))
-          .withCurrentVersion(INIT_VERSION)
-          .withLastVersion(INIT_VERSION)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    return builder
+        .withTableId(tableEntity.id())
+        .withTableName(tableEntity.name())
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(tableEntity.auditInfo()))
+        .withCurrentVersion(INIT_VERSION)
+        .withLastVersion(INIT_VERSION)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .build();
   }
 
   /**
@@ -383,24 +338,34 @@ public class POConverters {
    * @return TablePO object with updated version
    */
   public static TablePO updateTablePOWithVersion(TablePO oldTablePO, TableEntity newTable) {
+    return updateTablePOWithVersion(oldTablePO, newTable, false);
+  }
+
+  /**
+   * Update TablePO version
+   *
+   * @param oldTablePO the old TablePO object
+   * @param newTable the new TableEntity object
+   * @param needUpdateVersion whether to move the table to a new version, it is required when the
+   *     columns of the table are changed
+   * @return TablePO object with updated version
+   */
+  public static TablePO updateTablePOWithVersion(
+      TablePO oldTablePO, TableEntity newTable, boolean needUpdateVersion) {
     Long lastVersion = oldTablePO.getLastVersion();
     // Will set the version to the last version + 1 when having some fields need be multiple version
-    Long nextVersion = lastVersion;
-    try {
-      return TablePO.builder()
-          .withTableId(oldTablePO.getTableId())
-          .withTableName(newTable.name())
-          .withMetalakeId(oldTablePO.getMetalakeId())
-          .withCatalogId(oldTablePO.getCatalogId())
-          .withSchemaId(oldTablePO.getSchemaId())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newTable.auditInfo()))
-          .withCurrentVersion(nextVersion)
-          .withLastVersion(nextVersion)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    Long nextVersion = needUpdateVersion ? lastVersion + 1 : lastVersion;
+    return TablePO.builder()
+        .withTableId(oldTablePO.getTableId())
+        .withTableName(newTable.name())
+        .withMetalakeId(oldTablePO.getMetalakeId())
+        .withCatalogId(oldTablePO.getCatalogId())
+        .withSchemaId(oldTablePO.getSchemaId())
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(newTable.auditInfo()))
+        .withCurrentVersion(nextVersion)
+        .withLastVersion(nextVersion)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .build();
   }
 
   /**
@@ -411,13 +376,103 @@ public class POConverters {
    * @return TableEntity object from TablePO object
    */
   public static TableEntity fromTablePO(TablePO tablePO, Namespace namespace) {
+    return TableEntity.builder()
+        .withId(tablePO.getTableId())
+        .withName(tablePO.getTableName())
+        .withNamespace(namespace)
+        .withAuditInfo(PayloadSerDe.readAuditInfo(tablePO.getAuditInfo()))
+        .build();
+  }
+
+  /**
+   * Convert {@link TablePO} and its {@link ColumnPO}s to {@link TableEntity}
+   *
+   * @param tablePO TablePO object to be converted
+   * @param columnPOs the ColumnPO objects of the current version of the table
+   * @param namespace Namespace object to be associated with the table
+   * @return TableEntity object from TablePO and ColumnPO objects
+   */
+  public static TableEntity fromTableAndColumnPOs(
+      TablePO tablePO, List<ColumnPO> columnPOs, Namespace namespace) {
+    TableEntity tableEntity = fromTablePO(tablePO, namespace);
+    // Tables stored before the column info was introduced have no columns, keep them as unknown.
+    if (columnPOs.isEmpty()) {
+      return tableEntity;
+    }
+
+    return TableEntity.builder()
+        .withId(tableEntity.id())
+        .withName(tableEntity.name())
+        .withNamespace(namespace)
+        .withAuditInfo(tableEntity.auditInfo())
+        .withColumns(
+            columnPOs.stream().map(POConverters::fromColumnPO).toArray(ColumnEntity[]::new))
+        .build();
+  }
+
+  /**
+   * Initialize ColumnPOs of a table version
+   *
+   * @param tablePO the TablePO object of the table version the columns belong to
+   * @param columns the columns of the table
+   * @return list of ColumnPO objects
+   */
+  public static List<ColumnPO> initializeColumnPOs(TablePO tablePO, ColumnEntity[] columns) {
+    List<ColumnPO> columnPOs = Lists.newArrayListWithExpectedSize(columns.length);
+    try {
+      for (int position = 0; position < columns.length; position++) {
+        ColumnEntity column = columns[position];
+        Expression defaultValue = column.defaultValue();
+        columnPOs.add(
+            ColumnPO.builder()
+                .withMetalakeId(tablePO.getMetalakeId())
+                .withCatalogId(tablePO.getCatalogId())
+                .withSchemaId(tablePO.getSchemaId())
+                .withTableId(tablePO.getTableId())
+                .withTableVersion(tablePO.getCurrentVersion())
+                .withColumnId(column.id())
+                .withColumnName(column.name())
+                .withColumnPosition(position)
+                .withColumnType(JsonUtils.anyFieldMapper().writeValueAsString(column.dataType()))
+                .withColumnComment(column.comment())
+                .withNullable(column.nullable() ? 1 : 0)
+                .withAutoIncrement(column.autoIncrement() ? 1 : 0)
+                .withDefaultValue(
+                    defaultValue == null || defaultValue.equals(Column.DEFAULT_VALUE_NOT_SET)
+                        ? null
+                        : JsonUtils.anyFieldMapper()
+                            .writeValueAsString(DTOConverters.toFunctionArg(defaultValue)))
+                .withAuditInfo(PayloadSerDe.writeAuditInfo(column.auditInfo()))
+                .withDeletedAt(DEFAULT_DELETED_AT)
+                .build());
+      }
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to serialize json object:", e);
+    }
+    return columnPOs;
+  }
+
+  /**
+   * Convert {@link ColumnPO} to {@link ColumnEntity}
+   *
+   * @param columnPO ColumnPO object to be converted
+   * @return ColumnEntity object from ColumnPO object
+   */
+  public static ColumnEntity fromColumnPO(ColumnPO columnPO) {
     try {
-      return TableEntity.builder()
-          .withId(tablePO.getTableId())
-          .withName(tablePO.getTableName())
-          .withNamespace(namespace)
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(tablePO.getAuditInfo(), AuditInfo.class))
+      return ColumnEntity.builder()
+          .withId(columnPO.getColumnId())
+          .withName(columnPO.getColumnName())
+          .withDataType(JsonUtils.anyFieldMapper().readValue(columnPO.getColumnType(), Type.class))
+          .withComment(columnPO.getColumnComment())
+          .withNullable(columnPO.getNullable() != 0)
+          .withAutoIncrement(columnPO.getAutoIncrement() != 0)
+          .withDefaultValue(
+              columnPO.getDefaultValue() == null
+                  ? Column.DEFAULT_VALUE_NOT_SET
+                  : JsonUtils.anyFieldMapper()
+                      .readValue(columnPO.getDefaultValue(), Expression.class))
+          .withAuditInfo(PayloadSerDe.readAuditInfo(columnPO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -445,33 +500,28 @@ public class POConverters {
    */
   public static FilesetPO initializeFilesetPOWithVersion(
       FilesetEntity filesetEntity, FilesetPO.Builder builder) {
-    try {
-      FilesetVersionPO filesetVersionPO =
-          FilesetVersionPO.builder()
-              .withMetalakeId(builder.getFilesetMetalakeId())
-              .withCatalogId(builder.getFilesetCatalogId())
-              .withSchemaId(builder.getFilesetSchemaId())
-              .withFilesetId(filesetEntity.id())
-              .withVersion(INIT_VERSION)
-              .withFilesetComment(filesetEntity.comment())
-              .withStorageLocation(filesetEntity.storageLocation())
-              .withProperties(
-                  JsonUtils.anyFieldMapper().writeValueAsString(filesetEntity.properties()))
-              .withDeletedAt(DEFAULT_DELETED_AT)
-              .build();
-      return builder
-          .withFilesetId(filesetEntity.id())
-          .withFilesetName(filesetEntity.name())
-          .withType(filesetEntity.filesetType().name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(filesetEntity.auditInfo()))
-          .withCurrentVersion(INIT_VERSION)
-          .withLastVersion(INIT_VERSION)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .withFilesetVersionPO(filesetVersionPO)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    FilesetVersionPO filesetVersionPO =
+        FilesetVersionPO.builder()
+            .withMetalakeId(builder.getFilesetMetalakeId())
+            .withCatalogId(builder.getFilesetCatalogId())
+            .withSchemaId(builder.getFilesetSchemaId())
+            .withFilesetId(filesetEntity.id())
+            .withVersion(INIT_VERSION)
+            .withFilesetComment(filesetEntity.comment())
+            .withStorageLocation(filesetEntity.storageLocation())
+            .withProperties(PayloadSerDe.writeProperties(filesetEntity.properties()))
+            .withDeletedAt(DEFAULT_DELETED_AT)
+            .build();
+    return builder
+        .withFilesetId(filesetEntity.id())
+        .withFilesetName(filesetEntity.name())
+        .withType(filesetEntity.filesetType().name())
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(filesetEntity.auditInfo()))
+        .withCurrentVersion(INIT_VERSION)
+        .withLastVersion(INIT_VERSION)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .withFilesetVersionPO(filesetVersionPO)
+        .build();
   }
 
   /**
@@ -483,47 +533,42 @@ public class POConverters {
    */
   public static FilesetPO updateFilesetPOWithVersion(
       FilesetPO oldFilesetPO, FilesetEntity newFileset, boolean needUpdateVersion) {
-    try {
-      Long lastVersion = oldFilesetPO.getLastVersion();
-      Long currentVersion;
-      FilesetVersionPO newFilesetVersionPO;
-      // Will set the version to the last version + 1
-      if (needUpdateVersion) {
-        lastVersion++;
-        currentVersion = lastVersion;
-        newFilesetVersionPO =
-            FilesetVersionPO.builder()
-                .withMetalakeId(oldFilesetPO.getMetalakeId())
-                .withCatalogId(oldFilesetPO.getCatalogId())
-                .withSchemaId(oldFilesetPO.getSchemaId())
-                .withFilesetId(newFileset.id())
-                .withVersion(currentVersion)
-                .withFilesetComment(newFileset.comment())
-                .withStorageLocation(newFileset.storageLocation())
-                .withProperties(
-                    JsonUtils.anyFieldMapper().writeValueAsString(newFileset.properties()))
-                .withDeletedAt(DEFAULT_DELETED_AT)
-                .build();
-      } else {
-        currentVersion = oldFilesetPO.getCurrentVersion();
-        newFilesetVersionPO = oldFilesetPO.getFilesetVersionPO();
-      }
-      return FilesetPO.builder()
-          .withFilesetId(newFileset.id())
-          .withFilesetName(newFileset.name())
-          .withMetalakeId(oldFilesetPO.getMetalakeId())
-          .withCatalogId(oldFilesetPO.getCatalogId())
-          .withSchemaId(oldFilesetPO.getSchemaId())
-          .withType(newFileset.filesetType().name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newFileset.auditInfo()))
-          .withCurrentVersion(currentVersion)
-          .withLastVersion(lastVersion)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .withFilesetVersionPO(newFilesetVersionPO)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
+    Long lastVersion = oldFilesetPO.getLastVersion();
+    Long currentVersion;
+    FilesetVersionPO newFilesetVersionPO;
+    // Will set the version to the last version + 1
+    if (needUpdateVersion) {
+      lastVersion++;
+      currentVersion = lastVersion;
+      newFilesetVersionPO =
+          FilesetVersionPO.builder()
+              .withMetalakeId(oldFilesetPO.getMetalakeId())
+              .withCatalogId(oldFilesetPO.getCatalogId())
+              .withSchemaId(oldFilesetPO.getSchemaId())
+              .withFilesetId(newFileset.id())
+              .withVersion(currentVersion)
+              .withFilesetComment(newFileset.comment())
+              .withStorageLocation(newFileset.storageLocation())
+              .withProperties(PayloadSerDe.writeProperties(newFileset.properties()))
+              .withDeletedAt(DEFAULT_DELETED_AT)
+              .build();
+    } else {
+      currentVersion = oldFilesetPO.getCurrentVersion();
+      newFilesetVersionPO = oldFilesetPO.getFilesetVersionPO();
     }
+    return FilesetPO.builder()
+        .withFilesetId(newFileset.id())
+        .withFilesetName(newFileset.name())
+        .withMetalakeId(oldFilesetPO.getMetalakeId())
+        .withCatalogId(oldFilesetPO.getCatalogId())
+        .withSchemaId(oldFilesetPO.getSchemaId())
+        .withType(newFileset.filesetType().name())
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(newFileset.auditInfo()))
+        .withCurrentVersion(currentVersion)
+        .withLastVersion(lastVersion)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .withFilesetVersionPO(newFilesetVersionPO)
+        .build();
   }
 
   public static boolean checkFilesetVersionNeedUpdate(
@@ -534,16 +579,12 @@ public class POConverters {
       return true;
     }
 
-    try {
-      Map<String, String> oldProperties =
-          JsonUtils.anyFieldMapper().readValue(oldFilesetVersionPO.getProperties(), Map.class);
-      if (oldProperties == null) {
-        return newFileset.properties() != null;
-      }
-      return !oldProperties.equals(newFileset.properties());
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to deserialize json object:", e);
+    Map<String, String> oldProperties =
+        PayloadSerDe.readProperties(oldFilesetVersionPO.getProperties());
+    if (oldProperties == null) {
+      return newFileset.properties() != null;
     }
+    return !oldProperties.equals(newFileset.properties());
   }
 
   /**
@@ -554,39 +595,28 @@ public class POConverters {
    * @return FilesetEntity object from FilesetPO object
    */
   public static FilesetEntity fromFilesetPO(FilesetPO filesetPO, Namespace namespace) {
-    try {
-      return FilesetEntity.builder()
-          .withId(filesetPO.getFilesetId())
-          .withName(filesetPO.getFilesetName())
-          .withNamespace(namespace)
-          .withComment(filesetPO.getFilesetVersionPO().getFilesetComment())
-          .withFilesetType(Fileset.Type.valueOf(filesetPO.getType()))
-          .withStorageLocation(filesetPO.getFilesetVersionPO().getStorageLocation())
-          .withProperties(
-              JsonUtils.anyFieldMapper()
-                  .readValue(filesetPO.getFilesetVersionPO().getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(filesetPO.getAuditInfo(), AuditInfo.class))
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to deserialize json object:", e);
-    }
+    return FilesetEntity.builder()
+        .withId(filesetPO.getFilesetId())
+        .withName(filesetPO.getFilesetName())
+        .withNamespace(namespace)
+        .withComment(filesetPO.getFilesetVersionPO().getFilesetComment())
+        .withFilesetType(Fileset.Type.valueOf(filesetPO.getType()))
+        .withStorageLocation(filesetPO.getFilesetVersionPO().getStorageLocation())
+        .withProperties(
+            PayloadSerDe.readProperties(filesetPO.getFilesetVersionPO().getProperties()))
+        .withAuditInfo(PayloadSerDe.readAuditInfo(filesetPO.getAuditInfo()))
+        .build();
   }
 
   public static TopicEntity fromTopicPO(TopicPO topicPO, Namespace namespace) {
-    try {
-      return TopicEntity.builder()
-          .withId(topicPO.getTopicId())
-          .withName(topicPO.getTopicName())
-          .withNamespace(namespace)
-          .withComment(topicPO.getComment())
-          .withProperties(JsonUtils.anyFieldMapper().readValue(topicPO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(topicPO.getAuditInfo(), AuditInfo.class))
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to deserialize json object:", e);
-    }
+    return TopicEntity.builder()
+        .withId(topicPO.getTopicId())
+        .withName(topicPO.getTopicName())
+        .withNamespace(namespace)
+        .withComment(topicPO.getComment())
+        .withProperties(PayloadSerDe.readProperties(topicPO.getProperties()))
+        .withAuditInfo(PayloadSerDe.readAuditInfo(topicPO.getAuditInfo()))
+        .build();
   }
 
   /**
@@ -611,43 +641,35 @@ public class POConverters {
 
   public static TopicPO initializeTopicPOWithVersion(
       TopicEntity topicEntity, TopicPO.Builder builder) {
-    try {
-      return builder
-          .withTopicId(topicEntity.id())
-          .withTopicName(topicEntity.name())
-          .withComment(topicEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(topicEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(topicEntity.auditInfo()))
-          .withCurrentVersion(INIT_VERSION)
-          .withLastVersion(INIT_VERSION)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    return builder
+        .withTopicId(topicEntity.id())
+        .withTopicName(topicEntity.name())
+        .withComment(topicEntity.comment())
+        .withProperties(PayloadSerDe.writeProperties(topicEntity.properties()))
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(topicEntity.auditInfo()))
+        .withCurrentVersion(INIT_VERSION)
+        .withLastVersion(INIT_VERSION)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .build();
   }
 
   public static TopicPO updateTopicPOWithVersion(TopicPO oldTopicPO, TopicEntity newEntity) {
     Long lastVersion = oldTopicPO.getLastVersion();
     // Will set the version to the last version + 1 when having some fields need be multiple version
     Long nextVersion = lastVersion;
-    try {
-      return TopicPO.builder()
-          .withTopicId(oldTopicPO.getTopicId())
-          .withTopicName(newEntity.name())
-          .withMetalakeId(oldTopicPO.getMetalakeId())
-          .withCatalogId(oldTopicPO.getCatalogId())
-          .withSchemaId(oldTopicPO.getSchemaId())
-          .withComment(newEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newEntity.auditInfo()))
-          .withCurrentVersion(nextVersion)
-          .withLastVersion(nextVersion)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    return TopicPO.builder()
+        .withTopicId(oldTopicPO.getTopicId())
+        .withTopicName(newEntity.name())
+        .withMetalakeId(oldTopicPO.getMetalakeId())
+        .withCatalogId(oldTopicPO.getCatalogId())
+        .withSchemaId(oldTopicPO.getSchemaId())
+        .withComment(newEntity.comment())
+        .withProperties(PayloadSerDe.writeProperties(newEntity.properties()))
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(newEntity.auditInfo()))
+        .withCurrentVersion(nextVersion)
+        .withLastVersion(nextVersion)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .build();
   }
 
   /**
@@ -657,18 +679,14 @@ public class POConverters {
    * @return UserPO object with version initialized
    */
   public static UserPO initializeUserPOWithVersion(UserEntity userEntity, UserPO.Builder builder) {
-    try {
-      return builder
-          .withUserId(userEntity.id())
-          .withUserName(userEntity.name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(userEntity.auditInfo()))
-          .withCurrentVersion(INIT_VERSION)
-          .withLastVersion(INIT_VERSION)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    return builder
+        .withUserId(userEntity.id())
+        .withUserName(userEntity.name())
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(userEntity.auditInfo()))
+        .withCurrentVersion(INIT_VERSION)
+        .withLastVersion(INIT_VERSION)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .build();
   }
 
   /**
@@ -683,19 +701,15 @@ public class POConverters {
     // TODO: set the version to the last version + 1 when having some fields need be multiple
     // version
     Long nextVersion = lastVersion;
-    try {
-      return UserPO.builder()
-          .withUserId(oldUserPO.getUserId())
-          .withUserName(newUser.name())
-          .withMetalakeId(oldUserPO.getMetalakeId())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newUser.auditInfo()))
-          .withCurrentVersion(nextVersion)
-          .withLastVersion(nextVersion)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    return UserPO.builder()
+        .withUserId(oldUserPO.getUserId())
+        .withUserName(newUser.name())
+        .withMetalakeId(oldUserPO.getMetalakeId())
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(newUser.auditInfo()))
+        .withCurrentVersion(nextVersion)
+        .withLastVersion(nextVersion)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .build();
   }
 
   /**
@@ -707,28 +721,22 @@ public class POConverters {
    * @return UserEntity object from UserPO object
    */
   public static UserEntity fromUserPO(UserPO userPO, List<RolePO> rolePOs, Namespace namespace) {
-    try {
-      List<String> roleNames =
-          rolePOs.stream().map(RolePO::getRoleName).collect(Collectors.toList());
-      List<Long> roleIds = rolePOs.stream().map(RolePO::getRoleId).collect(Collectors.toList());
+    List<String> roleNames = rolePOs.stream().map(RolePO::getRoleName).collect(Collectors.toList());
+    List<Long> roleIds = rolePOs.stream().map(RolePO::getRoleId).collect(Collectors.toList());
 
-      UserEntity.Builder builder =
-          UserEntity.builder()
-              .withId(userPO.getUserId())
-              .withName(userPO.getUserName())
-              .withNamespace(namespace)
-              .withAuditInfo(
-                  JsonUtils.anyFieldMapper().readValue(userPO.getAuditInfo(), AuditInfo.class));
-      if (!roleNames.isEmpty()) {
-        builder.withRoleNames(roleNames);
-      }
-      if (!roleIds.isEmpty()) {
-        builder.withRoleIds(roleIds);
-      }
-      return builder.build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to deserialize json object:", e);
+    UserEntity.Builder builder =
+        UserEntity.builder()
+            .withId(userPO.getUserId())
+            .withName(userPO.getUserName())
+            .withNamespace(namespace)
+            .withAuditInfo(PayloadSerDe.readAuditInfo(userPO.getAuditInfo()));
+    if (!roleNames.isEmpty()) {
+      builder.withRoleNames(roleNames);
+    }
+    if (!roleIds.isEmpty()) {
+      builder.withRoleIds(roleIds);
     }
+    return builder.build();
   }
 
   /**
@@ -745,8 +753,7 @@ public class POConverters {
               .withId(userPO.getUserId())
               .withName(userPO.getUserName())
               .withNamespace(namespace)
-              .withAuditInfo(
-                  JsonUtils.anyFieldMapper().readValue(userPO.getAuditInfo(), AuditInfo.class));
+              .withAuditInfo(PayloadSerDe.readAuditInfo(userPO.getAuditInfo()));
       if (StringUtils.isNotBlank(userPO.getRoleNames())) {
         List<String> roleNamesFromJson =
             JsonUtils.anyFieldMapper().readValue(userPO.getRoleNames(), List.class);
@@ -791,28 +798,22 @@ public class POConverters {
    */
   public static GroupEntity fromGroupPO(
       GroupPO groupPO, List<RolePO> rolePOs, Namespace namespace) {
-    try {
-      List<String> roleNames =
-          rolePOs.stream().map(RolePO::getRoleName).collect(Collectors.toList());
-      List<Long> roleIds = rolePOs.stream().map(RolePO::getRoleId).collect(Collectors.toList());
+    List<String> roleNames = rolePOs.stream().map(RolePO::getRoleName).collect(Collectors.toList());
+    List<Long> roleIds = rolePOs.stream().map(RolePO::getRoleId).collect(Collectors.toList());
 
-      GroupEntity.Builder builder =
-          GroupEntity.builder()
-              .withId(groupPO.getGroupId())
-              .withName(groupPO.getGroupName())
-              .withNamespace(namespace)
-              .withAuditInfo(
-                  JsonUtils.anyFieldMapper().readValue(groupPO.getAuditInfo(), AuditInfo.class));
-      if (!roleNames.isEmpty()) {
-        builder.withRoleNames(roleNames);
-      }
-      if (!roleIds.isEmpty()) {
-        builder.withRoleIds(roleIds);
-      }
-      return builder.build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to deserialize json object:", e);
+    GroupEntity.Builder builder =
+        GroupEntity.builder()
+            .withId(groupPO.getGroupId())
+            .withName(groupPO.getGroupName())
+            .withNamespace(namespace)
+            .withAuditInfo(PayloadSerDe.readAuditInfo(groupPO.getAuditInfo()));
+    if (!roleNames.isEmpty()) {
+      builder.withRoleNames(roleNames);
     }
+    if (!roleIds.isEmpty()) {
+      builder.withRoleIds(roleIds);
+    }
+    return builder.build();
   }
 
   /**
@@ -829,8 +830,7 @@ public class POConverters {
               .withId(groupPO.getGroupId())
               .withName(groupPO.getGroupName())
               .withNamespace(namespace)
-              .withAuditInfo(
-                  JsonUtils.anyFieldMapper().readValue(groupPO.getAuditInfo(), AuditInfo.class));
+              .withAuditInfo(PayloadSerDe.readAuditInfo(groupPO.getAuditInfo()));
 
       if (StringUtils.isNotBlank(groupPO.getRoleNames())) {
         List<String> roleNamesFromJson =
@@ -875,25 +875,20 @@ public class POConverters {
    */
   public static List<UserRoleRelPO> initializeUserRoleRelsPOWithVersion(
       UserEntity userEntity, List<Long> roleIds) {
-    try {
-      List<UserRoleRelPO> userRoleRelPOs = Lists.newArrayList();
-      for (Long roleId : roleIds) {
-        UserRoleRelPO roleRelPO =
-            UserRoleRelPO.builder()
-                .withUserId(userEntity.id())
-                .withRoleId(roleId)
-                .withAuditInfo(
-                    JsonUtils.anyFieldMapper().writeValueAsString(userEntity.auditInfo()))
-                .withCurrentVersion(INIT_VERSION)
-                .withLastVersion(INIT_VERSION)
-                .withDeletedAt(DEFAULT_DELETED_AT)
-                .build();
-        userRoleRelPOs.add(roleRelPO);
-      }
-      return userRoleRelPOs;
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
+    List<UserRoleRelPO> userRoleRelPOs = Lists.newArrayList();
+    for (Long roleId : roleIds) {
+      UserRoleRelPO roleRelPO =
+          UserRoleRelPO.builder()
+              .withUserId(userEntity.id())
+              .withRoleId(roleId)
+              .withAuditInfo(PayloadSerDe.writeAuditInfo(userEntity.auditInfo()))
+              .withCurrentVersion(INIT_VERSION)
+              .withLastVersion(INIT_VERSION)
+              .withDeletedAt(DEFAULT_DELETED_AT)
+              .build();
+      userRoleRelPOs.add(roleRelPO);
     }
+    return userRoleRelPOs;
   }
 
   /**
@@ -903,19 +898,15 @@ public class POConverters {
    * @return RolePO object with version initialized
    */
   public static RolePO initializeRolePOWithVersion(RoleEntity roleEntity, RolePO.Builder builder) {
-    try {
-      return builder
-          .withRoleId(roleEntity.id())
-          .withRoleName(roleEntity.name())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(roleEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(roleEntity.auditInfo()))
-          .withCurrentVersion(INIT_VERSION)
-          .withLastVersion(INIT_VERSION)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    return builder
+        .withRoleId(roleEntity.id())
+        .withRoleName(roleEntity.name())
+        .withProperties(PayloadSerDe.writeProperties(roleEntity.properties()))
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(roleEntity.auditInfo()))
+        .withCurrentVersion(INIT_VERSION)
+        .withLastVersion(INIT_VERSION)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .build();
   }
 
   /**
@@ -926,18 +917,14 @@ public class POConverters {
    */
   public static GroupPO initializeGroupPOWithVersion(
       GroupEntity groupEntity, GroupPO.Builder builder) {
-    try {
-      return builder
-          .withGroupId(groupEntity.id())
-          .withGroupName(groupEntity.name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(groupEntity.auditInfo()))
-          .withCurrentVersion(INIT_VERSION)
-          .withLastVersion(INIT_VERSION)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    return builder
+        .withGroupId(groupEntity.id())
+        .withGroupName(groupEntity.name())
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(groupEntity.auditInfo()))
+        .withCurrentVersion(INIT_VERSION)
+        .withLastVersion(INIT_VERSION)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .build();
   }
 
   /**
@@ -952,19 +939,15 @@ public class POConverters {
     // TODO: set the version to the last version + 1 when having some fields need be multiple
     // version
     Long nextVersion = lastVersion;
-    try {
-      return GroupPO.builder()
-          .withGroupId(oldGroupPO.getGroupId())
-          .withGroupName(newGroup.name())
-          .withMetalakeId(oldGroupPO.getMetalakeId())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newGroup.auditInfo()))
-          .withCurrentVersion(nextVersion)
-          .withLastVersion(nextVersion)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    return GroupPO.builder()
+        .withGroupId(oldGroupPO.getGroupId())
+        .withGroupName(newGroup.name())
+        .withMetalakeId(oldGroupPO.getMetalakeId())
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(newGroup.auditInfo()))
+        .withCurrentVersion(nextVersion)
+        .withLastVersion(nextVersion)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .build();
   }
 
   /**
@@ -976,130 +959,99 @@ public class POConverters {
    */
   public static List<GroupRoleRelPO> initializeGroupRoleRelsPOWithVersion(
       GroupEntity groupEntity, List<Long> roleIds) {
-    try {
-      List<GroupRoleRelPO> groupRoleRelPOS = Lists.newArrayList();
-      for (Long roleId : roleIds) {
-        GroupRoleRelPO roleRelPO =
-            GroupRoleRelPO.builder()
-                .withGroupId(groupEntity.id())
-                .withRoleId(roleId)
-                .withAuditInfo(
-                    JsonUtils.anyFieldMapper().writeValueAsString(groupEntity.auditInfo()))
-                .withCurrentVersion(INIT_VERSION)
-                .withLastVersion(INIT_VERSION)
-                .withDeletedAt(DEFAULT_DELETED_AT)
-                .build();
-        groupRoleRelPOS.add(roleRelPO);
-      }
-      return groupRoleRelPOS;
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
+    List<GroupRoleRelPO> groupRoleRelPOS = Lists.newArrayList();
+    for (Long roleId : roleIds) {
+      GroupRoleRelPO roleRelPO =
+          GroupRoleRelPO.builder()
+              .withGroupId(groupEntity.id())
+              .withRoleId(roleId)
+              .withAuditInfo(PayloadSerDe.writeAuditInfo(groupEntity.auditInfo()))
+              .withCurrentVersion(INIT_VERSION)
+              .withLastVersion(INIT_VERSION)
+              .withDeletedAt(DEFAULT_DELETED_AT)
+              .build();
+      groupRoleRelPOS.add(roleRelPO);
     }
+    return groupRoleRelPOS;
   }
 
   public static SecurableObject fromSecurableObjectPO(
       String fullName, SecurableObjectPO securableObjectPO, MetadataObject.Type type) {
-    try {
-      List<String> privilegeNames =
-          JsonUtils.anyFieldMapper().readValue(securableObjectPO.getPrivilegeNames(), List.class);
-      List<String> privilegeConditions =
-          JsonUtils.anyFieldMapper()
-              .readValue(securableObjectPO.getPrivilegeConditions(), List.class);
-
-      List<Privilege> privileges = Lists.newArrayList();
-      for (int index = 0; index < privilegeNames.size(); index++) {
-        if (Privilege.Condition.ALLOW.name().equals(privilegeConditions.get(index))) {
-          privileges.add(Privileges.allow(privilegeNames.get(index)));
-        } else {
-          privileges.add(Privileges.deny(privilegeNames.get(index)));
-        }
-      }
+    List<String> privilegeNames = PayloadSerDe.readStrings(securableObjectPO.getPrivilegeNames());
+    List<String> privilegeConditions =
+        PayloadSerDe.readStrings(securableObjectPO.getPrivilegeConditions());
 
-      return SecurableObjects.parse(fullName, type, privileges);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to deserialize json object:", e);
+    List<Privilege> privileges = Lists.newArrayList();
+    for (int index = 0; index < privilegeNames.size(); index++) {
+      if (Privilege.Condition.ALLOW.name().equals(privilegeConditions.get(index))) {
+        privileges.add(Privileges.allow(privilegeNames.get(index)));
+      } else {
+        privileges.add(Privileges.deny(privilegeNames.get(index)));
+      }
     }
+
+    return SecurableObjects.parse(fullName, type, privileges);
   }
 
   public static RoleEntity fromRolePO(
       RolePO rolePO, List<SecurableObject> securableObjects, Namespace namespace) {
-    try {
-      return RoleEntity.builder()
-          .withId(rolePO.getRoleId())
-          .withName(rolePO.getRoleName())
-          .withNamespace(namespace)
-          .withProperties(JsonUtils.anyFieldMapper().readValue(rolePO.getProperties(), Map.class))
-          .withSecurableObjects(securableObjects)
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(rolePO.getAuditInfo(), AuditInfo.class))
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to deserialize json object:", e);
-    }
+    return RoleEntity.builder()
+        .withId(rolePO.getRoleId())
+        .withName(rolePO.getRoleName())
+        .withNamespace(namespace)
+        .withProperties(PayloadSerDe.readProperties(rolePO.getProperties()))
+        .withSecurableObjects(securableObjects)
+        .withAuditInfo(PayloadSerDe.readAuditInfo(rolePO.getAuditInfo()))
+        .build();
   }
 
   public static SecurableObjectPO.Builder initializeSecurablePOBuilderWithVersion(
       long roleId, SecurableObject securableObject, String type) {
-    try {
-      SecurableObjectPO.Builder builder = SecurableObjectPO.builder();
-      builder
-          .withRoleId(roleId)
-          .withType(type)
-          .withPrivilegeConditions(
-              JsonUtils.anyFieldMapper()
-                  .writeValueAsString(
-                      securableObject.privileges().stream()
-                          .map(Privilege::condition)
-                          .map(Privilege.Condition::name)
-                          .collect(Collectors.toList())))
-          .withPrivilegeNames(
-              JsonUtils.anyFieldMapper()
-                  .writeValueAsString(
-                      securableObject.privileges().stream()
-                          .map(Privilege::name)
-                          .map(Privilege.Name::name)
-                          .collect(Collectors.toList())))
-          .withCurrentVersion(INIT_VERSION)
-          .withLastVersion(INIT_VERSION)
-          .withDeletedAt(DEFAULT_DELETED_AT);
-
-      return builder;
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    SecurableObjectPO.Builder builder = SecurableObjectPO.builder();
+    builder
+        .withRoleId(roleId)
+        .withType(type)
+        .withPrivilegeConditions(
+            PayloadSerDe.writeStrings(
+                securableObject.privileges().stream()
+                    .map(Privilege::condition)
+                    .map(Privilege.Condition::name)
+                    .collect(Collectors.toList())))
+        .withPrivilegeNames(
+            PayloadSerDe.writeStrings(
+                securableObject.privileges().stream()
+                    .map(Privilege::name)
+                    .map(Privilege.Name::name)
+                    .collect(Collectors.toList())))
+        .withCurrentVersion(INIT_VERSION)
+        .withLastVersion(INIT_VERSION)
+        .withDeletedAt(DEFAULT_DELETED_AT);
+
+    return builder;
   }
 
   public static TagEntity fromTagPO(TagPO tagPO, Namespace namespace) {
-    try {
-      return TagEntity.builder()
-          .withId(tagPO.getTagId())
-          .withName(tagPO.getTagName())
-          .withNamespace(namespace)
-          .withComment(tagPO.getComment())
-          .withProperties(JsonUtils.anyFieldMapper().readValue(tagPO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(tagPO.getAuditInfo(), AuditInfo.class))
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to deserialize json object:", e);
-    }
+    return TagEntity.builder()
+        .withId(tagPO.getTagId())
+        .withName(tagPO.getTagName())
+        .withNamespace(namespace)
+        .withComment(tagPO.getComment())
+        .withProperties(PayloadSerDe.readProperties(tagPO.getProperties()))
+        .withAuditInfo(PayloadSerDe.readAuditInfo(tagPO.getAuditInfo()))
+        .build();
   }
 
   public static TagPO initializeTagPOWithVersion(TagEntity tagEntity, TagPO.Builder builder) {
-    try {
-      return builder
-          .withTagId(tagEntity.id())
-          .withTagName(tagEntity.name())
-          .withComment(tagEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(tagEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(tagEntity.auditInfo()))
-          .withCurrentVersion(INIT_VERSION)
-          .withLastVersion(INIT_VERSION)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    return builder
+        .withTagId(tagEntity.id())
+        .withTagName(tagEntity.name())
+        .withComment(tagEntity.comment())
+        .withProperties(PayloadSerDe.writeProperties(tagEntity.properties()))
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(tagEntity.auditInfo()))
+        .withCurrentVersion(INIT_VERSION)
+        .withLastVersion(INIT_VERSION)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .build();
   }
 
   public static TagPO updateTagPOWithVersion(TagPO oldTagPO, TagEntity newEntity) {
@@ -1107,44 +1059,36 @@ public class POConverters {
     // TODO: set the version to the last version + 1 when having some fields need be multiple
     // version
     Long nextVersion = lastVersion;
-    try {
-      return TagPO.builder()
-          .withTagId(oldTagPO.getTagId())
-          .withTagName(newEntity.name())
-          .withMetalakeId(oldTagPO.getMetalakeId())
-          .withComment(newEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newEntity.auditInfo()))
-          .withCurrentVersion(nextVersion)
-          .withLastVersion(nextVersion)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    return TagPO.builder()
+        .withTagId(oldTagPO.getTagId())
+        .withTagName(newEntity.name())
+        .withMetalakeId(oldTagPO.getMetalakeId())
+        .withComment(newEntity.comment())
+        .withProperties(PayloadSerDe.writeProperties(newEntity.properties()))
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(newEntity.auditInfo()))
+        .withCurrentVersion(nextVersion)
+        .withLastVersion(nextVersion)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .build();
   }
 
   public static TagMetadataObjectRelPO initializeTagMetadataObjectRelPOWithVersion(
       Long tagId, Long metadataObjectId, String metadataObjectType) {
-    try {
-      AuditInfo auditInfo =
-          AuditInfo.builder()
-              .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
-              .withCreateTime(Instant.now())
-              .build();
+    AuditInfo auditInfo =
+        AuditInfo.builder()
+            .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
+            .withCreateTime(Instant.now())
+            .build();
 
-      return TagMetadataObjectRelPO.builder()
-          .withTagId(tagId)
-          .withMetadataObjectId(metadataObjectId)
-          .withMetadataObjectType(metadataObjectType)
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(auditInfo))
-          .withCurrentVersion(INIT_VERSION)
-          .withLastVersion(INIT_VERSION)
-          .withDeletedAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    return TagMetadataObjectRelPO.builder()
+        .withTagId(tagId)
+        .withMetadataObjectId(metadataObjectId)
+        .withMetadataObjectType(metadataObjectType)
+        .withAuditInfo(PayloadSerDe.writeAuditInfo(auditInfo))
+        .withCurrentVersion(INIT_VERSION)
+        .withLastVersion(INIT_VERSION)
+        .withDeletedAt(DEFAULT_DELETED_AT)
+        .build();
   }
 
   public static OwnerRelPO initializeOwnerRelPOsWithVersion(
@@ -1153,25 +1097,21 @@ public class POConverters {
       Long ownerId,
       String metadataObjectType,
       Long metadataObjectId) {
-    try {
-      AuditInfo auditInfo =
-          AuditInfo.builder()
-              .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
-              .withCreateTime(Instant.now())
-              .build();
-      return OwnerRelPO.builder()
-          .withMetalakeId(metalakeId)
-          .withOwnerId(ownerId)
-          .withOwnerType(ownerType)
-          .withMetadataObjectId(metadataObjectId)
-          .withMetadataObjectType(metadataObjectType)
-          .withAuditIfo(JsonUtils.anyFieldMapper().writeValueAsString(auditInfo))
-          .withCurrentVersion(INIT_VERSION)
-          .withLastVersion(INIT_VERSION)
-          .withDeleteAt(DEFAULT_DELETED_AT)
-          .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize json object:", e);
-    }
+    AuditInfo auditInfo =
+        AuditInfo.builder()
+            .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
+            .withCreateTime(Instant.now())
+            .build();
+    return OwnerRelPO.builder()
+        .withMetalakeId(metalakeId)
+        .withOwnerId(ownerId)
+        .withOwnerType(ownerType)
+        .withMetadataObjectId(metadataObjectId)
+        .withMetadataObjectType(metadataObjectType)
+        .withAuditIfo(PayloadSerDe.writeAuditInfo(auditInfo))
+        .withCurrentVersion(INIT_VERSION)
+        .withLastVersion(INIT_VERSION)
+        .withDeleteAt(DEFAULT_DELETED_AT)
+        .build();
   }
 }
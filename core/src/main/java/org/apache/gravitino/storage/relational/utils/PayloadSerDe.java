@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ForwardingMap;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.SchemaVersion;
+import org.apache.gravitino.proto.AuditInfoSerDe;
+import org.apache.gravitino.proto.StringList;
+import org.apache.gravitino.proto.StringMap;
+
+/**
+ * PayloadSerDe encodes and decodes the payload columns of the relational entity store, like the
+ * properties, the audit info and the schema version of the entities, and the privileges of the
+ * securable objects.
+ *
+ * <p>The payloads are encoded as JSON by default. If the encoding is {@link Encoding#PROTO}, they
+ * are encoded as the protobuf messages shared with the proto entity SerDe, base64 encoded and
+ * prefixed with {@link #PROTO_V1_PREFIX}, so they can still be stored in the existing text
+ * columns. The decoding tells the encodings apart by the prefix, which never starts a JSON value,
+ * so the rows written with either encoding can always be read, and they are migrated to the
+ * configured encoding when they are rewritten.
+ */
+public final class PayloadSerDe {
+
+  /** The encoding of the payloads written to the relational entity store. */
+  public enum Encoding {
+    JSON,
+    PROTO
+  }
+
+  // The version is part of the prefix, so that the encoding can evolve without breaking the rows
+  // written by the earlier versions.
+  @VisibleForTesting static final String PROTO_V1_PREFIX = "pb1:";
+
+  private static final AuditInfoSerDe AUDIT_INFO_SER_DE = new AuditInfoSerDe();
+
+  private static volatile Encoding encoding = Encoding.JSON;
+
+  private PayloadSerDe() {}
+
+  /**
+   * Set the encoding of the payloads written from now on by the configuration.
+   *
+   * @param config The configuration of the relational entity store.
+   */
+  public static void initialize(Config config) {
+    String value = config.get(Configs.ENTITY_RELATIONAL_PAYLOAD_ENCODING);
+    setEncoding(value == null ? Encoding.JSON : Encoding.valueOf(value.toUpperCase(Locale.ROOT)));
+  }
+
+  @VisibleForTesting
+  static void setEncoding(Encoding newEncoding) {
+    encoding = newEncoding;
+  }
+
+  /**
+   * Encode the properties of an entity.
+   *
+   * @param properties The properties, may be null.
+   * @return The encoded properties.
+   */
+  public static String writeProperties(Map<String, String> properties) {
+    if (encoding == Encoding.JSON
+        || properties == null
+        || properties.entrySet().stream()
+            .anyMatch(e -> e.getKey() == null || e.getValue() == null)) {
+      // Protobuf maps can't hold null keys or values, so these properties stay in JSON.
+      return writeJson(properties);
+    }
+    return writeProto(StringMap.newBuilder().putAllValues(properties).build());
+  }
+
+  /**
+   * Decode the properties of an entity. The properties are parsed on the first access of the
+   * returned map, so the callers only using the names and ids of the entities never parse them.
+   *
+   * @param payload The encoded properties.
+   * @return The properties, null if the encoded properties are null.
+   */
+  public static Map<String, String> readProperties(String payload) {
+    if (payload == null || "null".equals(payload)) {
+      return null;
+    }
+
+    return new LazyMap<>(
+        () ->
+            isProto(payload)
+                ? readProto(payload, StringMap.parser()).getValuesMap()
+                : readJson(payload, Map.class));
+  }
+
+  /**
+   * Encode the audit info of an entity.
+   *
+   * @param auditInfo The audit info.
+   * @return The encoded audit info.
+   */
+  public static String writeAuditInfo(AuditInfo auditInfo) {
+    if (encoding == Encoding.JSON || auditInfo == null) {
+      return writeJson(auditInfo);
+    }
+    return writeProto(AUDIT_INFO_SER_DE.serialize(auditInfo));
+  }
+
+  /**
+   * Decode the audit info of an entity.
+   *
+   * @param payload The encoded audit info, null if it's not selected, like by the list queries
+   *     skipping the high-cost fields.
+   * @return The audit info, {@link AuditInfo#EMPTY} if the encoded audit info is null.
+   */
+  public static AuditInfo readAuditInfo(String payload) {
+    if (payload == null) {
+      return AuditInfo.EMPTY;
+    }
+
+    if (isProto(payload)) {
+      return AUDIT_INFO_SER_DE.deserialize(
+          readProto(payload, org.apache.gravitino.proto.AuditInfo.parser()), null);
+    }
+    return readJson(payload, AuditInfo.class);
+  }
+
+  /**
+   * Encode the schema version of a metalake.
+   *
+   * @param schemaVersion The schema version.
+   * @return The encoded schema version.
+   */
+  public static String writeSchemaVersion(SchemaVersion schemaVersion) {
+    if (encoding == Encoding.JSON || schemaVersion == null) {
+      return writeJson(schemaVersion);
+    }
+    return writeProto(
+        org.apache.gravitino.proto.SchemaVersion.newBuilder()
+            .setMajorNumber(schemaVersion.getMajorVersion())
+            .setMinorNumber(schemaVersion.getMinorVersion())
+            .build());
+  }
+
+  /**
+   * Decode the schema version of a metalake.
+   *
+   * @param payload The encoded schema version.
+   * @return The schema version.
+   */
+  public static SchemaVersion readSchemaVersion(String payload) {
+    if (isProto(payload)) {
+      org.apache.gravitino.proto.SchemaVersion version =
+          readProto(payload, org.apache.gravitino.proto.SchemaVersion.parser());
+      return SchemaVersion.forValues(version.getMajorNumber(), version.getMinorNumber());
+    }
+    return readJson(payload, SchemaVersion.class);
+  }
+
+  /**
+   * Encode a list of strings, like the privilege names of a securable object.
+   *
+   * @param values The list of strings.
+   * @return The encoded list.
+   */
+  public static String writeStrings(List<String> values) {
+    if (encoding == Encoding.JSON || values == null || values.contains(null)) {
+      return writeJson(values);
+    }
+    return writeProto(StringList.newBuilder().addAllValues(values).build());
+  }
+
+  /**
+   * Decode a list of strings, like the privilege names of a securable object.
+   *
+   * @param payload The encoded list.
+   * @return The list of strings.
+   */
+  public static List<String> readStrings(String payload) {
+    if (isProto(payload)) {
+      return readProto(payload, StringList.parser()).getValuesList();
+    }
+    return readJson(payload, List.class);
+  }
+
+  private static boolean isProto(String payload) {
+    return payload != null && payload.startsWith(PROTO_V1_PREFIX);
+  }
+
+  private static String writeProto(Message message) {
+    return PROTO_V1_PREFIX + Base64.getEncoder().encodeToString(message.toByteArray());
+  }
+
+  private static <M extends Message> M readProto(String payload, Parser<M> parser) {
+    try {
+      return parser.parseFrom(
+          Base64.getDecoder().decode(payload.substring(PROTO_V1_PREFIX.length())));
+    } catch (InvalidProtocolBufferException | IllegalArgumentException e) {
+      throw new RuntimeException("Failed to deserialize protobuf object:", e);
+    }
+  }
+
+  private static String writeJson(Object value) {
+    try {
+      return JsonUtils.anyFieldMapper().writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to serialize json object:", e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T readJson(String payload, Class<?> clazz) {
+    try {
+      return (T) JsonUtils.anyFieldMapper().readValue(payload, clazz);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to deserialize json object:", e);
+    }
+  }
+
+  /** A map loaded from its supplier on the first access. */
+  private static final class LazyMap<K, V> extends ForwardingMap<K, V> {
+
+    private final Supplier<Map<K, V>> delegate;
+
+    private LazyMap(Supplier<Map<K, V>> loader) {
+      this.delegate = Suppliers.memoize(loader::get);
+    }
+
+    @Override
+    protected Map<K, V> delegate() {
+      return Objects.requireNonNull(delegate.get());
+    }
+  }
+}
@@ -23,6 +23,8 @@ import java.util.Arrays;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.gravitino.storage.relational.session.SqlSessions;
+import org.apache.gravitino.tracing.Span;
+import org.apache.gravitino.tracing.Tracer;
 import org.apache.ibatis.session.SqlSession;
 
 /**
@@ -41,12 +43,14 @@ public class SessionUtils {
    * @param <T> the type of the mapper
    */
   public static <T> void doWithCommit(Class<T> mapperClazz, Consumer<T> consumer) {
-    try (SqlSession session = SqlSessions.getSqlSession()) {
+    try (Span span = startSpan(mapperClazz);
+        SqlSession session = SqlSessions.getSqlSession()) {
       try {
         T mapper = SqlSessions.getMapper(mapperClazz);
         consumer.accept(mapper);
         SqlSessions.commitAndCloseSqlSession();
       } catch (Throwable t) {
+        span.setError(t);
         SqlSessions.rollbackAndCloseSqlSession();
         throw t;
       }
@@ -64,13 +68,15 @@ public class SessionUtils {
    * @param <R> the type of the result
    */
   public static <T, R> R doWithCommitAndFetchResult(Class<T> mapperClazz, Function<T, R> func) {
-    try (SqlSession session = SqlSessions.getSqlSession()) {
+    try (Span span = startSpan(mapperClazz);
+        SqlSession session = SqlSessions.getSqlSession()) {
       try {
         T mapper = SqlSessions.getMapper(mapperClazz);
         R result = func.apply(mapper);
         SqlSessions.commitAndCloseSqlSession();
         return result;
       } catch (Throwable t) {
+        span.setError(t);
         SqlSessions.rollbackAndCloseSqlSession();
         throw t;
       }
@@ -116,11 +122,13 @@ public class SessionUtils {
    * @param <R> the type of the result
    */
   public static <T, R> R getWithoutCommit(Class<T> mapperClazz, Function<T, R> func) {
-    try (SqlSession session = SqlSessions.getSqlSession()) {
+    try (Span span = startSpan(mapperClazz);
+        SqlSession session = SqlSessions.getSqlSession()) {
       try {
         T mapper = SqlSessions.getMapper(mapperClazz);
         return func.apply(mapper);
       } catch (Throwable t) {
+        span.setError(t);
         throw t;
       } finally {
         SqlSessions.closeSqlSession();
@@ -135,14 +143,21 @@ public class SessionUtils {
    * @param operations the operations to be performed
    */
   public static void doMultipleWithCommit(Runnable... operations) {
-    try (SqlSession session = SqlSessions.getSqlSession()) {
+    try (Span span = Tracer.startSpan("jdbc.transaction");
+        SqlSession session = SqlSessions.getSqlSession()) {
       try {
         Arrays.stream(operations).forEach(Runnable::run);
         SqlSessions.commitAndCloseSqlSession();
       } catch (Throwable t) {
+        span.setError(t);
         SqlSessions.rollbackAndCloseSqlSession();
         throw t;
       }
     }
   }
+
+  private static Span startSpan(Class<?> mapperClazz) {
+    Span span = Tracer.startSpan("jdbc.session");
+    return span.setAttribute("mapper", mapperClazz.getSimpleName());
+  }
 }
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import com.google.common.base.Preconditions;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * FileSpanExporter appends the spans to a local file, one JSON object per line. The file is set by
+ * "gravitino.tracing.exporter.file.path".
+ */
+public class FileSpanExporter implements SpanExporter {
+
+  /** The property of the file to append the spans to. */
+  public static final String FILE_PATH = "file.path";
+
+  private BufferedWriter writer;
+
+  @Override
+  public void initialize(Map<String, String> properties) {
+    String filePath = properties.get(FILE_PATH);
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(filePath),
+        "%s%s is required by the file span exporter",
+        Tracer.EXPORTER_CONFIG_PREFIX,
+        FILE_PATH);
+
+    Path path = Paths.get(filePath);
+    try {
+      if (path.getParent() != null) {
+        Files.createDirectories(path.getParent());
+      }
+      this.writer =
+          Files.newBufferedWriter(
+              path,
+              StandardCharsets.UTF_8,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.APPEND,
+              StandardOpenOption.WRITE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to open span file " + filePath, e);
+    }
+  }
+
+  @Override
+  public synchronized void export(Span span) {
+    try {
+      writer.write(span.toJson());
+      writer.newLine();
+      writer.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write span " + span.name(), e);
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (writer != null) {
+      writer.close();
+      writer = null;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * InMemorySpanExporter keeps the latest spans in memory, it is used for testing. The number of the
+ * kept spans is set by "gravitino.tracing.exporter.memory.max-spans", 10000 by default.
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+  /** The property of the maximum number of the kept spans. */
+  public static final String MAX_SPANS = "memory.max-spans";
+
+  private static final int DEFAULT_MAX_SPANS = 10000;
+
+  private final Deque<Span> spans = new ArrayDeque<>();
+
+  private int maxSpans = DEFAULT_MAX_SPANS;
+
+  @Override
+  public void initialize(Map<String, String> properties) {
+    String value = properties.get(MAX_SPANS);
+    if (value != null) {
+      this.maxSpans = Integer.parseInt(value.trim());
+    }
+  }
+
+  @Override
+  public synchronized void export(Span span) {
+    if (spans.size() >= maxSpans) {
+      spans.pollFirst();
+    }
+    spans.addLast(span);
+  }
+
+  /**
+   * Returns the exported spans in the order of their ends.
+   *
+   * @return The exported spans.
+   */
+  public synchronized List<Span> spans() {
+    return ImmutableList.copyOf(spans);
+  }
+
+  /** Removes the exported spans. */
+  public synchronized void clear() {
+    spans.clear();
+  }
+
+  @Override
+  public synchronized void close() {
+    spans.clear();
+  }
+}
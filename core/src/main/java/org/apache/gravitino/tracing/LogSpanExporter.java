@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * LogSpanExporter writes the spans as JSON to the logger "org.apache.gravitino.tracing.spans" at
+ * INFO level, the logger can be routed to a dedicated file collected by a local agent.
+ */
+public class LogSpanExporter implements SpanExporter {
+
+  private static final Logger SPAN_LOG =
+      LoggerFactory.getLogger("org.apache.gravitino.tracing.spans");
+
+  @Override
+  public void initialize(Map<String, String> properties) {}
+
+  @Override
+  public void export(Span span) {
+    if (SPAN_LOG.isInfoEnabled()) {
+      SPAN_LOG.info(span.toJson());
+    }
+  }
+
+  @Override
+  public void close() {}
+}
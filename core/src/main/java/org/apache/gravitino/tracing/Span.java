@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.gravitino.json.JsonUtils;
+
+/**
+ * A span is a timed operation in a trace, like a REST request, a tree lock acquisition or a call to
+ * the underlying catalog. The span started by {@link Tracer} becomes the current span of the thread
+ * and the parent of the spans started later on the thread, until it is closed.
+ *
+ * <p>The span is not thread safe, it should be closed by the thread starting it.
+ */
+public class Span implements AutoCloseable {
+
+  static final Span NOOP = new Span(null, null, null, null);
+
+  private final String name;
+
+  private final TraceContext context;
+
+  private final String parentSpanId;
+
+  private final Span previous;
+
+  private final long startEpochMillis;
+
+  private final long startNanos;
+
+  private final Map<String, String> attributes;
+
+  private long durationNanos = -1L;
+
+  private String error;
+
+  Span(String name, TraceContext context, String parentSpanId, Span previous) {
+    this.name = name;
+    this.context = context;
+    this.parentSpanId = parentSpanId;
+    this.previous = previous;
+    this.startEpochMillis = context == null ? 0L : System.currentTimeMillis();
+    this.startNanos = context == null ? 0L : System.nanoTime();
+    this.attributes = context == null ? Collections.emptyMap() : new LinkedHashMap<>();
+  }
+
+  /**
+   * Returns whether the span is recorded. The spans are not recorded if the tracing is disabled or
+   * the trace is not sampled.
+   *
+   * @return True if the span is recorded.
+   */
+  public boolean isRecording() {
+    return context != null;
+  }
+
+  /**
+   * Sets an attribute of the span.
+   *
+   * @param key The key of the attribute.
+   * @param value The value of the attribute.
+   * @return This span.
+   */
+  public Span setAttribute(String key, Object value) {
+    if (isRecording()) {
+      attributes.put(key, String.valueOf(value));
+    }
+    return this;
+  }
+
+  /**
+   * Marks the span as failed with the error.
+   *
+   * @param throwable The error of the span.
+   * @return This span.
+   */
+  public Span setError(Throwable throwable) {
+    if (isRecording()) {
+      this.error = throwable.getClass().getName() + ": " + throwable.getMessage();
+    }
+    return this;
+  }
+
+  /** Ends the span and exports it. */
+  @Override
+  public void close() {
+    if (!isRecording() || durationNanos >= 0) {
+      return;
+    }
+
+    this.durationNanos = System.nanoTime() - startNanos;
+    Tracer.end(this);
+  }
+
+  /**
+   * Returns the name of the span.
+   *
+   * @return The name of the span.
+   */
+  public String name() {
+    return name;
+  }
+
+  /**
+   * Returns the trace context of the span.
+   *
+   * @return The trace context, or null if the span is not recorded.
+   */
+  public TraceContext context() {
+    return context;
+  }
+
+  /**
+   * Returns the id of the parent span.
+   *
+   * @return The id of the parent span, or null if the span is a root span.
+   */
+  public String parentSpanId() {
+    return parentSpanId;
+  }
+
+  /**
+   * Returns the start time of the span.
+   *
+   * @return The start time in milliseconds since the epoch.
+   */
+  public long startEpochMillis() {
+    return startEpochMillis;
+  }
+
+  /**
+   * Returns the duration of the span.
+   *
+   * @return The duration in nanoseconds, or -1 if the span is not ended.
+   */
+  public long durationNanos() {
+    return durationNanos;
+  }
+
+  /**
+   * Returns the attributes of the span.
+   *
+   * @return The attributes of the span.
+   */
+  public Map<String, String> attributes() {
+    return ImmutableMap.copyOf(attributes);
+  }
+
+  /**
+   * Returns the error of the span.
+   *
+   * @return The error of the span, or null if the span succeeded.
+   */
+  public String error() {
+    return error;
+  }
+
+  Span previous() {
+    return previous;
+  }
+
+  /**
+   * Encodes the span as a JSON object, the format of the spans exported to the logs and files.
+   *
+   * @return The JSON string of the span.
+   */
+  public String toJson() {
+    Map<String, Object> fields = new LinkedHashMap<>();
+    fields.put("name", name);
+    if (context != null) {
+      fields.put("traceId", context.traceId());
+      fields.put("spanId", context.spanId());
+    }
+    fields.put("parentSpanId", parentSpanId);
+    fields.put("startEpochMillis", startEpochMillis);
+    fields.put("durationMicros", durationNanos < 0 ? -1L : durationNanos / 1000);
+    fields.put("attributes", attributes);
+    fields.put("error", error);
+    try {
+      return JsonUtils.objectMapper().writeValueAsString(fields);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize span " + name, e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "Span{name="
+        + name
+        + ", context="
+        + context
+        + ", parentSpanId="
+        + parentSpanId
+        + ", durationNanos="
+        + durationNanos
+        + ", attributes="
+        + attributes
+        + ", error="
+        + error
+        + "}";
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import java.io.Closeable;
+import java.util.Map;
+
+/**
+ * SpanExporter exports the ended spans to a collector. The exporter is configured by
+ * "gravitino.tracing.exporter", the value is "log", "file", "memory" or the class name of a custom
+ * exporter, which must have a no-argument constructor. The properties with the prefix
+ * "gravitino.tracing.exporter." are passed to the exporter without the prefix.
+ *
+ * <p>The spans are exported by the threads ending them, the exporter should be thread safe and
+ * should not block.
+ */
+public interface SpanExporter extends Closeable {
+
+  /**
+   * Initializes the exporter with the properties.
+   *
+   * @param properties The properties of the exporter.
+   */
+  void initialize(Map<String, String> properties);
+
+  /**
+   * Exports an ended span.
+   *
+   * @param span The ended span.
+   */
+  void export(Span span);
+}
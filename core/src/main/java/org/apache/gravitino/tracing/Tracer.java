@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.utils.Executable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracer records the spans of the requests served by Gravitino and exports them with the
+ * configured {@link SpanExporter}. A trace is started by {@link #startRootSpan} for each REST
+ * request, the spans started later on the same thread, like the tree lock acquisition, the calls to
+ * the underlying catalog and the entity store, are its descendants.
+ *
+ * <p>The spans are no-op if the tracing is disabled or the trace is not sampled, so the
+ * instrumented code doesn't need to check it.
+ */
+public final class Tracer {
+
+  /** The prefix of the properties passed to the span exporter. */
+  public static final String EXPORTER_CONFIG_PREFIX = "gravitino.tracing.exporter.";
+
+  private static final Logger LOG = LoggerFactory.getLogger(Tracer.class);
+
+  private static final Map<String, String> EXPORTER_NAMES =
+      ImmutableMap.of(
+          "log", LogSpanExporter.class.getCanonicalName(),
+          "file", FileSpanExporter.class.getCanonicalName(),
+          "memory", InMemorySpanExporter.class.getCanonicalName());
+
+  private static final ThreadLocal<Span> CURRENT_SPAN = new ThreadLocal<>();
+
+  private static volatile SpanExporter exporter;
+
+  private static volatile int samplePercent = 100;
+
+  private Tracer() {}
+
+  /**
+   * Initializes the tracer with the configuration, it does nothing if the tracing is disabled.
+   *
+   * @param config The configuration of Gravitino.
+   */
+  public static void initialize(Config config) {
+    if (!config.get(Configs.TRACING_ENABLE)) {
+      return;
+    }
+
+    String exporterName = config.get(Configs.TRACING_EXPORTER);
+    String className =
+        EXPORTER_NAMES.getOrDefault(exporterName.toLowerCase(Locale.ROOT), exporterName);
+    SpanExporter spanExporter;
+    try {
+      spanExporter = (SpanExporter) Class.forName(className).getDeclaredConstructor().newInstance();
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Failed to create span exporter " + exporterName, e);
+    }
+    spanExporter.initialize(config.getConfigsWithPrefix(EXPORTER_CONFIG_PREFIX));
+
+    initialize(spanExporter, config.get(Configs.TRACING_SAMPLE_PERCENT));
+    LOG.info("Tracing is enabled with exporter {} and sample percent {}", className, samplePercent);
+  }
+
+  /**
+   * Initializes the tracer with the span exporter.
+   *
+   * @param spanExporter The span exporter.
+   * @param percent The percent of the traces started by Gravitino to sample, the traces started by
+   *     the callers follow the sampling decision of the callers.
+   */
+  @VisibleForTesting
+  public static synchronized void initialize(SpanExporter spanExporter, int percent) {
+    SpanExporter oldExporter = exporter;
+    samplePercent = percent;
+    exporter = spanExporter;
+    if (oldExporter != spanExporter) {
+      closeExporter(oldExporter);
+    }
+  }
+
+  /** Closes the span exporter and disables the tracing. */
+  public static synchronized void close() {
+    SpanExporter oldExporter = exporter;
+    exporter = null;
+    closeExporter(oldExporter);
+  }
+
+  /**
+   * Returns whether the tracing is enabled.
+   *
+   * @return True if the tracing is enabled.
+   */
+  public static boolean isEnabled() {
+    return exporter != null;
+  }
+
+  /**
+   * Starts the root span of a request served by Gravitino and makes it the current span of the
+   * thread.
+   *
+   * @param name The name of the span.
+   * @param parent The trace context sent by the caller, or null to start a new trace.
+   * @return The started span, it must be closed by the calling thread.
+   */
+  public static Span startRootSpan(String name, TraceContext parent) {
+    if (exporter == null) {
+      return Span.NOOP;
+    }
+
+    TraceContext context;
+    if (parent != null) {
+      context = parent.newChild();
+    } else {
+      boolean sampled = ThreadLocalRandom.current().nextInt(100) < samplePercent;
+      context = TraceContext.newTrace(sampled);
+    }
+    if (!context.sampled()) {
+      return Span.NOOP;
+    }
+
+    Span span =
+        new Span(name, context, parent == null ? null : parent.spanId(), CURRENT_SPAN.get());
+    CURRENT_SPAN.set(span);
+    return span;
+  }
+
+  /**
+   * Starts a child span of the current span and makes it the current span of the thread. It
+   * returns a no-op span if there is no current span.
+   *
+   * @param name The name of the span.
+   * @return The started span, it must be closed by the calling thread.
+   */
+  public static Span startSpan(String name) {
+    Span current = CURRENT_SPAN.get();
+    if (current == null || exporter == null) {
+      return Span.NOOP;
+    }
+
+    Span span = new Span(name, current.context().newChild(), current.context().spanId(), current);
+    CURRENT_SPAN.set(span);
+    return span;
+  }
+
+  /**
+   * Returns the current span of the thread.
+   *
+   * @return The current span, or a no-op span if there is no current span.
+   */
+  public static Span currentSpan() {
+    Span current = CURRENT_SPAN.get();
+    return current == null ? Span.NOOP : current;
+  }
+
+  /**
+   * Runs the executable in a child span of the current span, the error thrown by the executable is
+   * recorded in the span. The span is the current span when the executable runs, the executable can
+   * set the attributes of it by {@link #currentSpan()}.
+   *
+   * @param name The name of the span.
+   * @param executable The executable to run.
+   * @return The result of the executable.
+   * @param <R> The type of the result.
+   * @param <E> The type of the exception.
+   * @throws E If the executable throws an exception.
+   */
+  public static <R, E extends Exception> R doWithSpan(String name, Executable<R, E> executable)
+      throws E {
+    try (Span span = startSpan(name)) {
+      try {
+        return executable.execute();
+      } catch (Exception | Error e) {
+        span.setError(e);
+        throw e;
+      }
+    }
+  }
+
+  private static void closeExporter(SpanExporter spanExporter) {
+    if (spanExporter == null) {
+      return;
+    }
+
+    try {
+      spanExporter.close();
+    } catch (IOException e) {
+      LOG.warn("Failed to close span exporter", e);
+    }
+  }
+
+  static void end(Span span) {
+    if (CURRENT_SPAN.get() == span) {
+      if (span.previous() == null) {
+        CURRENT_SPAN.remove();
+      } else {
+        CURRENT_SPAN.set(span.previous());
+      }
+    }
+
+    SpanExporter spanExporter = exporter;
+    if (spanExporter != null) {
+      try {
+        spanExporter.export(span);
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to export span {}", span.name(), e);
+      }
+    }
+  }
+}
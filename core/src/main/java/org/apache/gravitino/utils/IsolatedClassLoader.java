@@ -31,6 +31,8 @@ import java.util.List;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.JavaVersion;
 import org.apache.commons.lang3.SystemUtils;
+import org.apache.gravitino.metrics.OperationProfiler;
+import org.apache.gravitino.metrics.OperationProfiler.Phase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -81,9 +83,11 @@ public class IsolatedClassLoader implements Closeable {
    */
   public <T> T withClassLoader(ThrowableFunction<ClassLoader, T> fn) throws Exception {
     ClassLoader original = Thread.currentThread().getContextClassLoader();
-    Thread.currentThread().setContextClassLoader(classLoader());
+    // Getting the classloader is synchronized, profile it to find the contention.
+    ClassLoader isolated = OperationProfiler.doWithPhase(Phase.CLASSLOADER, this::classLoader);
+    Thread.currentThread().setContextClassLoader(isolated);
     try {
-      return fn.apply(classLoader());
+      return fn.apply(isolated);
     } finally {
       Thread.currentThread().setContextClassLoader(original);
     }
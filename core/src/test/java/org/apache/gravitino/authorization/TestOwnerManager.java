@@ -24,6 +24,11 @@ import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 import static org.apache.gravitino.Configs.ENTITY_STORE;
+import static org.apache.gravitino.Configs.OWNER_ASYNC_PROPAGATION_ENABLE;
+import static org.apache.gravitino.Configs.OWNER_ASYNC_PROPAGATION_MAX_RETRIES;
+import static org.apache.gravitino.Configs.OWNER_ASYNC_PROPAGATION_QUEUE_SIZE;
+import static org.apache.gravitino.Configs.OWNER_ASYNC_PROPAGATION_RETRY_INTERVAL_MS;
+import static org.apache.gravitino.Configs.OWNER_ASYNC_PROPAGATION_THREADS;
 import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
 import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static org.apache.gravitino.Configs.STORE_TRANSACTION_MAX_SKEW_TIME;
@@ -42,11 +47,13 @@ import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.EntityStoreFactory;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.catalog.CatalogManager;
 import org.apache.gravitino.connector.BaseCatalog;
 import org.apache.gravitino.connector.authorization.AuthorizationPlugin;
@@ -197,4 +204,136 @@ public class TestOwnerManager {
     Assertions.assertEquals(GROUP, owner.name());
     Assertions.assertEquals(Owner.Type.GROUP, owner.type());
   }
+
+  @Test
+  public void testSetOwnerOfCreatedObjectAsync() throws IOException {
+    String metalakeName = "metalake_for_async_owner_test";
+    createMetalakeWithOwners(metalakeName);
+    OwnerManager asyncOwnerManager = newAsyncOwnerManager(10L);
+
+    MetadataObject metalakeObject =
+        MetadataObjects.of(Lists.newArrayList(metalakeName), MetadataObject.Type.METALAKE);
+    try {
+      // The first notification fails and is retried in the background
+      Mockito.doThrow(new RuntimeException("mock failure"))
+          .doNothing()
+          .when(authorizationPlugin)
+          .onOwnerSet(Mockito.any(), Mockito.any(), Mockito.any());
+      asyncOwnerManager.setOwnerOfCreatedObject(metalakeName, metalakeObject, USER);
+
+      // The owner is stored before the method returns
+      Owner owner = asyncOwnerManager.getOwner(metalakeName, metalakeObject).get();
+      Assertions.assertEquals(USER, owner.name());
+      Assertions.assertEquals(Owner.Type.USER, owner.type());
+
+      Mockito.verify(authorizationPlugin, Mockito.timeout(5000).times(2))
+          .onOwnerSet(Mockito.eq(metalakeObject), Mockito.isNull(), Mockito.any());
+    } finally {
+      asyncOwnerManager.close();
+      Mockito.reset(authorizationPlugin);
+    }
+  }
+
+  @Test
+  public void testAsyncOwnerNotificationSupersededBySetOwner() throws IOException {
+    String metalakeName = "metalake_for_superseded_owner_test";
+    createMetalakeWithOwners(metalakeName);
+    OwnerManager asyncOwnerManager = newAsyncOwnerManager(1000L);
+
+    MetadataObject metalakeObject =
+        MetadataObjects.of(Lists.newArrayList(metalakeName), MetadataObject.Type.METALAKE);
+    try {
+      Mockito.doThrow(new RuntimeException("mock failure"))
+          .doNothing()
+          .when(authorizationPlugin)
+          .onOwnerSet(Mockito.any(), Mockito.any(), Mockito.any());
+      asyncOwnerManager.setOwnerOfCreatedObject(metalakeName, metalakeObject, USER);
+      Mockito.verify(authorizationPlugin, Mockito.timeout(5000).times(1))
+          .onOwnerSet(Mockito.eq(metalakeObject), Mockito.isNull(), Mockito.any());
+
+      // The owner is changed before the retry, the retry of the stale owner is dropped
+      asyncOwnerManager.setOwner(metalakeName, metalakeObject, GROUP, Owner.Type.GROUP);
+      Mockito.verify(authorizationPlugin)
+          .onOwnerSet(Mockito.eq(metalakeObject), Mockito.notNull(), Mockito.any());
+      Mockito.verify(authorizationPlugin, Mockito.after(2000).times(1))
+          .onOwnerSet(Mockito.eq(metalakeObject), Mockito.isNull(), Mockito.any());
+
+      Owner owner = asyncOwnerManager.getOwner(metalakeName, metalakeObject).get();
+      Assertions.assertEquals(GROUP, owner.name());
+      Assertions.assertEquals(Owner.Type.GROUP, owner.type());
+    } finally {
+      asyncOwnerManager.close();
+      Mockito.reset(authorizationPlugin);
+    }
+  }
+
+  @Test
+  public void testAsyncOwnerNotificationOfDroppedObject() throws IOException {
+    String metalakeName = "metalake_for_dropped_owner_test";
+    createMetalakeWithOwners(metalakeName);
+    OwnerManager asyncOwnerManager = newAsyncOwnerManager(1000L);
+
+    MetadataObject metalakeObject =
+        MetadataObjects.of(Lists.newArrayList(metalakeName), MetadataObject.Type.METALAKE);
+    try {
+      Mockito.doThrow(new RuntimeException("mock failure"))
+          .doNothing()
+          .when(authorizationPlugin)
+          .onOwnerSet(Mockito.any(), Mockito.any(), Mockito.any());
+      asyncOwnerManager.setOwnerOfCreatedObject(metalakeName, metalakeObject, USER);
+      Mockito.verify(authorizationPlugin, Mockito.timeout(5000).times(1))
+          .onOwnerSet(Mockito.eq(metalakeObject), Mockito.isNull(), Mockito.any());
+
+      // The object is dropped before the retry, the retry is dropped as well
+      entityStore.delete(NameIdentifier.of(metalakeName), Entity.EntityType.METALAKE, true);
+      Mockito.verify(authorizationPlugin, Mockito.after(2000).times(1))
+          .onOwnerSet(Mockito.any(), Mockito.any(), Mockito.any());
+    } finally {
+      asyncOwnerManager.close();
+      Mockito.reset(authorizationPlugin);
+    }
+  }
+
+  private static void createMetalakeWithOwners(String metalakeName) throws IOException {
+    AuditInfo audit = AuditInfo.builder().withCreator("test").withCreateTime(Instant.now()).build();
+    entityStore.put(
+        BaseMetalake.builder()
+            .withId(idGenerator.nextId())
+            .withName(metalakeName)
+            .withVersion(SchemaVersion.V_0_1)
+            .withAuditInfo(audit)
+            .build(),
+        false /* overwritten */);
+    entityStore.put(
+        UserEntity.builder()
+            .withId(idGenerator.nextId())
+            .withName(USER)
+            .withRoleNames(Collections.emptyList())
+            .withRoleIds(Collections.emptyList())
+            .withNamespace(AuthorizationUtils.ofUserNamespace(metalakeName))
+            .withAuditInfo(audit)
+            .build(),
+        false /* overwritten */);
+    entityStore.put(
+        GroupEntity.builder()
+            .withId(idGenerator.nextId())
+            .withName(GROUP)
+            .withRoleNames(Collections.emptyList())
+            .withRoleIds(Collections.emptyList())
+            .withNamespace(AuthorizationUtils.ofGroupNamespace(metalakeName))
+            .withAuditInfo(audit)
+            .build(),
+        false /* overwritten */);
+  }
+
+  private static OwnerManager newAsyncOwnerManager(long retryIntervalMs) {
+    Config asyncConfig = Mockito.mock(Config.class);
+    Mockito.when(asyncConfig.get(OWNER_ASYNC_PROPAGATION_ENABLE)).thenReturn(true);
+    Mockito.when(asyncConfig.get(OWNER_ASYNC_PROPAGATION_THREADS)).thenReturn(1);
+    Mockito.when(asyncConfig.get(OWNER_ASYNC_PROPAGATION_QUEUE_SIZE)).thenReturn(100);
+    Mockito.when(asyncConfig.get(OWNER_ASYNC_PROPAGATION_MAX_RETRIES)).thenReturn(2);
+    Mockito.when(asyncConfig.get(OWNER_ASYNC_PROPAGATION_RETRY_INTERVAL_MS))
+        .thenReturn(retryIntervalMs);
+    return new OwnerManager(entityStore, asyncConfig);
+  }
 }
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestSingleFlight {
+
+  private static final int CALLERS = 8;
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(CALLERS);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testConcurrentCallsAreCollapsed() throws Exception {
+    SingleFlight<String> singleFlight = new SingleFlight<>();
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch collapsed = new CountDownLatch(CALLERS - 1);
+
+    List<Future<String>> results =
+        IntStream.range(0, CALLERS)
+            .mapToObj(
+                i ->
+                    executor.submit(
+                        () ->
+                            singleFlight.execute(
+                                "key",
+                                () -> {
+                                  calls.incrementAndGet();
+                                  // Keep the call in flight until all the other callers joined
+                                  awaitQuietly(collapsed);
+                                  return "value";
+                                },
+                                collapsed::countDown)))
+            .collect(Collectors.toList());
+
+    for (Future<String> result : results) {
+      Assertions.assertEquals("value", result.get(10, TimeUnit.SECONDS));
+    }
+    Assertions.assertEquals(1, calls.get());
+
+    // The call runs again once the in-flight call finished
+    Assertions.assertEquals("again", singleFlight.execute("key", () -> "again", () -> {}));
+  }
+
+  @Test
+  public void testExceptionIsShared() throws Exception {
+    SingleFlight<String> singleFlight = new SingleFlight<>();
+    CountDownLatch collapsed = new CountDownLatch(CALLERS - 1);
+
+    List<Future<String>> results =
+        IntStream.range(0, CALLERS)
+            .mapToObj(
+                i ->
+                    executor.submit(
+                        () ->
+                            singleFlight.<String>execute(
+                                "key",
+                                () -> {
+                                  awaitQuietly(collapsed);
+                                  throw new NoSuchTableException("Table %s does not exist", "t");
+                                },
+                                collapsed::countDown)))
+            .collect(Collectors.toList());
+
+    for (Future<String> result : results) {
+      Exception e =
+          Assertions.assertThrows(Exception.class, () -> result.get(10, TimeUnit.SECONDS));
+      Assertions.assertInstanceOf(NoSuchTableException.class, e.getCause());
+    }
+  }
+
+  @Test
+  public void testDifferentKeysAreNotCollapsed() {
+    SingleFlight<String> singleFlight = new SingleFlight<>();
+    String result =
+        singleFlight.execute(
+            "key1",
+            () -> singleFlight.execute("key2", () -> "value2", Assertions::fail),
+            Assertions::fail);
+    Assertions.assertEquals("value2", result);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -27,10 +27,13 @@ import static org.apache.gravitino.StringIdentifier.ID_KEY;
 import static org.apache.gravitino.TestBasePropertiesMetadata.COMMENT_KEY;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
@@ -42,6 +45,7 @@ import java.util.Map;
 import java.util.Optional;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -52,6 +56,7 @@ import org.apache.gravitino.connector.TestCatalogOperations;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
@@ -131,6 +136,8 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     TableEntity tableEntity = entityStore.get(tableIdent1, TABLE, TableEntity.class);
     Assertions.assertNotNull(tableEntity);
     Assertions.assertEquals("table1", tableEntity.name());
+    // The columns are not stored by default
+    Assertions.assertNull(tableEntity.columns());
 
     Assertions.assertFalse(table1.properties().containsKey(ID_KEY));
 
@@ -140,6 +147,11 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
             .findFirst();
     Assertions.assertTrue(ident1.isPresent());
 
+    // The test catalog doesn't support listing the tables with their summaries
+    Assertions.assertThrows(
+        UnsupportedOperationException.class,
+        () -> tableOperationDispatcher.listTableSummaries(tableNs));
+
     // Test when the entity store failed to put the table entity
     doThrow(new IOException()).when(entityStore).put(any(), anyBoolean());
     NameIdentifier tableIdent2 = NameIdentifier.of(tableNs, "table2");
@@ -161,6 +173,70 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertEquals("test", table2.auditInfo().creator());
   }
 
+  @Test
+  public void testStoreAndLoadTableColumns() throws IOException, IllegalAccessException {
+    Config config = mock(Config.class);
+    doReturn(true).when(config).get(Configs.TABLE_LOAD_FROM_STORE_ENABLE);
+    doReturn(60000L).when(config).get(Configs.TABLE_LOAD_FROM_STORE_MAX_STALENESS_MS);
+    Object originalConfig = FieldUtils.readField(GravitinoEnv.getInstance(), "config", true);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "config", config, true);
+    TableOperationDispatcher dispatcher;
+    try {
+      dispatcher = new TableOperationDispatcher(catalogManager, entityStore, idGenerator);
+    } finally {
+      FieldUtils.writeField(GravitinoEnv.getInstance(), "config", originalConfig, true);
+    }
+
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema_store_columns");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+
+    NameIdentifier tableIdent = NameIdentifier.of(tableNs, "table1");
+    Column[] columns =
+        new Column[] {
+          Column.of("col1", Types.StringType.get(), "comment1"),
+          Column.of("col2", Types.IntegerType.get())
+        };
+    dispatcher.createTable(tableIdent, columns, "comment", props, new Transform[0]);
+
+    TableEntity tableEntity = entityStore.get(tableIdent, TABLE, TableEntity.class);
+    Assertions.assertEquals(2, tableEntity.columns().length);
+    Assertions.assertEquals("col1", tableEntity.columns()[0].name());
+    Assertions.assertEquals("comment1", tableEntity.columns()[0].comment());
+    Assertions.assertEquals(Types.IntegerType.get(), tableEntity.columns()[1].dataType());
+
+    // The table loads are always served by the underlying catalog with all the table fields
+    Table loadedTable = dispatcher.loadTable(tableIdent);
+    Assertions.assertEquals("comment", loadedTable.comment());
+    testProperties(props, loadedTable.properties());
+
+    // The column loads are served from the store once the table is verified
+    Column[] loadedColumns = dispatcher.loadTableColumns(tableIdent);
+    Assertions.assertEquals(2, loadedColumns.length);
+    Assertions.assertEquals("col1", loadedColumns[0].name());
+    Assertions.assertEquals("comment1", loadedColumns[0].comment());
+    Assertions.assertEquals(Types.IntegerType.get(), loadedColumns[1].dataType());
+
+    // The stored columns which don't match the catalog are not written by the table loads, the
+    // column loads are served by the underlying catalog instead
+    TableEntity staleTableEntity =
+        TableEntity.builder()
+            .withId(tableEntity.id())
+            .withName(tableEntity.name())
+            .withNamespace(tableEntity.namespace())
+            .withAuditInfo(tableEntity.auditInfo())
+            .withColumns(new ColumnEntity[] {tableEntity.columns()[0]})
+            .build();
+    entityStore.put(staleTableEntity, true);
+    clearInvocations(entityStore);
+    dispatcher.loadTable(tableIdent);
+    verify(entityStore, never()).put(any(), anyBoolean());
+    verify(entityStore, never()).update(any(), any(), any(), any());
+    Assertions.assertEquals(
+        1, entityStore.get(tableIdent, TABLE, TableEntity.class).columns().length);
+    Assertions.assertEquals(2, dispatcher.loadTableColumns(tableIdent).length);
+  }
+
   @Test
   public void testCreateAndLoadTable() throws IOException {
     Namespace tableNs = Namespace.of(metalake, catalog, "schema51");
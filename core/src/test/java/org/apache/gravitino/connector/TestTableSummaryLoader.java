@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.connector;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.rel.TableSummary;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestTableSummaryLoader {
+
+  @Test
+  public void testLoadOneByOne() throws Exception {
+    testLoad(1);
+  }
+
+  @Test
+  public void testLoadConcurrently() throws Exception {
+    testLoad(4);
+  }
+
+  @Test
+  public void testLoadFailure() {
+    NameIdentifier[] tableIdents = tableIdents(10);
+    try (TableSummaryLoader<TestSummary> loader = new TableSummaryLoader<>("test-summary", 4)) {
+      IllegalStateException e =
+          Assertions.assertThrows(
+              IllegalStateException.class,
+              () ->
+                  loader.load(
+                      tableIdents,
+                      ident -> {
+                        if (ident.name().equals("table_5")) {
+                          throw new IllegalStateException("mock error");
+                        }
+                        return new TestSummary(ident.name(), "anonymous");
+                      }));
+      Assertions.assertEquals("mock error", e.getMessage());
+    }
+  }
+
+  private void testLoad(int parallelism) throws Exception {
+    NameIdentifier[] tableIdents = tableIdents(20);
+    try (TableSummaryLoader<TestSummary> loader =
+        new TableSummaryLoader<>("test-summary", parallelism)) {
+      List<TestSummary> summaries =
+          PrincipalUtils.doAs(
+              new UserPrincipal("test_user"),
+              () ->
+                  loader.load(
+                      tableIdents,
+                      ident ->
+                          // The tables with an odd index were dropped while listing
+                          Integer.parseInt(ident.name().substring(6)) % 2 == 1
+                              ? null
+                              : new TestSummary(
+                                  ident.name(), PrincipalUtils.getCurrentUserName())));
+
+      List<String> expectedNames =
+          IntStream.range(0, 20)
+              .filter(i -> i % 2 == 0)
+              .mapToObj(i -> "table_" + i)
+              .collect(Collectors.toList());
+      Assertions.assertEquals(
+          expectedNames, summaries.stream().map(TestSummary::name).collect(Collectors.toList()));
+      summaries.forEach(summary -> Assertions.assertEquals("test_user", summary.user));
+    }
+  }
+
+  private static NameIdentifier[] tableIdents(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> NameIdentifier.of("metalake", "catalog", "schema", "table_" + i))
+        .toArray(NameIdentifier[]::new);
+  }
+
+  private static class TestSummary implements TableSummary {
+
+    private final String name;
+
+    // The user who loaded the summary
+    private final String user;
+
+    private TestSummary(String name, String user) {
+      this.name = name;
+      this.user = user;
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    @Override
+    public Map<String, String> summary() {
+      return ImmutableMap.of("user", user);
+    }
+  }
+}
@@ -19,17 +19,21 @@
 
 package org.apache.gravitino.listener;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.stream.Collectors;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.listener.DummyEventListener.DummyAsyncEventListener;
 import org.apache.gravitino.listener.DummyEventListener.DummyAsyncIsolatedEventListener;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.metrics.source.EventListenerMetricsSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -40,6 +44,12 @@ public class TestEventListenerManager {
     }
   }
 
+  static class OtherDummyEvent extends Event {
+    protected OtherDummyEvent(String user, NameIdentifier identifier) {
+      super(user, identifier);
+    }
+  }
+
   private static final DummyEvent DUMMY_EVENT_INSTANCE =
       new DummyEvent("user", NameIdentifier.of("a", "b"));
 
@@ -150,6 +160,91 @@ public class TestEventListenerManager {
     eventListenerManager.stop();
   }
 
+  @Test
+  void testSyncListenerTimeoutAndCircuitBreaker() {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            EventListenerManager.GRAVITINO_EVENT_LISTENER_SYNC_TIMEOUT_MS,
+            "100",
+            EventListenerManager.GRAVITINO_EVENT_LISTENER_SYNC_THREADS,
+            "1",
+            EventListenerManager.GRAVITINO_EVENT_LISTENER_FAILURE_THRESHOLD,
+            "2");
+    EventListenerMetricsSource metricsSource = new EventListenerMetricsSource();
+    CountDownLatch release = new CountDownLatch(1);
+    DummyEventListener slowListener =
+        new DummyEventListener() {
+          @Override
+          public void onPostEvent(Event event) {
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            super.onPostEvent(event);
+          }
+        };
+    EventListenerPluginWrapper wrapper =
+        new EventListenerPluginWrapper(
+            "slow", slowListener, new EventListenerConfig(properties), metricsSource);
+    wrapper.start();
+
+    // The operation only waits for the slow listener up to the timeout
+    wrapper.onPostEvent(DUMMY_EVENT_INSTANCE);
+    Assertions.assertFalse(wrapper.isDisabled());
+    wrapper.onPostEvent(DUMMY_EVENT_INSTANCE);
+    Assertions.assertEquals(2, metricsSource.timeoutCounter("slow").getCount());
+
+    // The listener is disabled after failing twice in a row
+    Assertions.assertTrue(wrapper.isDisabled());
+    wrapper.onPostEvent(DUMMY_EVENT_INSTANCE);
+    Assertions.assertEquals(1, metricsSource.skippedCounter("slow").getCount());
+
+    // The events timed out are still processed by the listener
+    release.countDown();
+    wrapper.stop();
+    Assertions.assertEquals(2, slowListener.getEvents().size());
+  }
+
+  @Test
+  void testEventBusIsolatesListeners() {
+    DummyEventListener failingListener =
+        new DummyEventListener() {
+          @Override
+          public void onPostEvent(Event event) {
+            throw new RuntimeException("mock failure");
+          }
+        };
+    DummyEventListener listener = new DummyEventListener();
+
+    EventBus eventBus = new EventBus(ImmutableList.of(failingListener, listener));
+    eventBus.dispatchEvent(DUMMY_EVENT_INSTANCE);
+    checkEvents(listener.getEvents());
+  }
+
+  @Test
+  void testSubscribedEventTypes() {
+    DummyEventListener listener =
+        new DummyEventListener() {
+          @Override
+          public Set<Class<? extends Event>> subscribedEventTypes() {
+            return ImmutableSet.of(DummyEvent.class);
+          }
+        };
+    EventBus eventBus =
+        new EventBus(ImmutableList.of(new EventListenerPluginWrapper("dummy", listener)));
+    Assertions.assertTrue(eventBus.isSubscribed(DummyEvent.class));
+    Assertions.assertFalse(eventBus.isSubscribed(OtherDummyEvent.class));
+
+    // The event nobody subscribes to isn't created or dispatched
+    eventBus.dispatchEvent(
+        OtherDummyEvent.class,
+        () -> Assertions.fail("The event nobody subscribes to shouldn't be created"));
+    eventBus.dispatchEvent(new OtherDummyEvent("user", NameIdentifier.of("a", "b")));
+    eventBus.dispatchEvent(DummyEvent.class, () -> DUMMY_EVENT_INSTANCE);
+    checkEvents(listener.getEvents());
+  }
+
   private Map<String, String> createIsolatedAsyncEventListenerConfig(String async1, String async2) {
     Map<String, String> config = new HashMap<>();
 
@@ -127,6 +127,18 @@ public class TestPartitionEvent {
     Assertions.assertEquals(false, ((DropPartitionEvent) event).isExists());
   }
 
+  @Test
+  void testDropPartitionsEvent() {
+    NameIdentifier identifier = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    String[] partitionNames = new String[] {partition.name(), "p1"};
+    dispatcher.dropPartitions(identifier, partitionNames);
+    Event event = dummyEventListener.popEvent();
+    Assertions.assertEquals(identifier, event.identifier());
+    Assertions.assertEquals(DropPartitionsEvent.class, event.getClass());
+    Assertions.assertEquals(false, ((DropPartitionsEvent) event).isAllExists());
+    Assertions.assertArrayEquals(partitionNames, ((DropPartitionsEvent) event).partitionNames());
+  }
+
   @Test
   void testPartitionExistsEvent() {
     NameIdentifier identifier = NameIdentifier.of("metalake", "catalog", "schema", "table");
@@ -195,6 +207,36 @@ public class TestPartitionEvent {
     Assertions.assertEquals(identifier, event.identifier());
   }
 
+  @Test
+  void testAddPartitionsFailureEvent() {
+    NameIdentifier identifier = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    Assertions.assertThrowsExactly(
+        GravitinoRuntimeException.class,
+        () -> failureDispatcher.addPartitions(identifier, partition));
+    Event event = dummyEventListener.popEvent();
+    Assertions.assertEquals(AddPartitionsFailureEvent.class, event.getClass());
+    PartitionInfo[] partitionInfos = ((AddPartitionsFailureEvent) event).createdPartitionInfos();
+    Assertions.assertEquals(1, partitionInfos.length);
+    checkPartitionInfo(partitionInfos[0], partition);
+    Assertions.assertEquals(identifier, event.identifier());
+  }
+
+  @Test
+  void testDropPartitionsFailureEvent() {
+    NameIdentifier identifier = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    String[] partitionNames = new String[] {partition.name(), "p1"};
+    Assertions.assertThrowsExactly(
+        GravitinoRuntimeException.class,
+        () -> failureDispatcher.dropPartitions(identifier, partitionNames));
+    Event event = dummyEventListener.popEvent();
+    Assertions.assertEquals(DropPartitionsFailureEvent.class, event.getClass());
+    Assertions.assertEquals(
+        GravitinoRuntimeException.class,
+        ((DropPartitionsFailureEvent) event).exception().getClass());
+    Assertions.assertArrayEquals(
+        partitionNames, ((DropPartitionsFailureEvent) event).partitionNames());
+  }
+
   @Test
   void testPartitionExistsFailureEvent() {
     NameIdentifier identifier = NameIdentifier.of("metalake", "catalog", "schema", "table");
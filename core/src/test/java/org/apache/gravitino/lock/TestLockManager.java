@@ -20,12 +20,16 @@
 package org.apache.gravitino.lock;
 
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
+import static org.apache.gravitino.Configs.TREE_LOCK_CONTENTION_PROFILING_ENABLE;
+import static org.apache.gravitino.Configs.TREE_LOCK_CONTENTION_SAMPLE_PERCENT;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_NODE_IDLE_TIME_IN_SECS;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -669,4 +673,85 @@ public class TestLockManager {
     lockManager.createTreeLock(NameIdentifier.of("/"));
     Assertions.assertEquals(2L, lockManager.totalNodeCount.get(), "Should have 2 nodes");
   }
+
+  @Test
+  void testContentionProfiling() throws Exception {
+    LockManager disabledManager = new LockManager(getConfig());
+    TreeLock lock = disabledManager.createTreeLock(NameIdentifier.of("a", "b", "c"));
+    lock.lock(LockType.WRITE);
+    lock.unlock();
+    Assertions.assertFalse(disabledManager.isContentionProfilingEnabled());
+    Assertions.assertTrue(disabledManager.topContendedPaths(10).isEmpty());
+
+    Config config = getConfig();
+    Mockito.when(config.get(TREE_LOCK_CONTENTION_PROFILING_ENABLE)).thenReturn(true);
+    Mockito.when(config.get(TREE_LOCK_CONTENTION_SAMPLE_PERCENT)).thenReturn(100);
+    LockManager lockManager = new LockManager(config);
+    NameIdentifier ident = NameIdentifier.of("a", "b", "c");
+
+    TreeLock holdingLock = lockManager.createTreeLock(ident);
+    holdingLock.lock(LockType.WRITE);
+    Future<Integer> waiting =
+        createCompletionService()
+            .submit(
+                () -> {
+                  TreeLock waitingLock = lockManager.createTreeLock(ident);
+                  waitingLock.lock(LockType.WRITE);
+                  waitingLock.unlock();
+                  return 0;
+                });
+    Thread.sleep(100);
+    holdingLock.unlock();
+    waiting.get();
+
+    Map<String, LockContentionStats> paths = lockManager.topContendedPaths(10);
+    Assertions.assertEquals(
+        Lists.newArrayList("a.b.c"), Lists.newArrayList(paths.keySet()).subList(0, 1));
+    Assertions.assertEquals(4, paths.size());
+    Assertions.assertTrue(paths.keySet().containsAll(Lists.newArrayList("/", "a", "a.b")));
+
+    LockContentionStats stats = paths.get("a.b.c");
+    Assertions.assertEquals(2, stats.samples());
+    Assertions.assertEquals(2, stats.writeSamples());
+    Assertions.assertEquals(1, stats.contendedSamples());
+    Assertions.assertTrue(stats.maxWaitNanos() > 0);
+    Assertions.assertTrue(stats.maxHoldNanos() >= TimeUnit.MILLISECONDS.toNanos(100));
+    Assertions.assertEquals(2, Arrays.stream(stats.waitHistogram()).sum());
+    Assertions.assertEquals(2, Arrays.stream(stats.holdHistogram()).sum());
+    Assertions.assertEquals(0, paths.get("a.b").contendedSamples());
+    Assertions.assertEquals(0, paths.get("a.b").writeSamples());
+
+    Assertions.assertEquals(1, lockManager.topContendedPaths(1).size());
+    Assertions.assertEquals(2, lockManager.metricsSource().waitTimer(LockType.WRITE).getCount());
+    Assertions.assertEquals(6, lockManager.metricsSource().holdTimer(LockType.READ).getCount());
+    Assertions.assertEquals(1, lockManager.metricsSource().contendedCounter().getCount());
+  }
+
+  @Test
+  void testEvictIdleNodes() {
+    Config config = getConfig();
+    Mockito.when(config.get(TREE_LOCK_MIN_NODE_IN_MEMORY)).thenReturn(1L);
+    Mockito.when(config.get(TREE_LOCK_NODE_IDLE_TIME_IN_SECS)).thenReturn(3600L);
+    LockManager lockManager = new LockManager(config);
+    Assertions.assertEquals(3600_000L, lockManager.nodeIdleTimeInMillis);
+
+    TreeLock lock = lockManager.createTreeLock(NameIdentifier.of("a", "b"));
+    lock.lock(LockType.READ);
+    lock.unlock();
+    Assertions.assertEquals(3L, lockManager.totalNodeCount());
+
+    // The unreferenced nodes are kept until they have been idle long enough.
+    lockManager
+        .treeLockRootNode
+        .getAllChildren()
+        .forEach(node -> lockManager.evictStaleNodes(node, lockManager.treeLockRootNode));
+    Assertions.assertEquals(3L, lockManager.totalNodeCount());
+
+    lockManager.nodeIdleTimeInMillis = 0;
+    lockManager
+        .treeLockRootNode
+        .getAllChildren()
+        .forEach(node -> lockManager.evictStaleNodes(node, lockManager.treeLockRootNode));
+    Assertions.assertEquals(1L, lockManager.totalNodeCount());
+  }
 }
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.gravitino.metrics.OperationProfiler.Phase;
+import org.apache.gravitino.metrics.OperationProfiler.Profile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestOperationProfiler {
+
+  @Test
+  void testPhasesOutsideOperation() throws Exception {
+    // No operation or scope is active, the phase is only executed
+    Assertions.assertEquals("v", OperationProfiler.doWithPhase(Phase.CATALOG, () -> "v"));
+  }
+
+  @Test
+  void testNestedPhases() throws Exception {
+    AtomicReference<Profile> profileRef = new AtomicReference<>();
+    String result =
+        OperationProfiler.doWithOperation(
+            () ->
+                OperationProfiler.doWithPhase(
+                    Phase.CATALOG,
+                    () -> {
+                      sleep(20);
+                      return OperationProfiler.doWithPhase(
+                          Phase.ENTITY_STORE,
+                          () -> {
+                            sleep(50);
+                            return "v";
+                          });
+                    }),
+            profileRef::set);
+    Assertions.assertEquals("v", result);
+
+    Profile profile = profileRef.get();
+    Assertions.assertNotNull(profile);
+    long catalogMs = TimeUnit.NANOSECONDS.toMillis(profile.phaseNanos(Phase.CATALOG));
+    long storeMs = TimeUnit.NANOSECONDS.toMillis(profile.phaseNanos(Phase.ENTITY_STORE));
+    Assertions.assertTrue(catalogMs >= 20, "catalog time: " + catalogMs);
+    Assertions.assertTrue(storeMs >= 50, "entity store time: " + storeMs);
+    // The entity store time is not counted as the catalog time
+    Assertions.assertTrue(
+        profile.phaseNanos(Phase.CATALOG) + profile.phaseNanos(Phase.ENTITY_STORE)
+            <= profile.totalNanos());
+    Assertions.assertEquals(0L, profile.phaseNanos(Phase.LOCK_WAIT));
+  }
+
+  @Test
+  void testPhasesInScopeCountedInOperation() throws Exception {
+    AtomicReference<Profile> outerProfile = new AtomicReference<>();
+    AtomicReference<Profile> innerProfile = new AtomicReference<>();
+
+    OperationProfiler.enterScope();
+    try {
+      OperationProfiler.doWithPhase(
+          Phase.LOCK_WAIT,
+          () -> {
+            sleep(20);
+            return null;
+          });
+      OperationProfiler.doWithOperation(
+          () ->
+              OperationProfiler.doWithOperation(
+                  () -> OperationProfiler.doWithPhase(Phase.ENTITY_STORE, () -> null),
+                  innerProfile::set),
+          outerProfile::set);
+    } finally {
+      OperationProfiler.exitScope();
+    }
+
+    // The nested operation is counted in the outer one
+    Assertions.assertNull(innerProfile.get());
+    Profile profile = outerProfile.get();
+    Assertions.assertTrue(
+        TimeUnit.NANOSECONDS.toMillis(profile.phaseNanos(Phase.LOCK_WAIT)) >= 20,
+        profile.toString());
+    Assertions.assertTrue(profile.totalNanos() >= profile.phaseNanos(Phase.LOCK_WAIT));
+
+    // The scope is closed, the phases are not recorded anymore
+    AtomicReference<Profile> nextProfile = new AtomicReference<>();
+    OperationProfiler.doWithOperation(() -> null, nextProfile::set);
+    Assertions.assertEquals(0L, nextProfile.get().phaseNanos(Phase.LOCK_WAIT));
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
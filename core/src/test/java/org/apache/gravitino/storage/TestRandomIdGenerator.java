@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class TestRandomIdGenerator {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TestRandomIdGenerator.class);
+
+  private static ThreadPoolExecutor createExecutor(int threadNum) {
+    return new ThreadPoolExecutor(
+        threadNum,
+        threadNum,
+        1,
+        TimeUnit.MINUTES,
+        new LinkedBlockingQueue<>(1000),
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("testRandomId-%d").build());
+  }
+
+  @Test
+  void testNextIdConcurrently() throws InterruptedException {
+    int threadNum = 8;
+    int idsPerThread = 10000;
+    Set<Long> ids = Sets.newSetFromMap(new ConcurrentHashMap<>());
+    ThreadPoolExecutor threadPoolExecutor = createExecutor(threadNum);
+    for (int i = 0; i < threadNum; i++) {
+      threadPoolExecutor.execute(
+          () -> {
+            for (int j = 0; j < idsPerThread; j++) {
+              long id = RandomIdGenerator.INSTANCE.nextId();
+              Assertions.assertTrue(id >= 0);
+              ids.add(id);
+            }
+          });
+    }
+    threadPoolExecutor.shutdown();
+    Assertions.assertTrue(threadPoolExecutor.awaitTermination(10, TimeUnit.SECONDS));
+
+    // The threads are seeded independently, so they don't draw the same ids.
+    Assertions.assertEquals(threadNum * idsPerThread, ids.size());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 4, 16})
+  @Disabled("It's very time-consuming, so we disable it by default.")
+  void testRandomIdGeneratorQPS(int threadNum) throws InterruptedException {
+    ThreadPoolExecutor threadPoolExecutor = createExecutor(threadNum);
+    AtomicLong atomicLong = new AtomicLong(0);
+    for (int i = 0; i < threadNum; i++) {
+      threadPoolExecutor.execute(
+          () -> {
+            long count = 0;
+            long current = System.currentTimeMillis();
+            while (System.currentTimeMillis() - current <= 2000) {
+              RandomIdGenerator.INSTANCE.nextId();
+              count++;
+            }
+            atomicLong.addAndGet(count);
+          });
+    }
+    threadPoolExecutor.shutdown();
+    threadPoolExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    LOGGER.info(String.format("%d thread qps is: %d/s", threadNum, atomicLong.get() / 2));
+  }
+}
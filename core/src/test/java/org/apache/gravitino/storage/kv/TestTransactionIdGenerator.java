@@ -22,10 +22,12 @@ package org.apache.gravitino.storage.kv;
 import static org.apache.gravitino.Configs.ENTITY_KV_ROCKSDB_BACKEND_PATH;
 import static org.apache.gravitino.Configs.STORE_TRANSACTION_MAX_SKEW_TIME;
 
+import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Set;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -105,8 +107,46 @@ public class TestTransactionIdGenerator {
     Assertions.assertTrue(idAfterReset2 > idAfterReset);
   }
 
+  @Test
+  void testNextIdConcurrently() throws IOException, InterruptedException {
+    Config config = getConfig();
+    KvBackend kvBackend = getKvBackEnd(config);
+    TransactionIdGenerator transactionIdGenerator =
+        new TransactionIdGeneratorImpl(kvBackend, config);
+    transactionIdGenerator.start();
+
+    int threadNum = 8;
+    long[][] ids = new long[threadNum][1 << 16];
+    Thread[] threads = new Thread[threadNum];
+    for (int i = 0; i < threadNum; i++) {
+      long[] threadIds = ids[i];
+      threads[i] =
+          new Thread(
+              () -> {
+                for (int j = 0; j < threadIds.length; j++) {
+                  threadIds[j] = transactionIdGenerator.nextId();
+                }
+              });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    // The ids of each thread are increasing, and no id is generated twice.
+    Set<Long> allIds = Sets.newHashSet();
+    for (long[] threadIds : ids) {
+      for (int j = 0; j < threadIds.length; j++) {
+        Assertions.assertTrue(j == 0 || threadIds[j] > threadIds[j - 1]);
+        Assertions.assertTrue(threadIds[j] >>> 18 <= System.currentTimeMillis());
+        allIds.add(threadIds[j]);
+      }
+    }
+    Assertions.assertEquals(threadNum * (1 << 16), allIds.size());
+  }
+
   @ParameterizedTest
-  @ValueSource(ints = {16})
+  @ValueSource(ints = {1, 4, 16})
   @Disabled("It's very time-consuming, so we disable it by default.")
   void testTransactionIdGeneratorQPS(int threadNum) throws IOException, InterruptedException {
     Config config = getConfig();
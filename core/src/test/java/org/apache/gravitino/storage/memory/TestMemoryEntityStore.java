@@ -80,6 +80,13 @@ public class TestMemoryEntityStore {
     @Override
     public void setSerDe(EntitySerDe entitySerDe) {}
 
+    @Override
+    public <E extends Entity & HasIdentifier> List<E> list(
+        Namespace namespace, Class<E> cl, EntityType entityType, boolean allFields)
+        throws IOException {
+      return list(namespace, cl, entityType);
+    }
+
     @Override
     public <E extends Entity & HasIdentifier> List<E> list(
         Namespace namespace, Class<E> cl, EntityType entityType) throws IOException {
@@ -29,6 +29,7 @@ import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
 import static org.apache.gravitino.SupportsRelationOperations.Type.OWNER_REL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -50,6 +51,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.apache.commons.io.IOUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Config;
@@ -150,7 +152,7 @@ public class TestJDBCBackend {
 
   private static void prepareJdbcTable() {
     // Read the ddl sql to create table
-    String scriptPath = "h2/schema-0.6.0-h2.sql";
+    String scriptPath = "h2/schema-0.7.0-h2.sql";
     try (SqlSession sqlSession =
             SqlSessionFactoryHelper.getInstance().getSqlSessionFactory().openSession(true);
         Connection connection = sqlSession.getConnection();
@@ -736,6 +738,42 @@ public class TestJDBCBackend {
     List<TopicEntity> topics = backend.list(topic.namespace(), Entity.EntityType.TOPIC, true);
     assertTrue(topics.contains(topic));
 
+    // The list without all the fields only carries the ids and the names of the entities.
+    List<CatalogEntity> briefCatalogs =
+        backend.list(catalog.namespace(), Entity.EntityType.CATALOG, false);
+    CatalogEntity briefCatalog =
+        briefCatalogs.stream().filter(c -> c.id().equals(catalog.id())).findFirst().get();
+    assertEquals(catalog.id(), briefCatalog.id());
+    assertEquals(catalog.name(), briefCatalog.name());
+    assertEquals(catalog.getProvider(), briefCatalog.getProvider());
+    assertNull(briefCatalog.getProperties());
+    assertEquals(AuditInfo.EMPTY, briefCatalog.auditInfo());
+
+    List<SchemaEntity> briefSchemas =
+        backend.list(schema.namespace(), Entity.EntityType.SCHEMA, false);
+    assertEquals(
+        schemas.stream().map(SchemaEntity::id).collect(Collectors.toSet()),
+        briefSchemas.stream().map(SchemaEntity::id).collect(Collectors.toSet()));
+    assertTrue(briefSchemas.stream().allMatch(s -> s.properties() == null));
+
+    List<TableEntity> briefTables = backend.list(table.namespace(), Entity.EntityType.TABLE, false);
+    assertEquals(
+        tables.stream().map(TableEntity::name).collect(Collectors.toSet()),
+        briefTables.stream().map(TableEntity::name).collect(Collectors.toSet()));
+
+    List<FilesetEntity> briefFilesets =
+        backend.list(fileset.namespace(), Entity.EntityType.FILESET, false);
+    FilesetEntity briefFileset =
+        briefFilesets.stream().filter(f -> f.id().equals(filesetV2.id())).findFirst().get();
+    assertEquals(filesetV2.id(), briefFileset.id());
+    assertEquals(filesetV2.storageLocation(), briefFileset.storageLocation());
+    assertNull(briefFileset.properties());
+
+    List<TopicEntity> briefTopics = backend.list(topic.namespace(), Entity.EntityType.TOPIC, false);
+    assertEquals(
+        topics.stream().map(TopicEntity::name).collect(Collectors.toSet()),
+        briefTopics.stream().map(TopicEntity::name).collect(Collectors.toSet()));
+
     RoleEntity roleEntity = backend.get(role.nameIdentifier(), Entity.EntityType.ROLE);
     assertEquals(role, roleEntity);
     assertEquals(1, RoleMetaService.getInstance().listRolesByUserId(user.id()).size());
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.expressions.Expression;
+import org.apache.gravitino.rel.expressions.literals.Literals;
+import org.apache.gravitino.rel.types.Type;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.TestJDBCBackend;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.gravitino.utils.NamespaceUtil;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TestTableMetaService extends TestJDBCBackend {
+
+  private final String metalakeName = "metalake_for_table_test";
+
+  private final AuditInfo auditInfo =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  @Test
+  void testInsertAndUpdateTableColumns() throws IOException {
+    Namespace tableNs = createParentEntities();
+    ColumnEntity col1 =
+        createColumn("col1", Types.IntegerType.get(), Column.DEFAULT_VALUE_NOT_SET);
+    ColumnEntity col2 =
+        createColumn("col2", Types.StringType.get(), Literals.stringLiteral("default"));
+    TableEntity table =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("table")
+            .withNamespace(tableNs)
+            .withAuditInfo(auditInfo)
+            .withColumns(new ColumnEntity[] {col1, col2})
+            .build();
+    TableMetaService.getInstance().insertTable(table, false);
+
+    TableEntity loadedTable =
+        TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+    Assertions.assertEquals(2, loadedTable.columns().length);
+    Assertions.assertEquals(col1, loadedTable.columns()[0]);
+    Assertions.assertEquals("col2", loadedTable.columns()[1].name());
+    Assertions.assertEquals(Types.StringType.get(), loadedTable.columns()[1].dataType());
+    Assertions.assertNotEquals(
+        Column.DEFAULT_VALUE_NOT_SET, loadedTable.columns()[1].defaultValue());
+
+    // Update the table without column info, the stored columns are kept.
+    TableMetaService.getInstance()
+        .updateTable(
+            table.nameIdentifier(),
+            e ->
+                TableEntity.builder()
+                    .withId(table.id())
+                    .withName(table.name())
+                    .withNamespace(tableNs)
+                    .withAuditInfo(auditInfo)
+                    .build());
+    loadedTable = TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+    Assertions.assertEquals(2, loadedTable.columns().length);
+    Assertions.assertEquals(2L, countColumnRows(table.id(), false));
+
+    // Update the columns, the table moves to a new version and the old columns are removed.
+    ColumnEntity col3 = createColumn("col3", Types.LongType.get(), Column.DEFAULT_VALUE_NOT_SET);
+    TableMetaService.getInstance()
+        .updateTable(
+            table.nameIdentifier(),
+            e ->
+                TableEntity.builder()
+                    .withId(table.id())
+                    .withName("table_renamed")
+                    .withNamespace(tableNs)
+                    .withAuditInfo(auditInfo)
+                    .withColumns(new ColumnEntity[] {col3, col1})
+                    .build());
+    loadedTable =
+        TableMetaService.getInstance()
+            .getTableByIdentifier(NameIdentifier.of(tableNs, "table_renamed"));
+    Assertions.assertArrayEquals(new ColumnEntity[] {col3, col1}, loadedTable.columns());
+    Assertions.assertEquals(2L, countColumnRows(table.id(), false));
+    Assertions.assertEquals(2L, countColumnRows(table.id(), true));
+
+    // Drop the table, all the columns are removed.
+    TableMetaService.getInstance().deleteTable(NameIdentifier.of(tableNs, "table_renamed"));
+    Assertions.assertEquals(0L, countColumnRows(table.id(), false));
+  }
+
+  @Test
+  void testInsertTableWithoutColumns() throws IOException {
+    Namespace tableNs = createParentEntities();
+    TableEntity table =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), tableNs, "table", auditInfo);
+    TableMetaService.getInstance().insertTable(table, false);
+
+    TableEntity loadedTable =
+        TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+    Assertions.assertNull(loadedTable.columns());
+    Assertions.assertEquals(table, loadedTable);
+  }
+
+  @Test
+  void testInsertTableWithLongColumnNameAndComment() throws IOException {
+    Namespace tableNs = createParentEntities();
+    ColumnEntity column =
+        ColumnEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName(StringUtils.repeat("c", 1024))
+            .withDataType(Types.StringType.get())
+            .withComment(StringUtils.repeat("comment", 1024))
+            .withNullable(true)
+            .withAutoIncrement(false)
+            .withDefaultValue(Column.DEFAULT_VALUE_NOT_SET)
+            .withAuditInfo(auditInfo)
+            .build();
+    TableEntity table =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("table")
+            .withNamespace(tableNs)
+            .withAuditInfo(auditInfo)
+            .withColumns(new ColumnEntity[] {column})
+            .build();
+    TableMetaService.getInstance().insertTable(table, false);
+
+    TableEntity loadedTable =
+        TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+    Assertions.assertArrayEquals(new ColumnEntity[] {column}, loadedTable.columns());
+  }
+
+  private Namespace createParentEntities() throws IOException {
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofCatalog(metalakeName),
+            "catalog",
+            auditInfo);
+    backend.insert(catalog, false);
+    SchemaEntity schema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofSchema(metalakeName, "catalog"),
+            "schema",
+            auditInfo);
+    backend.insert(schema, false);
+    return NamespaceUtil.ofTable(metalakeName, "catalog", "schema");
+  }
+
+  private ColumnEntity createColumn(String name, Type type, Expression defaultValue) {
+    return ColumnEntity.builder()
+        .withId(RandomIdGenerator.INSTANCE.nextId())
+        .withName(name)
+        .withDataType(type)
+        .withComment("comment of " + name)
+        .withNullable(true)
+        .withAutoIncrement(false)
+        .withDefaultValue(defaultValue)
+        .withAuditInfo(auditInfo)
+        .build();
+  }
+
+  private long countColumnRows(Long tableId, boolean deleted) {
+    try (SqlSession sqlSession =
+            SqlSessionFactoryHelper.getInstance().getSqlSessionFactory().openSession(true);
+        Connection connection = sqlSession.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet rs =
+            statement.executeQuery(
+                String.format(
+                    "SELECT COUNT(*) FROM table_column_version_info"
+                        + " WHERE table_id = %d AND deleted_at %s 0",
+                    tableId, deleted ? ">" : "="))) {
+      rs.next();
+      return rs.getLong(1);
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.utils;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.SchemaVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public class TestPayloadSerDe {
+
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder()
+          .withCreator("creator")
+          .withCreateTime(Instant.ofEpochMilli(1000L))
+          .withLastModifier("modifier")
+          .withLastModifiedTime(Instant.ofEpochMilli(2000L))
+          .build();
+
+  @AfterEach
+  public void resetEncoding() {
+    PayloadSerDe.setEncoding(PayloadSerDe.Encoding.JSON);
+  }
+
+  @ParameterizedTest
+  @EnumSource(PayloadSerDe.Encoding.class)
+  public void testRoundTrip(PayloadSerDe.Encoding encoding) {
+    PayloadSerDe.setEncoding(encoding);
+
+    Map<String, String> properties = ImmutableMap.of("k1", "v1", "k2", "");
+    String payload = PayloadSerDe.writeProperties(properties);
+    Assertions.assertEquals(
+        encoding == PayloadSerDe.Encoding.PROTO, payload.startsWith(PayloadSerDe.PROTO_V1_PREFIX));
+    Assertions.assertEquals(properties, PayloadSerDe.readProperties(payload));
+    Assertions.assertEquals(
+        Collections.emptyMap(),
+        PayloadSerDe.readProperties(PayloadSerDe.writeProperties(Collections.emptyMap())));
+
+    Assertions.assertEquals(
+        AUDIT_INFO, PayloadSerDe.readAuditInfo(PayloadSerDe.writeAuditInfo(AUDIT_INFO)));
+
+    SchemaVersion version = SchemaVersion.V_0_1;
+    Assertions.assertEquals(
+        version, PayloadSerDe.readSchemaVersion(PayloadSerDe.writeSchemaVersion(version)));
+
+    List<String> strings = Lists.newArrayList("SELECT_TABLE", "CREATE_TABLE");
+    Assertions.assertEquals(strings, PayloadSerDe.readStrings(PayloadSerDe.writeStrings(strings)));
+  }
+
+  @Test
+  public void testReadAcrossEncodings() {
+    Map<String, String> properties = ImmutableMap.of("k1", "v1");
+    List<String> strings = Arrays.asList("ALLOW", "DENY");
+
+    PayloadSerDe.setEncoding(PayloadSerDe.Encoding.JSON);
+    String jsonProperties = PayloadSerDe.writeProperties(properties);
+    String jsonAuditInfo = PayloadSerDe.writeAuditInfo(AUDIT_INFO);
+    String jsonStrings = PayloadSerDe.writeStrings(strings);
+
+    PayloadSerDe.setEncoding(PayloadSerDe.Encoding.PROTO);
+    String protoProperties = PayloadSerDe.writeProperties(properties);
+    String protoAuditInfo = PayloadSerDe.writeAuditInfo(AUDIT_INFO);
+    String protoStrings = PayloadSerDe.writeStrings(strings);
+
+    // The rows written with the JSON encoding are still readable with the protobuf encoding.
+    Assertions.assertEquals(properties, PayloadSerDe.readProperties(jsonProperties));
+    Assertions.assertEquals(AUDIT_INFO, PayloadSerDe.readAuditInfo(jsonAuditInfo));
+    Assertions.assertEquals(strings, PayloadSerDe.readStrings(jsonStrings));
+
+    // And the other way round, so the encoding can be switched back.
+    PayloadSerDe.setEncoding(PayloadSerDe.Encoding.JSON);
+    Assertions.assertEquals(properties, PayloadSerDe.readProperties(protoProperties));
+    Assertions.assertEquals(AUDIT_INFO, PayloadSerDe.readAuditInfo(protoAuditInfo));
+    Assertions.assertEquals(strings, PayloadSerDe.readStrings(protoStrings));
+  }
+
+  @Test
+  public void testNullPayloads() {
+    PayloadSerDe.setEncoding(PayloadSerDe.Encoding.PROTO);
+
+    Assertions.assertNull(PayloadSerDe.readProperties(PayloadSerDe.writeProperties(null)));
+    Assertions.assertNull(PayloadSerDe.readProperties(null));
+
+    // Protobuf maps can't hold null values, these properties fall back to JSON.
+    Map<String, String> properties = new HashMap<>();
+    properties.put("k1", null);
+    String payload = PayloadSerDe.writeProperties(properties);
+    Assertions.assertFalse(payload.startsWith(PayloadSerDe.PROTO_V1_PREFIX));
+    Assertions.assertEquals(properties, PayloadSerDe.readProperties(payload));
+  }
+
+  @Test
+  public void testLazyProperties() {
+    String corrupted = PayloadSerDe.PROTO_V1_PREFIX + "!!!";
+
+    // The properties are not parsed until they are accessed.
+    Map<String, String> properties = PayloadSerDe.readProperties(corrupted);
+    Assertions.assertNotNull(properties);
+    Assertions.assertThrows(RuntimeException.class, properties::size);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestTracer {
+
+  private final InMemorySpanExporter exporter = new InMemorySpanExporter();
+
+  @AfterEach
+  public void tearDown() {
+    Tracer.close();
+  }
+
+  @Test
+  public void testDisabledTracer() {
+    try (Span span = Tracer.startRootSpan("root", null)) {
+      Assertions.assertFalse(span.isRecording());
+      Assertions.assertFalse(Tracer.startSpan("child").isRecording());
+    }
+  }
+
+  @Test
+  public void testSpanTree() {
+    Tracer.initialize(exporter, 100);
+    TraceContext caller = TraceContext.newTrace(true);
+
+    Span root = Tracer.startRootSpan("root", caller);
+    String result =
+        Tracer.doWithSpan(
+            "child",
+            () -> {
+              Tracer.currentSpan().setAttribute("k", "v");
+              try (Span grandchild = Tracer.startSpan("grandchild")) {
+                Assertions.assertTrue(grandchild.isRecording());
+              }
+              return "v";
+            });
+    Assertions.assertEquals("v", result);
+    Assertions.assertThrows(
+        IllegalStateException.class,
+        () ->
+            Tracer.doWithSpan(
+                "failed",
+                () -> {
+                  throw new IllegalStateException("failure");
+                }));
+    Assertions.assertSame(root, Tracer.currentSpan());
+    root.close();
+    Assertions.assertFalse(Tracer.currentSpan().isRecording());
+
+    List<Span> spans = exporter.spans();
+    Assertions.assertEquals(4, spans.size());
+    Span grandchild = spans.get(0);
+    Span child = spans.get(1);
+    Span failed = spans.get(2);
+    Assertions.assertEquals("grandchild", grandchild.name());
+    Assertions.assertEquals("child", child.name());
+    Assertions.assertEquals("failed", failed.name());
+    Assertions.assertEquals(root, spans.get(3));
+
+    // All the spans belong to the trace of the caller
+    spans.forEach(s -> Assertions.assertEquals(caller.traceId(), s.context().traceId()));
+    Assertions.assertEquals(caller.spanId(), root.parentSpanId());
+    Assertions.assertEquals(root.context().spanId(), child.parentSpanId());
+    Assertions.assertEquals(child.context().spanId(), grandchild.parentSpanId());
+    Assertions.assertEquals(root.context().spanId(), failed.parentSpanId());
+
+    Assertions.assertEquals("v", child.attributes().get("k"));
+    Assertions.assertNull(child.error());
+    Assertions.assertTrue(failed.error().contains("failure"));
+    Assertions.assertTrue(root.durationNanos() >= child.durationNanos());
+    Assertions.assertTrue(root.toJson().contains(caller.traceId()));
+  }
+
+  @Test
+  public void testSampling() {
+    Tracer.initialize(exporter, 0);
+    try (Span span = Tracer.startRootSpan("root", null)) {
+      Assertions.assertFalse(span.isRecording());
+    }
+
+    // The sampling decision of the caller is followed
+    try (Span span = Tracer.startRootSpan("root", TraceContext.newTrace(true))) {
+      Assertions.assertTrue(span.isRecording());
+    }
+    Tracer.initialize(exporter, 100);
+    try (Span span = Tracer.startRootSpan("root", TraceContext.newTrace(false))) {
+      Assertions.assertFalse(span.isRecording());
+    }
+
+    Assertions.assertEquals(1, exporter.spans().size());
+  }
+}
@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * AdmissionControlFilter limits the requests running concurrently in the web server. The requests
+ * are classified into the read, write and heavy lanes, and each lane has its own concurrency limit
+ * and bounded queue, so a burst of slow operations, like dropping a schema with cascade or listing
+ * the partitions of a Hive table, can't occupy all the worker threads and starve the cheap reads.
+ * The requests that overflow the queue of their lane, or wait in it longer than the queue timeout,
+ * are rejected with 429 Too Many Requests.
+ *
+ * <p>The queued requests hold their worker threads while waiting, so the sum of the concurrency
+ * limits and queue sizes of the lanes should stay below the maximum threads of the server.
+ */
+public class AdmissionControlFilter implements Filter {
+
+  /** The lanes of the requests. */
+  public enum Lane {
+    /** The GET, HEAD and OPTIONS requests not matching the heavy request patterns. */
+    READ,
+    /** The other requests not matching the heavy request patterns. */
+    WRITE,
+    /** The requests matching the heavy request patterns. */
+    HEAVY;
+
+    String metricName() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  @VisibleForTesting static final int SC_TOO_MANY_REQUESTS = 429;
+
+  // The seconds the rejected clients are asked to wait before retrying.
+  private static final String RETRY_AFTER_SECONDS = "1";
+
+  private final Map<Lane, LaneLimiter> lanes = new EnumMap<>(Lane.class);
+  private final List<Pattern> heavyRequestPatterns;
+  private final long queueTimeoutMs;
+
+  public AdmissionControlFilter(JettyServerConfig serverConfig) {
+    lanes.put(
+        Lane.READ,
+        new LaneLimiter(
+            serverConfig.getAdmissionReadMaxConcurrency(),
+            serverConfig.getAdmissionReadQueueSize()));
+    lanes.put(
+        Lane.WRITE,
+        new LaneLimiter(
+            serverConfig.getAdmissionWriteMaxConcurrency(),
+            serverConfig.getAdmissionWriteQueueSize()));
+    lanes.put(
+        Lane.HEAVY,
+        new LaneLimiter(
+            serverConfig.getAdmissionHeavyMaxConcurrency(),
+            serverConfig.getAdmissionHeavyQueueSize()));
+    this.heavyRequestPatterns =
+        serverConfig.getAdmissionHeavyRequestPatterns().stream()
+            .filter(StringUtils::isNotBlank)
+            .map(p -> Pattern.compile(p.trim()))
+            .collect(Collectors.toList());
+    this.queueTimeoutMs = serverConfig.getAdmissionQueueTimeoutMs();
+  }
+
+  @Override
+  public void init(FilterConfig filterConfig) throws ServletException {}
+
+  @Override
+  public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+      throws IOException, ServletException {
+    if (!(request instanceof HttpServletRequest) || !(response instanceof HttpServletResponse)) {
+      chain.doFilter(request, response);
+      return;
+    }
+
+    HttpServletRequest req = (HttpServletRequest) request;
+    Lane lane = classify(req.getMethod(), req.getRequestURI());
+    LaneLimiter limiter = lanes.get(lane);
+    if (!limiter.acquire(queueTimeoutMs)) {
+      HttpServletResponse resp = (HttpServletResponse) response;
+      resp.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+      resp.sendError(
+          SC_TOO_MANY_REQUESTS,
+          String.format("Too many %s requests, please retry later", lane.metricName()));
+      return;
+    }
+
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      limiter.release();
+    }
+  }
+
+  @Override
+  public void destroy() {}
+
+  @VisibleForTesting
+  Lane classify(String method, String path) {
+    String request = method + " " + path;
+    for (Pattern pattern : heavyRequestPatterns) {
+      if (pattern.matcher(request).matches()) {
+        return Lane.HEAVY;
+      }
+    }
+
+    switch (method) {
+      case "GET":
+      case "HEAD":
+      case "OPTIONS":
+        return Lane.READ;
+      default:
+        return Lane.WRITE;
+    }
+  }
+
+  /**
+   * Returns the number of the requests running in the lane.
+   *
+   * @param lane The lane of the requests.
+   * @return The number of the running requests.
+   */
+  public int running(Lane lane) {
+    return lanes.get(lane).running();
+  }
+
+  /**
+   * Returns the number of the requests waiting in the queue of the lane.
+   *
+   * @param lane The lane of the requests.
+   * @return The number of the queued requests.
+   */
+  public int queued(Lane lane) {
+    return lanes.get(lane).queued.get();
+  }
+
+  /**
+   * Returns the total number of the requests of the lane rejected since the server started.
+   *
+   * @param lane The lane of the requests.
+   * @return The number of the rejected requests.
+   */
+  public long rejected(Lane lane) {
+    return lanes.get(lane).rejected.get();
+  }
+
+  private static class LaneLimiter {
+    private final int maxConcurrency;
+    private final int queueSize;
+    // The semaphore is fair, so the queued requests run in the order they arrive.
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private LaneLimiter(int maxConcurrency, int queueSize) {
+      this.maxConcurrency = maxConcurrency;
+      this.queueSize = queueSize;
+      this.permits = new Semaphore(maxConcurrency, true);
+    }
+
+    private boolean acquire(long timeoutMs) {
+      try {
+        // Unlike tryAcquire(), tryAcquire with a timeout doesn't jump ahead of the queued
+        // requests.
+        if (permits.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+          return true;
+        }
+
+        if (queued.incrementAndGet() > queueSize) {
+          queued.decrementAndGet();
+          rejected.incrementAndGet();
+          return false;
+        }
+
+        try {
+          if (permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+            return true;
+          }
+        } finally {
+          queued.decrementAndGet();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      rejected.incrementAndGet();
+      return false;
+    }
+
+    private void release() {
+      permits.release();
+    }
+
+    private int running() {
+      return maxConcurrency - permits.availablePermits();
+    }
+  }
+}
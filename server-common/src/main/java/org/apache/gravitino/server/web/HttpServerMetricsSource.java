@@ -40,5 +40,24 @@ public class HttpServerMetricsSource extends MetricsSource {
                     getTimeSlidingWindowSeconds(), TimeUnit.SECONDS)));
     registerGauge(
         MetricNames.SERVER_IDLE_THREAD_NUM, () -> server.getThreadPool().getIdleThreads());
+
+    AdmissionControlFilter admissionControlFilter = server.getAdmissionControlFilter();
+    if (admissionControlFilter != null) {
+      for (AdmissionControlFilter.Lane lane : AdmissionControlFilter.Lane.values()) {
+        registerGauge(
+            admissionMetricName(lane, MetricNames.ADMISSION_RUNNING),
+            () -> admissionControlFilter.running(lane));
+        registerGauge(
+            admissionMetricName(lane, MetricNames.ADMISSION_QUEUED),
+            () -> admissionControlFilter.queued(lane));
+        registerGauge(
+            admissionMetricName(lane, MetricNames.ADMISSION_REJECTED),
+            () -> admissionControlFilter.rejected(lane));
+      }
+    }
+  }
+
+  private static String admissionMetricName(AdmissionControlFilter.Lane lane, String name) {
+    return String.join(".", MetricNames.SERVER_ADMISSION, lane.metricName(), name);
   }
 }
@@ -41,6 +41,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.server.authentication.AuthenticationFilter;
+import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.server.ConnectionFactory;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
@@ -50,6 +51,7 @@ import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.SslConnectionFactory;
 import org.eclipse.jetty.server.handler.ErrorHandler;
 import org.eclipse.jetty.server.handler.HandlerCollection;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
 import org.eclipse.jetty.servlet.DefaultServlet;
 import org.eclipse.jetty.servlet.FilterHolder;
 import org.eclipse.jetty.servlet.ServletContextHandler;
@@ -79,12 +81,16 @@ public final class JettyServer {
 
   private String serverName;
 
+  private AdmissionControlFilter admissionControlFilter;
+
   public JettyServer() {}
 
   public synchronized void initialize(
       JettyServerConfig serverConfig, String serverName, boolean shouldEnableUI) {
     this.serverConfig = serverConfig;
     this.serverName = serverName;
+    this.admissionControlFilter =
+        serverConfig.isEnableAdmissionControl() ? new AdmissionControlFilter(serverConfig) : null;
 
     ThreadPool threadPool =
         createThreadPool(
@@ -174,7 +180,11 @@ public final class JettyServer {
     }
 
     HandlerCollection handlers = new HandlerCollection();
-    handlers.addHandler(servletContextHandler);
+    if (serverConfig.isEnableCompression()) {
+      handlers.addHandler(createGzipHandler(serverConfig.getCompressionMinSize()));
+    } else {
+      handlers.addHandler(servletContextHandler);
+    }
     server.setHandler(handlers);
   }
 
@@ -250,6 +260,17 @@ public final class JettyServer {
         new FilterHolder(filter), pathSpec, EnumSet.allOf(DispatcherType.class));
   }
 
+  private GzipHandler createGzipHandler(int minGzipSize) {
+    // The responses are only compressed for the clients accepting gzip, the wide table and the
+    // big listing responses shrink a lot since they are mostly repeated JSON field names.
+    GzipHandler gzipHandler = new GzipHandler();
+    gzipHandler.setMinGzipSize(minGzipSize);
+    gzipHandler.setIncludedMethods(
+        HttpMethod.GET.asString(), HttpMethod.POST.asString(), HttpMethod.PUT.asString());
+    gzipHandler.setHandler(servletContextHandler);
+    return gzipHandler;
+  }
+
   private void initializeBasicServletContextHandler() {
     servletContextHandler = new ServletContextHandler();
     servletContextHandler.setContextPath("/");
@@ -450,6 +471,15 @@ public final class JettyServer {
     return server.getThreadPool();
   }
 
+  /**
+   * Returns the filter limiting the concurrent requests of the server.
+   *
+   * @return The admission control filter, or null if the admission control is disabled.
+   */
+  public AdmissionControlFilter getAdmissionControlFilter() {
+    return admissionControlFilter;
+  }
+
   public void addCustomFilters(String pathSpec) {
     for (String filterName : serverConfig.getCustomFilters()) {
       if (StringUtils.isBlank(filterName)) {
@@ -466,6 +496,12 @@ public final class JettyServer {
   }
 
   public void addSystemFilters(String pathSpec) {
+    // Add the tracing filter before the other system filters to count their time in the request.
+    addFilter(new TracingFilter(), pathSpec);
+    // Reject the requests exceeding the limits before spending any work on them.
+    if (admissionControlFilter != null) {
+      addFilter(admissionControlFilter, pathSpec);
+    }
     if (serverConfig.isEnableCorsFilter()) {
       servletContextHandler.addFilter(
           CorsFilterHolder.create(serverConfig), pathSpec, EnumSet.allOf(DispatcherType.class));
@@ -20,11 +20,13 @@ package org.apache.gravitino.server.web;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -117,6 +119,104 @@ public final class JettyServerConfig {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(100);
 
+  public static final ConfigEntry<Boolean> ENABLE_COMPRESSION =
+      new ConfigBuilder("enableCompression")
+          .doc(
+              "Whether to gzip compress the responses for the clients sending the "
+                  + "Accept-Encoding header")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final ConfigEntry<Integer> COMPRESSION_MIN_SIZE =
+      new ConfigBuilder("compressionMinSize")
+          .doc("The minimum size in bytes of the responses to compress")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1024);
+
+  public static final ConfigEntry<Boolean> ENABLE_ADMISSION_CONTROL =
+      new ConfigBuilder("enableAdmissionControl")
+          .doc(
+              "Whether to limit the concurrent read, write and heavy requests separately, and "
+                  + "reject the requests exceeding the limits with 429 Too Many Requests")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> ADMISSION_READ_MAX_CONCURRENCY =
+      new ConfigBuilder("admissionControl.read.maxConcurrency")
+          .doc("The maximum number of the read requests running concurrently")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(128);
+
+  public static final ConfigEntry<Integer> ADMISSION_READ_QUEUE_SIZE =
+      new ConfigBuilder("admissionControl.read.queueSize")
+          .doc("The maximum number of the read requests waiting to run")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(128);
+
+  public static final ConfigEntry<Integer> ADMISSION_WRITE_MAX_CONCURRENCY =
+      new ConfigBuilder("admissionControl.write.maxConcurrency")
+          .doc("The maximum number of the write requests running concurrently")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(48);
+
+  public static final ConfigEntry<Integer> ADMISSION_WRITE_QUEUE_SIZE =
+      new ConfigBuilder("admissionControl.write.queueSize")
+          .doc("The maximum number of the write requests waiting to run")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(48);
+
+  public static final ConfigEntry<Integer> ADMISSION_HEAVY_MAX_CONCURRENCY =
+      new ConfigBuilder("admissionControl.heavy.maxConcurrency")
+          .doc("The maximum number of the heavy requests running concurrently")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(8);
+
+  public static final ConfigEntry<Integer> ADMISSION_HEAVY_QUEUE_SIZE =
+      new ConfigBuilder("admissionControl.heavy.queueSize")
+          .doc("The maximum number of the heavy requests waiting to run")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(16);
+
+  public static final ConfigEntry<List<String>> ADMISSION_HEAVY_REQUEST_PATTERNS =
+      new ConfigBuilder("admissionControl.heavy.requestPatterns")
+          .doc(
+              "The comma separated regular expressions matching the \"<METHOD> <path>\" of the "
+                  + "heavy requests, the other requests are read requests if their method is "
+                  + "GET, HEAD or OPTIONS, and write requests otherwise")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .stringConf()
+          .toSequence()
+          .createWithDefault(
+              Lists.newArrayList(
+                  "DELETE /api/metalakes/[^/]+(/catalogs/[^/]+(/schemas/[^/]+)?)?",
+                  "[A-Z]+ /api/metalakes/.+/partitions(/.*)?"));
+
+  public static final ConfigEntry<Long> ADMISSION_QUEUE_TIMEOUT_MS =
+      new ConfigBuilder("admissionControl.queueTimeoutMs")
+          .doc(
+              "The maximum time in milliseconds a request waits in the queue, it's rejected if it "
+                  + "can't run in time")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(2000L);
+
   public static final ConfigEntry<Boolean> ENABLE_HTTPS =
       new ConfigBuilder("enableHttps")
           .doc("Enable https")
@@ -311,6 +411,28 @@ public final class JettyServerConfig {
 
   private final int threadPoolWorkQueueSize;
 
+  private final boolean enableCompression;
+
+  private final int compressionMinSize;
+
+  private final boolean enableAdmissionControl;
+
+  private final int admissionReadMaxConcurrency;
+
+  private final int admissionReadQueueSize;
+
+  private final int admissionWriteMaxConcurrency;
+
+  private final int admissionWriteQueueSize;
+
+  private final int admissionHeavyMaxConcurrency;
+
+  private final int admissionHeavyQueueSize;
+
+  private final List<String> admissionHeavyRequestPatterns;
+
+  private final long admissionQueueTimeoutMs;
+
   private final int httpsPort;
   private final String keyStorePath;
   private final String keyStorePassword;
@@ -365,6 +487,17 @@ public final class JettyServerConfig {
     this.requestHeaderSize = internalConfig.get(WEBSERVER_REQUEST_HEADER_SIZE);
     this.responseHeaderSize = internalConfig.get(WEBSERVER_RESPONSE_HEADER_SIZE);
     this.threadPoolWorkQueueSize = internalConfig.get(WEBSERVER_THREAD_POOL_WORK_QUEUE_SIZE);
+    this.enableCompression = internalConfig.get(ENABLE_COMPRESSION);
+    this.compressionMinSize = internalConfig.get(COMPRESSION_MIN_SIZE);
+    this.enableAdmissionControl = internalConfig.get(ENABLE_ADMISSION_CONTROL);
+    this.admissionReadMaxConcurrency = internalConfig.get(ADMISSION_READ_MAX_CONCURRENCY);
+    this.admissionReadQueueSize = internalConfig.get(ADMISSION_READ_QUEUE_SIZE);
+    this.admissionWriteMaxConcurrency = internalConfig.get(ADMISSION_WRITE_MAX_CONCURRENCY);
+    this.admissionWriteQueueSize = internalConfig.get(ADMISSION_WRITE_QUEUE_SIZE);
+    this.admissionHeavyMaxConcurrency = internalConfig.get(ADMISSION_HEAVY_MAX_CONCURRENCY);
+    this.admissionHeavyQueueSize = internalConfig.get(ADMISSION_HEAVY_QUEUE_SIZE);
+    this.admissionHeavyRequestPatterns = internalConfig.get(ADMISSION_HEAVY_REQUEST_PATTERNS);
+    this.admissionQueueTimeoutMs = internalConfig.get(ADMISSION_QUEUE_TIMEOUT_MS);
 
     this.enableHttps = internalConfig.get(ENABLE_HTTPS);
     this.httpsPort = internalConfig.get(WEBSERVER_HTTPS_PORT);
@@ -459,6 +592,50 @@ public final class JettyServerConfig {
     return idleTimeout;
   }
 
+  public boolean isEnableCompression() {
+    return enableCompression;
+  }
+
+  public int getCompressionMinSize() {
+    return compressionMinSize;
+  }
+
+  public boolean isEnableAdmissionControl() {
+    return enableAdmissionControl;
+  }
+
+  public int getAdmissionReadMaxConcurrency() {
+    return admissionReadMaxConcurrency;
+  }
+
+  public int getAdmissionReadQueueSize() {
+    return admissionReadQueueSize;
+  }
+
+  public int getAdmissionWriteMaxConcurrency() {
+    return admissionWriteMaxConcurrency;
+  }
+
+  public int getAdmissionWriteQueueSize() {
+    return admissionWriteQueueSize;
+  }
+
+  public int getAdmissionHeavyMaxConcurrency() {
+    return admissionHeavyMaxConcurrency;
+  }
+
+  public int getAdmissionHeavyQueueSize() {
+    return admissionHeavyQueueSize;
+  }
+
+  public List<String> getAdmissionHeavyRequestPatterns() {
+    return admissionHeavyRequestPatterns;
+  }
+
+  public long getAdmissionQueueTimeoutMs() {
+    return admissionQueueTimeoutMs;
+  }
+
   public int getHttpsPort() {
     return httpsPort;
   }
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import java.io.IOException;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.gravitino.tracing.Span;
+import org.apache.gravitino.tracing.TraceContext;
+import org.apache.gravitino.tracing.Tracer;
+
+/**
+ * TracingFilter starts the root span of each HTTP request, the trace is continued from the W3C
+ * "traceparent" header if the caller sends it. The context of the root span is returned in the
+ * "traceparent" response header, so that the caller can find the trace of the request.
+ */
+public class TracingFilter implements Filter {
+
+  @Override
+  public void init(FilterConfig filterConfig) throws ServletException {}
+
+  @Override
+  public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+      throws IOException, ServletException {
+    if (!Tracer.isEnabled()
+        || !(request instanceof HttpServletRequest)
+        || !(response instanceof HttpServletResponse)) {
+      chain.doFilter(request, response);
+      return;
+    }
+
+    HttpServletRequest req = (HttpServletRequest) request;
+    HttpServletResponse resp = (HttpServletResponse) response;
+    TraceContext parent =
+        TraceContext.fromTraceparent(req.getHeader(TraceContext.TRACEPARENT_HEADER));
+    try (Span span = Tracer.startRootSpan("http.request", parent)) {
+      if (span.isRecording()) {
+        span.setAttribute("http.method", req.getMethod())
+            .setAttribute("http.path", req.getRequestURI());
+        resp.setHeader(TraceContext.TRACEPARENT_HEADER, span.context().toTraceparent());
+      }
+
+      try {
+        chain.doFilter(request, response);
+      } catch (IOException | ServletException | RuntimeException e) {
+        span.setError(e);
+        throw e;
+      } finally {
+        span.setAttribute("http.status", resp.getStatus());
+      }
+    }
+  }
+
+  @Override
+  public void destroy() {}
+}
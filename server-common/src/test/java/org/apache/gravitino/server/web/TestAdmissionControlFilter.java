@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.server.web.AdmissionControlFilter.Lane;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestAdmissionControlFilter {
+
+  private static final String TABLE_PATH = "/api/metalakes/m/catalogs/c/schemas/s/tables/t";
+
+  @Test
+  public void testClassify() {
+    AdmissionControlFilter filter =
+        new AdmissionControlFilter(JettyServerConfig.fromConfig(new Config(false) {}));
+
+    Assertions.assertEquals(Lane.READ, filter.classify("GET", TABLE_PATH));
+    Assertions.assertEquals(Lane.READ, filter.classify("HEAD", TABLE_PATH));
+    Assertions.assertEquals(Lane.WRITE, filter.classify("PUT", TABLE_PATH));
+    Assertions.assertEquals(Lane.WRITE, filter.classify("DELETE", TABLE_PATH));
+    Assertions.assertEquals(Lane.HEAVY, filter.classify("GET", TABLE_PATH + "/partitions"));
+    Assertions.assertEquals(Lane.HEAVY, filter.classify("GET", TABLE_PATH + "/partitions/p1"));
+    Assertions.assertEquals(
+        Lane.HEAVY, filter.classify("DELETE", "/api/metalakes/m/catalogs/c/schemas/s"));
+    Assertions.assertEquals(Lane.HEAVY, filter.classify("DELETE", "/api/metalakes/m/catalogs/c"));
+    Assertions.assertEquals(Lane.READ, filter.classify("GET", "/api/metalakes/m/catalogs/c"));
+
+    Config config = new Config(false) {};
+    config.set(
+        JettyServerConfig.ADMISSION_HEAVY_REQUEST_PATTERNS,
+        Collections.singletonList("POST /heavy/.*"));
+    filter = new AdmissionControlFilter(JettyServerConfig.fromConfig(config));
+    Assertions.assertEquals(Lane.HEAVY, filter.classify("POST", "/heavy/op"));
+    Assertions.assertEquals(Lane.WRITE, filter.classify("DELETE", "/api/metalakes/m/catalogs/c"));
+  }
+
+  @Test
+  public void testRejectOverLimit() throws Exception {
+    Config config = new Config(false) {};
+    config.set(JettyServerConfig.ADMISSION_HEAVY_MAX_CONCURRENCY, 1);
+    config.set(JettyServerConfig.ADMISSION_HEAVY_QUEUE_SIZE, 0);
+    AdmissionControlFilter filter =
+        new AdmissionControlFilter(JettyServerConfig.fromConfig(config));
+
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch finish = new CountDownLatch(1);
+    FilterChain blockingChain =
+        (req, resp) -> {
+          started.countDown();
+          try {
+            finish.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        };
+    Thread heavyRequest =
+        new Thread(
+            () -> {
+              try {
+                filter.doFilter(
+                    mockRequest("GET", TABLE_PATH + "/partitions"),
+                    mock(HttpServletResponse.class),
+                    blockingChain);
+              } catch (Exception e) {
+                throw new RuntimeException(e);
+              }
+            });
+    heavyRequest.start();
+    Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+    Assertions.assertEquals(1, filter.running(Lane.HEAVY));
+
+    // The heavy lane is full and has no queue, the next heavy request is rejected.
+    HttpServletResponse rejectedResp = mock(HttpServletResponse.class);
+    FilterChain chain = mock(FilterChain.class);
+    filter.doFilter(mockRequest("DELETE", "/api/metalakes/m/catalogs/c"), rejectedResp, chain);
+    verify(rejectedResp).sendError(eq(AdmissionControlFilter.SC_TOO_MANY_REQUESTS), anyString());
+    verify(rejectedResp).setHeader(eq("Retry-After"), anyString());
+    verify(chain, never()).doFilter(any(), any());
+    Assertions.assertEquals(1, filter.rejected(Lane.HEAVY));
+
+    // The read lane is not affected by the heavy requests.
+    HttpServletRequest readReq = mockRequest("GET", TABLE_PATH);
+    HttpServletResponse readResp = mock(HttpServletResponse.class);
+    filter.doFilter(readReq, readResp, chain);
+    verify(chain).doFilter(readReq, readResp);
+    verify(readResp, never()).sendError(anyInt(), anyString());
+    Assertions.assertEquals(0, filter.running(Lane.READ));
+
+    finish.countDown();
+    heavyRequest.join();
+    Assertions.assertEquals(0, filter.running(Lane.HEAVY));
+    Assertions.assertEquals(0, filter.queued(Lane.HEAVY));
+  }
+
+  private static HttpServletRequest mockRequest(String method, String path) {
+    HttpServletRequest request = mock(HttpServletRequest.class);
+    when(request.getMethod()).thenReturn(method);
+    when(request.getRequestURI()).thenReturn(path);
+    return request;
+  }
+}
@@ -18,13 +18,25 @@
  */
 package org.apache.gravitino.server.web;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
+import com.google.common.io.ByteStreams;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
 import javax.servlet.Filter;
 import javax.servlet.Servlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.rest.RESTUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -86,6 +98,32 @@ public class TestJettyServer {
     jettyServer.stop();
   }
 
+  @Test
+  public void testResponseCompression() throws Exception {
+    int port = RESTUtils.findAvailablePort(5000, 6000);
+    Config config = new Config(false) {};
+    config.set(JettyServerConfig.WEBSERVER_HTTP_PORT, port);
+    JettyServerConfig serverConfig = JettyServerConfig.fromConfig(config);
+    jettyServer.initialize(serverConfig, "test", false);
+    jettyServer.addServlet(new JsonServlet(), "/json");
+    jettyServer.start();
+
+    URL url = new URL("http://127.0.0.1:" + port + "/json");
+    HttpURLConnection gzipConnection = (HttpURLConnection) url.openConnection();
+    gzipConnection.setRequestProperty("Accept-Encoding", "gzip");
+    assertEquals("gzip", gzipConnection.getContentEncoding());
+    try (InputStream in = new GZIPInputStream(gzipConnection.getInputStream())) {
+      assertEquals(JsonServlet.BODY, new String(ByteStreams.toByteArray(in), UTF_8));
+    }
+
+    // The responses are not compressed for the clients not accepting gzip.
+    HttpURLConnection plainConnection = (HttpURLConnection) url.openConnection();
+    assertNull(plainConnection.getContentEncoding());
+    try (InputStream in = plainConnection.getInputStream()) {
+      assertEquals(JsonServlet.BODY, new String(ByteStreams.toByteArray(in), UTF_8));
+    }
+  }
+
   @Test
   public void testStopWithNullServer() {
     assertDoesNotThrow(() -> jettyServer.stop());
@@ -95,4 +133,18 @@ public class TestJettyServer {
   public void testStartWithoutInitialise() throws InterruptedException {
     assertThrows(RuntimeException.class, () -> jettyServer.start());
   }
+
+  private static class JsonServlet extends HttpServlet {
+
+    private static final String BODY =
+        "["
+            + String.join(",", Collections.nCopies(1000, "{\"name\":\"col\",\"type\":\"int\"}"))
+            + "]";
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+      resp.setContentType("application/json");
+      resp.getWriter().write(BODY);
+    }
+  }
 }
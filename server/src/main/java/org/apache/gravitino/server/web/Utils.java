@@ -32,6 +32,7 @@ import org.apache.gravitino.audit.FilesetDataOperation;
 import org.apache.gravitino.audit.InternalClientType;
 import org.apache.gravitino.auth.AuthConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.tracing.Tracer;
 import org.apache.gravitino.utils.PrincipalUtils;
 
 public class Utils {
@@ -152,6 +153,8 @@ public class Utils {
     if (principal == null) {
       principal = new UserPrincipal(AuthConstants.ANONYMOUS_USER);
     }
+    // The action runs in the calling thread, the spans started by it belong to the request span.
+    Tracer.currentSpan().setAttribute("user", principal.getName());
     return PrincipalUtils.doAs(principal, action);
   }
 
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.authorization.AccessControlDispatcher;
+import org.apache.gravitino.dto.LockContentionDTO;
+import org.apache.gravitino.dto.responses.LockContentionResponse;
+import org.apache.gravitino.exceptions.NotFoundException;
+import org.apache.gravitino.lock.LockContentionStats;
+import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Path("/diagnostics")
+@Consumes(MediaType.APPLICATION_JSON)
+@Produces(MediaType.APPLICATION_JSON)
+public class DiagnosticsOperations {
+
+  private static final Logger LOG = LoggerFactory.getLogger(DiagnosticsOperations.class);
+
+  @Context private HttpServletRequest httpRequest;
+
+  @GET
+  @Path("locks")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "list-lock-contention." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "list-lock-contention", absolute = true)
+  public Response listLockContention(@QueryParam("limit") @DefaultValue("10") int limit) {
+    LOG.info("Received list lock contention request with limit {}", limit);
+    if (limit <= 0) {
+      return Utils.illegalArguments("The limit must be greater than 0, but got " + limit);
+    }
+
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            // The endpoint exposes the paths of the metadata objects, so it is hidden unless the
+            // profiling is enabled, and only served to the service admins if the authorization is
+            // enabled.
+            LockManager lockManager = GravitinoEnv.getInstance().lockManager();
+            if (!lockManager.isContentionProfilingEnabled()) {
+              return Utils.notFound(
+                  NotFoundException.class.getSimpleName(),
+                  "The lock contention profiling is not enabled");
+            }
+            AccessControlDispatcher accessControlDispatcher =
+                GravitinoEnv.getInstance().accessControlDispatcher();
+            if (accessControlDispatcher != null
+                && !accessControlDispatcher.isServiceAdmin(PrincipalUtils.getCurrentUserName())) {
+              return Utils.notFound(
+                  NotFoundException.class.getSimpleName(),
+                  "The lock contention is only listed for the service admins");
+            }
+
+            LockContentionDTO[] paths =
+                lockManager.topContendedPaths(limit).entrySet().stream()
+                    .map(DiagnosticsOperations::toDTO)
+                    .toArray(LockContentionDTO[]::new);
+            return Utils.ok(
+                new LockContentionResponse(
+                    lockManager.isContentionProfilingEnabled(),
+                    lockManager.totalNodeCount(),
+                    LockContentionStats.BUCKET_BOUNDS_MS.clone(),
+                    paths));
+          });
+
+    } catch (Exception e) {
+      LOG.error("Failed to list the lock contention", e);
+      return Utils.internalError(e.getMessage(), e);
+    }
+  }
+
+  private static LockContentionDTO toDTO(Map.Entry<String, LockContentionStats> entry) {
+    LockContentionStats stats = entry.getValue();
+    return LockContentionDTO.builder()
+        .withPath(entry.getKey())
+        .withSamples(stats.samples(), stats.contendedSamples(), stats.writeSamples())
+        .withWaitTime(
+            toMillis(stats.totalWaitNanos()), toMillis(stats.maxWaitNanos()), stats.waitHistogram())
+        .withHoldTime(
+            toMillis(stats.totalHoldNanos()), toMillis(stats.maxHoldNanos()), stats.holdHistogram())
+        .build();
+  }
+
+  private static double toMillis(long nanos) {
+    return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+}
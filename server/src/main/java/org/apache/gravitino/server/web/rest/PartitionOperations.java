@@ -18,12 +18,13 @@
  */
 package org.apache.gravitino.server.web.rest;
 
-import static org.apache.gravitino.dto.util.DTOConverters.fromDTO;
 import static org.apache.gravitino.dto.util.DTOConverters.toDTOs;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
 import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.List;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -38,7 +39,6 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.catalog.PartitionDispatcher;
-import org.apache.gravitino.dto.rel.partitions.PartitionDTO;
 import org.apache.gravitino.dto.requests.AddPartitionsRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.PartitionListResponse;
@@ -74,14 +74,23 @@ public class PartitionOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("table") String table,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("pattern") String pattern,
+      @QueryParam("offset") @DefaultValue("0") int offset,
+      @QueryParam("limit") @DefaultValue("0") int limit) {
     LOG.info(
-        "Received list partition {} request for table: {}.{}.{}.{}",
+        "Received list partition {} request for table: {}.{}.{}.{}, pattern: {}, offset: {}, "
+            + "limit: {}",
         verbose ? "infos" : "names",
         metalake,
         catalog,
         schema,
-        table);
+        table,
+        pattern,
+        offset,
+        limit);
+    // Listing without any of the paging parameters keeps the order of the catalog.
+    boolean paged = pattern != null || offset != 0 || limit != 0;
     try {
       return Utils.doAs(
           httpRequest,
@@ -92,7 +101,10 @@ public class PartitionOperations {
                 LockType.READ,
                 () -> {
                   if (verbose) {
-                    Partition[] partitions = dispatcher.listPartitions(tableIdent);
+                    Partition[] partitions =
+                        paged
+                            ? dispatcher.listPartitions(tableIdent, pattern, offset, limit)
+                            : dispatcher.listPartitions(tableIdent);
                     Response response = Utils.ok(new PartitionListResponse(toDTOs(partitions)));
                     LOG.info(
                         "List {} partitions in table {}.{}.{}.{}",
@@ -103,7 +115,10 @@ public class PartitionOperations {
                         table);
                     return response;
                   } else {
-                    String[] partitionNames = dispatcher.listPartitionNames(tableIdent);
+                    String[] partitionNames =
+                        paged
+                            ? dispatcher.listPartitionNames(tableIdent, pattern, offset, limit)
+                            : dispatcher.listPartitionNames(tableIdent);
                     Response response = Utils.ok(new PartitionNameListResponse((partitionNames)));
                     LOG.info(
                         "List {} partition names in table {}.{}.{}.{}",
@@ -177,31 +192,31 @@ public class PartitionOperations {
       AddPartitionsRequest request) {
     LOG.info(
         "Received add {} partition(s) request for table {}.{}.{}.{} ",
-        request.getPartitions().length,
+        request.getPartitions() == null ? 0 : request.getPartitions().length,
         metalake,
         catalog,
         schema,
         table);
-    Preconditions.checkArgument(
-        request.getPartitions().length == 1, "Only one partition is supported");
 
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
+            request.validate();
             NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
+            Partition[] partitions =
+                Arrays.stream(request.getPartitions())
+                    .map(DTOConverters::fromDTO)
+                    .toArray(Partition[]::new);
             return TreeLockUtils.doWithTreeLock(
                 tableIdent,
                 LockType.WRITE,
                 () -> {
-                  Partition p =
-                      dispatcher.addPartition(tableIdent, fromDTO(request.getPartitions()[0]));
-                  Response response =
-                      Utils.ok(
-                          new PartitionListResponse(new PartitionDTO[] {DTOConverters.toDTO(p)}));
+                  Partition[] added = dispatcher.addPartitions(tableIdent, partitions);
+                  Response response = Utils.ok(new PartitionListResponse(toDTOs(added)));
                   LOG.info(
                       "Added {} partition(s) to table {}.{}.{}.{} ",
-                      1,
+                      added.length,
                       metalake,
                       catalog,
                       schema,
@@ -270,4 +285,57 @@ public class PartitionOperations {
       return ExceptionHandlers.handlePartitionException(OperationType.DROP, "", table, e);
     }
   }
+
+  @DELETE
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "drop-partitions." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "drop-partitions", absolute = true)
+  public Response dropPartitions(
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @PathParam("schema") String schema,
+      @PathParam("table") String table,
+      @QueryParam("names") List<String> partitionNames) {
+    LOG.info(
+        "Received drop {} partition(s) request for table {}.{}.{}.{}",
+        partitionNames.size(),
+        metalake,
+        catalog,
+        schema,
+        table);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            Preconditions.checkArgument(
+                !partitionNames.isEmpty(), "partition names must not be empty");
+            NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
+            return TreeLockUtils.doWithTreeLock(
+                tableIdent,
+                LockType.WRITE,
+                () -> {
+                  boolean dropped =
+                      dispatcher.dropPartitions(tableIdent, partitionNames.toArray(new String[0]));
+                  if (!dropped) {
+                    LOG.warn(
+                        "Failed to drop some of partitions {} under table {} under schema {}",
+                        partitionNames,
+                        table,
+                        schema);
+                  }
+                  Response response = Utils.ok(new DropResponse(dropped));
+                  LOG.info(
+                      "Dropped {} partition(s) in table {}.{}.{}.{}",
+                      partitionNames.size(),
+                      metalake,
+                      catalog,
+                      schema,
+                      table);
+                  return response;
+                });
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handlePartitionException(OperationType.DROP, "", table, e);
+    }
+  }
 }
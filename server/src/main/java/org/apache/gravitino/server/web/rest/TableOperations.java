@@ -42,15 +42,19 @@ import org.apache.gravitino.catalog.TableDispatcher;
 import org.apache.gravitino.dto.requests.TableCreateRequest;
 import org.apache.gravitino.dto.requests.TableUpdateRequest;
 import org.apache.gravitino.dto.requests.TableUpdatesRequest;
+import org.apache.gravitino.dto.responses.ColumnListResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
+import org.apache.gravitino.dto.responses.TableSummaryListResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.lock.LockType;
 import org.apache.gravitino.lock.TreeLockUtils;
 import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.rel.TableSummary;
 import org.apache.gravitino.server.web.Utils;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.NamespaceUtil;
@@ -78,13 +82,36 @@ public class TableOperations {
   public Response listTables(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
-    LOG.info("Received list tables request for schema: {}.{}.{}", metalake, catalog, schema);
+      @PathParam("schema") String schema,
+      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+    LOG.info(
+        "Received list table {} request for schema: {}.{}.{}",
+        verbose ? "summaries" : "names",
+        metalake,
+        catalog,
+        schema);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace tableNS = NamespaceUtil.ofTable(metalake, catalog, schema);
+            if (verbose) {
+              TableSummary[] summaries =
+                  TreeLockUtils.doWithTreeLock(
+                      NameIdentifier.of(metalake, catalog, schema),
+                      LockType.READ,
+                      () -> dispatcher.listTableSummaries(tableNS));
+              Response response =
+                  Utils.ok(new TableSummaryListResponse(DTOConverters.toDTOs(summaries)));
+              LOG.info(
+                  "List {} table summaries under schema: {}.{}.{}",
+                  summaries.length,
+                  metalake,
+                  catalog,
+                  schema);
+              return response;
+            }
+
             NameIdentifier[] idents =
                 TreeLockUtils.doWithTreeLock(
                     NameIdentifier.of(metalake, catalog, schema),
@@ -168,6 +195,37 @@ public class TableOperations {
     }
   }
 
+  @GET
+  @Path("{table}/columns")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "load-table-columns." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "load-table-columns", absolute = true)
+  public Response loadTableColumns(
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @PathParam("schema") String schema,
+      @PathParam("table") String table) {
+    LOG.info(
+        "Received load table columns request for table: {}.{}.{}.{}",
+        metalake,
+        catalog,
+        schema,
+        table);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            NameIdentifier ident = NameIdentifierUtil.ofTable(metalake, catalog, schema, table);
+            Column[] columns = dispatcher.loadTableColumns(ident);
+            Response response = Utils.ok(new ColumnListResponse(DTOConverters.toDTOs(columns)));
+            LOG.info("Table columns loaded: {}.{}.{}.{}", metalake, catalog, schema, table);
+            return response;
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleTableException(OperationType.LOAD, table, schema, e);
+    }
+  }
+
   @PUT
   @Path("{table}")
   @Produces("application/vnd.gravitino.v1+json")
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.authorization.AccessControlDispatcher;
+import org.apache.gravitino.dto.responses.ErrorConstants;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.LockContentionResponse;
+import org.apache.gravitino.lock.LockContentionStats;
+import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.rest.RESTUtils;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TestDiagnosticsOperations extends JerseyTest {
+  private static final LockManager lockManager = mock(LockManager.class);
+  private static final AccessControlDispatcher accessControlDispatcher =
+      mock(AccessControlDispatcher.class);
+
+  private static class MockServletRequestFactory extends ServletRequestFactoryBase {
+    @Override
+    public HttpServletRequest get() {
+      HttpServletRequest request = mock(HttpServletRequest.class);
+      when(request.getRemoteUser()).thenReturn(null);
+      return request;
+    }
+  }
+
+  @BeforeEach
+  public void setupEnv() throws IllegalAccessException {
+    reset(lockManager, accessControlDispatcher);
+    when(lockManager.isContentionProfilingEnabled()).thenReturn(true);
+    when(lockManager.totalNodeCount()).thenReturn(2L);
+    when(lockManager.topContendedPaths(anyInt()))
+        .thenReturn(ImmutableMap.of("/metalake1/catalog1", new LockContentionStats()));
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", lockManager, true);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "accessControlDispatcher", null, true);
+  }
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(DiagnosticsOperations.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  @Test
+  void testListLockContention() {
+    Response resp = listLockContention(5);
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    LockContentionResponse contentionResponse = resp.readEntity(LockContentionResponse.class);
+    Assertions.assertEquals(0, contentionResponse.getCode());
+    Assertions.assertTrue(contentionResponse.isProfilingEnabled());
+    Assertions.assertEquals(2L, contentionResponse.getNodeCount());
+    Assertions.assertEquals(1, contentionResponse.getPaths().length);
+    Assertions.assertEquals("/metalake1/catalog1", contentionResponse.getPaths()[0].path());
+
+    // Test to list with an illegal limit
+    Response resp1 = listLockContention(0);
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+    ErrorResponse errorResponse = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResponse.getCode());
+  }
+
+  @Test
+  void testListLockContentionWithProfilingDisabled() {
+    when(lockManager.isContentionProfilingEnabled()).thenReturn(false);
+
+    Response resp = listLockContention(5);
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp.getStatus());
+    ErrorResponse errorResponse = resp.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResponse.getCode());
+  }
+
+  @Test
+  void testListLockContentionWithAuthorization() throws IllegalAccessException {
+    FieldUtils.writeField(
+        GravitinoEnv.getInstance(), "accessControlDispatcher", accessControlDispatcher, true);
+
+    // The user isn't a service admin
+    when(accessControlDispatcher.isServiceAdmin(any())).thenReturn(false);
+    Response resp = listLockContention(5);
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp.getStatus());
+    ErrorResponse errorResponse = resp.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResponse.getCode());
+
+    // The user is a service admin
+    when(accessControlDispatcher.isServiceAdmin(any())).thenReturn(true);
+    Response resp1 = listLockContention(5);
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    Assertions.assertEquals(1, resp1.readEntity(LockContentionResponse.class).getPaths().length);
+  }
+
+  private Response listLockContention(int limit) {
+    return target("/diagnostics/locks")
+        .queryParam("limit", limit)
+        .request(MediaType.APPLICATION_JSON_TYPE)
+        .accept("application/vnd.gravitino.v1+json")
+        .get();
+  }
+}
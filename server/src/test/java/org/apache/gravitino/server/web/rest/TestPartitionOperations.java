@@ -22,6 +22,8 @@ import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -251,7 +253,7 @@ public class TestPartitionOperations extends JerseyTest {
 
   @Test
   public void testAddPartition() {
-    when(dispatcher.addPartition(any(), any())).thenReturn(partition1);
+    when(dispatcher.addPartitions(any(), any())).thenReturn(new Partition[] {partition1});
 
     AddPartitionsRequest req =
         new AddPartitionsRequest(new PartitionDTO[] {DTOConverters.toDTO(partition1)});
@@ -274,7 +276,7 @@ public class TestPartitionOperations extends JerseyTest {
     // Test throws exception
     doThrow(new PartitionAlreadyExistsException("mock error"))
         .when(dispatcher)
-        .addPartition(any(), any());
+        .addPartitions(any(), any());
 
     req = new AddPartitionsRequest(new PartitionDTO[] {DTOConverters.toDTO(partition1)});
     Response resp2 =
@@ -292,6 +294,135 @@ public class TestPartitionOperations extends JerseyTest {
     Assertions.assertTrue(errorResp2.getMessage().contains("mock error"));
   }
 
+  @Test
+  public void testAddMultiplePartitions() {
+    when(dispatcher.addPartitions(any(), any())).thenReturn(partitions);
+
+    AddPartitionsRequest req =
+        new AddPartitionsRequest(
+            new PartitionDTO[] {DTOConverters.toDTO(partition1), DTOConverters.toDTO(partition2)});
+    Response resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(req, MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    PartitionListResponse partitionResp = resp.readEntity(PartitionListResponse.class);
+    Assertions.assertEquals(0, partitionResp.getCode());
+
+    Partition[] added = partitionResp.getPartitions();
+    Assertions.assertEquals(2, added.length);
+    Assertions.assertEquals(DTOConverters.toDTO(partition1), added[0]);
+    Assertions.assertEquals(DTOConverters.toDTO(partition2), added[1]);
+
+    // Test an empty request is rejected
+    AddPartitionsRequest emptyReq = new AddPartitionsRequest(new PartitionDTO[0]);
+    Response resp1 =
+        target(partitionPath(metalake, catalog, schema, table))
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(emptyReq, MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+    ErrorResponse errorResp1 = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResp1.getCode());
+  }
+
+  @Test
+  public void testListPartitionsWithPaging() {
+    when(dispatcher.listPartitionNames(any(), eq("p%"), eq(1), eq(1)))
+        .thenReturn(new String[] {partitionNames[1]});
+    when(dispatcher.listPartitions(any(), eq("p%"), eq(0), eq(1)))
+        .thenReturn(new Partition[] {partition1});
+
+    Response resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("pattern", "p%")
+            .queryParam("offset", "1")
+            .queryParam("limit", "1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    PartitionNameListResponse nameResp = resp.readEntity(PartitionNameListResponse.class);
+    Assertions.assertEquals(0, nameResp.getCode());
+    Assertions.assertArrayEquals(new String[] {partitionNames[1]}, nameResp.partitionNames());
+
+    Response resp1 =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("details", "true")
+            .queryParam("pattern", "p%")
+            .queryParam("limit", "1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    PartitionListResponse listResp = resp1.readEntity(PartitionListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+    Assertions.assertEquals(1, listResp.getPartitions().length);
+    Assertions.assertEquals(DTOConverters.toDTO(partition1), listResp.getPartitions()[0]);
+
+    // Test the paging arguments are validated
+    doThrow(new IllegalArgumentException("offset must not be negative"))
+        .when(dispatcher)
+        .listPartitionNames(any(), any(), eq(-1), anyInt());
+    Response resp2 =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("offset", "-1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp2.getStatus());
+    ErrorResponse errorResp2 = resp2.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResp2.getCode());
+  }
+
+  @Test
+  public void testDropPartitions() {
+    when(dispatcher.dropPartitions(any(), any())).thenReturn(true);
+    Response resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("names", "p1", "p2")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .delete();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    DropResponse dropResponse = resp.readEntity(DropResponse.class);
+    Assertions.assertEquals(0, dropResponse.getCode());
+    Assertions.assertTrue(dropResponse.dropped());
+    Mockito.verify(dispatcher).dropPartitions(any(), eq("p1"), eq("p2"));
+
+    // Test drop without names is rejected
+    Response resp1 =
+        target(partitionPath(metalake, catalog, schema, table))
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .delete();
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+    ErrorResponse errorResp1 = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResp1.getCode());
+
+    // Test throws exception
+    doThrow(new NoSuchPartitionException("p3")).when(dispatcher).dropPartitions(any(), any());
+    Response resp2 =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("names", "p3")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .delete();
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp2.getStatus());
+    ErrorResponse errorResp2 = resp2.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResp2.getCode());
+  }
+
   @Test
   public void testDropPartition() {
     when(dispatcher.dropPartition(any(), any())).thenReturn(true);
@@ -52,6 +52,7 @@ import org.apache.gravitino.dto.rel.ColumnDTO;
 import org.apache.gravitino.dto.rel.DistributionDTO;
 import org.apache.gravitino.dto.rel.SortOrderDTO;
 import org.apache.gravitino.dto.rel.TableDTO;
+import org.apache.gravitino.dto.rel.TableSummaryDTO;
 import org.apache.gravitino.dto.rel.expressions.FieldReferenceDTO;
 import org.apache.gravitino.dto.rel.expressions.LiteralDTO;
 import org.apache.gravitino.dto.rel.indexes.IndexDTO;
@@ -62,11 +63,13 @@ import org.apache.gravitino.dto.rel.partitions.ListPartitionDTO;
 import org.apache.gravitino.dto.requests.TableCreateRequest;
 import org.apache.gravitino.dto.requests.TableUpdateRequest;
 import org.apache.gravitino.dto.requests.TableUpdatesRequest;
+import org.apache.gravitino.dto.responses.ColumnListResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
+import org.apache.gravitino.dto.responses.TableSummaryListResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
@@ -75,6 +78,7 @@ import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.rel.TableSummary;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
 import org.apache.gravitino.rel.expressions.distributions.Strategy;
 import org.apache.gravitino.rel.expressions.sorts.NullOrdering;
@@ -200,6 +204,58 @@ public class TestTableOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testListTableSummaries() {
+    TableSummary summary1 =
+        TableSummaryDTO.builder()
+            .withName("table1")
+            .withSummary(ImmutableMap.of("location", "file:/tmp/table1"))
+            .build();
+    TableSummary summary2 =
+        TableSummaryDTO.builder()
+            .withName("table2")
+            .withSummary(ImmutableMap.of("location", "file:/tmp/table2"))
+            .build();
+
+    when(dispatcher.listTableSummaries(any())).thenReturn(new TableSummary[] {summary1, summary2});
+
+    Response resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    Assertions.assertEquals(MediaType.APPLICATION_JSON_TYPE, resp.getMediaType());
+
+    TableSummaryListResponse listResp = resp.readEntity(TableSummaryListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+
+    TableSummaryDTO[] summaries = listResp.getTables();
+    Assertions.assertEquals(2, summaries.length);
+    Assertions.assertEquals(summary1, summaries[0]);
+    Assertions.assertEquals(summary2, summaries[1]);
+
+    // Test throw UnsupportedOperationException
+    doThrow(new UnsupportedOperationException("mock error"))
+        .when(dispatcher)
+        .listTableSummaries(any());
+    Response resp1 =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.METHOD_NOT_ALLOWED.getStatusCode(), resp1.getStatus());
+
+    ErrorResponse errorResp = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.UNSUPPORTED_OPERATION_CODE, errorResp.getCode());
+    Assertions.assertEquals(
+        UnsupportedOperationException.class.getSimpleName(), errorResp.getType());
+  }
+
   private DistributionDTO createMockDistributionDTO(String columnName, int bucketNum) {
     return DistributionDTO.builder()
         .withStrategy(Strategy.HASH)
@@ -560,6 +616,48 @@ public class TestTableOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testLoadTableColumns() {
+    Column[] columns =
+        new Column[] {
+          mockColumn("col1", Types.StringType.get()), mockColumn("col2", Types.ByteType.get())
+        };
+    when(dispatcher.loadTableColumns(any())).thenReturn(columns);
+
+    Response resp =
+        target(tablePath(metalake, catalog, schema) + "table1/columns")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    ColumnListResponse columnListResp = resp.readEntity(ColumnListResponse.class);
+    Assertions.assertEquals(0, columnListResp.getCode());
+
+    ColumnDTO[] columnDTOs = columnListResp.getColumns();
+    Assertions.assertEquals(2, columnDTOs.length);
+    Assertions.assertEquals(columns[0].name(), columnDTOs[0].name());
+    Assertions.assertEquals(columns[0].dataType(), columnDTOs[0].dataType());
+    Assertions.assertEquals(columns[1].name(), columnDTOs[1].name());
+    Assertions.assertEquals(columns[1].dataType(), columnDTOs[1].dataType());
+
+    // Test throw NoSuchTableException
+    doThrow(new NoSuchTableException("mock error")).when(dispatcher).loadTableColumns(any());
+
+    Response resp1 =
+        target(tablePath(metalake, catalog, schema) + "table1/columns")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp1.getStatus());
+
+    ErrorResponse errorResp = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResp.getCode());
+    Assertions.assertEquals(NoSuchTableException.class.getSimpleName(), errorResp.getType());
+  }
+
   @Test
   public void testRenameTable() {
     TableUpdateRequest.RenameTableRequest req = new TableUpdateRequest.RenameTableRequest("table2");